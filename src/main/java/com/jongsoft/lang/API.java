@@ -23,9 +23,17 @@
  */
 package com.jongsoft.lang;
 
+import com.jongsoft.lang.collection.tuple.DoublePair;
+import com.jongsoft.lang.collection.tuple.IntDoublePair;
+import com.jongsoft.lang.collection.tuple.IntPair;
+import com.jongsoft.lang.collection.tuple.LongPair;
 import com.jongsoft.lang.collection.tuple.Pair;
 import com.jongsoft.lang.collection.tuple.Quadruplet;
 import com.jongsoft.lang.collection.tuple.Triplet;
+import com.jongsoft.lang.collection.tuple.impl.DoublePairImpl;
+import com.jongsoft.lang.collection.tuple.impl.IntDoublePairImpl;
+import com.jongsoft.lang.collection.tuple.impl.IntPairImpl;
+import com.jongsoft.lang.collection.tuple.impl.LongPairImpl;
 import com.jongsoft.lang.collection.tuple.impl.PairImpl;
 import com.jongsoft.lang.collection.tuple.impl.QuadrupletImpl;
 import com.jongsoft.lang.collection.tuple.impl.TripletImpl;
@@ -85,6 +93,54 @@ public final class API {
         return new QuadrupletImpl<>(first, second, third, fourth);
     }
 
+    /**
+     * Create a new tuple containing 2 primitive integers, without boxing them.
+     *
+     * @param first     the first element of the pair
+     * @param second    the second element of the pair
+     * @return          the created tuple
+     * @since 1.1.7
+     */
+    public static IntPair IntPair(int first, int second) {
+        return new IntPairImpl(first, second);
+    }
+
+    /**
+     * Create a new tuple containing 2 primitive longs, without boxing them.
+     *
+     * @param first     the first element of the pair
+     * @param second    the second element of the pair
+     * @return          the created tuple
+     * @since 1.1.7
+     */
+    public static LongPair LongPair(long first, long second) {
+        return new LongPairImpl(first, second);
+    }
+
+    /**
+     * Create a new tuple containing 2 primitive doubles, without boxing them.
+     *
+     * @param first     the first element of the pair
+     * @param second    the second element of the pair
+     * @return          the created tuple
+     * @since 1.1.7
+     */
+    public static DoublePair DoublePair(double first, double second) {
+        return new DoublePairImpl(first, second);
+    }
+
+    /**
+     * Create a new tuple containing a primitive integer and a primitive double, without boxing them.
+     *
+     * @param first     the first element of the pair
+     * @param second    the second element of the pair
+     * @return          the created tuple
+     * @since 1.1.7
+     */
+    public static IntDoublePair IntDoublePair(int first, double second) {
+        return new IntDoublePairImpl(first, second);
+    }
+
     @SuppressWarnings("unchecked")
     public static <X, Y extends Pair<X, X>> Y Tuple(X...elements) {
         switch (elements.length) {
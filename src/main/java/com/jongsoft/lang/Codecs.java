@@ -0,0 +1,422 @@
+package com.jongsoft.lang;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.Temporal;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+
+import com.jongsoft.lang.codec.BinaryInput;
+import com.jongsoft.lang.codec.BinaryOutput;
+import com.jongsoft.lang.codec.Codec;
+import com.jongsoft.lang.codec.DecodedFailureException;
+import com.jongsoft.lang.collection.Map;
+import com.jongsoft.lang.collection.Sequence;
+import com.jongsoft.lang.collection.Set;
+import com.jongsoft.lang.collection.impl.Array;
+import com.jongsoft.lang.collection.impl.HashMap;
+import com.jongsoft.lang.collection.tuple.Pair;
+import com.jongsoft.lang.collection.tuple.Quadruplet;
+import com.jongsoft.lang.collection.tuple.Triplet;
+import com.jongsoft.lang.control.Optional;
+import com.jongsoft.lang.control.Try;
+import com.jongsoft.lang.control.impl.TryFailure;
+import com.jongsoft.lang.control.impl.TrySuccess;
+import com.jongsoft.lang.time.Range;
+
+/**
+ * The Codecs class gives access to the binary {@link Codec} implementations for the types in this library.
+ * <p>
+ *     Codecs for containers, like {@link #Sequence(Codec)} or {@link #Map(Codec, Codec)}, require the codec of their
+ *     elements. Elements are not allowed to be {@code null}, unless the element codec is wrapped using
+ *     {@link #Nullable(Codec)}.
+ * </p>
+ *
+ * @since 1.1.7
+ */
+@SuppressWarnings("java:S100")
+public final class Codecs {
+
+    /**
+     * The maximum number of elements allocated up front while decoding, protecting against corrupt length prefixes.
+     */
+    private static final int MAX_INITIAL_CAPACITY = 1024;
+
+    private static final Codec<Integer> INT = Codec.of(
+            (value, output) -> output.writeSignedVarInt(value),
+            BinaryInput::readSignedVarInt);
+    private static final Codec<Long> LONG = Codec.of(
+            (value, output) -> output.writeSignedVarLong(value),
+            BinaryInput::readSignedVarLong);
+    private static final Codec<Double> DOUBLE = Codec.of(
+            (value, output) -> output.writeDouble(value),
+            BinaryInput::readDouble);
+    private static final Codec<Boolean> BOOLEAN = Codec.of(
+            (value, output) -> output.writeBoolean(value),
+            BinaryInput::readBoolean);
+    private static final Codec<String> STRING = Codec.of(
+            (value, output) -> output.writeString(value),
+            BinaryInput::readString);
+    private static final Codec<LocalDate> LOCAL_DATE = Codec.of(
+            (value, output) -> output.writeSignedVarLong(value.toEpochDay()),
+            input -> LocalDate.ofEpochDay(input.readSignedVarLong()));
+    private static final Codec<LocalDateTime> LOCAL_DATE_TIME = Codec.of(
+            (value, output) -> {
+                output.writeSignedVarLong(value.toLocalDate().toEpochDay());
+                output.writeVarLong(value.toLocalTime().toNanoOfDay());
+            },
+            input -> LocalDateTime.of(
+                    LocalDate.ofEpochDay(input.readSignedVarLong()),
+                    LocalTime.ofNanoOfDay(input.readVarLong())));
+    private static final Codec<Instant> INSTANT = Codec.of(
+            (value, output) -> {
+                output.writeSignedVarLong(value.getEpochSecond());
+                output.writeVarInt(value.getNano());
+            },
+            input -> Instant.ofEpochSecond(input.readSignedVarLong(), input.readVarInt()));
+
+    private Codecs() {
+        // hidden constructor for utility class
+    }
+
+    /**
+     * A codec for integers, using zig-zag variable length encoding.
+     *
+     * @return the integer codec
+     */
+    public static Codec<Integer> Int() {
+        return INT;
+    }
+
+    /**
+     * A codec for longs, using zig-zag variable length encoding.
+     *
+     * @return the long codec
+     */
+    public static Codec<Long> Long() {
+        return LONG;
+    }
+
+    /**
+     * A codec for doubles, using 8 bytes per value.
+     *
+     * @return the double codec
+     */
+    public static Codec<Double> Double() {
+        return DOUBLE;
+    }
+
+    /**
+     * A codec for booleans, using 1 byte per value.
+     *
+     * @return the boolean codec
+     */
+    public static Codec<Boolean> Boolean() {
+        return BOOLEAN;
+    }
+
+    /**
+     * A codec for strings, using length prefixed UTF-8.
+     *
+     * @return the string codec
+     */
+    public static Codec<String> String() {
+        return STRING;
+    }
+
+    /**
+     * A codec for dates, encoded as the epoch day.
+     *
+     * @return the date codec
+     */
+    public static Codec<LocalDate> LocalDate() {
+        return LOCAL_DATE;
+    }
+
+    /**
+     * A codec for date times, encoded as the epoch day and the nano of that day.
+     *
+     * @return the date time codec
+     */
+    public static Codec<LocalDateTime> LocalDateTime() {
+        return LOCAL_DATE_TIME;
+    }
+
+    /**
+     * A codec for instants, encoded as the epoch second and the nano of that second.
+     *
+     * @return the instant codec
+     */
+    public static Codec<Instant> Instant() {
+        return INSTANT;
+    }
+
+    /**
+     * Wrap the {@code codec} so that it also supports {@code null} values, at the cost of one extra byte per value.
+     *
+     * @param codec the codec to wrap
+     * @param <T>   the type of the value
+     * @return      the codec supporting {@code null}
+     */
+    public static <T> Codec<T> Nullable(Codec<T> codec) {
+        Objects.requireNonNull(codec, "codec is null");
+        return Codec.of(
+                (value, output) -> {
+                    output.writeBoolean(value != null);
+                    if (value != null) {
+                        codec.encode(value, output);
+                    }
+                },
+                input -> input.readBoolean() ? codec.decode(input) : null);
+    }
+
+    /**
+     * A codec for a {@link Sequence}, written as the number of elements followed by each element.
+     *
+     * @param elementCodec the codec for the elements
+     * @param <T>          the type of the elements
+     * @return             the sequence codec
+     */
+    public static <T> Codec<Sequence<T>> Sequence(Codec<T> elementCodec) {
+        Objects.requireNonNull(elementCodec, "elementCodec is null");
+        return Codec.of(
+                (sequence, output) -> encodeElements(elementCodec, sequence.size(), sequence, output),
+                input -> {
+                    Object[] elements = decodeElements(elementCodec, input);
+                    return elements.length == 0 ? Collections.List() : new Array<>(elements);
+                });
+    }
+
+    /**
+     * A codec for a {@link Set}, written as the number of elements followed by each element. The decoded set is a
+     * hash based set.
+     *
+     * @param elementCodec the codec for the elements
+     * @param <T>          the type of the elements
+     * @return             the set codec
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Codec<Set<T>> Set(Codec<T> elementCodec) {
+        Objects.requireNonNull(elementCodec, "elementCodec is null");
+        return Codec.of(
+                (set, output) -> encodeElements(elementCodec, set.size(), set, output),
+                input -> Collections.Set((T[]) decodeElements(elementCodec, input)));
+    }
+
+    /**
+     * A codec for a {@link Map}, written as the number of entries followed by the key and value of each entry.
+     *
+     * @param keyCodec   the codec for the keys
+     * @param valueCodec the codec for the values
+     * @param <K>        the type of the keys
+     * @param <T>        the type of the values
+     * @return           the map codec
+     */
+    public static <K, T> Codec<Map<K, T>> Map(Codec<K> keyCodec, Codec<T> valueCodec) {
+        Objects.requireNonNull(keyCodec, "keyCodec is null");
+        Objects.requireNonNull(valueCodec, "valueCodec is null");
+        return Codec.of(
+                (map, output) -> {
+                    output.writeVarInt(map.size());
+                    for (Pair<K, T> entry : map) {
+                        keyCodec.encode(entry.getFirst(), output);
+                        valueCodec.encode(entry.getSecond(), output);
+                    }
+                },
+                input -> {
+                    int size = input.readLength();
+                    if (size == 0) {
+                        return Collections.Map();
+                    }
+
+                    // a java map is used to guard against duplicate keys in the input
+                    java.util.Map<K, T> entries = new LinkedHashMap<>(Math.min(size, MAX_INITIAL_CAPACITY));
+                    for (int i = 0; i < size; i++) {
+                        entries.put(keyCodec.decode(input), valueCodec.decode(input));
+                    }
+
+                    Object[] pairs = new Object[entries.size()];
+                    int index = 0;
+                    for (java.util.Map.Entry<K, T> entry : entries.entrySet()) {
+                        pairs[index++] = API.Tuple(entry.getKey(), entry.getValue());
+                    }
+                    return new HashMap<>(new Array<>(pairs));
+                });
+    }
+
+    /**
+     * A codec for a {@link Pair}.
+     *
+     * @param firstCodec  the codec for the first element
+     * @param secondCodec the codec for the second element
+     * @param <X>         the type of the first element
+     * @param <Y>         the type of the second element
+     * @return            the pair codec
+     */
+    public static <X, Y> Codec<Pair<X, Y>> Pair(Codec<X> firstCodec, Codec<Y> secondCodec) {
+        Objects.requireNonNull(firstCodec, "firstCodec is null");
+        Objects.requireNonNull(secondCodec, "secondCodec is null");
+        return Codec.of(
+                (pair, output) -> {
+                    firstCodec.encode(pair.getFirst(), output);
+                    secondCodec.encode(pair.getSecond(), output);
+                },
+                input -> API.Tuple(firstCodec.decode(input), secondCodec.decode(input)));
+    }
+
+    /**
+     * A codec for a {@link Triplet}.
+     *
+     * @param firstCodec  the codec for the first element
+     * @param secondCodec the codec for the second element
+     * @param thirdCodec  the codec for the third element
+     * @param <X>         the type of the first element
+     * @param <Y>         the type of the second element
+     * @param <Z>         the type of the third element
+     * @return            the triplet codec
+     */
+    public static <X, Y, Z> Codec<Triplet<X, Y, Z>> Triplet(Codec<X> firstCodec, Codec<Y> secondCodec,
+                                                            Codec<Z> thirdCodec) {
+        Objects.requireNonNull(firstCodec, "firstCodec is null");
+        Objects.requireNonNull(secondCodec, "secondCodec is null");
+        Objects.requireNonNull(thirdCodec, "thirdCodec is null");
+        return Codec.of(
+                (triplet, output) -> {
+                    firstCodec.encode(triplet.getFirst(), output);
+                    secondCodec.encode(triplet.getSecond(), output);
+                    thirdCodec.encode(triplet.getThird(), output);
+                },
+                input -> API.Tuple(firstCodec.decode(input), secondCodec.decode(input), thirdCodec.decode(input)));
+    }
+
+    /**
+     * A codec for a {@link Quadruplet}.
+     *
+     * @param firstCodec  the codec for the first element
+     * @param secondCodec the codec for the second element
+     * @param thirdCodec  the codec for the third element
+     * @param fourthCodec the codec for the fourth element
+     * @param <X>         the type of the first element
+     * @param <Y>         the type of the second element
+     * @param <Z>         the type of the third element
+     * @param <D>         the type of the fourth element
+     * @return            the quadruplet codec
+     */
+    public static <X, Y, Z, D> Codec<Quadruplet<X, Y, Z, D>> Quadruplet(Codec<X> firstCodec, Codec<Y> secondCodec,
+                                                                        Codec<Z> thirdCodec, Codec<D> fourthCodec) {
+        Objects.requireNonNull(firstCodec, "firstCodec is null");
+        Objects.requireNonNull(secondCodec, "secondCodec is null");
+        Objects.requireNonNull(thirdCodec, "thirdCodec is null");
+        Objects.requireNonNull(fourthCodec, "fourthCodec is null");
+        return Codec.of(
+                (quadruplet, output) -> {
+                    firstCodec.encode(quadruplet.getFirst(), output);
+                    secondCodec.encode(quadruplet.getSecond(), output);
+                    thirdCodec.encode(quadruplet.getThird(), output);
+                    fourthCodec.encode(quadruplet.getFourth(), output);
+                },
+                input -> API.Tuple(
+                        firstCodec.decode(input),
+                        secondCodec.decode(input),
+                        thirdCodec.decode(input),
+                        fourthCodec.decode(input)));
+    }
+
+    /**
+     * A codec for an {@link Optional}, written as a presence flag optionally followed by the value.
+     *
+     * @param valueCodec the codec for the value
+     * @param <T>        the type of the value
+     * @return           the optional codec
+     */
+    public static <T> Codec<Optional<T>> Optional(Codec<T> valueCodec) {
+        Objects.requireNonNull(valueCodec, "valueCodec is null");
+        return Codec.of(
+                (optional, output) -> {
+                    output.writeBoolean(optional.isPresent());
+                    if (optional.isPresent()) {
+                        valueCodec.encode(optional.get(), output);
+                    }
+                },
+                input -> input.readBoolean() ? Control.Option(valueCodec.decode(input)) : Control.Option());
+    }
+
+    /**
+     * A codec for a {@link Try}. A success is written as its value, a failure is written as the class name and message
+     * of its cause. A decoded failure will have a {@link DecodedFailureException} as its cause, as exceptions are not
+     * reconstructed.
+     *
+     * @param valueCodec the codec for the value of a success
+     * @param <T>        the type of the value
+     * @return           the try codec
+     */
+    public static <T> Codec<Try<T>> Try(Codec<T> valueCodec) {
+        Objects.requireNonNull(valueCodec, "valueCodec is null");
+        final Codec<String> messageCodec = Nullable(STRING);
+        return Codec.of(
+                (attempt, output) -> {
+                    output.writeBoolean(attempt.isSuccess());
+                    if (attempt.isSuccess()) {
+                        valueCodec.encode(attempt.get(), output);
+                    } else {
+                        Throwable cause = attempt.getCause();
+                        String type = cause instanceof DecodedFailureException
+                                ? ((DecodedFailureException) cause).getType()
+                                : cause.getClass().getName();
+
+                        output.writeString(type);
+                        messageCodec.encode(cause.getMessage(), output);
+                    }
+                },
+                input -> {
+                    if (input.readBoolean()) {
+                        return new TrySuccess<>(valueCodec.decode(input));
+                    }
+
+                    String type = input.readString();
+                    return new TryFailure<>(new DecodedFailureException(type, messageCodec.decode(input)));
+                });
+    }
+
+    /**
+     * A codec for a {@link Range}, written as the from followed by the until temporal.
+     *
+     * @param temporalCodec the codec for the temporal
+     * @param <T>           the type of the temporal
+     * @return              the range codec
+     */
+    public static <T extends Temporal> Codec<Range<T>> Range(Codec<T> temporalCodec) {
+        Objects.requireNonNull(temporalCodec, "temporalCodec is null");
+        return Codec.of(
+                (range, output) -> {
+                    temporalCodec.encode(range.from(), output);
+                    temporalCodec.encode(range.until(), output);
+                },
+                input -> Dates.range(temporalCodec.decode(input), temporalCodec.decode(input)));
+    }
+
+    private static <T> void encodeElements(Codec<T> codec, int size, Iterable<T> elements,
+                                           BinaryOutput output) {
+        output.writeVarInt(size);
+        for (T element : elements) {
+            codec.encode(element, output);
+        }
+    }
+
+    private static <T> Object[] decodeElements(Codec<T> codec, BinaryInput input) {
+        int size = input.readLength();
+        Object[] elements = new Object[Math.min(size, MAX_INITIAL_CAPACITY)];
+        for (int i = 0; i < size; i++) {
+            if (i == elements.length) {
+                elements = Arrays.copyOf(elements, Math.min(size, elements.length * 2));
+            }
+            elements[i] = codec.decode(input);
+        }
+
+        return elements;
+    }
+
+}
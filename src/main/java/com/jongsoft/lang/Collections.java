@@ -32,6 +32,35 @@ public class Collections {
         return new TreeSet<>(label, value, children);
     }
 
+    /**
+     * Creates an immutable {@link Tree} with only a root node. All modifying operations on the tree return a new tree
+     * sharing the unchanged nodes with the original, use {@link Tree#zipper()} to make changes deep in the tree.
+     *
+     * @param label     the label of the root
+     * @param rootValue the value of the root
+     * @param <T>       the entity type contained in the tree
+     * @return          the immutable tree
+     * @since 1.1.7
+     */
+    public static <T> Tree<T> PersistentTree(String label, T rootValue) {
+        return new PersistentTree<>(label, rootValue);
+    }
+
+    /**
+     * Creates an immutable {@link Tree} with the provided {@code children}, where children that are not immutable
+     * are copied.
+     *
+     * @param label    the label of the root
+     * @param value    the value of the root
+     * @param children the children of the root
+     * @param <T>      the entity type contained in the tree
+     * @return         the immutable tree
+     * @since 1.1.7
+     */
+    public static <T> Tree<T> PersistentTree(String label, T value, Iterable<Tree<T>> children) {
+        return PersistentTree.of(label, value, children);
+    }
+
     /**
      * Creates an {@link Sequence} containing exactly one element, being the one passed to this call.
      *
@@ -112,13 +141,7 @@ public class Collections {
     @SafeVarargs
     @SuppressWarnings({"unchecked", "squid:S00100"})
     public static <T> Set<T> Set(T... elements) {
-        Set<T> newSet = EMPTY_SET;
-
-        for (int i = 0; i < elements.length; i++) {
-            newSet = newSet.append(elements[i]);
-        }
-
-        return newSet;
+        return ((Set<T>) EMPTY_SET).union(create(elements));
     }
 
     /**
@@ -4,6 +4,10 @@ import com.jongsoft.lang.control.*;
 import com.jongsoft.lang.control.impl.*;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 @SuppressWarnings("java:S100")
 public class Control {
@@ -87,4 +91,65 @@ public class Control {
                 .run(runner);
     }
 
+    /**
+     * Attempt to execute code asynchronously that will return an entity, but may also result into an exception. The
+     * code is executed on the default executor, which uses virtual threads when the runtime supports them.
+     *
+     * @param <T>      the type of entity that will be returned in case of success
+     * @param supplier the supplier that will return the entity
+     *
+     * @return the {@link TryFuture} that completes with the outcome of the supplier
+     *
+     * @throws NullPointerException in case the supplier is null
+     * @since 1.1.7
+     */
+    @SuppressWarnings("squid:S00100")
+    public static <T> TryFuture<T> TryAsync(CheckedSupplier<T> supplier) {
+        return TryAsync(supplier, AsyncSupport.executor());
+    }
+
+    /**
+     * Attempt to execute code asynchronously on the provided {@code executor} that will return an entity, but may also
+     * result into an exception.
+     *
+     * @param <T>      the type of entity that will be returned in case of success
+     * @param supplier the supplier that will return the entity
+     * @param executor the executor to run the supplier on
+     *
+     * @return the {@link TryFuture} that completes with the outcome of the supplier
+     *
+     * @throws NullPointerException in case the supplier or executor is null
+     * @since 1.1.7
+     */
+    @SuppressWarnings("squid:S00100")
+    public static <T> TryFuture<T> TryAsync(CheckedSupplier<T> supplier, Executor executor) {
+        Objects.requireNonNull(supplier, "Supplier cannot be null");
+        Objects.requireNonNull(executor, "Executor cannot be null");
+        return new TryFutureImpl<>(CompletableFuture.supplyAsync(() -> {
+            try {
+                return supplier.get();
+            } catch (Exception exception) {
+                throw new CompletionException(exception);
+            }
+        }, executor));
+    }
+
+    /**
+     * Create a lazy value that is computed using the {@code supplier} the first time it is requested. The supplier is
+     * called at most once, unless it throws an exception.
+     *
+     * @param <T>      the type of the value
+     * @param supplier the supplier computing the value
+     *
+     * @return the lazy value
+     *
+     * @throws NullPointerException in case the supplier is null
+     * @since 1.1.7
+     */
+    @SuppressWarnings("squid:S00100")
+    public static <T> Lazy<T> Lazy(Supplier<? extends T> supplier) {
+        Objects.requireNonNull(supplier, "Supplier cannot be null");
+        return new LazyImpl<>(supplier);
+    }
+
 }
@@ -0,0 +1,149 @@
+package com.jongsoft.lang.codec;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The binary input is the source a {@link Codec} reads its encoded form from. It is the counterpart of the
+ * {@link BinaryOutput} and reads all values in the same layout as they are written there.
+ *
+ * @since 1.1.7
+ */
+public interface BinaryInput {
+
+    /**
+     * Read a single byte from the input.
+     *
+     * @return the byte read
+     * @throws IllegalStateException in case the end of the input is reached
+     */
+    byte readByte();
+
+    /**
+     * Read exactly {@code length} bytes from the input.
+     *
+     * @param length the number of bytes to read
+     * @return the bytes read
+     * @throws IllegalStateException in case the end of the input is reached
+     */
+    default byte[] readBytes(int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = readByte();
+        }
+        return bytes;
+    }
+
+    /**
+     * Read a boolean written with {@link BinaryOutput#writeBoolean(boolean)}.
+     *
+     * @return the boolean read
+     */
+    default boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    /**
+     * Read an unsigned variable length integer written with {@link BinaryOutput#writeVarInt(int)}.
+     *
+     * @return the integer read
+     * @throws IllegalStateException in case the variable length integer is malformed
+     */
+    default int readVarInt() {
+        int result = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            byte current = readByte();
+            result |= (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) {
+                return result;
+            }
+        }
+
+        throw new IllegalStateException("Malformed variable length integer in the input");
+    }
+
+    /**
+     * Read an unsigned variable length long written with {@link BinaryOutput#writeVarLong(long)}.
+     *
+     * @return the long read
+     * @throws IllegalStateException in case the variable length long is malformed
+     */
+    default long readVarLong() {
+        long result = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte current = readByte();
+            result |= (long) (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) {
+                return result;
+            }
+        }
+
+        throw new IllegalStateException("Malformed variable length long in the input");
+    }
+
+    /**
+     * Read a zig-zag encoded integer written with {@link BinaryOutput#writeSignedVarInt(int)}.
+     *
+     * @return the integer read
+     */
+    default int readSignedVarInt() {
+        int raw = readVarInt();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    /**
+     * Read a zig-zag encoded long written with {@link BinaryOutput#writeSignedVarLong(long)}.
+     *
+     * @return the long read
+     */
+    default long readSignedVarLong() {
+        long raw = readVarLong();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    /**
+     * Read a fixed 8 byte long written with {@link BinaryOutput#writeFixedLong(long)}.
+     *
+     * @return the long read
+     */
+    default long readFixedLong() {
+        long result = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            result |= (readByte() & 0xFFL) << shift;
+        }
+        return result;
+    }
+
+    /**
+     * Read a double written with {@link BinaryOutput#writeDouble(double)}.
+     *
+     * @return the double read
+     */
+    default double readDouble() {
+        return Double.longBitsToDouble(readFixedLong());
+    }
+
+    /**
+     * Read a length prefixed UTF-8 string written with {@link BinaryOutput#writeString(String)}.
+     *
+     * @return the string read
+     */
+    default String readString() {
+        return new String(readBytes(readLength()), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Read a length prefix, as written by {@link BinaryOutput#writeVarInt(int)}, and validate it is not negative.
+     *
+     * @return the length read
+     * @throws IllegalStateException in case the length is negative
+     */
+    default int readLength() {
+        int length = readVarInt();
+        if (length < 0) {
+            throw new IllegalStateException("Negative length " + length + " found in the input");
+        }
+
+        return length;
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.jongsoft.lang.codec;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The binary output is the sink a {@link Codec} writes its encoded form to. All multi-byte integers are written as
+ * variable length integers, using 7 bits per byte and the high bit to indicate more bytes will follow.
+ * <p>
+ *     Implementations are provided for both a {@link java.io.OutputStream} and a {@link java.nio.ByteBuffer}, see
+ *     {@link Codec#encode(Object, java.io.OutputStream)} and {@link Codec#encode(Object, java.nio.ByteBuffer)}.
+ * </p>
+ *
+ * @since 1.1.7
+ */
+public interface BinaryOutput {
+
+    /**
+     * Write a single byte to the output, only the lowest 8 bits of the {@code value} are used.
+     *
+     * @param value the byte to write
+     */
+    void writeByte(int value);
+
+    /**
+     * Write all the provided bytes to the output, without any length prefix.
+     *
+     * @param bytes the bytes to write
+     */
+    default void writeBytes(byte[] bytes) {
+        for (byte b : bytes) {
+            writeByte(b);
+        }
+    }
+
+    /**
+     * Write a boolean as a single byte.
+     *
+     * @param value the boolean to write
+     */
+    default void writeBoolean(boolean value) {
+        writeByte(value ? 1 : 0);
+    }
+
+    /**
+     * Write the {@code value} as an unsigned variable length integer. Negative values will always take 5 bytes, use
+     * {@link #writeSignedVarInt(int)} for those.
+     *
+     * @param value the value to write
+     */
+    default void writeVarInt(int value) {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        writeByte(remaining);
+    }
+
+    /**
+     * Write the {@code value} as an unsigned variable length long. Negative values will always take 10 bytes, use
+     * {@link #writeSignedVarLong(long)} for those.
+     *
+     * @param value the value to write
+     */
+    default void writeVarLong(long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            writeByte((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        writeByte((int) remaining);
+    }
+
+    /**
+     * Write the {@code value} using zig-zag encoding, so that small negative values take as few bytes as small positive
+     * values.
+     *
+     * @param value the value to write
+     */
+    default void writeSignedVarInt(int value) {
+        writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    /**
+     * Write the {@code value} using zig-zag encoding, so that small negative values take as few bytes as small positive
+     * values.
+     *
+     * @param value the value to write
+     */
+    default void writeSignedVarLong(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Write the {@code value} as 8 bytes in little endian order.
+     *
+     * @param value the value to write
+     */
+    default void writeFixedLong(long value) {
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            writeByte((int) (value >>> shift));
+        }
+    }
+
+    /**
+     * Write the {@code value} using its IEEE 754 bit layout.
+     *
+     * @param value the value to write
+     */
+    default void writeDouble(double value) {
+        writeFixedLong(Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * Write the {@code value} as UTF-8 bytes, prefixed by the number of bytes.
+     *
+     * @param value the value to write
+     * @throws NullPointerException in case {@code value} is null
+     */
+    default void writeString(String value) {
+        byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(encoded.length);
+        writeBytes(encoded);
+    }
+
+    /**
+     * Push any buffered bytes to the underlying sink.
+     */
+    default void flush() {
+        // nothing is buffered by default
+    }
+
+}
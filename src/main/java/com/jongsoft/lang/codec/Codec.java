@@ -0,0 +1,157 @@
+package com.jongsoft.lang.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import com.jongsoft.lang.codec.impl.BufferInput;
+import com.jongsoft.lang.codec.impl.BufferOutput;
+import com.jongsoft.lang.codec.impl.FunctionalCodec;
+import com.jongsoft.lang.codec.impl.StreamInput;
+import com.jongsoft.lang.codec.impl.StreamOutput;
+
+/**
+ * A codec is able to write a value of type {@code T} to a compact binary form and read it back again. Codecs are
+ * composable, the codec of a {@link com.jongsoft.lang.collection.Sequence} is for example built using the codec of its
+ * elements.
+ * <p>
+ *     Default codecs for the types in this library can be obtained using {@link com.jongsoft.lang.Codecs}. Any other
+ *     type can be supported by implementing this interface, or by using {@link #of(BiConsumer, Function)}.
+ * </p>
+ * <p><strong>Example:</strong></p>
+ * <pre>{@code  Codec<Sequence<String>> codec = Codecs.Sequence(Codecs.String());
+ *
+ *   byte[] encoded = codec.toBytes(Collections.List("one", "two"));
+ *   Sequence<String> decoded = codec.fromBytes(encoded);
+ * }</pre>
+ *
+ * @param <T> the type of value supported by the codec
+ * @since 1.1.7
+ */
+public interface Codec<T> {
+
+    /**
+     * Write the {@code value} to the provided {@code output}.
+     *
+     * @param value  the value to encode
+     * @param output the output to write to
+     */
+    void encode(T value, BinaryOutput output);
+
+    /**
+     * Read a value from the provided {@code input}.
+     *
+     * @param input the input to read from
+     * @return      the decoded value
+     * @throws IllegalStateException in case the input is malformed or ends prematurely
+     */
+    T decode(BinaryInput input);
+
+    /**
+     * Write the {@code value} to the {@code stream}. The stream is flushed, but not closed, after the value is written.
+     * Multiple values can be written to the same stream after each other.
+     *
+     * @param value  the value to encode
+     * @param stream the stream to write to
+     * @throws java.io.UncheckedIOException in case writing to the stream fails
+     */
+    default void encode(T value, OutputStream stream) {
+        Objects.requireNonNull(stream, "stream is null");
+        BinaryOutput output = new StreamOutput(stream);
+        encode(value, output);
+        output.flush();
+    }
+
+    /**
+     * Write the {@code value} to the {@code buffer}, starting at its current position.
+     *
+     * @param value  the value to encode
+     * @param buffer the buffer to write to
+     * @throws java.nio.BufferOverflowException in case the buffer has insufficient space remaining
+     */
+    default void encode(T value, ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "buffer is null");
+        encode(value, new BufferOutput(buffer));
+    }
+
+    /**
+     * Read a value from the {@code stream}. Only the bytes that belong to the value are consumed from the stream.
+     *
+     * @param stream the stream to read from
+     * @return       the decoded value
+     * @throws java.io.UncheckedIOException in case reading from the stream fails
+     */
+    default T decode(InputStream stream) {
+        Objects.requireNonNull(stream, "stream is null");
+        return decode(new StreamInput(stream));
+    }
+
+    /**
+     * Read a value from the {@code buffer}, starting at its current position.
+     *
+     * @param buffer the buffer to read from
+     * @return       the decoded value
+     */
+    default T decode(ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "buffer is null");
+        return decode(new BufferInput(buffer));
+    }
+
+    /**
+     * Encode the {@code value} into a new byte array.
+     *
+     * @param value the value to encode
+     * @return      the encoded bytes
+     */
+    default byte[] toBytes(T value) {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        encode(value, stream);
+        return stream.toByteArray();
+    }
+
+    /**
+     * Decode a value from the {@code bytes}, as produced by {@link #toBytes(Object)}.
+     *
+     * @param bytes the bytes to decode
+     * @return      the decoded value
+     */
+    default T fromBytes(byte[] bytes) {
+        Objects.requireNonNull(bytes, "bytes is null");
+        return decode(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Create a codec for type {@code U} that converts to and from the type supported by this codec.
+     *
+     * @param to    the conversion applied after decoding
+     * @param from  the conversion applied before encoding
+     * @param <U>   the type of the new codec
+     * @return      the converting codec
+     */
+    default <U> Codec<U> map(Function<? super T, ? extends U> to, Function<? super U, ? extends T> from) {
+        Objects.requireNonNull(to, "to is null");
+        Objects.requireNonNull(from, "from is null");
+        return of(
+                (value, output) -> encode(from.apply(value), output),
+                input -> to.apply(decode(input)));
+    }
+
+    /**
+     * Create a new codec using the provided {@code encoder} and {@code decoder}.
+     *
+     * @param encoder the operation writing a value to the output
+     * @param decoder the operation reading a value from the input
+     * @param <T>     the type of value supported by the codec
+     * @return        the new codec
+     */
+    static <T> Codec<T> of(BiConsumer<? super T, BinaryOutput> encoder, Function<BinaryInput, ? extends T> decoder) {
+        Objects.requireNonNull(encoder, "encoder is null");
+        Objects.requireNonNull(decoder, "decoder is null");
+        return new FunctionalCodec<>(encoder, decoder);
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.jongsoft.lang.codec;
+
+/**
+ * The exception used as cause for a failed {@link com.jongsoft.lang.control.Try} that was decoded. As exceptions are
+ * not reconstructed from their binary form this exception only carries the type and the message of the original.
+ *
+ * @since 1.1.7
+ */
+public final class DecodedFailureException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String type;
+
+    public DecodedFailureException(String type, String message) {
+        super(message, null, false, false);
+        this.type = type;
+    }
+
+    /**
+     * The fully qualified class name of the exception that was encoded.
+     *
+     * @return the class name of the original exception
+     */
+    public String getType() {
+        return type;
+    }
+
+    @Override
+    public String toString() {
+        String message = getMessage();
+        return message != null ? type + ": " + message : type;
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.jongsoft.lang.codec.impl;
+
+import java.nio.ByteBuffer;
+
+import com.jongsoft.lang.codec.BinaryInput;
+
+public class BufferInput implements BinaryInput {
+
+    private final ByteBuffer buffer;
+
+    public BufferInput(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public byte readByte() {
+        if (!buffer.hasRemaining()) {
+            throw new IllegalStateException("Unexpected end of the input buffer");
+        }
+
+        return buffer.get();
+    }
+
+    @Override
+    public byte[] readBytes(int length) {
+        if (buffer.remaining() < length) {
+            throw new IllegalStateException("Unexpected end of the input buffer");
+        }
+
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+}
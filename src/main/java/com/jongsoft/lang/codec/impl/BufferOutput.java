@@ -0,0 +1,25 @@
+package com.jongsoft.lang.codec.impl;
+
+import java.nio.ByteBuffer;
+
+import com.jongsoft.lang.codec.BinaryOutput;
+
+public class BufferOutput implements BinaryOutput {
+
+    private final ByteBuffer buffer;
+
+    public BufferOutput(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public void writeByte(int value) {
+        buffer.put((byte) value);
+    }
+
+    @Override
+    public void writeBytes(byte[] bytes) {
+        buffer.put(bytes);
+    }
+
+}
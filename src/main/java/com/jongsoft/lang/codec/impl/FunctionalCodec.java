@@ -0,0 +1,30 @@
+package com.jongsoft.lang.codec.impl;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import com.jongsoft.lang.codec.BinaryInput;
+import com.jongsoft.lang.codec.BinaryOutput;
+import com.jongsoft.lang.codec.Codec;
+
+public class FunctionalCodec<T> implements Codec<T> {
+
+    private final BiConsumer<? super T, BinaryOutput> encoder;
+    private final Function<BinaryInput, ? extends T> decoder;
+
+    public FunctionalCodec(BiConsumer<? super T, BinaryOutput> encoder, Function<BinaryInput, ? extends T> decoder) {
+        this.encoder = encoder;
+        this.decoder = decoder;
+    }
+
+    @Override
+    public void encode(T value, BinaryOutput output) {
+        encoder.accept(value, output);
+    }
+
+    @Override
+    public T decode(BinaryInput input) {
+        return decoder.apply(input);
+    }
+
+}
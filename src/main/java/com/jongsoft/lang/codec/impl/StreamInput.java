@@ -0,0 +1,53 @@
+package com.jongsoft.lang.codec.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+import com.jongsoft.lang.codec.BinaryInput;
+
+/**
+ * Reads from an {@link InputStream}. No read ahead is done, so that only the bytes belonging to one value are consumed.
+ * Wrap the stream in a {@link java.io.BufferedInputStream} when reading from a slow source.
+ */
+public class StreamInput implements BinaryInput {
+
+    private final InputStream stream;
+
+    public StreamInput(InputStream stream) {
+        this.stream = stream;
+    }
+
+    @Override
+    public byte readByte() {
+        int value = read();
+        if (value < 0) {
+            throw new IllegalStateException("Unexpected end of the input stream");
+        }
+
+        return (byte) value;
+    }
+
+    @Override
+    public byte[] readBytes(int length) {
+        try {
+            byte[] bytes = stream.readNBytes(length);
+            if (bytes.length != length) {
+                throw new IllegalStateException("Unexpected end of the input stream");
+            }
+
+            return bytes;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private int read() {
+        try {
+            return stream.read();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.jongsoft.lang.codec.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import com.jongsoft.lang.codec.BinaryOutput;
+
+/**
+ * Writes to an {@link OutputStream}, using a small internal buffer to avoid a stream call per byte.
+ */
+public class StreamOutput implements BinaryOutput {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final OutputStream stream;
+    private final byte[] buffer;
+    private int position;
+
+    public StreamOutput(OutputStream stream) {
+        this.stream = stream;
+        this.buffer = new byte[BUFFER_SIZE];
+    }
+
+    @Override
+    public void writeByte(int value) {
+        if (position == buffer.length) {
+            drain();
+        }
+
+        buffer[position++] = (byte) value;
+    }
+
+    @Override
+    public void writeBytes(byte[] bytes) {
+        if (bytes.length > buffer.length - position) {
+            drain();
+            if (bytes.length > buffer.length) {
+                write(bytes, bytes.length);
+                return;
+            }
+        }
+
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    @Override
+    public void flush() {
+        drain();
+        try {
+            stream.flush();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private void drain() {
+        write(buffer, position);
+        position = 0;
+    }
+
+    private void write(byte[] bytes, int length) {
+        try {
+            stream.write(bytes, 0, length);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+}
@@ -0,0 +1,22 @@
+/**
+ * The codec package contains a compact binary serialization mechanism for the types in this library.
+ *
+ * <p><strong>Main interfaces</strong></p>
+ * <ul>
+ *     <li>{@linkplain com.jongsoft.lang.codec.Codec}, encodes and decodes a single type of value</li>
+ *     <li>{@linkplain com.jongsoft.lang.codec.BinaryOutput}, the sink values are written to</li>
+ *     <li>{@linkplain com.jongsoft.lang.codec.BinaryInput}, the source values are read from</li>
+ * </ul>
+ *
+ * <p>
+ *     All integers are written as variable length integers and all collections are prefixed with their size. This keeps
+ *     the encoded form small and allows decoding without reading ahead.
+ * </p>
+ * <pre> {@code    // Sample usage of a codec
+ *     Codec<Map<String, Integer>> codec = Codecs.Map(Codecs.String(), Codecs.Int());
+ *     byte[] bytes = codec.toBytes(Collections.Map("one", 1));
+ * }</pre>
+ *
+ * @since 1.1.7
+ */
+package com.jongsoft.lang.codec;
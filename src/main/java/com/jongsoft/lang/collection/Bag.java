@@ -0,0 +1,182 @@
+package com.jongsoft.lang.collection;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.jongsoft.lang.Streamable;
+import com.jongsoft.lang.collection.impl.BagImpl;
+import com.jongsoft.lang.collection.tuple.Pair;
+
+/**
+ * A persistent bag, also known as a multiset, counting how often each element was added. The counts are stored in a
+ * hash trie, so adding or removing an element and looking up its {@link #count(Object)} take logarithmic time and
+ * never copy the whole bag.
+ *
+ * <p>
+ *     The bag iterates over every distinct element paired with its count, in no specific order.
+ * </p>
+ *
+ * <p><strong>Example:</strong></p>
+ * <pre>{@code  Bag<String> words = Bag.of("to", "be", "or", "not", "to", "be");
+ *
+ *  // will be 2
+ *  int count = words.count("to");
+ * }</pre>
+ *
+ * @param <T> the type of the elements
+ * @since 1.1.7
+ */
+public interface Bag<T> extends Streamable<Pair<T, Integer>> {
+
+    /**
+     * Add the {@code element} once.
+     *
+     * @param element the element to add
+     * @return        the bag with the count of the element increased by one
+     * @throws NullPointerException in case the element is null
+     */
+    Bag<T> add(T element);
+
+    /**
+     * Add the {@code element} the provided number of times.
+     *
+     * @param element     the element to add
+     * @param occurrences the number of times to add it
+     * @return            the bag with the count of the element increased
+     * @throws NullPointerException     in case the element is null
+     * @throws IllegalArgumentException in case {@code occurrences} is negative
+     */
+    Bag<T> add(T element, int occurrences);
+
+    /**
+     * Remove the {@code element} once.
+     *
+     * @param element the element to remove
+     * @return        the bag with the count of the element decreased by one, or this bag if it was not present
+     */
+    Bag<T> remove(T element);
+
+    /**
+     * Remove the {@code element} the provided number of times, the count will not go below zero.
+     *
+     * @param element     the element to remove
+     * @param occurrences the number of times to remove it
+     * @return            the bag with the count of the element decreased
+     * @throws IllegalArgumentException in case {@code occurrences} is negative
+     */
+    Bag<T> remove(T element, int occurrences);
+
+    /**
+     * Set the number of times the {@code element} is in the bag, where a count of zero removes it.
+     *
+     * @param element the element to set the count for
+     * @param count   the new count
+     * @return        the bag with the new count for the element
+     * @throws NullPointerException     in case the element is null
+     * @throws IllegalArgumentException in case {@code count} is negative
+     */
+    Bag<T> setCount(T element, int count);
+
+    /**
+     * The number of times the {@code element} is in the bag.
+     *
+     * @param element the element to count
+     * @return        the count, or 0 if the element is not present
+     */
+    int count(T element);
+
+    /**
+     * Indicates if the {@code element} is in the bag at least once.
+     *
+     * @param element the element to look for
+     * @return        true if the element is present
+     */
+    default boolean contains(T element) {
+        return count(element) > 0;
+    }
+
+    /**
+     * The set of all distinct elements in the bag.
+     *
+     * @return the distinct elements
+     */
+    Set<T> elementSet();
+
+    /**
+     * The total number of elements, counting every occurrence.
+     *
+     * @return the sum of all counts
+     */
+    int size();
+
+    /**
+     * Indicates if the bag has no elements.
+     *
+     * @return true if the bag is empty
+     */
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    Iterator<Pair<T, Integer>> iterator();
+
+    @Override
+    Bag<T> filter(Predicate<Pair<T, Integer>> predicate);
+
+    @Override
+    <U> Sequence<U> map(Function<Pair<T, Integer>, U> mapper);
+
+    /**
+     * Convert the bag to a regular Java map from each distinct element to its count.
+     *
+     * @return the new java map
+     */
+    java.util.Map<T, Integer> toJava();
+
+    /**
+     * Create an empty bag.
+     *
+     * @param <T> the type of the elements
+     * @return    the empty bag
+     */
+    static <T> Bag<T> empty() {
+        return BagImpl.empty();
+    }
+
+    /**
+     * Create a bag counting all {@code elements}.
+     *
+     * @param elements the elements to count
+     * @param <T>      the type of the elements
+     * @return         the bag
+     * @throws NullPointerException in case any of the elements is null
+     */
+    @SafeVarargs
+    static <T> Bag<T> of(T... elements) {
+        Bag<T> bag = empty();
+        for (T element : elements) {
+            bag = bag.add(element);
+        }
+
+        return bag;
+    }
+
+    /**
+     * Create a bag counting all elements in the {@code iterable}.
+     *
+     * @param iterable the elements to count
+     * @param <T>      the type of the elements
+     * @return         the bag
+     * @throws NullPointerException in case the iterable or any of its elements is null
+     */
+    static <T> Bag<T> of(Iterable<? extends T> iterable) {
+        Bag<T> bag = empty();
+        for (T element : iterable) {
+            bag = bag.add(element);
+        }
+
+        return bag;
+    }
+
+}
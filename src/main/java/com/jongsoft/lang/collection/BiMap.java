@@ -0,0 +1,117 @@
+package com.jongsoft.lang.collection;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import com.jongsoft.lang.collection.impl.BiMapImpl;
+import com.jongsoft.lang.collection.tuple.Pair;
+
+/**
+ * A persistent {@link Map} in which every value belongs to exactly one key, so the map can be looked up in both
+ * directions. Both directions are kept in their own hash trie, making {@link #get(Object)} and {@link #getKey(Object)}
+ * equally fast. Every update copies only the paths to the changed entries in both tries.
+ *
+ * <p>
+ *     Neither the keys nor the values may be null. {@link #inverse()} returns the same entries with the keys and values
+ *     swapped, without copying them.
+ * </p>
+ *
+ * <p><strong>Example:</strong></p>
+ * <pre>{@code  BiMap<String, Integer> codes = BiMap.<String, Integer>empty()
+ *      .put("EUR", 978)
+ *      .put("USD", 840);
+ *
+ *  // will be "USD"
+ *  String currency = codes.inverse().get(840);
+ * }</pre>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @since 1.1.7
+ */
+public interface BiMap<K, V> extends Map<K, V> {
+
+    /**
+     * Add a new entry to the map, replacing the value of the {@code key} if it was already present.
+     *
+     * @param key   the key for the entry
+     * @param value the value for the entry
+     * @return      the new map with the added key, value pair
+     * @throws NullPointerException     in case the key or the value is null
+     * @throws IllegalArgumentException in case the value already belongs to another key
+     */
+    @Override
+    BiMap<K, V> put(K key, V value);
+
+    /**
+     * Add a new entry to the map, removing any other key the {@code value} belonged to.
+     *
+     * @param key   the key for the entry
+     * @param value the value for the entry
+     * @return      the new map with the added key, value pair
+     * @throws NullPointerException in case the key or the value is null
+     */
+    BiMap<K, V> forcePut(K key, V value);
+
+    @Override
+    BiMap<K, V> remove(K key);
+
+    /**
+     * Get the key the {@code value} belongs to.
+     *
+     * @param value the value to look up
+     * @return      the key, or null if the value is not present
+     */
+    K getKey(V value);
+
+    /**
+     * Get the view of this map with the keys and values swapped. The inverse shares the storage of this map, and its
+     * inverse is this map again.
+     *
+     * @return the inverse map
+     */
+    BiMap<V, K> inverse();
+
+    @Override
+    BiMap<K, V> tail();
+
+    @Override
+    BiMap<K, V> filter(Predicate<Pair<K, V>> predicate);
+
+    @Override
+    default BiMap<K, V> reject(Predicate<Pair<K, V>> predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        return filter(predicate.negate());
+    }
+
+    /**
+     * Create an empty map.
+     *
+     * @param <K> the type of the keys
+     * @param <V> the type of the values
+     * @return    the empty map
+     */
+    static <K, V> BiMap<K, V> empty() {
+        return BiMapImpl.empty();
+    }
+
+    /**
+     * Create a map with all the {@code entries}.
+     *
+     * @param entries the key, value pairs for the map
+     * @param <K>     the type of the keys
+     * @param <V>     the type of the values
+     * @return        the new map
+     * @throws NullPointerException     in case any key or value is null
+     * @throws IllegalArgumentException in case two different keys have the same value
+     */
+    static <K, V> BiMap<K, V> of(Iterable<? extends Pair<K, V>> entries) {
+        BiMap<K, V> result = empty();
+        for (Pair<K, V> entry : entries) {
+            result = result.put(entry.getFirst(), entry.getSecond());
+        }
+
+        return result;
+    }
+
+}
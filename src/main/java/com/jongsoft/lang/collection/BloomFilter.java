@@ -0,0 +1,88 @@
+package com.jongsoft.lang.collection;
+
+import com.jongsoft.lang.collection.impl.BloomFilterImpl;
+
+/**
+ * A probabilistic membership test over a fixed group of elements. A bloom filter never reports an element that was
+ * added as absent, but may report an element that was not added as present with the configured false positive rate.
+ * This makes it a cheap pre-filter in front of an expensive lookup, where most of the looked up elements are absent.
+ *
+ * <p>
+ *     The bits of the filter are stored in a {@code long[]} sized for the number of elements and the false positive
+ *     rate, about 10 bits per element for a rate of 1%. Elements are hashed using their {@link Object#hashCode()}.
+ * </p>
+ *
+ * <p><strong>Example:</strong></p>
+ * <pre>{@code  BloomFilter<String> blocked = BloomFilter.of(blockedAccounts, 0.001);
+ *
+ *  if (blocked.mightContain(account) && blockedAccounts.contains(account)) {
+ *      // reject the account
+ *  }
+ * }</pre>
+ *
+ * @param <T> the type of the elements
+ * @since 1.1.7
+ */
+public interface BloomFilter<T> {
+
+    /**
+     * The false positive rate used when none is provided.
+     */
+    double DEFAULT_FALSE_POSITIVE_RATE = 0.01;
+
+    /**
+     * Indicates if the {@code element} may have been added to the filter.
+     *
+     * @param element the element to test, can be {@code null}
+     * @return        false if the element was definitely not added, true if it probably was
+     */
+    boolean mightContain(T element);
+
+    /**
+     * The false positive rate the filter was sized for.
+     *
+     * @return the false positive rate
+     */
+    double falsePositiveRate();
+
+    /**
+     * The number of bits in the filter.
+     *
+     * @return the number of bits
+     */
+    long bitSize();
+
+    /**
+     * The number of bits set for every element in the filter.
+     *
+     * @return the number of hash functions
+     */
+    int hashFunctions();
+
+    /**
+     * Create a filter containing all the {@code elements}, with the {@link #DEFAULT_FALSE_POSITIVE_RATE}.
+     *
+     * @param elements the elements to add
+     * @param <T>      the type of the elements
+     * @return         the bloom filter
+     * @throws NullPointerException in case {@code elements} is null
+     */
+    static <T> BloomFilter<T> of(Iterable<? extends T> elements) {
+        return of(elements, DEFAULT_FALSE_POSITIVE_RATE);
+    }
+
+    /**
+     * Create a filter containing all the {@code elements}, sized for the provided {@code falsePositiveRate}.
+     *
+     * @param elements          the elements to add
+     * @param falsePositiveRate the chance that an element that was not added is reported as present
+     * @param <T>               the type of the elements
+     * @return                  the bloom filter
+     * @throws NullPointerException     in case {@code elements} is null
+     * @throws IllegalArgumentException in case {@code falsePositiveRate} is not between 0 and 1
+     */
+    static <T> BloomFilter<T> of(Iterable<? extends T> elements, double falsePositiveRate) {
+        return BloomFilterImpl.of(elements, falsePositiveRate);
+    }
+
+}
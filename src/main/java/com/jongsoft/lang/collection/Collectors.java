@@ -4,6 +4,7 @@ import com.jongsoft.lang.collection.support.Collections;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.function.Function;
 import java.util.stream.Collector;
 
 public class Collectors {
@@ -24,4 +25,58 @@ public class Collectors {
         return Collections.collector(x -> com.jongsoft.lang.Collections.Set(comparator, x));
     }
 
+    /**
+     * Collect the elements into a {@link ListMultimap}, keeping the order of the elements for every key.
+     *
+     * @param keyMapper   the function providing the key of an element
+     * @param valueMapper the function providing the value of an element
+     * @param <T>         the type of the elements
+     * @param <K>         the type of the keys
+     * @param <V>         the type of the values
+     * @return            the collector
+     */
+    public static <T, K, V> Collector<T, ArrayList<T>, ListMultimap<K, V>> toListMultimap(
+            Function<? super T, ? extends K> keyMapper,
+            Function<? super T, ? extends V> valueMapper) {
+        return Collections.collector(elements -> {
+            ListMultimap<K, V> result = ListMultimap.empty();
+            for (T element : elements) {
+                result = result.put(keyMapper.apply(element), valueMapper.apply(element));
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Collect the elements into a {@link SetMultimap}, keeping every value at most once per key.
+     *
+     * @param keyMapper   the function providing the key of an element
+     * @param valueMapper the function providing the value of an element
+     * @param <T>         the type of the elements
+     * @param <K>         the type of the keys
+     * @param <V>         the type of the values
+     * @return            the collector
+     */
+    public static <T, K, V> Collector<T, ArrayList<T>, SetMultimap<K, V>> toSetMultimap(
+            Function<? super T, ? extends K> keyMapper,
+            Function<? super T, ? extends V> valueMapper) {
+        return Collections.collector(elements -> {
+            SetMultimap<K, V> result = SetMultimap.empty();
+            for (T element : elements) {
+                result = result.put(keyMapper.apply(element), valueMapper.apply(element));
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Collect the elements into a {@link Bag}, counting how often each element occurs.
+     *
+     * @param <T> the type of the elements
+     * @return    the collector
+     */
+    public static <T> Collector<T, ArrayList<T>, Bag<T>> toBag() {
+        return Collections.collector(Bag::of);
+    }
+
 }
@@ -0,0 +1,147 @@
+package com.jongsoft.lang.collection;
+
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+import java.util.function.Predicate;
+
+import com.jongsoft.lang.collection.impl.IntMapImpl;
+import com.jongsoft.lang.collection.tuple.Pair;
+
+/**
+ * A persistent {@link Map} with integer keys, stored in a big-endian Patricia trie on the primitive key. The
+ * {@link #getInt(int)}, {@link #putInt(int, Object)} and {@link #removeInt(int)} operations take the key without
+ * boxing it and compare keys by their bits instead of calling {@code equals}, and the entries are iterated in ascending
+ * order of their keys. The methods of the {@link Map} taking a boxed key remain available for generic code.
+ *
+ * <p>
+ *     Two maps are combined with {@link #union(IntMap)} or {@link #merge(IntMap, BinaryOperator)}, which only visit
+ *     the parts of both tries where the keys overlap and share everything else with the original maps.
+ * </p>
+ *
+ * <p><strong>Example:</strong></p>
+ * <pre>{@code  IntMap<String> names = IntMap.<String>empty()
+ *      .putInt(42, "Jane")
+ *      .putInt(7, "John");
+ *
+ *  // will be "John"
+ *  String first = names.head().getSecond();
+ * }</pre>
+ *
+ * @param <T> the type of the values
+ * @since 1.1.7
+ */
+public interface IntMap<T> extends Map<Integer, T> {
+
+    /**
+     * Get the value for the {@code key}, without boxing the key.
+     *
+     * @param key the key to obtain the value for
+     * @return    the corresponding value, or <code>null</code>
+     */
+    T getInt(int key);
+
+    /**
+     * Returns true if this map contains the {@code key}, without boxing the key.
+     *
+     * @param key the key to look for
+     * @return    true if found, otherwise false
+     */
+    boolean containsIntKey(int key);
+
+    /**
+     * Add a new entry to the map, replacing the value of the {@code key} if it was already present.
+     *
+     * @param key   the key for the entry
+     * @param value the value for the entry
+     * @return      the new map with the added key, value pair
+     */
+    IntMap<T> putInt(int key, T value);
+
+    /**
+     * Remove the entry of the {@code key} from the map.
+     *
+     * @param key the key of the entry to remove
+     * @return    the map without the entry, or this map if the key was not present
+     */
+    IntMap<T> removeInt(int key);
+
+    /**
+     * Combine the entries of this map with those of the {@code other} map. For keys present in both maps the value of
+     * this map is kept.
+     *
+     * @param other the map to combine with
+     * @return      the map with the entries of both maps
+     */
+    IntMap<T> union(IntMap<T> other);
+
+    /**
+     * Combine the entries of this map with those of the {@code other} map. For keys present in both maps the
+     * {@code combiner} gets the value of this map and the value of the other map, and returns the value to keep.
+     *
+     * @param other    the map to combine with
+     * @param combiner the function resolving keys present in both maps
+     * @return         the map with the entries of both maps
+     */
+    IntMap<T> merge(IntMap<T> other, BinaryOperator<T> combiner);
+
+    /**
+     * Create a primitive array of the keys in ascending order.
+     *
+     * @return the sorted array of all keys
+     */
+    int[] keys();
+
+    /**
+     * Add a new entry to the map, replacing the value of the {@code key} if it was already present.
+     *
+     * @param key   the key for the entry
+     * @param value the value for the entry
+     * @return      the new map with the added key, value pair
+     * @throws NullPointerException in case the key is null
+     */
+    @Override
+    IntMap<T> put(Integer key, T value);
+
+    @Override
+    IntMap<T> remove(Integer key);
+
+    @Override
+    IntMap<T> tail();
+
+    @Override
+    IntMap<T> filter(Predicate<Pair<Integer, T>> predicate);
+
+    @Override
+    default IntMap<T> reject(Predicate<Pair<Integer, T>> predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        return filter(predicate.negate());
+    }
+
+    /**
+     * Create an empty map.
+     *
+     * @param <T> the type of the values
+     * @return    the empty map
+     */
+    static <T> IntMap<T> empty() {
+        return IntMapImpl.empty();
+    }
+
+    /**
+     * Create a map with all the {@code entries}, a later entry replacing the value of an earlier one with the same key.
+     *
+     * @param entries the key, value pairs for the map
+     * @param <T>     the type of the values
+     * @return        the new map
+     * @throws NullPointerException in case any key is null
+     */
+    static <T> IntMap<T> of(Iterable<? extends Pair<Integer, T>> entries) {
+        IntMap<T> result = empty();
+        for (Pair<Integer, T> entry : entries) {
+            result = result.put(entry.getFirst(), entry.getSecond());
+        }
+
+        return result;
+    }
+
+}
@@ -0,0 +1,149 @@
+package com.jongsoft.lang.collection;
+
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import com.jongsoft.lang.collection.impl.IntSetImpl;
+
+/**
+ * A {@link Set} of integers stored without boxing in compressed bitmaps. The integers are grouped by their upper 16
+ * bits, and the lower 16 bits of each group are stored in the smallest of a sorted array, a bitmap or a list of runs.
+ * Sets of ids from a dense domain therefore use about one bit per possible id, and sets of consecutive ids only a few
+ * bytes per run.
+ *
+ * <p>
+ *     The elements are ordered ascending, so {@link #get(int)} returns the n-th smallest element. The set operations
+ *     {@link #union(Iterable)}, {@link #intersect(Iterable[])} and {@link #complement(Iterable[])} work on 64 elements
+ *     at a time when the other side is an {@link IntSet} as well.
+ * </p>
+ *
+ * <p><strong>Example:</strong></p>
+ * <pre>{@code  IntSet active = IntSet.range(0, 1_000_000).complement(IntSet.of(deactivatedIds));
+ *  IntSet segment = active.intersect(customersInRegion, customersWithOrders);
+ * }</pre>
+ *
+ * @since 1.1.7
+ */
+public interface IntSet extends Set<Integer> {
+
+    /**
+     * Validate if the set contains the provided {@code value}.
+     *
+     * @param value the value to look for
+     * @return      true if the value is contained in the set
+     */
+    boolean contains(int value);
+
+    /**
+     * Add the {@code value} to the set.
+     *
+     * @param value the value to add
+     * @return      the set containing the value, or this set if the value was already present
+     */
+    IntSet append(int value);
+
+    /**
+     * Remove the {@code value} from the set. Note that {@link #remove(int)} removes the element at an index instead.
+     *
+     * @param value the value to remove
+     * @return      the set without the value, or this set if the value was not present
+     */
+    IntSet without(int value);
+
+    /**
+     * Create a primitive array of the elements in ascending order.
+     *
+     * @return the sorted array of all elements
+     */
+    int[] toIntArray();
+
+    /**
+     * Create a stream of the elements in ascending order, without boxing them.
+     *
+     * @return the stream of all elements
+     */
+    IntStream intStream();
+
+    /**
+     * Add the {@code value} to the set.
+     *
+     * @param value the value to add
+     * @return      the set containing the value
+     * @throws NullPointerException in case {@code value} is null
+     */
+    @Override
+    IntSet append(Integer value);
+
+    @Override
+    IntSet filter(Predicate<Integer> predicate);
+
+    @Override
+    default IntSet reject(Predicate<Integer> predicate) {
+        return filter(predicate.negate());
+    }
+
+    @Override
+    IntSet remove(int index);
+
+    @Override
+    IntSet tail();
+
+    @Override
+    IntSet union(Iterable<Integer> iterable);
+
+    @Override
+    IntSet retain(Iterable<Integer> iterable);
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    default IntSet intersect(Iterable<Integer> iterable) {
+        return intersect(new Iterable[] {iterable});
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    IntSet intersect(Iterable<Integer>... iterables);
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    default IntSet complement(Iterable<Integer> iterable) {
+        return complement(new Iterable[] {iterable});
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    IntSet complement(Iterable<Integer>... iterables);
+
+    /**
+     * Create a set with the provided {@code values}, which may contain duplicates and be in any order.
+     *
+     * @param values the values of the set
+     * @return       the new set
+     */
+    static IntSet of(int... values) {
+        return IntSetImpl.of(values);
+    }
+
+    /**
+     * Create a set with all values in the {@code iterable}.
+     *
+     * @param iterable the values of the set
+     * @return         the new set
+     * @throws NullPointerException in case {@code iterable} or any of its values is null
+     */
+    static IntSet of(Iterable<? extends Integer> iterable) {
+        return IntSetImpl.of(iterable);
+    }
+
+    /**
+     * Create a set with all values from {@code startInclusive} up to {@code endExclusive}, which is stored as runs.
+     *
+     * @param startInclusive the smallest value of the set
+     * @param endExclusive   the value after the largest value of the set
+     * @return               the new set, which is empty if {@code endExclusive} is not larger than the start
+     */
+    static IntSet range(int startInclusive, int endExclusive) {
+        return IntSetImpl.range(startInclusive, endExclusive);
+    }
+
+}
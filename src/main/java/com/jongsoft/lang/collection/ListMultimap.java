@@ -0,0 +1,70 @@
+package com.jongsoft.lang.collection;
+
+import java.util.function.Predicate;
+
+import com.jongsoft.lang.collection.impl.ListMultimapImpl;
+import com.jongsoft.lang.collection.tuple.Pair;
+
+/**
+ * A {@link Multimap} keeping all values of a key in the order they were added, including duplicates. Adding a value
+ * takes constant time on top of the lookup of the key, and {@link #count(Object)} does not copy the values.
+ *
+ * <p><strong>Example:</strong></p>
+ * <pre>{@code  ListMultimap<String, Order> ordersByCustomer = ListMultimap.<String, Order>empty()
+ *      .put("customer-1", firstOrder)
+ *      .put("customer-1", secondOrder);
+ *
+ *  // will be 2
+ *  int orders = ordersByCustomer.count("customer-1");
+ * }</pre>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @since 1.1.7
+ */
+public interface ListMultimap<K, V> extends Multimap<K, V> {
+
+    @Override
+    ListMultimap<K, V> put(K key, V value);
+
+    @Override
+    ListMultimap<K, V> putAll(K key, Iterable<? extends V> values);
+
+    /**
+     * Remove the first occurrence of the {@code value} from the values of the {@code key}.
+     *
+     * @param key   the key to remove the value from
+     * @param value the value to remove
+     * @return      the multimap without the value, or this multimap if the key did not have the value
+     */
+    @Override
+    ListMultimap<K, V> remove(K key, V value);
+
+    @Override
+    ListMultimap<K, V> removeAll(K key);
+
+    @Override
+    Sequence<V> get(K key);
+
+    @Override
+    ListMultimap<K, V> filter(Predicate<Pair<K, V>> predicate);
+
+    /**
+     * Convert the multimap to a regular Java map with a list of values per key.
+     *
+     * @return the new java map
+     */
+    java.util.Map<K, java.util.List<V>> toJava();
+
+    /**
+     * Create an empty multimap.
+     *
+     * @param <K> the type of the keys
+     * @param <V> the type of the values
+     * @return    the empty multimap
+     */
+    static <K, V> ListMultimap<K, V> empty() {
+        return ListMultimapImpl.empty();
+    }
+
+}
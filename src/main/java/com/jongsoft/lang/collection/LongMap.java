@@ -0,0 +1,147 @@
+package com.jongsoft.lang.collection;
+
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+import java.util.function.Predicate;
+
+import com.jongsoft.lang.collection.impl.LongMapImpl;
+import com.jongsoft.lang.collection.tuple.Pair;
+
+/**
+ * A persistent {@link Map} with long keys, such as database ids, stored in a big-endian Patricia trie on the primitive
+ * key. The {@link #getLong(long)}, {@link #putLong(long, Object)} and {@link #removeLong(long)} operations take the key
+ * without boxing it and compare keys by their bits instead of calling {@code equals}, and the entries are iterated in
+ * ascending order of their keys. The methods of the {@link Map} taking a boxed key remain available for generic code.
+ *
+ * <p>
+ *     Two maps are combined with {@link #union(LongMap)} or {@link #merge(LongMap, BinaryOperator)}, which only visit
+ *     the parts of both tries where the keys overlap and share everything else with the original maps.
+ * </p>
+ *
+ * <p><strong>Example:</strong></p>
+ * <pre>{@code  LongMap<String> names = LongMap.<String>empty()
+ *      .putLong(4_000_000_000L, "Jane")
+ *      .putLong(7L, "John");
+ *
+ *  // will be "John"
+ *  String first = names.head().getSecond();
+ * }</pre>
+ *
+ * @param <T> the type of the values
+ * @since 1.1.7
+ */
+public interface LongMap<T> extends Map<Long, T> {
+
+    /**
+     * Get the value for the {@code key}, without boxing the key.
+     *
+     * @param key the key to obtain the value for
+     * @return    the corresponding value, or <code>null</code>
+     */
+    T getLong(long key);
+
+    /**
+     * Returns true if this map contains the {@code key}, without boxing the key.
+     *
+     * @param key the key to look for
+     * @return    true if found, otherwise false
+     */
+    boolean containsLongKey(long key);
+
+    /**
+     * Add a new entry to the map, replacing the value of the {@code key} if it was already present.
+     *
+     * @param key   the key for the entry
+     * @param value the value for the entry
+     * @return      the new map with the added key, value pair
+     */
+    LongMap<T> putLong(long key, T value);
+
+    /**
+     * Remove the entry of the {@code key} from the map.
+     *
+     * @param key the key of the entry to remove
+     * @return    the map without the entry, or this map if the key was not present
+     */
+    LongMap<T> removeLong(long key);
+
+    /**
+     * Combine the entries of this map with those of the {@code other} map. For keys present in both maps the value of
+     * this map is kept.
+     *
+     * @param other the map to combine with
+     * @return      the map with the entries of both maps
+     */
+    LongMap<T> union(LongMap<T> other);
+
+    /**
+     * Combine the entries of this map with those of the {@code other} map. For keys present in both maps the
+     * {@code combiner} gets the value of this map and the value of the other map, and returns the value to keep.
+     *
+     * @param other    the map to combine with
+     * @param combiner the function resolving keys present in both maps
+     * @return         the map with the entries of both maps
+     */
+    LongMap<T> merge(LongMap<T> other, BinaryOperator<T> combiner);
+
+    /**
+     * Create a primitive array of the keys in ascending order.
+     *
+     * @return the sorted array of all keys
+     */
+    long[] keys();
+
+    /**
+     * Add a new entry to the map, replacing the value of the {@code key} if it was already present.
+     *
+     * @param key   the key for the entry
+     * @param value the value for the entry
+     * @return      the new map with the added key, value pair
+     * @throws NullPointerException in case the key is null
+     */
+    @Override
+    LongMap<T> put(Long key, T value);
+
+    @Override
+    LongMap<T> remove(Long key);
+
+    @Override
+    LongMap<T> tail();
+
+    @Override
+    LongMap<T> filter(Predicate<Pair<Long, T>> predicate);
+
+    @Override
+    default LongMap<T> reject(Predicate<Pair<Long, T>> predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        return filter(predicate.negate());
+    }
+
+    /**
+     * Create an empty map.
+     *
+     * @param <T> the type of the values
+     * @return    the empty map
+     */
+    static <T> LongMap<T> empty() {
+        return LongMapImpl.empty();
+    }
+
+    /**
+     * Create a map with all the {@code entries}, a later entry replacing the value of an earlier one with the same key.
+     *
+     * @param entries the key, value pairs for the map
+     * @param <T>     the type of the values
+     * @return        the new map
+     * @throws NullPointerException in case any key is null
+     */
+    static <T> LongMap<T> of(Iterable<? extends Pair<Long, T>> entries) {
+        LongMap<T> result = empty();
+        for (Pair<Long, T> entry : entries) {
+            result = result.put(entry.getFirst(), entry.getSecond());
+        }
+
+        return result;
+    }
+
+}
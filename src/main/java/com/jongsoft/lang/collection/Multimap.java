@@ -0,0 +1,130 @@
+package com.jongsoft.lang.collection;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.jongsoft.lang.Streamable;
+import com.jongsoft.lang.collection.tuple.Pair;
+
+/**
+ * A persistent map from a key to a group of values. Unlike a {@link Map} holding a collection per key, adding a value
+ * to a group only copies the path to the key in the underlying hash trie, and not the group or the map.
+ *
+ * <p>
+ *     The multimap iterates over every key and value pair, so a key with three values is visited three times. Use
+ *     {@link ListMultimap} to keep all values of a key in insertion order, or {@link SetMultimap} to keep every value
+ *     at most once per key.
+ * </p>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @see ListMultimap
+ * @see SetMultimap
+ * @since 1.1.7
+ */
+public interface Multimap<K, V> extends Streamable<Pair<K, V>> {
+
+    /**
+     * Add the {@code value} to the group of the {@code key}.
+     *
+     * @param key   the key to add the value to
+     * @param value the value to add
+     * @return      the multimap with the value added
+     * @throws NullPointerException in case the key is null
+     */
+    Multimap<K, V> put(K key, V value);
+
+    /**
+     * Add all {@code values} to the group of the {@code key}.
+     *
+     * @param key    the key to add the values to
+     * @param values the values to add
+     * @return       the multimap with the values added
+     * @throws NullPointerException in case the key is null
+     */
+    Multimap<K, V> putAll(K key, Iterable<? extends V> values);
+
+    /**
+     * Remove the {@code value} once from the group of the {@code key}.
+     *
+     * @param key   the key to remove the value from
+     * @param value the value to remove
+     * @return      the multimap without the value, or this multimap if the key did not have the value
+     */
+    Multimap<K, V> remove(K key, V value);
+
+    /**
+     * Remove the {@code key} and all of its values.
+     *
+     * @param key the key to remove
+     * @return    the multimap without the key, or this multimap if the key was not present
+     */
+    Multimap<K, V> removeAll(K key);
+
+    /**
+     * Get all values of the {@code key}. The values are copied out of the multimap, use {@link #count(Object)} when
+     * only their number is needed.
+     *
+     * @param key the key to get the values for
+     * @return    the values of the key, or an empty collection if the key is not present
+     */
+    Collection<V> get(K key);
+
+    /**
+     * The number of values of the {@code key}, without copying them.
+     *
+     * @param key the key to count the values for
+     * @return    the number of values, or 0 if the key is not present
+     */
+    int count(K key);
+
+    /**
+     * Indicates if the {@code key} has at least one value.
+     *
+     * @param key the key to look for
+     * @return    true if the key is present
+     */
+    boolean containsKey(K key);
+
+    /**
+     * Indicates if the {@code value} is in the group of the {@code key}.
+     *
+     * @param key   the key to look for
+     * @param value the value to look for
+     * @return      true if the key has the value
+     */
+    boolean containsEntry(K key, V value);
+
+    /**
+     * The set of all keys with at least one value.
+     *
+     * @return the keys
+     */
+    Set<K> keySet();
+
+    /**
+     * The total number of values over all keys.
+     *
+     * @return the number of key and value pairs
+     */
+    int size();
+
+    /**
+     * Indicates if the multimap has no values.
+     *
+     * @return true if the multimap is empty
+     */
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    Iterator<Pair<K, V>> iterator();
+
+    @Override
+    Multimap<K, V> filter(Predicate<Pair<K, V>> predicate);
+
+    @Override
+    <U> Sequence<U> map(Function<Pair<K, V>, U> mapper);
+
+}
@@ -0,0 +1,96 @@
+package com.jongsoft.lang.collection;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import com.jongsoft.lang.collection.impl.OrderedMapImpl;
+import com.jongsoft.lang.collection.tuple.Pair;
+
+/**
+ * A persistent {@link Map} iterating its entries in the order the keys were put. The keys are found through a hash
+ * trie, so {@link #get(Object)}, {@link #put(Object, Object)} and {@link #remove(Object)} take logarithmic time
+ * instead of scanning all entries. {@link #head()} and {@link #tail()} do not copy the map.
+ *
+ * <p>
+ *     Putting a key that is already present moves it to the end of the order, as in the list based map returned by
+ *     {@link com.jongsoft.lang.Collections#Map()}. Code depending on the order of that map can switch to this one
+ *     without a change in behavior.
+ * </p>
+ *
+ * <p><strong>Example:</strong></p>
+ * <pre>{@code  OrderedMap<String, Integer> steps = OrderedMap.<String, Integer>empty()
+ *      .put("validate", 1)
+ *      .put("store", 2);
+ *
+ *  // will be "validate"
+ *  String first = steps.head().getFirst();
+ * }</pre>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @since 1.1.7
+ */
+public interface OrderedMap<K, V> extends Map<K, V> {
+
+    /**
+     * Add a new entry at the end of the map, removing the key from its old position if it was already present.
+     *
+     * @param key   the key for the entry
+     * @param value the value for the entry
+     * @return      the new map with the added key, value pair
+     * @throws NullPointerException in case the key is null
+     */
+    @Override
+    OrderedMap<K, V> put(K key, V value);
+
+    @Override
+    OrderedMap<K, V> remove(K key);
+
+    /**
+     * Remove the first entry of the map, without copying the remaining entries.
+     *
+     * @return the map without its first entry
+     * @throws java.util.NoSuchElementException in case the map is empty
+     */
+    @Override
+    OrderedMap<K, V> tail();
+
+    @Override
+    OrderedMap<K, V> filter(Predicate<Pair<K, V>> predicate);
+
+    @Override
+    default OrderedMap<K, V> reject(Predicate<Pair<K, V>> predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        return filter(predicate.negate());
+    }
+
+    /**
+     * Create an empty map.
+     *
+     * @param <K> the type of the keys
+     * @param <V> the type of the values
+     * @return    the empty map
+     */
+    static <K, V> OrderedMap<K, V> empty() {
+        return OrderedMapImpl.empty();
+    }
+
+    /**
+     * Create a map with all the {@code entries}, in the order of the iterable.
+     *
+     * @param entries the key, value pairs for the map
+     * @param <K>     the type of the keys
+     * @param <V>     the type of the values
+     * @return        the new map
+     * @throws NullPointerException in case any key is null
+     */
+    static <K, V> OrderedMap<K, V> of(Iterable<? extends Pair<K, V>> entries) {
+        OrderedMap<K, V> result = empty();
+        for (Pair<K, V> entry : entries) {
+            result = result.put(entry.getFirst(), entry.getSecond());
+        }
+
+        return result;
+    }
+
+}
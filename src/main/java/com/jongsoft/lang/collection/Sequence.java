@@ -25,6 +25,7 @@ package com.jongsoft.lang.collection;
 
 import com.jongsoft.lang.API;
 import com.jongsoft.lang.Collections;
+import com.jongsoft.lang.collection.impl.IndexedArray;
 import com.jongsoft.lang.collection.tuple.Pair;
 
 import java.util.Comparator;
@@ -219,4 +220,37 @@ public interface Sequence<T> extends List<T> {
 
     @Override
     Sequence<T> retain(Iterable<T> iterable);
+
+    /**
+     * Create a copy of this sequence with a {@link BloomFilter} over its elements, using the
+     * {@link BloomFilter#DEFAULT_FALSE_POSITIVE_RATE}.
+     *
+     * @return the sequence with a membership index
+     * @see #withMembershipIndex(double)
+     * @since 1.1.7
+     */
+    default Sequence<T> withMembershipIndex() {
+        return withMembershipIndex(BloomFilter.DEFAULT_FALSE_POSITIVE_RATE);
+    }
+
+    /**
+     * Create a copy of this sequence with a {@link BloomFilter} over its elements. The {@link #contains(Object)} and
+     * {@link #containsAll(Iterable)} of the copy skip the scan of the sequence for all absent elements, except for the
+     * {@code falsePositiveRate} of them. This pays off for large sequences that are searched many times, for example
+     * as the reference set in a {@link #retain(Iterable)} of another sequence.
+     *
+     * <p>
+     *     Sequences derived from the copy, using for example {@link #append(Object)} or {@link #filter(Predicate)},
+     *     have no membership index.
+     * </p>
+     *
+     * @param falsePositiveRate the chance that an absent element still requires a scan
+     * @return                  the sequence with a membership index
+     * @throws IllegalArgumentException in case {@code falsePositiveRate} is not between 0 and 1
+     * @since 1.1.7
+     */
+    default Sequence<T> withMembershipIndex(double falsePositiveRate) {
+        return new IndexedArray<>(this, falsePositiveRate);
+    }
+
 }
@@ -0,0 +1,72 @@
+package com.jongsoft.lang.collection;
+
+import java.util.function.Predicate;
+
+import com.jongsoft.lang.collection.impl.SetMultimapImpl;
+import com.jongsoft.lang.collection.tuple.Pair;
+
+/**
+ * A {@link Multimap} keeping every value at most once per key, based on {@link Object#equals(Object)}. The values of
+ * a key are stored in their own hash trie, so adding, removing and {@link #containsEntry(Object, Object)} take
+ * logarithmic time in the number of values of the key.
+ *
+ * <p><strong>Example:</strong></p>
+ * <pre>{@code  SetMultimap<String, String> roles = SetMultimap.<String, String>empty()
+ *      .put("admin", "alice")
+ *      .put("admin", "alice");
+ *
+ *  // will be 1
+ *  int admins = roles.count("admin");
+ * }</pre>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @since 1.1.7
+ */
+public interface SetMultimap<K, V> extends Multimap<K, V> {
+
+    /**
+     * Add the {@code value} to the values of the {@code key}.
+     *
+     * @param key   the key to add the value to
+     * @param value the value to add
+     * @return      the multimap with the value added, or this multimap if the key already had the value
+     * @throws NullPointerException in case the key or the value is null
+     */
+    @Override
+    SetMultimap<K, V> put(K key, V value);
+
+    @Override
+    SetMultimap<K, V> putAll(K key, Iterable<? extends V> values);
+
+    @Override
+    SetMultimap<K, V> remove(K key, V value);
+
+    @Override
+    SetMultimap<K, V> removeAll(K key);
+
+    @Override
+    Set<V> get(K key);
+
+    @Override
+    SetMultimap<K, V> filter(Predicate<Pair<K, V>> predicate);
+
+    /**
+     * Convert the multimap to a regular Java map with a set of values per key.
+     *
+     * @return the new java map
+     */
+    java.util.Map<K, java.util.Set<V>> toJava();
+
+    /**
+     * Create an empty multimap.
+     *
+     * @param <K> the type of the keys
+     * @param <V> the type of the values
+     * @return    the empty multimap
+     */
+    static <K, V> SetMultimap<K, V> empty() {
+        return SetMultimapImpl.empty();
+    }
+
+}
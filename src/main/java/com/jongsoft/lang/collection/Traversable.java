@@ -7,7 +7,7 @@ import java.util.function.Supplier;
 import com.jongsoft.lang.Control;
 import com.jongsoft.lang.Value;
 import com.jongsoft.lang.collection.support.Collections;
-import com.jongsoft.lang.collection.tuple.Pair;
+import com.jongsoft.lang.collection.tuple.IntDoublePair;
 import com.jongsoft.lang.control.Optional;
 
 public interface Traversable<T> extends Value<T>, Foldable<T> {
@@ -92,7 +92,7 @@ public interface Traversable<T> extends Value<T>, Foldable<T> {
      * @throws ClassCastException if the elements are not numeric
      */
     default Optional<Double> sum() {
-        Pair<Integer, Double> summation = Collections.neumaierSum(this,  t -> ((Number) t).doubleValue());
+        IntDoublePair summation = Collections.neumaierSum(this,  t -> ((Number) t).doubleValue());
         return summation.getFirst() == 0 ? Control.Option() : Control.Option(summation.getSecond());
     }
 
@@ -148,7 +148,7 @@ public interface Traversable<T> extends Value<T>, Foldable<T> {
      * @throws ClassCastException if the elements are not numeric
      */
     default Optional<Double> average() {
-        Pair<Integer, Double> summation = Collections.neumaierSum(this,  t -> ((Number) t).doubleValue());
+        IntDoublePair summation = Collections.neumaierSum(this,  t -> ((Number) t).doubleValue());
         return summation.getFirst() == 0
                 ? Control.Option()
                 : Control.Option(summation.getSecond() / summation.getFirst());
@@ -23,10 +23,19 @@
  */
 package com.jongsoft.lang.collection;
 
+import java.util.Arrays;
 import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import com.jongsoft.lang.Control;
+import com.jongsoft.lang.collection.impl.TreeBuilder;
+import com.jongsoft.lang.collection.impl.TreeTasks;
+import com.jongsoft.lang.collection.impl.TreeZipper;
+import com.jongsoft.lang.collection.support.TreeTraversal;
 import com.jongsoft.lang.control.Optional;
 
 /**
@@ -47,8 +56,304 @@ public interface Tree<T> extends Traversable<T> {
 
     }
 
+    /**
+     * A compiled path of labels in a {@link Tree}. Compiling a path once avoids splitting the textual path on every
+     * lookup, the same path can be used to resolve nodes in many trees.
+     *
+     * <p><strong>Example:</strong></p>
+     * <pre>{@code  Tree.Path timeout = Tree.Path.parse("server.http.timeout");
+     *
+     *  Optional<Tree<String>> node = configuration.resolve(timeout);
+     * }</pre>
+     *
+     * @since 1.1.7
+     */
+    final class Path {
+
+        private static final Path EMPTY = new Path(new String[0]);
+
+        private final String[] labels;
+
+        private Path(String[] labels) {
+            this.labels = labels;
+        }
+
+        /**
+         * Compile a path from a dot separated text, for example {@code "server.http.timeout"}.
+         *
+         * @param path the dot separated path
+         * @return     the compiled path
+         * @throws NullPointerException in case {@code path} is null
+         */
+        public static Path parse(String path) {
+            Objects.requireNonNull(path, "path is null");
+            if (path.isEmpty()) {
+                return EMPTY;
+            }
+
+            int count = 1;
+            for (int i = 0; i < path.length(); i++) {
+                if (path.charAt(i) == '.') {
+                    count++;
+                }
+            }
+
+            String[] labels = new String[count];
+            int start = 0;
+            for (int i = 0; i < count; i++) {
+                int end = path.indexOf('.', start);
+                labels[i] = path.substring(start, end < 0 ? path.length() : end);
+                start = end + 1;
+            }
+
+            return new Path(labels);
+        }
+
+        /**
+         * Compile a path from the provided labels, which may contain dots themselves.
+         *
+         * @param labels the labels of the path
+         * @return       the compiled path
+         * @throws NullPointerException in case any of the labels is null
+         */
+        public static Path of(String... labels) {
+            Objects.requireNonNull(labels, "labels is null");
+            for (String label : labels) {
+                Objects.requireNonNull(label, "a label in the path cannot be null");
+            }
+
+            return labels.length == 0 ? EMPTY : new Path(labels.clone());
+        }
+
+        /**
+         * Resolve this path starting at the {@code tree}.
+         *
+         * @param tree the tree to start at
+         * @param <T>  the entity type contained in the tree
+         * @return     the node at the end of the path, or an empty optional if any label is not present
+         */
+        public <T> Optional<Tree<T>> resolve(Tree<T> tree) {
+            Objects.requireNonNull(tree, "tree is null");
+
+            Tree<T> current = tree;
+            for (String label : labels) {
+                Optional<Tree<T>> child = current.getChild(label);
+                if (!child.isPresent()) {
+                    return child;
+                }
+
+                current = child.get();
+            }
+
+            return Control.Option(current);
+        }
+
+        /**
+         * The number of labels in the path.
+         *
+         * @return the depth of the path
+         */
+        public int depth() {
+            return labels.length;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Path && Arrays.equals(labels, ((Path) obj).labels);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(labels);
+        }
+
+        @Override
+        public String toString() {
+            return String.join(".", labels);
+        }
+    }
+
+    /**
+     * A builder assembling a {@link Tree} from flat rows, each row holding the identifier of a node and the identifier
+     * of its parent. This allows trees stored as parent child records, for example in a database table, to be built in
+     * time linear to the number of rows. The rows may be added in any order, children keep the order in which they
+     * were added.
+     *
+     * <p><strong>Example:</strong></p>
+     * <pre>{@code  Tree<String> tree = Tree.<Integer, String>builder()
+     *      .add(1, null, "root", "Root value")
+     *      .add(2, 1, "child", "Child value")
+     *      .build();
+     * }</pre>
+     *
+     * @param <K> the type of the node identifiers
+     * @param <T> the entity type contained in the tree
+     * @since 1.1.7
+     */
+    interface Builder<K, T> {
+
+        /**
+         * Add a node to the tree.
+         *
+         * @param id       the identifier of the node
+         * @param parentId the identifier of the parent node, or {@code null} for the root
+         * @param label    the label of the node
+         * @param value    the value of the node
+         * @return         this builder
+         * @throws NullPointerException in case {@code id} is null
+         */
+        Builder<K, T> add(K id, K parentId, String label, T value);
+
+        /**
+         * Build the tree from all added rows.
+         *
+         * @return the root of the tree
+         * @throws IllegalStateException in case there is not exactly one root, an identifier is used twice or a parent
+         *                               identifier is unknown
+         */
+        Tree<T> build();
+
+    }
+
+    /**
+     * A zipper focuses on one node of an immutable tree and allows navigating and editing the tree around that node.
+     * Edits only copy the nodes on the path from the focus to the root, every other node is shared with the original
+     * tree. The edited tree is obtained using {@link #root()}, the original tree is never changed.
+     *
+     * <p><strong>Example:</strong></p>
+     * <pre>{@code  Tree<String> updated = configuration.zipper()
+     *      .down("server").get()
+     *      .down("port").get()
+     *      .set("8443")
+     *      .root();
+     * }</pre>
+     *
+     * @param <T> the entity type contained in the tree
+     * @since 1.1.7
+     */
+    interface Zipper<T> {
+
+        /**
+         * Fetch the node the zipper currently focuses on.
+         *
+         * @return the focused node, including all edits made below it
+         */
+        Tree<T> focus();
+
+        /**
+         * The number of levels between the focused node and the root.
+         *
+         * @return the depth of the focus, {@code 0} for the root
+         */
+        int depth();
+
+        /**
+         * Indicates if the zipper focuses on the root of the tree.
+         *
+         * @return true if the focus is the root
+         */
+        boolean isRoot();
+
+        /**
+         * Move the focus to the parent of the focused node.
+         *
+         * @return the zipper on the parent, or an empty optional if the focus is the root
+         */
+        Optional<Zipper<T>> up();
+
+        /**
+         * Move the focus to the child at the {@code index}.
+         *
+         * @param index the index of the child
+         * @return      the zipper on the child, or an empty optional if there is no child at the index
+         */
+        Optional<Zipper<T>> down(int index);
+
+        /**
+         * Move the focus to the first child with the {@code label}.
+         *
+         * @param label the label of the child
+         * @return      the zipper on the child, or an empty optional if no child has the label
+         */
+        Optional<Zipper<T>> down(String label);
+
+        /**
+         * Replace the value of the focused node, keeping its label and children.
+         *
+         * @param value the new value
+         * @return      the zipper on the changed node
+         */
+        Zipper<T> set(T value);
+
+        /**
+         * Replace the value of the focused node with the result of the {@code updater}.
+         *
+         * @param updater the operation computing the new value from the current one
+         * @return        the zipper on the changed node
+         * @throws NullPointerException in case {@code updater} is null
+         */
+        Zipper<T> update(Function<T, T> updater);
+
+        /**
+         * Replace the focused node and its subtree with the {@code tree}.
+         *
+         * @param tree the replacing tree
+         * @return     the zipper on the replacing tree
+         * @throws NullPointerException in case {@code tree} is null
+         */
+        Zipper<T> replace(Tree<T> tree);
+
+        /**
+         * Append a new child to the focused node.
+         *
+         * @param label the label of the child
+         * @param value the value of the child
+         * @return      the zipper on the changed node
+         */
+        Zipper<T> appendChild(String label, T value);
+
+        /**
+         * Remove the focused node and its subtree from the tree.
+         *
+         * @return the zipper on the parent of the removed node
+         * @throws IllegalStateException in case the focus is the root
+         */
+        Zipper<T> remove();
+
+        /**
+         * Fetch the root of the tree with all edits applied.
+         *
+         * @return the edited tree
+         */
+        Tree<T> root();
+
+    }
+
+    /**
+     * Create a new builder to assemble a tree from flat rows.
+     *
+     * @param <K> the type of the node identifiers
+     * @param <T> the entity type contained in the tree
+     * @return    the builder
+     * @since 1.1.7
+     */
+    static <K, T> Builder<K, T> builder() {
+        return new TreeBuilder<>();
+    }
+
     Tree<T> appendChild(String label, T child);
 
+    /**
+     * Create a {@link Zipper} focused on this tree, to navigate and edit an immutable version of it. A tree that is
+     * not immutable is copied first.
+     *
+     * @return the zipper on this tree
+     * @since 1.1.7
+     */
+    default Zipper<T> zipper() {
+        return new TreeZipper<>(this);
+    }
+
     /**
      * Fetch the collection of child tree elements contained within this tree.
      *
@@ -56,10 +361,52 @@ public interface Tree<T> extends Traversable<T> {
      */
     NodeCollection<T> children();
 
+    /**
+     * Fetch the first direct child with the provided {@code label}.
+     *
+     * @param label the label of the child
+     * @return      the child, or an empty optional if no child has the label
+     */
     default Optional<Tree<T>> getChild(String label) {
         return children().first(c -> Objects.equals(c.label(), label));
     }
 
+    /**
+     * Resolve a descendant of this tree using a dot separated path of labels, where {@code "a.b"} resolves to the
+     * child labeled {@code b} of the child labeled {@code a}. An empty path resolves to this tree.
+     *
+     * @param path the dot separated path
+     * @return     the descendant, or an empty optional if any label on the path is not present
+     * @see Path#parse(String)
+     * @since 1.1.7
+     */
+    default Optional<Tree<T>> resolve(String path) {
+        return Path.parse(path).resolve(this);
+    }
+
+    /**
+     * Resolve a descendant of this tree using the provided labels, one for every level below this tree.
+     *
+     * @param path the labels of the path
+     * @return     the descendant, or an empty optional if any label on the path is not present
+     * @since 1.1.7
+     */
+    default Optional<Tree<T>> resolve(String... path) {
+        return Path.of(path).resolve(this);
+    }
+
+    /**
+     * Resolve a descendant of this tree using a compiled {@link Path}.
+     *
+     * @param path the compiled path
+     * @return     the descendant, or an empty optional if any label on the path is not present
+     * @since 1.1.7
+     */
+    default Optional<Tree<T>> resolve(Path path) {
+        Objects.requireNonNull(path, "path is null");
+        return path.resolve(this);
+    }
+
     /**
      * Indicates if the tree is a leaf node.
      * This will be {@code true} when the Tree has not children.
@@ -80,6 +427,39 @@ public interface Tree<T> extends Traversable<T> {
         return parent() == null;
     }
 
+    /**
+     * Iterate all nodes of this tree depth first, where a node is visited before its children. The iterator is lazy
+     * and only keeps the path to the current node in memory, so it can be used on very deep trees.
+     *
+     * @return the pre-order iterator, starting with this tree
+     * @since 1.1.7
+     */
+    default Iterator<Tree<T>> preOrder() {
+        return TreeTraversal.preOrder(this);
+    }
+
+    /**
+     * Iterate all nodes of this tree depth first, where a node is visited after all its children. The iterator is
+     * lazy and only keeps the path to the current node in memory, so it can be used on very deep trees.
+     *
+     * @return the post-order iterator, ending with this tree
+     * @since 1.1.7
+     */
+    default Iterator<Tree<T>> postOrder() {
+        return TreeTraversal.postOrder(this);
+    }
+
+    /**
+     * Iterate all nodes of this tree breadth first, level by level. The iterator is lazy but keeps the pending nodes
+     * of the next level in memory.
+     *
+     * @return the level-order iterator, starting with this tree
+     * @since 1.1.7
+     */
+    default Iterator<Tree<T>> levelOrder() {
+        return TreeTraversal.levelOrder(this);
+    }
+
     /**
      * Fetch the label that belongs to the current tree.
      *
@@ -89,6 +469,100 @@ public interface Tree<T> extends Traversable<T> {
 
     <U> Tree<U> map(Function<T, U> mapper);
 
+    /**
+     * Map all values in the tree using the common fork join pool, keeping the structure and labels of the tree. Large
+     * subtrees are split into tasks, which makes this worthwhile for large trees or costly mappers.
+     * The {@code mapper} may be called concurrently and in any order.
+     *
+     * @param mapper the mapping operation
+     * @param <U>    the entity type of the mapped tree
+     * @return       the mapped tree
+     * @since 1.1.7
+     */
+    default <U> Tree<U> parallelMap(Function<T, U> mapper) {
+        return TreeTasks.parallelMap(this, mapper);
+    }
+
+    /**
+     * Fold all values in the tree using the common fork join pool. The tree is split into groups of subtrees, each
+     * group is folded from the {@code identity} using the {@code accumulator} and the results are combined in the
+     * pre-order of the groups.
+     *
+     * <p><strong>Example:</strong></p>
+     * <pre>{@code  long total = catalogue.parallelFold(0L, (sum, product) -> sum + product.getStock(), Long::sum);
+     * }</pre>
+     *
+     * @param identity    the start value of every group, which must be an identity for the {@code combiner}
+     * @param accumulator the operation adding a value to the folded result
+     * @param combiner    the associative operation combining two folded results
+     * @param <U>         the type of the folded result
+     * @return            the folded result
+     * @since 1.1.7
+     */
+    default <U> U parallelFold(U identity, BiFunction<U, ? super T, U> accumulator, BinaryOperator<U> combiner) {
+        return TreeTasks.parallelFold(this, identity, accumulator, combiner);
+    }
+
+    /**
+     * Count the number of nodes in this tree, including this tree itself.
+     *
+     * @return the number of nodes
+     * @since 1.1.7
+     */
+    default int size() {
+        int size = 0;
+        for (Iterator<Tree<T>> nodes = preOrder(); nodes.hasNext(); nodes.next()) {
+            size++;
+        }
+        return size;
+    }
+
+    /**
+     * Keep the nodes whose value matches the {@code predicate}, together with all their ancestors so the structure of
+     * the tree is preserved. The root is always kept, even if nothing matches.
+     *
+     * <p>
+     *     Only a persistent tree, see {@link com.jongsoft.lang.Collections#PersistentTree(String, Object)}, shares the
+     *     subtrees that are kept as a whole with this tree. A mutable tree returns an independent copy, so changing
+     *     either tree never affects the other.
+     * </p>
+     *
+     * <p><strong>Example:</strong></p>
+     * <pre>{@code  Tree<Product> available = catalogue.filter(Product::isAvailable);
+     * }</pre>
+     *
+     * @param predicate the predicate the values of the kept nodes match
+     * @return          the filtered tree
+     * @throws NullPointerException in case {@code predicate} is null
+     * @since 1.1.7
+     */
+    @Override
+    Tree<T> filter(Predicate<T> predicate);
+
+    /**
+     * Keep the nodes whose value does not match the {@code predicate}, together with all their ancestors.
+     *
+     * @param predicate the predicate the values of the removed nodes match
+     * @return          the filtered tree
+     * @throws NullPointerException in case {@code predicate} is null
+     * @see #filter(Predicate)
+     * @since 1.1.7
+     */
+    @Override
+    Tree<T> reject(Predicate<T> predicate);
+
+    /**
+     * Remove every node whose value matches the {@code predicate} together with its complete subtree. The subtree
+     * of a removed node is never visited, and the root is never removed. As for {@link #filter(Predicate)}, only a
+     * persistent tree shares the subtrees without removed nodes, a mutable tree returns an independent copy.
+     *
+     * @param predicate the predicate the values of the removed nodes match
+     * @return          the pruned tree
+     * @throws NullPointerException in case {@code predicate} is null
+     * @since 1.1.7
+     */
+    Tree<T> prune(Predicate<T> predicate);
+
     @Override
     Tree<T> orElse(Iterable<? extends T> other);
 
@@ -0,0 +1,191 @@
+package com.jongsoft.lang.collection.impl;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import com.jongsoft.lang.API;
+import com.jongsoft.lang.collection.Map;
+import com.jongsoft.lang.collection.Sequence;
+import com.jongsoft.lang.collection.tuple.Pair;
+
+/**
+ * A base for {@link Map} implementations, implementing all operations using the {@link #get(Object)},
+ * {@link #put(Object, Object)}, {@link #remove(Object)}, {@link #size()} and {@link #iterator()} of the
+ * implementation.
+ *
+ * @param <K> the type of the key
+ * @param <T> the type of the value
+ */
+public abstract class AbstractMap<K, T> implements Map<K, T> {
+
+    @Override
+    public boolean containsValue(final T value) {
+        for (Pair<K, T> entry : this) {
+            if (Objects.equals(entry.getSecond(), value)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public Pair<K, T> head() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Cannot call head on empty collection");
+        }
+
+        return iterator().next();
+    }
+
+    @Override
+    public Map<K, T> tail() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Cannot call tail on empty collection");
+        }
+
+        return remove(head().getFirst());
+    }
+
+    @Override
+    public Map<K, T> filter(final Predicate<Pair<K, T>> predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+
+        Map<K, T> result = emptySupplier().get();
+        for (Pair<K, T> entry : this) {
+            if (predicate.test(entry)) {
+                result = result.put(entry.getFirst(), entry.getSecond());
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public Pair<? extends Map<K, T>, ? extends Map<K, T>> split(final Predicate<Pair<K, T>> predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+
+        Map<K, T> matching = emptySupplier().get();
+        Map<K, T> other = emptySupplier().get();
+        for (Pair<K, T> entry : this) {
+            if (predicate.test(entry)) {
+                matching = matching.put(entry.getFirst(), entry.getSecond());
+            } else {
+                other = other.put(entry.getFirst(), entry.getSecond());
+            }
+        }
+
+        return API.Tuple(matching, other);
+    }
+
+    @Override
+    public <U> Sequence<U> map(final Function<Pair<K, T>, U> mapper) {
+        Objects.requireNonNull(mapper, "The mapper cannot be null for this operation.");
+
+        Object[] mapped = new Object[size()];
+        int index = 0;
+        for (Pair<K, T> entry : this) {
+            mapped[index++] = mapper.apply(entry);
+        }
+
+        return new Array<>(mapped);
+    }
+
+    @Override
+    public Map<K, T> orElse(final Supplier<? extends Iterable<? extends Pair<K, T>>> supplier) {
+        return isEmpty() ? fill(supplier.get()) : this;
+    }
+
+    @Override
+    public Map<K, T> orElse(final Iterable<? extends Pair<K, T>> other) {
+        return isEmpty() ? fill(other) : this;
+    }
+
+    @Override
+    public Stream<T> valueStream() {
+        return stream().map(Pair::getSecond);
+    }
+
+    @Override
+    public java.util.Map<K, T> toJava() {
+        java.util.Map<K, T> result = new java.util.HashMap<>(size());
+        for (Pair<K, T> entry : this) {
+            result.put(entry.getFirst(), entry.getSecond());
+        }
+
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public boolean equals(final Object obj) {
+        if (obj == this) {
+            return true;
+        }
+
+        if (obj instanceof Map) {
+            Map casted = (Map) obj;
+            if (casted.size() != size()) {
+                return false;
+            }
+
+            try {
+                for (Pair<K, T> entry : this) {
+                    if (!casted.containsKey(entry.getFirst())
+                            || !Objects.equals(casted.get(entry.getFirst()), entry.getSecond())) {
+                        return false;
+                    }
+                }
+            } catch (ClassCastException e) {
+                // maps with primitive keys, like the IntMap, cannot look up keys of another type
+                return false;
+            }
+
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (Pair<K, T> entry : this) {
+            hash += Objects.hashCode(entry.getFirst()) ^ Objects.hashCode(entry.getSecond());
+        }
+
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("Map {").append(System.lineSeparator());
+        for (Pair<K, T> entry : this) {
+            text.append(entry.getFirst())
+                    .append(" : ")
+                    .append(entry.getSecond())
+                    .append(System.lineSeparator());
+        }
+
+        return text.append("}").toString();
+    }
+
+    private Map<K, T> fill(Iterable<? extends Pair<K, T>> entries) {
+        Map<K, T> result = emptySupplier().get();
+        for (Pair<K, T> entry : entries) {
+            result = result.put(entry.getFirst(), entry.getSecond());
+        }
+
+        return result;
+    }
+
+    /**
+     * Supply an empty map of the same implementation, used as the starting point of the derived operations.
+     */
+    protected abstract Supplier<Map<K, T>> emptySupplier();
+
+}
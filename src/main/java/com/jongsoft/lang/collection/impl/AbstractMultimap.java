@@ -0,0 +1,269 @@
+package com.jongsoft.lang.collection.impl;
+
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.jongsoft.lang.API;
+import com.jongsoft.lang.collection.Iterator;
+import com.jongsoft.lang.collection.Multimap;
+import com.jongsoft.lang.collection.Sequence;
+import com.jongsoft.lang.collection.Set;
+import com.jongsoft.lang.collection.support.AbstractIterator;
+import com.jongsoft.lang.collection.tuple.Pair;
+
+/**
+ * A base for {@link Multimap} implementations, storing a group of values per key in a {@link HashTrie}. The
+ * implementation decides how the values of a single key are stored through the group operations, and every update of
+ * the multimap replaces only the group of one key.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @param <G> the type of the group storing the values of a key
+ * @param <M> the type of the multimap returned by the updates
+ */
+abstract class AbstractMultimap<K, V, G, M extends Multimap<K, V>> implements Multimap<K, V> {
+
+    private final HashTrie<K, G> groups;
+    private final int size;
+
+    AbstractMultimap(HashTrie<K, G> groups, int size) {
+        this.groups = groups;
+        this.size = size;
+    }
+
+    @Override
+    public M put(final K key, final V value) {
+        Objects.requireNonNull(key, "A null value is not allowed for the key in a map");
+
+        final G group = groups.get(key);
+        final G updated = addValue(group, value);
+        return updated == group ? self() : create(groups.put(key, updated), size + 1);
+    }
+
+    @Override
+    public M putAll(final K key, final Iterable<? extends V> values) {
+        Objects.requireNonNull(key, "A null value is not allowed for the key in a map");
+        Objects.requireNonNull(values, "values is null");
+
+        final G group = groups.get(key);
+        G updated = group;
+        for (V value : values) {
+            updated = addValue(updated, value);
+        }
+
+        if (updated == group) {
+            return self();
+        }
+
+        return create(groups.put(key, updated), size + groupSize(updated) - (group == null ? 0 : groupSize(group)));
+    }
+
+    @Override
+    public M remove(final K key, final V value) {
+        final G group = groups.get(key);
+        if (group == null) {
+            return self();
+        }
+
+        final G updated = removeValue(group, value);
+        if (updated == group) {
+            return self();
+        }
+
+        return create(updated == null ? groups.remove(key) : groups.put(key, updated), size - 1);
+    }
+
+    @Override
+    public M removeAll(final K key) {
+        final G group = groups.get(key);
+        return group == null ? self() : create(groups.remove(key), size - groupSize(group));
+    }
+
+    @Override
+    public int count(final K key) {
+        final G group = groups.get(key);
+        return group == null ? 0 : groupSize(group);
+    }
+
+    @Override
+    public boolean containsKey(final K key) {
+        return groups.containsKey(key);
+    }
+
+    @Override
+    public boolean containsEntry(final K key, final V value) {
+        final G group = groups.get(key);
+        return group != null && containsValue(group, value);
+    }
+
+    @Override
+    public Set<K> keySet() {
+        final Object[] keys = new Object[groups.size()];
+        final int[] index = {0};
+        groups.forEach((key, group) -> keys[index[0]++] = key);
+        return new HashSet<>(keys);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<Pair<K, V>> iterator() {
+        return new AbstractIterator<>() {
+            private final Iterator<Pair<K, G>> entries = groups.iterator();
+            private K key;
+            private Object[] values;
+            private int position;
+
+            {
+                reset();
+            }
+
+            @Override
+            public boolean hasNext() {
+                while (position >= values.length && entries.hasNext()) {
+                    final Pair<K, G> entry = entries.next();
+                    key = entry.getFirst();
+                    values = values(entry.getSecond());
+                    position = 0;
+                }
+
+                return position < values.length;
+            }
+
+            @Override
+            public void reset() {
+                entries.reset();
+                values = new Object[0];
+                position = 0;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            protected Pair<K, V> getNext() {
+                return API.Tuple(key, (V) values[position++]);
+            }
+        };
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public M filter(final Predicate<Pair<K, V>> predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+
+        HashTrie<K, G> filtered = HashTrie.empty();
+        int filteredSize = 0;
+        for (final Iterator<Pair<K, G>> entries = groups.iterator(); entries.hasNext();) {
+            final Pair<K, G> entry = entries.next();
+
+            G kept = null;
+            for (Object value : values(entry.getSecond())) {
+                if (predicate.test(API.Tuple(entry.getFirst(), (V) value))) {
+                    kept = addValue(kept, (V) value);
+                }
+            }
+
+            if (kept != null) {
+                filtered = filtered.put(entry.getFirst(), kept);
+                filteredSize += groupSize(kept);
+            }
+        }
+
+        return filteredSize == size ? self() : create(filtered, filteredSize);
+    }
+
+    @Override
+    public <U> Sequence<U> map(final Function<Pair<K, V>, U> mapper) {
+        Objects.requireNonNull(mapper, "The mapper cannot be null for this operation.");
+
+        final Object[] mapped = new Object[size];
+        int index = 0;
+        for (Pair<K, V> entry : this) {
+            mapped[index++] = mapper.apply(entry);
+        }
+
+        return new Array<>(mapped);
+    }
+
+    @Override
+    public Stream<Pair<K, V>> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == this) {
+            return true;
+        }
+
+        if (obj != null && obj.getClass() == getClass()) {
+            final AbstractMultimap<?, ?, ?, ?> other = (AbstractMultimap<?, ?, ?, ?>) obj;
+            return other.size == size && other.toJava().equals(toJava());
+        }
+
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return toJava().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder text = new StringBuilder("Multimap {").append(System.lineSeparator());
+        groups.forEach((key, group) -> text.append(key)
+                .append(" : ")
+                .append(java.util.Arrays.toString(values(group)))
+                .append(System.lineSeparator()));
+
+        return text.append("}").toString();
+    }
+
+    /**
+     * Visit the values of every key, used to build the java representation of the multimap.
+     */
+    final void forEachGroup(BiConsumer<? super K, ? super Object[]> consumer) {
+        groups.forEach((key, group) -> consumer.accept(key, values(group)));
+    }
+
+    final G group(K key) {
+        return groups.get(key);
+    }
+
+    abstract java.util.Map<K, ?> toJava();
+
+    /**
+     * Add the {@code value} to the {@code group}, which is null for a key without values.
+     *
+     * @return the group with the value, or the same group if it was not changed
+     */
+    abstract G addValue(G group, V value);
+
+    /**
+     * Remove the {@code value} once from the {@code group}.
+     *
+     * @return the group without the value, the same group if the value was absent, or null if the group became empty
+     */
+    abstract G removeValue(G group, V value);
+
+    abstract boolean containsValue(G group, V value);
+
+    abstract int groupSize(G group);
+
+    /**
+     * Copy the values of the {@code group} in iteration order.
+     */
+    abstract Object[] values(G group);
+
+    abstract M create(HashTrie<K, G> groups, int size);
+
+    abstract M self();
+
+}
@@ -216,7 +216,28 @@ abstract class AbstractSet<T> implements Set<T> {
 
     @Override
     public Set<T> union(final Iterable<T> iterable) {
-        return Collections.<T, Set<T>>filter(this, iterable, Predicate.not(this::contains));
+        final java.util.Set<Integer> hashes = new java.util.HashSet<>(delegate.length * 2);
+        for (Object element : delegate) {
+            hashes.add(Objects.hashCode(element));
+        }
+
+        final java.util.List<Object> additions = new java.util.ArrayList<>();
+        for (T element : iterable) {
+            Objects.requireNonNull(element, "A set cannot contain a null value");
+            if (hashes.add(element.hashCode())) {
+                additions.add(element);
+            }
+        }
+
+        if (additions.isEmpty()) {
+            return this;
+        }
+
+        final Object[] merged = Arrays.copyOf(delegate, delegate.length + additions.size());
+        for (int i = 0; i < additions.size(); i++) {
+            merged[delegate.length + i] = additions.get(i);
+        }
+        return this.wrapperSupplier().apply(merged);
     }
 
     @Override
@@ -232,11 +253,7 @@ abstract class AbstractSet<T> implements Set<T> {
             return this.<T>emptySupplier().get();
         }
 
-        Predicate<T> operation = com.jongsoft.lang.Collections.Set(iterable)
-                .map(com.jongsoft.lang.Collections::Set)
-                .foldLeft(x -> true, (x, xs) -> x.and(xs::contains));
-
-        return Collections.filter(this.<T>emptySupplier().get(), this, operation);
+        return retainWhere(iterable, true);
     }
 
     @Override
@@ -246,11 +263,7 @@ abstract class AbstractSet<T> implements Set<T> {
             return this;
         }
 
-        Predicate<T> operation = com.jongsoft.lang.Collections.Set(iterables)
-                .map(com.jongsoft.lang.Collections::Set)
-                .foldLeft(x -> true, (x, xs) -> x.and(Predicate.not(xs::contains)));
-
-        return Collections.filter(this.<T>emptySupplier().get(), this, operation);
+        return retainWhere(iterables, false);
     }
 
     @Override
@@ -264,6 +277,119 @@ abstract class AbstractSet<T> implements Set<T> {
         }
     }
 
+    /**
+     * Keep the elements of this set that are in all of the {@code others}, or in none of them when {@code contained}
+     * is false. The others are visited smallest first so the candidates shrink as early as possible. Each one is
+     * matched against the remaining candidates by hashing the smaller of the two sides, or by a merge when both are
+     * ordered by the same comparator.
+     */
+    private Set<T> retainWhere(Iterable<T>[] others, boolean contained) {
+        final Iterable<T>[] ordered = Arrays.copyOf(others, others.length);
+        Arrays.sort(ordered, Comparator.comparingInt(AbstractSet::sizeOf));
+
+        final int[] hashes = new int[delegate.length];
+        final int[] candidates = new int[delegate.length];
+        for (int i = 0; i < delegate.length; i++) {
+            hashes[i] = Objects.hashCode(delegate[i]);
+            candidates[i] = i;
+        }
+
+        int count = delegate.length;
+        for (int o = 0; o < ordered.length && count > 0; o++) {
+            final boolean[] hits = lookup(ordered[o], candidates, count, hashes);
+
+            int kept = 0;
+            for (int i = 0; i < count; i++) {
+                if (hits[i] == contained) {
+                    candidates[kept++] = candidates[i];
+                }
+            }
+            count = kept;
+        }
+
+        if (count == delegate.length) {
+            return this;
+        }
+
+        final Object[] result = new Object[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = delegate[candidates[i]];
+        }
+        return this.wrapperSupplier().apply(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean[] lookup(Iterable<T> other, int[] candidates, int count, int[] hashes) {
+        final boolean[] hits = new boolean[count];
+        final Comparator<T> order = mergeOrder();
+
+        if (other instanceof IntSet) {
+            final IntSet values = (IntSet) other;
+            for (int i = 0; i < count; i++) {
+                hits[i] = values.contains(hashes[candidates[i]]);
+            }
+        } else if (order != null && other instanceof AbstractSet && order.equals(((AbstractSet<T>) other).mergeOrder())) {
+            final Object[] values = ((AbstractSet<T>) other).delegate;
+            int position = 0;
+            for (int i = 0; i < count; i++) {
+                final T candidate = (T) delegate[candidates[i]];
+                while (position < values.length && order.compare((T) values[position], candidate) < 0) {
+                    position++;
+                }
+                hits[i] = position < values.length && order.compare((T) values[position], candidate) == 0;
+            }
+        } else if (sizeOf(other) <= count) {
+            final java.util.Set<Integer> index = new java.util.HashSet<>();
+            for (T element : other) {
+                index.add(Objects.hashCode(element));
+            }
+            for (int i = 0; i < count; i++) {
+                hits[i] = index.contains(hashes[candidates[i]]);
+            }
+        } else {
+            final java.util.Set<Integer> wanted = new java.util.HashSet<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                wanted.add(hashes[candidates[i]]);
+            }
+            final java.util.Set<Integer> found = new java.util.HashSet<>();
+            for (T element : other) {
+                final Integer hash = Objects.hashCode(element);
+                if (wanted.contains(hash)) {
+                    found.add(hash);
+                }
+            }
+            for (int i = 0; i < count; i++) {
+                hits[i] = found.contains(hashes[candidates[i]]);
+            }
+        }
+
+        return hits;
+    }
+
+    private static int sizeOf(Iterable<?> iterable) {
+        if (iterable instanceof Collection) {
+            return ((Collection<?>) iterable).size();
+        } else if (iterable instanceof java.util.Collection) {
+            return ((java.util.Collection<?>) iterable).size();
+        }
+
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * The comparator the elements of this set are stored in ascending order by, used to merge two sets in linear time
+     * instead of hashing them. Sets without such an order return null.
+     *
+     * @return the comparator, or null if the set is not ordered
+     */
+    Comparator<T> mergeOrder() {
+        return null;
+    }
+
+    Object[] elements() {
+        return delegate;
+    }
+
     protected abstract <X> Supplier<Set<X>> emptySupplier();
     protected abstract Function<Object[], Set<T>> wrapperSupplier();
 
@@ -0,0 +1,96 @@
+package com.jongsoft.lang.collection.impl;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.jongsoft.lang.collection.Iterator;
+import com.jongsoft.lang.collection.Tree;
+import com.jongsoft.lang.collection.support.Collections;
+import com.jongsoft.lang.control.Optional;
+
+/**
+ * A base for {@link Tree} implementations, implementing all value based operations using the pre-order traversal of
+ * the tree.
+ *
+ * @param <T> the entity type contained in the tree
+ */
+abstract class AbstractTree<T> implements Tree<T> {
+
+    @Override
+    public boolean isSingleValued() {
+        return children().isEmpty();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return preOrder().map(Tree::get);
+    }
+
+    @Override
+    public Tree<T> orElse(final Iterable<? extends T> other) {
+        return this;
+    }
+
+    @Override
+    public Tree<T> orElse(final Supplier<? extends Iterable<? extends T>> supplier) {
+        return this;
+    }
+
+    @Override
+    public Tree<T> reject(Predicate<T> predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        return filter(predicate.negate());
+    }
+
+    @Override
+    public Optional<T> first(Predicate<T> predicate) {
+        Objects.requireNonNull(predicate, "The predicate may not be null");
+        return iterator().first(predicate);
+    }
+
+    @Override
+    public Optional<T> last(Predicate<T> predicate) {
+        Objects.requireNonNull(predicate, "The predicate may not be null");
+        return iterator().last(predicate);
+    }
+
+    @Override
+    public <U> U foldLeft(U start, BiFunction<? super U, ? super T, ? extends U> combiner) {
+        Objects.requireNonNull(combiner, "combiner is null");
+        U x = start;
+        for (Iterator<Tree<T>> nodes = preOrder(); nodes.hasNext();) {
+            x = combiner.apply(x, nodes.next().get());
+        }
+        return x;
+    }
+
+    @Override
+    public <U> U foldRight(U start, BiFunction<? super T, ? super U, ? extends U> combiner) {
+        return foldLeft(start, (y, x) -> combiner.apply(x, y));
+    }
+
+    @Override
+    public T reduceLeft(BiFunction<? super T, ? super T, ? extends T> reducer) {
+        Objects.requireNonNull(reducer, "reducer is null");
+        final Iterator<T> values = iterator();
+        T x = values.next();
+        while (values.hasNext()) {
+            x = reducer.apply(x, values.next());
+        }
+        return x;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("Tree: {value:")
+                .append(get())
+                .append(", label: ")
+                .append(label());
+        builder.append(Collections.textValueOf(", children:", children()));
+        builder.append("}");
+        return builder.toString();
+    }
+
+}
@@ -0,0 +1,200 @@
+package com.jongsoft.lang.collection.impl;
+
+import static java.lang.String.format;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.jongsoft.lang.collection.Bag;
+import com.jongsoft.lang.collection.Iterator;
+import com.jongsoft.lang.collection.Sequence;
+import com.jongsoft.lang.collection.Set;
+import com.jongsoft.lang.collection.tuple.Pair;
+
+/**
+ * The {@link Bag} implementation, storing the count of every distinct element in a {@link HashTrie}.
+ *
+ * @param <T> the type of the elements
+ */
+public class BagImpl<T> implements Bag<T> {
+
+    @SuppressWarnings("rawtypes")
+    private static final BagImpl EMPTY = new BagImpl<>(HashTrie.empty(), 0);
+
+    private final HashTrie<T, Integer> counts;
+    private final int size;
+
+    private BagImpl(HashTrie<T, Integer> counts, int size) {
+        this.counts = counts;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> Bag<T> empty() {
+        return EMPTY;
+    }
+
+    @Override
+    public Bag<T> add(final T element) {
+        return add(element, 1);
+    }
+
+    @Override
+    public Bag<T> add(final T element, final int occurrences) {
+        Objects.requireNonNull(element, "A bag cannot contain a null value");
+        validateOccurrences(occurrences);
+
+        return occurrences == 0 ? this : setCount(element, count(element) + occurrences);
+    }
+
+    @Override
+    public Bag<T> remove(final T element) {
+        return remove(element, 1);
+    }
+
+    @Override
+    public Bag<T> remove(final T element, final int occurrences) {
+        validateOccurrences(occurrences);
+
+        final int count = count(element);
+        return count == 0 || occurrences == 0 ? this : setCount(element, Math.max(0, count - occurrences));
+    }
+
+    @Override
+    public Bag<T> setCount(final T element, final int count) {
+        Objects.requireNonNull(element, "A bag cannot contain a null value");
+        validateOccurrences(count);
+
+        final int current = count(element);
+        if (current == count) {
+            return this;
+        }
+
+        final HashTrie<T, Integer> updated = count == 0 ? counts.remove(element) : counts.put(element, count);
+        return updated.isEmpty() ? empty() : new BagImpl<>(updated, size - current + count);
+    }
+
+    @Override
+    public int count(final T element) {
+        final Integer count = counts.get(element);
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public Set<T> elementSet() {
+        final Object[] elements = new Object[counts.size()];
+        final Iterator<Pair<T, Integer>> entries = counts.iterator();
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = entries.next().getFirst();
+        }
+
+        return new HashSet<>(elements);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<Pair<T, Integer>> iterator() {
+        return counts.iterator();
+    }
+
+    @Override
+    public Bag<T> filter(final Predicate<Pair<T, Integer>> predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+
+        Bag<T> result = empty();
+        for (Pair<T, Integer> entry : this) {
+            if (predicate.test(entry)) {
+                result = result.add(entry.getFirst(), entry.getSecond());
+            }
+        }
+
+        return result.size() == size ? this : result;
+    }
+
+    @Override
+    public <U> Sequence<U> map(final Function<Pair<T, Integer>, U> mapper) {
+        Objects.requireNonNull(mapper, "The mapper cannot be null for this operation.");
+
+        final Object[] mapped = new Object[counts.size()];
+        int index = 0;
+        for (Pair<T, Integer> entry : this) {
+            mapped[index++] = mapper.apply(entry);
+        }
+
+        return new Array<>(mapped);
+    }
+
+    @Override
+    public Stream<Pair<T, Integer>> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    @Override
+    public java.util.Map<T, Integer> toJava() {
+        final java.util.Map<T, Integer> result = new java.util.HashMap<>(counts.size() * 2);
+        counts.forEach(result::put);
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean equals(final Object obj) {
+        if (obj == this) {
+            return true;
+        }
+
+        if (obj instanceof Bag) {
+            final Bag<T> other = (Bag<T>) obj;
+            if (other.size() != size) {
+                return false;
+            }
+
+            for (Pair<T, Integer> entry : this) {
+                if (other.count(entry.getFirst()) != entry.getSecond()) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (Pair<T, Integer> entry : this) {
+            hash += entry.getFirst().hashCode() ^ entry.getSecond();
+        }
+
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder text = new StringBuilder("Bag[");
+        for (Pair<T, Integer> entry : this) {
+            if (text.length() > 4) {
+                text.append(", ");
+            }
+            text.append(entry.getFirst()).append(" : ").append(entry.getSecond());
+        }
+
+        return text.append("]").toString();
+    }
+
+    private static void validateOccurrences(int occurrences) {
+        if (occurrences < 0) {
+            throw new IllegalArgumentException(format("The occurrences cannot be negative, was %s", occurrences));
+        }
+    }
+
+}
@@ -0,0 +1,146 @@
+package com.jongsoft.lang.collection.impl;
+
+import static java.lang.String.format;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.jongsoft.lang.collection.BiMap;
+import com.jongsoft.lang.collection.Iterator;
+import com.jongsoft.lang.collection.Map;
+import com.jongsoft.lang.collection.tuple.Pair;
+
+/**
+ * The {@link BiMap} implementation, keeping a {@link HashTrie} from the keys to the values and one from the values to
+ * the keys. The inverse is created on first use and swaps the two tries.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public class BiMapImpl<K, V> extends AbstractMap<K, V> implements BiMap<K, V> {
+
+    @SuppressWarnings("rawtypes")
+    private static final BiMapImpl EMPTY = new BiMapImpl<>(HashTrie.empty(), HashTrie.empty());
+
+    private final HashTrie<K, V> forward;
+    private final HashTrie<V, K> backward;
+    private BiMapImpl<V, K> inverse;
+
+    private BiMapImpl(HashTrie<K, V> forward, HashTrie<V, K> backward) {
+        this.forward = forward;
+        this.backward = backward;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> BiMap<K, V> empty() {
+        return EMPTY;
+    }
+
+    @Override
+    public BiMap<K, V> put(final K key, final V value) {
+        Objects.requireNonNull(key, "A null value is not allowed for the key in a map");
+        Objects.requireNonNull(value, "A null value is not allowed for the value in a bidirectional map");
+
+        final K existing = backward.get(value);
+        if (existing != null && !existing.equals(key)) {
+            throw new IllegalArgumentException(format("The value %s already belongs to the key %s", value, existing));
+        }
+
+        return bind(forward, backward, key, value);
+    }
+
+    @Override
+    public BiMap<K, V> forcePut(final K key, final V value) {
+        Objects.requireNonNull(key, "A null value is not allowed for the key in a map");
+        Objects.requireNonNull(value, "A null value is not allowed for the value in a bidirectional map");
+
+        final K existing = backward.get(value);
+        if (existing != null && !existing.equals(key)) {
+            return bind(forward.remove(existing), backward, key, value);
+        }
+
+        return bind(forward, backward, key, value);
+    }
+
+    @Override
+    public BiMap<K, V> remove(final K key) {
+        final V value = forward.get(key);
+        if (value == null) {
+            return this;
+        }
+
+        return create(forward.remove(key), backward.remove(value));
+    }
+
+    @Override
+    public V get(final K key) {
+        return forward.get(key);
+    }
+
+    @Override
+    public K getKey(final V value) {
+        return backward.get(value);
+    }
+
+    @Override
+    public boolean containsKey(final K key) {
+        return forward.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(final V value) {
+        return backward.containsKey(value);
+    }
+
+    @Override
+    public BiMap<V, K> inverse() {
+        if (inverse == null) {
+            final BiMapImpl<V, K> created = new BiMapImpl<>(backward, forward);
+            created.inverse = this;
+            inverse = created;
+        }
+
+        return inverse;
+    }
+
+    @Override
+    public BiMap<K, V> tail() {
+        return (BiMap<K, V>) super.tail();
+    }
+
+    @Override
+    public BiMap<K, V> filter(final Predicate<Pair<K, V>> predicate) {
+        return (BiMap<K, V>) super.filter(predicate);
+    }
+
+    @Override
+    public int size() {
+        return forward.size();
+    }
+
+    @Override
+    public Iterator<Pair<K, V>> iterator() {
+        return forward.iterator();
+    }
+
+    @Override
+    protected Supplier<Map<K, V>> emptySupplier() {
+        return BiMapImpl::empty;
+    }
+
+    private BiMap<K, V> bind(HashTrie<K, V> keys, HashTrie<V, K> values, K key, V value) {
+        final V previous = keys.get(key);
+        if (value.equals(previous) && keys == forward) {
+            return this;
+        }
+
+        final HashTrie<V, K> withoutPrevious = previous == null ? values : values.remove(previous);
+        return create(keys.put(key, value), withoutPrevious.put(value, key));
+    }
+
+    private static <K, V> BiMap<K, V> create(HashTrie<K, V> forward, HashTrie<V, K> backward) {
+        return forward.isEmpty() ? empty() : new BiMapImpl<>(forward, backward);
+    }
+
+}
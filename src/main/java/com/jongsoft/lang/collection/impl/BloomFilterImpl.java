@@ -0,0 +1,131 @@
+package com.jongsoft.lang.collection.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.jongsoft.lang.collection.BloomFilter;
+import com.jongsoft.lang.collection.Collection;
+
+/**
+ * The {@link BloomFilter} storing its bits in a {@code long[]}. The bit positions of an element are derived from two
+ * halves of one mixed 64 bit hash, as {@code h1 + i * h2} for every hash function {@code i}.
+ *
+ * @param <T> the type of the elements
+ */
+public class BloomFilterImpl<T> implements BloomFilter<T> {
+
+    private static final double LN_2 = Math.log(2);
+    // about -log2(p) hash functions are optimal, 32 of them are enough for a false positive rate of one in four billion
+    private static final int MAX_HASH_FUNCTIONS = 32;
+
+    private final long[] bits;
+    private final long bitSize;
+    private final int hashFunctions;
+    private final double falsePositiveRate;
+
+    private BloomFilterImpl(long[] bits, int hashFunctions, double falsePositiveRate) {
+        this.bits = bits;
+        this.bitSize = (long) bits.length << 6;
+        this.hashFunctions = hashFunctions;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    public static <T> BloomFilter<T> of(Iterable<? extends T> elements, double falsePositiveRate) {
+        Objects.requireNonNull(elements, "elements is null");
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("The false positive rate must be between 0 and 1, was "
+                    + falsePositiveRate);
+        }
+
+        final Iterable<? extends T> source;
+        final int count;
+        if (elements instanceof Collection) {
+            source = elements;
+            count = ((Collection<?>) elements).size();
+        } else if (elements instanceof java.util.Collection) {
+            source = elements;
+            count = ((java.util.Collection<?>) elements).size();
+        } else {
+            final List<T> buffered = new ArrayList<>();
+            elements.forEach(buffered::add);
+            source = buffered;
+            count = buffered.size();
+        }
+
+        // m = -n ln(p) / ln(2)^2 bits and k = m / n ln(2) hash functions are optimal for n elements. The number of
+        // hash functions is taken from the optimal m, before it is rounded up to whole words
+        final int expected = Math.max(1, count);
+        final long optimalBits = (long) Math.ceil(-expected * Math.log(falsePositiveRate) / (LN_2 * LN_2));
+        final int hashFunctions = (int) Math.min(MAX_HASH_FUNCTIONS,
+                Math.max(1, Math.round((double) optimalBits / expected * LN_2)));
+        final int words = (int) Math.min(Integer.MAX_VALUE - 8L, Math.max(1, (optimalBits + 63) >>> 6));
+
+        final BloomFilterImpl<T> filter = new BloomFilterImpl<>(new long[words], hashFunctions, falsePositiveRate);
+        for (T element : source) {
+            filter.add(element);
+        }
+        return filter;
+    }
+
+    @Override
+    public boolean mightContain(T element) {
+        final long hash = hash(element);
+        final long h1 = (int) hash;
+        final long h2 = (int) (hash >>> 32);
+
+        for (int i = 0; i < hashFunctions; i++) {
+            final long index = ((h1 + i * h2) & Long.MAX_VALUE) % bitSize;
+            if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public double falsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    @Override
+    public long bitSize() {
+        return bitSize;
+    }
+
+    @Override
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    private void add(T element) {
+        final long hash = hash(element);
+        final long h1 = (int) hash;
+        final long h2 = (int) (hash >>> 32);
+
+        for (int i = 0; i < hashFunctions; i++) {
+            final long index = ((h1 + i * h2) & Long.MAX_VALUE) % bitSize;
+            bits[(int) (index >>> 6)] |= 1L << index;
+        }
+    }
+
+    /**
+     * Spread the hash code over 64 bits using the finalizer of MurmurHash3, as hash codes of related elements tend to
+     * differ in the lower bits only.
+     */
+    private static long hash(Object element) {
+        long hash = element == null ? 0 : element.hashCode();
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "BloomFilter: {bits: " + bitSize + ", hash functions: " + hashFunctions + "}";
+    }
+
+}
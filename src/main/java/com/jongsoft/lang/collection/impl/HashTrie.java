@@ -0,0 +1,401 @@
+package com.jongsoft.lang.collection.impl;
+
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.UnaryOperator;
+
+import com.jongsoft.lang.API;
+import com.jongsoft.lang.collection.Iterator;
+import com.jongsoft.lang.collection.support.AbstractIterator;
+import com.jongsoft.lang.collection.tuple.Pair;
+
+/**
+ * A persistent hash array mapped trie, the internal storage of the keyed collections. Each level of the trie uses five
+ * bits of the hash of the key to select one of at most 32 slots, so a lookup or update visits at most seven nodes.
+ * An update copies only the nodes on the path to the changed key and shares all others with the original trie.
+ *
+ * <p>
+ *     The keys may not be null, the values may. Use {@link #containsKey(Object)} to distinguish a null value from an
+ *     absent key.
+ * </p>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+final class HashTrie<K, V> {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int MAX_DEPTH = 8;
+    private static final Object ABSENT = new Object();
+
+    @SuppressWarnings("rawtypes")
+    private static final HashTrie EMPTY = new HashTrie(BitmapNode.EMPTY, 0);
+
+    private final Node root;
+    private final int size;
+
+    private HashTrie(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <K, V> HashTrie<K, V> empty() {
+        return EMPTY;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(Object key) {
+        final Object value = root.find(key, hash(key), 0);
+        return value == ABSENT ? null : (V) value;
+    }
+
+    boolean containsKey(Object key) {
+        return root.find(key, hash(key), 0) != ABSENT;
+    }
+
+    HashTrie<K, V> put(K key, V value) {
+        Objects.requireNonNull(key, "A null value is not allowed for the key in a map");
+
+        final Change change = new Change();
+        final Node updated = root.put(key, hash(key), value, 0, change);
+        return updated == root ? this : new HashTrie<>(updated, change.sizeChanged ? size + 1 : size);
+    }
+
+    HashTrie<K, V> remove(Object key) {
+        if (key == null) {
+            return this;
+        }
+
+        final Node updated = root.remove(key, hash(key), 0);
+        if (updated == root) {
+            return this;
+        }
+
+        return updated == null ? empty() : new HashTrie<>(updated, size - 1);
+    }
+
+    /**
+     * Replace the value of the {@code key} with the result of the {@code update}. The update receives null if the key is
+     * absent, and the key is removed when it returns null.
+     */
+    HashTrie<K, V> update(K key, UnaryOperator<V> update) {
+        final V current = get(key);
+        final V updated = update.apply(current);
+
+        if (updated == null) {
+            return remove(key);
+        }
+
+        return updated == current ? this : put(key, updated);
+    }
+
+    void forEach(BiConsumer<? super K, ? super V> consumer) {
+        final Iterator<Pair<K, V>> entries = iterator();
+        while (entries.hasNext()) {
+            final Pair<K, V> entry = entries.next();
+            consumer.accept(entry.getFirst(), entry.getSecond());
+        }
+    }
+
+    /**
+     * Iterate over all entries, in the order of the hashes of the keys. The iterator walks the trie with an explicit
+     * stack of at most {@value #MAX_DEPTH} nodes.
+     */
+    Iterator<Pair<K, V>> iterator() {
+        return new AbstractIterator<>() {
+            private final Object[][] slots = new Object[MAX_DEPTH][];
+            private final int[] positions = new int[MAX_DEPTH];
+            private int depth;
+            private Object key;
+            private Object value;
+
+            {
+                reset();
+            }
+
+            @Override
+            public boolean hasNext() {
+                return key != null;
+            }
+
+            @Override
+            public void reset() {
+                depth = 0;
+                slots[0] = root.slots();
+                positions[0] = 0;
+                advance();
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            protected Pair<K, V> getNext() {
+                final Pair<K, V> entry = API.Tuple((K) key, (V) value);
+                advance();
+                return entry;
+            }
+
+            private void advance() {
+                key = null;
+                while (depth >= 0) {
+                    final Object[] current = slots[depth];
+                    final int position = positions[depth];
+                    if (position >= current.length) {
+                        depth--;
+                        continue;
+                    }
+
+                    positions[depth] = position + 2;
+                    if (current[position] != null) {
+                        key = current[position];
+                        value = current[position + 1];
+                        return;
+                    }
+
+                    depth++;
+                    slots[depth] = ((Node) current[position + 1]).slots();
+                    positions[depth] = 0;
+                }
+            }
+        };
+    }
+
+    private static int hash(Object key) {
+        final int hash = Objects.hashCode(key);
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int bit(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private static final class Change {
+        private boolean sizeChanged;
+    }
+
+    /**
+     * A node of the trie. The slots hold pairs of a key and its value, or of null and a child node.
+     */
+    private abstract static class Node {
+
+        abstract Object find(Object key, int hash, int shift);
+
+        abstract Node put(Object key, int hash, Object value, int shift, Change change);
+
+        /**
+         * @return the node without the key, this node if the key is absent or null if the node became empty
+         */
+        abstract Node remove(Object key, int hash, int shift);
+
+        abstract Object[] slots();
+
+    }
+
+    private static final class BitmapNode extends Node {
+
+        private static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        private final int bitmap;
+        private final Object[] slots;
+
+        private BitmapNode(int bitmap, Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        @Override
+        Object find(Object key, int hash, int shift) {
+            final int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return ABSENT;
+            }
+
+            final int index = 2 * Integer.bitCount(bitmap & (bit - 1));
+            final Object slotKey = slots[index];
+            if (slotKey == null) {
+                return ((Node) slots[index + 1]).find(key, hash, shift + BITS);
+            }
+
+            return slotKey.equals(key) ? slots[index + 1] : ABSENT;
+        }
+
+        @Override
+        Node put(Object key, int hash, Object value, int shift, Change change) {
+            final int bit = bit(hash, shift);
+            final int index = 2 * Integer.bitCount(bitmap & (bit - 1));
+
+            if ((bitmap & bit) == 0) {
+                change.sizeChanged = true;
+                final Object[] updated = new Object[slots.length + 2];
+                System.arraycopy(slots, 0, updated, 0, index);
+                updated[index] = key;
+                updated[index + 1] = value;
+                System.arraycopy(slots, index, updated, index + 2, slots.length - index);
+                return new BitmapNode(bitmap | bit, updated);
+            }
+
+            final Object slotKey = slots[index];
+            final Object slotValue = slots[index + 1];
+            if (slotKey == null) {
+                final Node child = ((Node) slotValue).put(key, hash, value, shift + BITS, change);
+                return child == slotValue ? this : withSlots(index, null, child);
+            }
+
+            if (slotKey.equals(key)) {
+                return slotValue == value ? this : withSlots(index, key, value);
+            }
+
+            change.sizeChanged = true;
+            return withSlots(index, null, split(slotKey, slotValue, key, hash, value, shift + BITS));
+        }
+
+        @Override
+        Node remove(Object key, int hash, int shift) {
+            final int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+
+            final int index = 2 * Integer.bitCount(bitmap & (bit - 1));
+            final Object slotKey = slots[index];
+            if (slotKey == null) {
+                final Node child = (Node) slots[index + 1];
+                final Node updated = child.remove(key, hash, shift + BITS);
+                if (updated == child) {
+                    return this;
+                } else if (updated == null) {
+                    return withoutSlot(bit, index);
+                }
+
+                // a child left with a single entry is pulled up, so the trie stays as shallow as possible
+                final Object[] remaining = updated.slots();
+                return remaining.length == 2 && remaining[0] != null
+                        ? withSlots(index, remaining[0], remaining[1])
+                        : withSlots(index, null, updated);
+            }
+
+            return slotKey.equals(key) ? withoutSlot(bit, index) : this;
+        }
+
+        @Override
+        Object[] slots() {
+            return slots;
+        }
+
+        private BitmapNode withSlots(int index, Object key, Object value) {
+            final Object[] updated = slots.clone();
+            updated[index] = key;
+            updated[index + 1] = value;
+            return new BitmapNode(bitmap, updated);
+        }
+
+        private BitmapNode withoutSlot(int bit, int index) {
+            if (bitmap == bit) {
+                return null;
+            }
+
+            final Object[] updated = new Object[slots.length - 2];
+            System.arraycopy(slots, 0, updated, 0, index);
+            System.arraycopy(slots, index + 2, updated, index, slots.length - index - 2);
+            return new BitmapNode(bitmap ^ bit, updated);
+        }
+
+        private static Node split(Object key, Object value, Object otherKey, int otherHash, Object otherValue,
+                int shift) {
+            final int hash = hash(key);
+            if (hash == otherHash) {
+                return new CollisionNode(hash, new Object[] {key, value, otherKey, otherValue});
+            }
+
+            final Change ignored = new Change();
+            return EMPTY.put(key, hash, value, shift, ignored)
+                    .put(otherKey, otherHash, otherValue, shift, ignored);
+        }
+    }
+
+    /**
+     * The keys with exactly the same hash, stored as a flat list of pairs.
+     */
+    private static final class CollisionNode extends Node {
+
+        private final int hash;
+        private final Object[] slots;
+
+        private CollisionNode(int hash, Object[] slots) {
+            this.hash = hash;
+            this.slots = slots;
+        }
+
+        @Override
+        Object find(Object key, int hash, int shift) {
+            final int index = indexOf(key);
+            return index < 0 ? ABSENT : slots[index + 1];
+        }
+
+        @Override
+        Node put(Object key, int hash, Object value, int shift, Change change) {
+            if (hash != this.hash) {
+                final Node wrapped = new BitmapNode(bit(this.hash, shift), new Object[] {null, this});
+                return wrapped.put(key, hash, value, shift, change);
+            }
+
+            final int index = indexOf(key);
+            if (index >= 0) {
+                if (slots[index + 1] == value) {
+                    return this;
+                }
+
+                final Object[] updated = slots.clone();
+                updated[index + 1] = value;
+                return new CollisionNode(hash, updated);
+            }
+
+            change.sizeChanged = true;
+            final Object[] updated = new Object[slots.length + 2];
+            System.arraycopy(slots, 0, updated, 0, slots.length);
+            updated[slots.length] = key;
+            updated[slots.length + 1] = value;
+            return new CollisionNode(hash, updated);
+        }
+
+        @Override
+        Node remove(Object key, int hash, int shift) {
+            final int index = indexOf(key);
+            if (index < 0) {
+                return this;
+            } else if (slots.length == 2) {
+                return null;
+            }
+
+            final Object[] updated = new Object[slots.length - 2];
+            System.arraycopy(slots, 0, updated, 0, index);
+            System.arraycopy(slots, index + 2, updated, index, slots.length - index - 2);
+            return new CollisionNode(hash, updated);
+        }
+
+        @Override
+        Object[] slots() {
+            return slots;
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < slots.length; i += 2) {
+                if (slots[i].equals(key)) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.jongsoft.lang.collection.impl;
+
+import com.jongsoft.lang.collection.BloomFilter;
+import com.jongsoft.lang.collection.Sequence;
+
+/**
+ * An {@link Array} with a {@link BloomFilter} over its elements, which answers most lookups of absent elements
+ * without scanning the array. Sequences derived from this one are plain arrays again.
+ *
+ * @param <T> the element type contained in the array
+ */
+public class IndexedArray<T> extends Array<T> {
+
+    private final BloomFilter<T> index;
+
+    public IndexedArray(Sequence<T> elements, double falsePositiveRate) {
+        super(toArray(elements));
+        this.index = BloomFilter.of(this, falsePositiveRate);
+    }
+
+    @Override
+    public boolean contains(T element) {
+        return index.mightContain(element) && super.contains(element);
+    }
+
+    @Override
+    public Sequence<T> withMembershipIndex(double falsePositiveRate) {
+        return index.falsePositiveRate() == falsePositiveRate ? this : new IndexedArray<>(this, falsePositiveRate);
+    }
+
+    private static Object[] toArray(Sequence<?> elements) {
+        final Object[] array = new Object[elements.size()];
+        int i = 0;
+        for (Object element : elements) {
+            array[i++] = element;
+        }
+        return array;
+    }
+
+}
@@ -0,0 +1,523 @@
+package com.jongsoft.lang.collection.impl;
+
+import java.util.Arrays;
+
+/**
+ * An immutable set of the lower 16 bits of the integers in an {@link IntSetImpl} sharing the same upper 16 bits. Each
+ * container uses the smallest of three forms, a sorted array for sparse values, a bitmap for dense values or a list of
+ * runs for consecutive values. Operations on two containers are done on the bitmap words, 64 values at a time, unless
+ * both are sparse arrays.
+ */
+abstract class IntContainer {
+
+    /**
+     * The maximum number of values in an array container, above this count a bitmap is smaller.
+     */
+    static final int ARRAY_LIMIT = 4096;
+    static final int WORDS = 1024;
+    static final int MAX_VALUE = 0xFFFF;
+
+    abstract int cardinality();
+
+    abstract boolean contains(int value);
+
+    abstract IntContainer add(int value);
+
+    /**
+     * Remove the {@code value}, which returns {@code null} when the container becomes empty.
+     */
+    abstract IntContainer remove(int value);
+
+    /**
+     * Fetch the value with the provided {@code rank}, the smallest value having rank {@code 0}.
+     */
+    abstract int select(int rank);
+
+    /**
+     * Fetch the smallest value that is equal to or larger than {@code from}, or {@code -1} if there is none.
+     */
+    abstract int nextValue(int from);
+
+    /**
+     * Set the bits of all values in the container in the {@code words}.
+     */
+    abstract void fill(long[] words);
+
+    long[] toWords() {
+        final long[] words = new long[WORDS];
+        fill(words);
+        return words;
+    }
+
+    IntContainer or(IntContainer other) {
+        if (this instanceof ArrayContainer && other instanceof ArrayContainer
+                && cardinality() + other.cardinality() <= ARRAY_LIMIT) {
+            return ((ArrayContainer) this).merge((ArrayContainer) other);
+        }
+
+        final long[] words = toWords();
+        other.fill(words);
+        return fromWords(words);
+    }
+
+    IntContainer and(IntContainer other) {
+        if (this instanceof ArrayContainer) {
+            return ((ArrayContainer) this).retain(other, true);
+        } else if (other instanceof ArrayContainer) {
+            return ((ArrayContainer) other).retain(this, true);
+        }
+
+        final long[] words = toWords();
+        final long[] others = other.toWords();
+        for (int i = 0; i < WORDS; i++) {
+            words[i] &= others[i];
+        }
+        return fromWords(words);
+    }
+
+    IntContainer andNot(IntContainer other) {
+        if (this instanceof ArrayContainer) {
+            return ((ArrayContainer) this).retain(other, false);
+        }
+
+        final long[] words = toWords();
+        final long[] others = other.toWords();
+        for (int i = 0; i < WORDS; i++) {
+            words[i] &= ~others[i];
+        }
+        return fromWords(words);
+    }
+
+    /**
+     * Create the smallest container for the values set in the {@code words}, or {@code null} if no bit is set.
+     */
+    static IntContainer fromWords(long[] words) {
+        int cardinality = 0;
+        int runs = 0;
+        long previous = 0;
+        for (long word : words) {
+            cardinality += Long.bitCount(word);
+            // a run starts at every set bit of which the lower neighbour is not set
+            runs += Long.bitCount(word & ~((word << 1) | (previous >>> 63)));
+            previous = word;
+        }
+
+        if (cardinality == 0) {
+            return null;
+        } else if (runs * 4 < Math.min(cardinality <= ARRAY_LIMIT ? cardinality * 2 : Integer.MAX_VALUE, WORDS * 8)) {
+            return RunContainer.fromWords(words, runs, cardinality);
+        } else if (cardinality <= ARRAY_LIMIT) {
+            final char[] values = new char[cardinality];
+            int index = 0;
+            for (int i = 0; i < WORDS; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    values[index++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+                }
+            }
+            return new ArrayContainer(values);
+        }
+
+        return new BitmapContainer(words, cardinality);
+    }
+
+    /**
+     * Create the smallest container for the sorted and distinct {@code values}.
+     */
+    static IntContainer fromSorted(char[] values) {
+        if (values.length > ARRAY_LIMIT) {
+            final long[] words = new long[WORDS];
+            for (char value : values) {
+                words[value >>> 6] |= 1L << value;
+            }
+            return fromWords(words);
+        }
+
+        int runs = values.length == 0 ? 0 : 1;
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] != values[i - 1] + 1) {
+                runs++;
+            }
+        }
+
+        if (runs * 4 < values.length * 2) {
+            final char[] pairs = new char[runs * 2];
+            int run = 0;
+            pairs[0] = values[0];
+            for (int i = 1; i < values.length; i++) {
+                if (values[i] != values[i - 1] + 1) {
+                    pairs[run * 2 + 1] = (char) (values[i - 1] - pairs[run * 2]);
+                    run++;
+                    pairs[run * 2] = values[i];
+                }
+            }
+            pairs[run * 2 + 1] = (char) (values[values.length - 1] - pairs[run * 2]);
+            return new RunContainer(pairs, values.length);
+        }
+
+        return new ArrayContainer(values);
+    }
+
+    /**
+     * Create a container holding all values from {@code start} up to and including {@code end}.
+     */
+    static IntContainer range(int start, int end) {
+        return new RunContainer(new char[] {(char) start, (char) (end - start)}, end - start + 1);
+    }
+
+    static void setRange(long[] words, int start, int end) {
+        final int first = start >>> 6;
+        final int last = end >>> 6;
+        if (first == last) {
+            words[first] |= (-1L >>> (63 - (end - start))) << start;
+            return;
+        }
+
+        words[first] |= -1L << start;
+        for (int i = first + 1; i < last; i++) {
+            words[i] = -1L;
+        }
+        words[last] |= -1L >>> (63 - (end & 63));
+    }
+
+    /**
+     * A sorted array of at most {@link #ARRAY_LIMIT} values.
+     */
+    static final class ArrayContainer extends IntContainer {
+        private final char[] values;
+
+        ArrayContainer(char[] values) {
+            this.values = values;
+        }
+
+        @Override
+        int cardinality() {
+            return values.length;
+        }
+
+        @Override
+        boolean contains(int value) {
+            return Arrays.binarySearch(values, (char) value) >= 0;
+        }
+
+        @Override
+        IntContainer add(int value) {
+            final int index = Arrays.binarySearch(values, (char) value);
+            if (index >= 0) {
+                return this;
+            } else if (values.length == ARRAY_LIMIT) {
+                final long[] words = toWords();
+                words[value >>> 6] |= 1L << value;
+                return new BitmapContainer(words, values.length + 1);
+            }
+
+            final int insert = -index - 1;
+            final char[] copy = new char[values.length + 1];
+            System.arraycopy(values, 0, copy, 0, insert);
+            copy[insert] = (char) value;
+            System.arraycopy(values, insert, copy, insert + 1, values.length - insert);
+            return new ArrayContainer(copy);
+        }
+
+        @Override
+        IntContainer remove(int value) {
+            final int index = Arrays.binarySearch(values, (char) value);
+            if (index < 0) {
+                return this;
+            } else if (values.length == 1) {
+                return null;
+            }
+
+            final char[] copy = new char[values.length - 1];
+            System.arraycopy(values, 0, copy, 0, index);
+            System.arraycopy(values, index + 1, copy, index, values.length - index - 1);
+            return new ArrayContainer(copy);
+        }
+
+        @Override
+        int select(int rank) {
+            return values[rank];
+        }
+
+        @Override
+        int nextValue(int from) {
+            int index = Arrays.binarySearch(values, (char) from);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            return index < values.length ? values[index] : -1;
+        }
+
+        @Override
+        void fill(long[] words) {
+            for (char value : values) {
+                words[value >>> 6] |= 1L << value;
+            }
+        }
+
+        IntContainer merge(ArrayContainer other) {
+            final char[] merged = new char[values.length + other.values.length];
+            int i = 0;
+            int j = 0;
+            int size = 0;
+            while (i < values.length && j < other.values.length) {
+                final char left = values[i];
+                final char right = other.values[j];
+                if (left == right) {
+                    i++;
+                    j++;
+                } else if (left < right) {
+                    i++;
+                } else {
+                    j++;
+                }
+                merged[size++] = left <= right ? left : right;
+            }
+            while (i < values.length) {
+                merged[size++] = values[i++];
+            }
+            while (j < other.values.length) {
+                merged[size++] = other.values[j++];
+            }
+
+            return new ArrayContainer(Arrays.copyOf(merged, size));
+        }
+
+        IntContainer retain(IntContainer other, boolean present) {
+            final char[] retained = new char[values.length];
+            int size = 0;
+            for (char value : values) {
+                if (other.contains(value) == present) {
+                    retained[size++] = value;
+                }
+            }
+
+            if (size == values.length) {
+                return this;
+            }
+            return size == 0 ? null : new ArrayContainer(Arrays.copyOf(retained, size));
+        }
+    }
+
+    /**
+     * A bitmap of all 65536 values, using 8kB regardless of the number of values.
+     */
+    static final class BitmapContainer extends IntContainer {
+        private final long[] words;
+        private final int cardinality;
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(int value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        IntContainer add(int value) {
+            if (contains(value)) {
+                return this;
+            }
+
+            final long[] copy = words.clone();
+            copy[value >>> 6] |= 1L << value;
+            return new BitmapContainer(copy, cardinality + 1);
+        }
+
+        @Override
+        IntContainer remove(int value) {
+            if (!contains(value)) {
+                return this;
+            }
+
+            final long[] copy = words.clone();
+            copy[value >>> 6] &= ~(1L << value);
+            return fromWords(copy);
+        }
+
+        @Override
+        int select(int rank) {
+            int remaining = rank;
+            for (int i = 0; i < WORDS; i++) {
+                final int count = Long.bitCount(words[i]);
+                if (remaining < count) {
+                    long word = words[i];
+                    for (; remaining > 0; remaining--) {
+                        word &= word - 1;
+                    }
+                    return (i << 6) + Long.numberOfTrailingZeros(word);
+                }
+                remaining -= count;
+            }
+
+            throw new IndexOutOfBoundsException(rank + " is not in the bounds of 0 and " + cardinality);
+        }
+
+        @Override
+        int nextValue(int from) {
+            int index = from >>> 6;
+            long word = words[index] & (-1L << from);
+            while (word == 0) {
+                if (++index == WORDS) {
+                    return -1;
+                }
+                word = words[index];
+            }
+            return (index << 6) + Long.numberOfTrailingZeros(word);
+        }
+
+        @Override
+        void fill(long[] target) {
+            for (int i = 0; i < WORDS; i++) {
+                target[i] |= words[i];
+            }
+        }
+
+        @Override
+        long[] toWords() {
+            return words.clone();
+        }
+    }
+
+    /**
+     * A sorted list of runs of consecutive values, each stored as the start and the length minus one.
+     */
+    static final class RunContainer extends IntContainer {
+        private final char[] runs;
+        private final int cardinality;
+
+        RunContainer(char[] runs, int cardinality) {
+            this.runs = runs;
+            this.cardinality = cardinality;
+        }
+
+        static RunContainer fromWords(long[] words, int count, int cardinality) {
+            final char[] runs = new char[count * 2];
+            int run = 0;
+            int value = nextSet(words, 0);
+            while (value >= 0) {
+                final int end = nextClear(words, value);
+                runs[run * 2] = (char) value;
+                runs[run * 2 + 1] = (char) (end - 1 - value);
+                run++;
+                value = end > MAX_VALUE ? -1 : nextSet(words, end);
+            }
+
+            return new RunContainer(runs, cardinality);
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(int value) {
+            final int run = runBefore(value);
+            return run >= 0 && value <= runs[run * 2] + runs[run * 2 + 1];
+        }
+
+        @Override
+        IntContainer add(int value) {
+            if (contains(value)) {
+                return this;
+            }
+
+            final long[] words = toWords();
+            words[value >>> 6] |= 1L << value;
+            return fromWords(words);
+        }
+
+        @Override
+        IntContainer remove(int value) {
+            if (!contains(value)) {
+                return this;
+            }
+
+            final long[] words = toWords();
+            words[value >>> 6] &= ~(1L << value);
+            return fromWords(words);
+        }
+
+        @Override
+        int select(int rank) {
+            int remaining = rank;
+            for (int i = 0; i < runs.length; i += 2) {
+                final int length = runs[i + 1] + 1;
+                if (remaining < length) {
+                    return runs[i] + remaining;
+                }
+                remaining -= length;
+            }
+
+            throw new IndexOutOfBoundsException(rank + " is not in the bounds of 0 and " + cardinality);
+        }
+
+        @Override
+        int nextValue(int from) {
+            final int run = runBefore(from);
+            if (run >= 0 && from <= runs[run * 2] + runs[run * 2 + 1]) {
+                return from;
+            }
+
+            final int next = (run + 1) * 2;
+            return next < runs.length ? runs[next] : -1;
+        }
+
+        @Override
+        void fill(long[] words) {
+            for (int i = 0; i < runs.length; i += 2) {
+                setRange(words, runs[i], runs[i] + runs[i + 1]);
+            }
+        }
+
+        /**
+         * Find the index of the last run starting at or before the {@code value}, or {@code -1} if there is none.
+         */
+        private int runBefore(int value) {
+            int low = 0;
+            int high = runs.length / 2 - 1;
+            while (low <= high) {
+                final int middle = (low + high) >>> 1;
+                if (runs[middle * 2] <= value) {
+                    low = middle + 1;
+                } else {
+                    high = middle - 1;
+                }
+            }
+            return high;
+        }
+
+        private static int nextSet(long[] words, int from) {
+            int index = from >>> 6;
+            long word = words[index] & (-1L << from);
+            while (word == 0) {
+                if (++index == WORDS) {
+                    return -1;
+                }
+                word = words[index];
+            }
+            return (index << 6) + Long.numberOfTrailingZeros(word);
+        }
+
+        private static int nextClear(long[] words, int from) {
+            int index = from >>> 6;
+            long word = ~words[index] & (-1L << from);
+            while (word == 0) {
+                if (++index == WORDS) {
+                    return MAX_VALUE + 1;
+                }
+                word = ~words[index];
+            }
+            return (index << 6) + Long.numberOfTrailingZeros(word);
+        }
+    }
+
+}
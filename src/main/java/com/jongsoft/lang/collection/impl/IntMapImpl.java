@@ -0,0 +1,140 @@
+package com.jongsoft.lang.collection.impl;
+
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.jongsoft.lang.collection.IntMap;
+import com.jongsoft.lang.collection.Iterator;
+import com.jongsoft.lang.collection.Map;
+import com.jongsoft.lang.collection.tuple.Pair;
+
+/**
+ * The {@link IntMap} implementation, storing the integer keys widened to longs in a {@link PatriciaTrie}.
+ *
+ * @param <T> the type of the values
+ */
+public class IntMapImpl<T> extends AbstractMap<Integer, T> implements IntMap<T> {
+
+    private static final LongFunction<Integer> KEYS = key -> (int) key;
+
+    @SuppressWarnings("rawtypes")
+    private static final IntMapImpl EMPTY = new IntMapImpl<>(PatriciaTrie.empty());
+
+    private final PatriciaTrie<T> trie;
+
+    private IntMapImpl(PatriciaTrie<T> trie) {
+        this.trie = trie;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> IntMap<T> empty() {
+        return EMPTY;
+    }
+
+    @Override
+    public T getInt(final int key) {
+        return trie.get(key);
+    }
+
+    @Override
+    public T get(final Integer key) {
+        return key == null ? null : trie.get(key);
+    }
+
+    @Override
+    public boolean containsIntKey(final int key) {
+        return trie.containsKey(key);
+    }
+
+    @Override
+    public boolean containsKey(final Integer key) {
+        return key != null && trie.containsKey(key);
+    }
+
+    @Override
+    public IntMap<T> putInt(final int key, final T value) {
+        return create(trie.put(key, value));
+    }
+
+    @Override
+    public IntMap<T> put(final Integer key, final T value) {
+        Objects.requireNonNull(key, "A null value is not allowed for the key in a map");
+        return putInt(key, value);
+    }
+
+    @Override
+    public IntMap<T> removeInt(final int key) {
+        return create(trie.remove(key));
+    }
+
+    @Override
+    public IntMap<T> remove(final Integer key) {
+        return key == null ? this : removeInt(key);
+    }
+
+    @Override
+    public IntMap<T> union(final IntMap<T> other) {
+        Objects.requireNonNull(other, "other is null");
+        return create(trie.union(trieOf(other)));
+    }
+
+    @Override
+    public IntMap<T> merge(final IntMap<T> other, final BinaryOperator<T> combiner) {
+        Objects.requireNonNull(other, "other is null");
+        Objects.requireNonNull(combiner, "combiner is null");
+        return create(trie.merge(trieOf(other), combiner));
+    }
+
+    @Override
+    public int[] keys() {
+        final long[] keys = trie.keys();
+        final int[] narrowed = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            narrowed[i] = (int) keys[i];
+        }
+
+        return narrowed;
+    }
+
+    @Override
+    public IntMap<T> tail() {
+        return (IntMap<T>) super.tail();
+    }
+
+    @Override
+    public IntMap<T> filter(final Predicate<Pair<Integer, T>> predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        return create(trie.filter(KEYS, predicate));
+    }
+
+    @Override
+    public int size() {
+        return trie.size();
+    }
+
+    @Override
+    public Iterator<Pair<Integer, T>> iterator() {
+        return trie.iterator(KEYS);
+    }
+
+    @Override
+    protected Supplier<Map<Integer, T>> emptySupplier() {
+        return IntMapImpl::empty;
+    }
+
+    private IntMap<T> create(PatriciaTrie<T> updated) {
+        if (updated == trie) {
+            return this;
+        }
+
+        return updated.isEmpty() ? empty() : new IntMapImpl<>(updated);
+    }
+
+    private static <T> PatriciaTrie<T> trieOf(IntMap<T> map) {
+        return map instanceof IntMapImpl ? ((IntMapImpl<T>) map).trie : ((IntMapImpl<T>) IntMap.of(map)).trie;
+    }
+
+}
@@ -0,0 +1,556 @@
+package com.jongsoft.lang.collection.impl;
+
+import static java.lang.String.format;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import com.jongsoft.lang.API;
+import com.jongsoft.lang.collection.Collection;
+import com.jongsoft.lang.collection.IntSet;
+import com.jongsoft.lang.collection.Iterator;
+import com.jongsoft.lang.collection.List;
+import com.jongsoft.lang.collection.Map;
+import com.jongsoft.lang.collection.Pipeline;
+import com.jongsoft.lang.collection.Set;
+import com.jongsoft.lang.collection.support.AbstractIterator;
+import com.jongsoft.lang.collection.support.Collections;
+import com.jongsoft.lang.collection.support.PipeCommand;
+import com.jongsoft.lang.collection.tuple.Pair;
+
+/**
+ * The {@link IntSet} implementation based on roaring bitmaps. The integers are split in a key of the upper 16 bits and
+ * the lower 16 bits, which are stored in an {@link IntContainer} per key. The sign bit is flipped in the key, so the
+ * sorted keys list the integers in ascending order.
+ */
+public class IntSetImpl implements IntSet {
+
+    private static final IntSetImpl EMPTY = new IntSetImpl(new char[0], new IntContainer[0]);
+
+    private final char[] keys;
+    private final IntContainer[] containers;
+    // offsets[i] is the number of elements in the containers before container i
+    private final int[] offsets;
+    private final int size;
+
+    private IntSetImpl(char[] keys, IntContainer[] containers) {
+        this.keys = keys;
+        this.containers = containers;
+        this.offsets = new int[containers.length];
+
+        int count = 0;
+        for (int i = 0; i < containers.length; i++) {
+            offsets[i] = count;
+            count += containers[i].cardinality();
+        }
+        this.size = count;
+    }
+
+    public static IntSet of(int... values) {
+        Objects.requireNonNull(values, "values is null");
+        final int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return fromSorted(sorted, sorted.length);
+    }
+
+    public static IntSet of(Iterable<? extends Integer> iterable) {
+        Objects.requireNonNull(iterable, "iterable is null");
+        if (iterable instanceof IntSet) {
+            return (IntSet) iterable;
+        }
+
+        int[] values = new int[16];
+        int count = 0;
+        for (Integer value : iterable) {
+            Objects.requireNonNull(value, "A set cannot contain a null value");
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count++] = value;
+        }
+
+        Arrays.sort(values, 0, count);
+        return fromSorted(values, count);
+    }
+
+    public static IntSet range(int startInclusive, int endExclusive) {
+        if (endExclusive <= startInclusive) {
+            return EMPTY;
+        }
+
+        final int last = endExclusive - 1;
+        final int keyCount = key(last) - key(startInclusive) + 1;
+        final char[] keys = new char[keyCount];
+        final IntContainer[] containers = new IntContainer[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            keys[i] = (char) (key(startInclusive) + i);
+            containers[i] = IntContainer.range(
+                    i == 0 ? low(startInclusive) : 0,
+                    i == keyCount - 1 ? low(last) : IntContainer.MAX_VALUE);
+        }
+
+        return new IntSetImpl(keys, containers);
+    }
+
+    @Override
+    public boolean contains(int value) {
+        final int index = Arrays.binarySearch(keys, (char) key(value));
+        return index >= 0 && containers[index].contains(low(value));
+    }
+
+    @Override
+    public boolean contains(Integer element) {
+        return element != null && contains(element.intValue());
+    }
+
+    @Override
+    public IntSet append(int value) {
+        final int index = Arrays.binarySearch(keys, (char) key(value));
+        if (index >= 0) {
+            final IntContainer container = containers[index].add(low(value));
+            return container == containers[index] ? this : with(index, container);
+        }
+
+        final int insert = -index - 1;
+        final char[] newKeys = new char[keys.length + 1];
+        final IntContainer[] newContainers = new IntContainer[keys.length + 1];
+        System.arraycopy(keys, 0, newKeys, 0, insert);
+        System.arraycopy(containers, 0, newContainers, 0, insert);
+        newKeys[insert] = (char) key(value);
+        newContainers[insert] = new IntContainer.ArrayContainer(new char[] {(char) low(value)});
+        System.arraycopy(keys, insert, newKeys, insert + 1, keys.length - insert);
+        System.arraycopy(containers, insert, newContainers, insert + 1, keys.length - insert);
+        return new IntSetImpl(newKeys, newContainers);
+    }
+
+    @Override
+    public IntSet append(Integer value) {
+        Objects.requireNonNull(value, "A set cannot contain a null value");
+        return append(value.intValue());
+    }
+
+    @Override
+    public IntSet without(int value) {
+        final int index = Arrays.binarySearch(keys, (char) key(value));
+        if (index < 0) {
+            return this;
+        }
+
+        final IntContainer container = containers[index].remove(low(value));
+        return container == containers[index] ? this : with(index, container);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Integer get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(format("%s is not in the bounds of 0 and %s", index, size));
+        }
+
+        int low = 0;
+        int high = offsets.length - 1;
+        while (low < high) {
+            final int middle = (low + high + 1) >>> 1;
+            if (offsets[middle] <= index) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return value(keys[low], containers[low].select(index - offsets[low]));
+    }
+
+    @Override
+    public int firstIndexWhere(Predicate<Integer> predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        int index = 0;
+        for (int value : toIntArray()) {
+            if (predicate.test(value)) {
+                return index;
+            }
+            index++;
+        }
+
+        return -1;
+    }
+
+    @Override
+    public IntSet filter(Predicate<Integer> predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        final int[] values = toIntArray();
+        int count = 0;
+        for (int value : values) {
+            if (predicate.test(value)) {
+                values[count++] = value;
+            }
+        }
+
+        return count == size ? this : fromSorted(values, count);
+    }
+
+    @Override
+    public IntSet remove(int index) {
+        return without(get(index));
+    }
+
+    @Override
+    public Set<Integer> replace(int index, Integer replacement) {
+        Objects.requireNonNull(replacement, "A set cannot contain a null value");
+        return without(get(index)).append(replacement.intValue());
+    }
+
+    @Override
+    public Set<Integer> replaceIf(Predicate<Integer> predicate, Integer replacement) {
+        Objects.requireNonNull(replacement, "A set cannot contain a null value");
+        final IntSet kept = filter(predicate.negate());
+        return kept.size() == size ? this : kept.append(replacement.intValue());
+    }
+
+    @Override
+    public IntSet tail() {
+        if (size == 0) {
+            throw new NoSuchElementException("Cannot call tail on empty collection");
+        }
+
+        return remove(0);
+    }
+
+    @Override
+    public IntSet union(Iterable<Integer> iterable) {
+        final IntSetImpl other = toIntSet(iterable);
+        final char[] newKeys = new char[keys.length + other.keys.length];
+        final IntContainer[] newContainers = new IntContainer[newKeys.length];
+
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < keys.length || j < other.keys.length) {
+            if (j == other.keys.length || (i < keys.length && keys[i] < other.keys[j])) {
+                newKeys[count] = keys[i];
+                newContainers[count++] = containers[i++];
+            } else if (i == keys.length || other.keys[j] < keys[i]) {
+                newKeys[count] = other.keys[j];
+                newContainers[count++] = other.containers[j++];
+            } else {
+                newKeys[count] = keys[i];
+                newContainers[count++] = containers[i++].or(other.containers[j++]);
+            }
+        }
+
+        return create(newKeys, newContainers, count);
+    }
+
+    @Override
+    public IntSet retain(Iterable<Integer> iterable) {
+        return and(toIntSet(iterable));
+    }
+
+    @Override
+    @SafeVarargs
+    public final IntSet intersect(Iterable<Integer>... iterables) {
+        if (iterables.length == 0) {
+            return EMPTY;
+        }
+
+        IntSetImpl result = this;
+        for (int i = 0; i < iterables.length && result.size > 0; i++) {
+            result = result.and(toIntSet(iterables[i]));
+        }
+        return result;
+    }
+
+    @Override
+    @SafeVarargs
+    public final IntSet complement(Iterable<Integer>... iterables) {
+        IntSetImpl result = this;
+        for (int i = 0; i < iterables.length && result.size > 0; i++) {
+            result = result.andNot(toIntSet(iterables[i]));
+        }
+        return result;
+    }
+
+    @Override
+    public Set<Integer> distinctBy(Comparator<Integer> comparator) {
+        return com.jongsoft.lang.Collections.Set(comparator, this);
+    }
+
+    @Override
+    public <U> Set<U> map(Function<Integer, U> mapper) {
+        Objects.requireNonNull(mapper, "The mapper cannot be null for this operation.");
+        final Object[] mapped = new Object[size];
+        int index = 0;
+        for (int value : toIntArray()) {
+            mapped[index++] = mapper.apply(value);
+        }
+
+        return com.jongsoft.lang.Collections.Set(new Array<U>(mapped));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K> Map<K, ? extends Set<Integer>> groupBy(Function<? super Integer, ? extends K> keyGenerator) {
+        return (Map<K, ? extends Set<Integer>>) Collections.groupBy(() -> EMPTY, this, keyGenerator);
+    }
+
+    @Override
+    public Pair<? extends Set<Integer>, ? extends Collection<Integer>> split(Predicate<Integer> predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        return API.Tuple(filter(predicate), filter(predicate.negate()));
+    }
+
+    @Override
+    public Set<Integer> orElse(Iterable<? extends Integer> other) {
+        return isEmpty() ? of(other) : this;
+    }
+
+    @Override
+    public Set<Integer> orElse(Supplier<? extends Iterable<? extends Integer>> supplier) {
+        return isEmpty() ? of(supplier.get()) : this;
+    }
+
+    @Override
+    public Pipeline<Integer> pipeline() {
+        return new PipeCommand<>(this);
+    }
+
+    @Override
+    public List<Integer> sorted() {
+        return new Array<>(IntStream.of(toIntArray()).boxed().toArray());
+    }
+
+    @Override
+    public java.util.Set<Integer> toJava() {
+        final java.util.Set<Integer> result = new java.util.HashSet<>(size * 4 / 3 + 1);
+        for (int value : toIntArray()) {
+            result.add(value);
+        }
+        return result;
+    }
+
+    @Override
+    public int[] toIntArray() {
+        final int[] values = new int[size];
+        int index = 0;
+        for (int i = 0; i < keys.length; i++) {
+            final IntContainer container = containers[i];
+            for (int low = container.nextValue(0); low >= 0; low = next(container, low)) {
+                values[index++] = value(keys[i], low);
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public IntStream intStream() {
+        return IntStream.of(toIntArray());
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        return new AbstractIterator<>() {
+            private int index;
+            private int low;
+
+            {
+                reset();
+            }
+
+            @Override
+            public boolean hasNext() {
+                return low >= 0;
+            }
+
+            @Override
+            public void reset() {
+                index = 0;
+                low = keys.length == 0 ? -1 : containers[0].nextValue(0);
+            }
+
+            @Override
+            protected Integer getNext() {
+                final int value = value(keys[index], low);
+                low = IntSetImpl.next(containers[index], low);
+                if (low < 0 && ++index < keys.length) {
+                    low = containers[index].nextValue(0);
+                }
+                return value;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        } else if (obj instanceof Set) {
+            final Set<?> other = (Set<?>) obj;
+            if (other.size() != size) {
+                return false;
+            }
+
+            for (Object element : other) {
+                if (!(element instanceof Integer) || !contains((int) element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        // the same sum of the element hashes as the other sets
+        int hash = 21;
+        for (int value : toIntArray()) {
+            hash += value;
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return Collections.textValueOf("Set", this);
+    }
+
+    private IntSetImpl and(IntSetImpl other) {
+        final int length = Math.min(keys.length, other.keys.length);
+        final char[] newKeys = new char[length];
+        final IntContainer[] newContainers = new IntContainer[length];
+
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < keys.length && j < other.keys.length) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (other.keys[j] < keys[i]) {
+                j++;
+            } else {
+                final IntContainer container = containers[i].and(other.containers[j]);
+                if (container != null) {
+                    newKeys[count] = keys[i];
+                    newContainers[count++] = container;
+                }
+                i++;
+                j++;
+            }
+        }
+
+        return create(newKeys, newContainers, count);
+    }
+
+    private IntSetImpl andNot(IntSetImpl other) {
+        final char[] newKeys = new char[keys.length];
+        final IntContainer[] newContainers = new IntContainer[keys.length];
+
+        int j = 0;
+        int count = 0;
+        for (int i = 0; i < keys.length; i++) {
+            while (j < other.keys.length && other.keys[j] < keys[i]) {
+                j++;
+            }
+
+            final IntContainer container = j < other.keys.length && other.keys[j] == keys[i]
+                    ? containers[i].andNot(other.containers[j])
+                    : containers[i];
+            if (container != null) {
+                newKeys[count] = keys[i];
+                newContainers[count++] = container;
+            }
+        }
+
+        return create(newKeys, newContainers, count);
+    }
+
+    /**
+     * Copy this set with the container at {@code index} replaced, where a {@code null} container removes the key.
+     */
+    private IntSetImpl with(int index, IntContainer container) {
+        if (container == null) {
+            final char[] newKeys = new char[keys.length - 1];
+            final IntContainer[] newContainers = new IntContainer[keys.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(containers, 0, newContainers, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+            System.arraycopy(containers, index + 1, newContainers, index, keys.length - index - 1);
+            return create(newKeys, newContainers, newKeys.length);
+        }
+
+        final IntContainer[] newContainers = containers.clone();
+        newContainers[index] = container;
+        return new IntSetImpl(keys, newContainers);
+    }
+
+    /**
+     * Build a set from the first {@code length} of the ascending {@code values}, which may contain duplicates.
+     */
+    private static IntSetImpl fromSorted(int[] values, int length) {
+        final char[] keys = new char[length];
+        final IntContainer[] containers = new IntContainer[length];
+        final char[] lows = new char[Math.min(length, IntContainer.MAX_VALUE + 1)];
+
+        int count = 0;
+        int start = 0;
+        while (start < length) {
+            final int key = key(values[start]);
+            int lowCount = 0;
+            int end = start;
+            for (; end < length && key(values[end]) == key; end++) {
+                if (end == start || values[end] != values[end - 1]) {
+                    lows[lowCount++] = (char) low(values[end]);
+                }
+            }
+
+            keys[count] = (char) key;
+            containers[count++] = IntContainer.fromSorted(Arrays.copyOf(lows, lowCount));
+            start = end;
+        }
+
+        return create(keys, containers, count);
+    }
+
+    private static IntSetImpl create(char[] keys, IntContainer[] containers, int count) {
+        if (count == 0) {
+            return EMPTY;
+        }
+
+        return count == keys.length
+                ? new IntSetImpl(keys, containers)
+                : new IntSetImpl(Arrays.copyOf(keys, count), Arrays.copyOf(containers, count));
+    }
+
+    private static IntSetImpl toIntSet(Iterable<Integer> iterable) {
+        Objects.requireNonNull(iterable, "iterable is null");
+        return iterable instanceof IntSetImpl ? (IntSetImpl) iterable : (IntSetImpl) of(iterable);
+    }
+
+    private static int next(IntContainer container, int low) {
+        return low < IntContainer.MAX_VALUE ? container.nextValue(low + 1) : -1;
+    }
+
+    private static int key(int value) {
+        return (value ^ Integer.MIN_VALUE) >>> 16;
+    }
+
+    private static int low(int value) {
+        return value & IntContainer.MAX_VALUE;
+    }
+
+    private static int value(char key, int low) {
+        return ((key << 16) | low) ^ Integer.MIN_VALUE;
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.jongsoft.lang.collection.impl;
+
+import java.util.Objects;
+
+import com.jongsoft.lang.collection.ListMultimap;
+import com.jongsoft.lang.collection.Sequence;
+
+/**
+ * The {@link ListMultimap} implementation, storing the values of a key as a persistent linked list with the last
+ * added value first. Adding a value therefore never copies the earlier values of the key.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public class ListMultimapImpl<K, V>
+        extends AbstractMultimap<K, V, ListMultimapImpl.Chain, ListMultimap<K, V>>
+        implements ListMultimap<K, V> {
+
+    @SuppressWarnings("rawtypes")
+    private static final ListMultimapImpl EMPTY = new ListMultimapImpl<>(HashTrie.empty(), 0);
+
+    private ListMultimapImpl(HashTrie<K, Chain> groups, int size) {
+        super(groups, size);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> ListMultimap<K, V> empty() {
+        return EMPTY;
+    }
+
+    @Override
+    public Sequence<V> get(final K key) {
+        final Chain group = group(key);
+        return new Array<>(group == null ? new Object[0] : group.toArray());
+    }
+
+    @Override
+    public java.util.Map<K, java.util.List<V>> toJava() {
+        final java.util.Map<K, java.util.List<V>> result = new java.util.HashMap<>();
+        forEachGroup((key, values) -> result.put(key, asList(values)));
+        return result;
+    }
+
+    @Override
+    Chain addValue(Chain group, V value) {
+        return new Chain(value, group);
+    }
+
+    @Override
+    Chain removeValue(Chain group, V value) {
+        final Object[] values = group.toArray();
+        for (int i = 0; i < values.length; i++) {
+            if (Objects.equals(values[i], value)) {
+                Chain updated = null;
+                for (int j = 0; j < values.length; j++) {
+                    if (j != i) {
+                        updated = new Chain(values[j], updated);
+                    }
+                }
+                return updated;
+            }
+        }
+
+        return group;
+    }
+
+    @Override
+    boolean containsValue(Chain group, V value) {
+        for (Chain link = group; link != null; link = link.previous) {
+            if (Objects.equals(link.value, value)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    int groupSize(Chain group) {
+        return group.size;
+    }
+
+    @Override
+    Object[] values(Chain group) {
+        return group.toArray();
+    }
+
+    @Override
+    ListMultimap<K, V> create(HashTrie<K, Chain> groups, int size) {
+        return size == 0 ? empty() : new ListMultimapImpl<>(groups, size);
+    }
+
+    @Override
+    ListMultimap<K, V> self() {
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> java.util.List<V> asList(Object[] values) {
+        return (java.util.List<V>) java.util.Arrays.asList(values);
+    }
+
+    /**
+     * A link of the values of one key, pointing to the link of the value added before it.
+     */
+    static final class Chain {
+        private final Object value;
+        private final Chain previous;
+        private final int size;
+
+        private Chain(Object value, Chain previous) {
+            this.value = value;
+            this.previous = previous;
+            this.size = previous == null ? 1 : previous.size + 1;
+        }
+
+        private Object[] toArray() {
+            final Object[] values = new Object[size];
+            int index = size;
+            for (Chain link = this; link != null; link = link.previous) {
+                values[--index] = link.value;
+            }
+
+            return values;
+        }
+    }
+
+}
@@ -0,0 +1,134 @@
+package com.jongsoft.lang.collection.impl;
+
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.jongsoft.lang.collection.Iterator;
+import com.jongsoft.lang.collection.LongMap;
+import com.jongsoft.lang.collection.Map;
+import com.jongsoft.lang.collection.tuple.Pair;
+
+/**
+ * The {@link LongMap} implementation, storing the keys in a {@link PatriciaTrie}.
+ *
+ * @param <T> the type of the values
+ */
+public class LongMapImpl<T> extends AbstractMap<Long, T> implements LongMap<T> {
+
+    private static final LongFunction<Long> KEYS = Long::valueOf;
+
+    @SuppressWarnings("rawtypes")
+    private static final LongMapImpl EMPTY = new LongMapImpl<>(PatriciaTrie.empty());
+
+    private final PatriciaTrie<T> trie;
+
+    private LongMapImpl(PatriciaTrie<T> trie) {
+        this.trie = trie;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> LongMap<T> empty() {
+        return EMPTY;
+    }
+
+    @Override
+    public T getLong(final long key) {
+        return trie.get(key);
+    }
+
+    @Override
+    public T get(final Long key) {
+        return key == null ? null : trie.get(key);
+    }
+
+    @Override
+    public boolean containsLongKey(final long key) {
+        return trie.containsKey(key);
+    }
+
+    @Override
+    public boolean containsKey(final Long key) {
+        return key != null && trie.containsKey(key);
+    }
+
+    @Override
+    public LongMap<T> putLong(final long key, final T value) {
+        return create(trie.put(key, value));
+    }
+
+    @Override
+    public LongMap<T> put(final Long key, final T value) {
+        Objects.requireNonNull(key, "A null value is not allowed for the key in a map");
+        return putLong(key, value);
+    }
+
+    @Override
+    public LongMap<T> removeLong(final long key) {
+        return create(trie.remove(key));
+    }
+
+    @Override
+    public LongMap<T> remove(final Long key) {
+        return key == null ? this : removeLong(key);
+    }
+
+    @Override
+    public LongMap<T> union(final LongMap<T> other) {
+        Objects.requireNonNull(other, "other is null");
+        return create(trie.union(trieOf(other)));
+    }
+
+    @Override
+    public LongMap<T> merge(final LongMap<T> other, final BinaryOperator<T> combiner) {
+        Objects.requireNonNull(other, "other is null");
+        Objects.requireNonNull(combiner, "combiner is null");
+        return create(trie.merge(trieOf(other), combiner));
+    }
+
+    @Override
+    public long[] keys() {
+        return trie.keys();
+    }
+
+    @Override
+    public LongMap<T> tail() {
+        return (LongMap<T>) super.tail();
+    }
+
+    @Override
+    public LongMap<T> filter(final Predicate<Pair<Long, T>> predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        return create(trie.filter(KEYS, predicate));
+    }
+
+    @Override
+    public int size() {
+        return trie.size();
+    }
+
+    @Override
+    public Iterator<Pair<Long, T>> iterator() {
+        return trie.iterator(KEYS);
+    }
+
+    @Override
+    protected Supplier<Map<Long, T>> emptySupplier() {
+        return LongMapImpl::empty;
+    }
+
+    private LongMap<T> create(PatriciaTrie<T> updated) {
+        if (updated == trie) {
+            return this;
+        }
+
+        return updated.isEmpty() ? empty() : new LongMapImpl<>(updated);
+    }
+
+    private static <T> PatriciaTrie<T> trieOf(LongMap<T> map) {
+        return map instanceof LongMapImpl ? ((LongMapImpl<T>) map).trie : ((LongMapImpl<T>) LongMap.of(map)).trie;
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.jongsoft.lang.collection.impl;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.jongsoft.lang.collection.Iterator;
+import com.jongsoft.lang.collection.Sequence;
+import com.jongsoft.lang.collection.Tree;
+import com.jongsoft.lang.collection.support.AbstractIterator;
+import com.jongsoft.lang.collection.tuple.Pair;
+
+/**
+ * A read only view on the first {@code size} children stored in an array, shared by the tree implementations.
+ *
+ * @param <T> the entity type contained in the tree
+ */
+class NodeCollectionImpl<T> implements Tree.NodeCollection<T> {
+
+    private final Object[] delegate;
+    private final int size;
+
+    NodeCollectionImpl(final Object[] delegate, final int size) {
+        this.delegate = delegate;
+        this.size = size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Tree<T> get(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException(i + " is not in the bounds of 0 and " + size);
+        }
+
+        return (Tree<T>) delegate[i];
+    }
+
+    @Override
+    public Tree<T> head() {
+        if (size == 0) {
+            throw new NoSuchElementException("Cannot call head on empty collection");
+        }
+
+        return get(0);
+    }
+
+    @Override
+    public Sequence<Tree<T>> tail() {
+        return toSequence().tail();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Sequence<Tree<T>> filter(final Predicate<Tree<T>> predicate) {
+        return toSequence().filter(predicate);
+    }
+
+    @Override
+    public Sequence<Tree<T>> reject(final Predicate<Tree<T>> predicate) {
+        return toSequence().reject(predicate);
+    }
+
+    @Override
+    public <U> Sequence<U> map(final Function<Tree<T>, U> mapper) {
+        return toSequence().map(mapper);
+    }
+
+    @Override
+    public Pair<? extends Sequence<Tree<T>>, ? extends Sequence<Tree<T>>> split(
+            final Predicate<Tree<T>> predicate) {
+        return toSequence().split(predicate);
+    }
+
+    @Override
+    public Sequence<Tree<T>> orElse(final Iterable<? extends Tree<T>> other) {
+        return isEmpty() ? com.jongsoft.lang.Collections.List(other) : toSequence();
+    }
+
+    @Override
+    public Sequence<Tree<T>> orElse(final Supplier<? extends Iterable<? extends Tree<T>>> supplier) {
+        return isEmpty() ? com.jongsoft.lang.Collections.List(supplier.get()) : toSequence();
+    }
+
+    @Override
+    public Iterator<Tree<T>> iterator() {
+        return new AbstractIterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public void reset() {
+                index = 0;
+            }
+
+            @Override
+            protected Tree<T> getNext() {
+                return NodeCollectionImpl.this.get(index++);
+            }
+        };
+    }
+
+    private Sequence<Tree<T>> toSequence() {
+        return new Array<>(Arrays.copyOf(delegate, size));
+    }
+
+}
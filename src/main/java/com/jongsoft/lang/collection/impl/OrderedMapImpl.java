@@ -0,0 +1,188 @@
+package com.jongsoft.lang.collection.impl;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.jongsoft.lang.API;
+import com.jongsoft.lang.collection.Iterator;
+import com.jongsoft.lang.collection.Map;
+import com.jongsoft.lang.collection.OrderedMap;
+import com.jongsoft.lang.collection.support.AbstractIterator;
+import com.jongsoft.lang.collection.tuple.Pair;
+
+/**
+ * The {@link OrderedMap} implementation. A {@link HashTrie} maps every key to its value and its position in a
+ * {@link PersistentVector} holding the keys in order. Removing a key leaves an empty position behind, the vector is
+ * rebuilt once more than half of its positions are empty.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public class OrderedMapImpl<K, V> extends AbstractMap<K, V> implements OrderedMap<K, V> {
+
+    @SuppressWarnings("rawtypes")
+    private static final OrderedMapImpl EMPTY = new OrderedMapImpl<>(HashTrie.empty(), PersistentVector.EMPTY, 0);
+
+    private final HashTrie<K, Slot<V>> index;
+    private final PersistentVector order;
+    private final int start;
+
+    private OrderedMapImpl(HashTrie<K, Slot<V>> index, PersistentVector order, int start) {
+        this.index = index;
+        this.order = order;
+        this.start = start;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> OrderedMap<K, V> empty() {
+        return EMPTY;
+    }
+
+    @Override
+    public OrderedMap<K, V> put(final K key, final V value) {
+        Objects.requireNonNull(key, "A null value is not allowed for the key in a map");
+
+        final Slot<V> existing = index.get(key);
+        if (existing != null && existing.position == order.size() - 1 && existing.value == value) {
+            return this;
+        }
+
+        final PersistentVector cleared = existing == null ? order : order.set(existing.position, null);
+        final Slot<V> slot = new Slot<>(cleared.size(), value);
+        return create(index.put(key, slot), cleared.append(key), existing == null ? start : nextPresent(cleared, start));
+    }
+
+    @Override
+    public OrderedMap<K, V> remove(final K key) {
+        final Slot<V> existing = index.get(key);
+        if (existing == null) {
+            return this;
+        }
+
+        final PersistentVector cleared = order.set(existing.position, null);
+        return create(index.remove(key), cleared, nextPresent(cleared, start));
+    }
+
+    @Override
+    public V get(final K key) {
+        final Slot<V> slot = index.get(key);
+        return slot == null ? null : slot.value;
+    }
+
+    @Override
+    public boolean containsKey(final K key) {
+        return index.containsKey(key);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Pair<K, V> head() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Cannot call head on empty collection");
+        }
+
+        final K key = (K) order.get(start);
+        return API.Tuple(key, index.get(key).value);
+    }
+
+    @Override
+    public OrderedMap<K, V> tail() {
+        return (OrderedMap<K, V>) super.tail();
+    }
+
+    @Override
+    public OrderedMap<K, V> filter(final Predicate<Pair<K, V>> predicate) {
+        return (OrderedMap<K, V>) super.filter(predicate);
+    }
+
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    @Override
+    public Iterator<Pair<K, V>> iterator() {
+        return new AbstractIterator<>() {
+            private int position;
+
+            {
+                reset();
+            }
+
+            @Override
+            public boolean hasNext() {
+                return position < order.size();
+            }
+
+            @Override
+            public void reset() {
+                position = start;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            protected Pair<K, V> getNext() {
+                final K key = (K) order.get(position);
+                position = nextPresent(order, position + 1);
+                return API.Tuple(key, index.get(key).value);
+            }
+        };
+    }
+
+    @Override
+    protected Supplier<Map<K, V>> emptySupplier() {
+        return OrderedMapImpl::empty;
+    }
+
+    private OrderedMap<K, V> create(HashTrie<K, Slot<V>> index, PersistentVector order, int start) {
+        if (index.isEmpty()) {
+            return empty();
+        } else if (order.size() > 2 * index.size() + 32) {
+            return compact(index, order, start);
+        }
+
+        return new OrderedMapImpl<>(index, order, start);
+    }
+
+    /**
+     * Rebuild the vector with only the keys that are still present, renumbering their positions.
+     */
+    @SuppressWarnings("unchecked")
+    private static <K, V> OrderedMap<K, V> compact(HashTrie<K, Slot<V>> index, PersistentVector order, int start) {
+        HashTrie<K, Slot<V>> renumbered = index;
+        PersistentVector compacted = PersistentVector.EMPTY;
+        for (int position = start; position < order.size(); position = nextPresent(order, position + 1)) {
+            final K key = (K) order.get(position);
+            renumbered = renumbered.put(key, new Slot<>(compacted.size(), index.get(key).value));
+            compacted = compacted.append(key);
+        }
+
+        return new OrderedMapImpl<>(renumbered, compacted, 0);
+    }
+
+    /**
+     * The first position from {@code position} that is not empty, used to keep the head of the map at hand after a
+     * key was removed.
+     */
+    private static int nextPresent(PersistentVector order, int position) {
+        int next = position;
+        while (next < order.size() && order.get(next) == null) {
+            next++;
+        }
+
+        return next;
+    }
+
+    private static final class Slot<V> {
+        private final int position;
+        private final V value;
+
+        private Slot(int position, V value) {
+            this.position = position;
+            this.value = value;
+        }
+    }
+
+}
@@ -0,0 +1,366 @@
+package com.jongsoft.lang.collection.impl;
+
+import java.util.function.BinaryOperator;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+
+import com.jongsoft.lang.API;
+import com.jongsoft.lang.collection.Iterator;
+import com.jongsoft.lang.collection.support.AbstractIterator;
+import com.jongsoft.lang.collection.tuple.Pair;
+
+/**
+ * A persistent big-endian Patricia trie with primitive long keys, the internal storage of the integer keyed maps.
+ * Every branch tests a single bit of the key, the highest bit in which the keys below it differ, and keys sharing a
+ * prefix share the branches above them. A lookup therefore compares primitive keys without hashing and visits at most
+ * one branch per bit, and two tries are merged by walking only the branches where they overlap.
+ *
+ * <p>
+ *     The sign bit of every key is flipped before it is stored, which makes the trie iterate the keys in ascending
+ *     signed order. The values may be null, use {@link #containsKey(long)} to distinguish a null value from an absent
+ *     key.
+ * </p>
+ *
+ * @param <V> the type of the values
+ */
+final class PatriciaTrie<V> {
+
+    private static final BinaryOperator<Object> REPLACE = (existing, added) -> added;
+    private static final BinaryOperator<Object> KEEP = (existing, added) -> existing;
+
+    @SuppressWarnings("rawtypes")
+    private static final PatriciaTrie EMPTY = new PatriciaTrie(null);
+
+    private final Node root;
+
+    private PatriciaTrie(Node root) {
+        this.root = root;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <V> PatriciaTrie<V> empty() {
+        return EMPTY;
+    }
+
+    int size() {
+        return root == null ? 0 : root.size;
+    }
+
+    boolean isEmpty() {
+        return root == null;
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        final Leaf leaf = find(key ^ Long.MIN_VALUE);
+        return leaf == null ? null : (V) leaf.value;
+    }
+
+    boolean containsKey(long key) {
+        return find(key ^ Long.MIN_VALUE) != null;
+    }
+
+    PatriciaTrie<V> put(long key, V value) {
+        return create(insert(root, new Leaf(key ^ Long.MIN_VALUE, value), REPLACE, false));
+    }
+
+    PatriciaTrie<V> remove(long key) {
+        return create(delete(root, key ^ Long.MIN_VALUE));
+    }
+
+    /**
+     * Combine the entries of both tries, calling the {@code combiner} with the value of this trie and the value of the
+     * {@code other} trie for keys present in both.
+     */
+    @SuppressWarnings("unchecked")
+    PatriciaTrie<V> merge(PatriciaTrie<V> other, BinaryOperator<V> combiner) {
+        return create(merge(root, other.root, (BinaryOperator<Object>) combiner));
+    }
+
+    /**
+     * Combine the entries of both tries, keeping the value of this trie for keys present in both.
+     */
+    PatriciaTrie<V> union(PatriciaTrie<V> other) {
+        return create(merge(root, other.root, KEEP));
+    }
+
+    <K> PatriciaTrie<V> filter(LongFunction<K> keys, Predicate<Pair<K, V>> predicate) {
+        return create(filter(root, keys, predicate));
+    }
+
+    long[] keys() {
+        final long[] keys = new long[size()];
+        final Iterator<Leaf> leaves = leaves();
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = leaves.next().bits ^ Long.MIN_VALUE;
+        }
+
+        return keys;
+    }
+
+    @SuppressWarnings("unchecked")
+    <K> Iterator<Pair<K, V>> iterator(LongFunction<K> keys) {
+        final Iterator<Leaf> leaves = leaves();
+        return new AbstractIterator<>() {
+            @Override
+            public boolean hasNext() {
+                return leaves.hasNext();
+            }
+
+            @Override
+            public void reset() {
+                leaves.reset();
+            }
+
+            @Override
+            protected Pair<K, V> getNext() {
+                final Leaf leaf = leaves.next();
+                return API.Tuple(keys.apply(leaf.bits ^ Long.MIN_VALUE), (V) leaf.value);
+            }
+        };
+    }
+
+    private PatriciaTrie<V> create(Node updated) {
+        if (updated == root) {
+            return this;
+        }
+
+        return updated == null ? empty() : new PatriciaTrie<>(updated);
+    }
+
+    private Leaf find(long bits) {
+        Node node = root;
+        while (node instanceof Branch) {
+            final Branch branch = (Branch) node;
+            if (!matches(bits, branch.prefix, branch.mask)) {
+                return null;
+            }
+
+            node = (bits & branch.mask) == 0 ? branch.left : branch.right;
+        }
+
+        return node != null && ((Leaf) node).bits == bits ? (Leaf) node : null;
+    }
+
+    /**
+     * Iterate the leaves from the smallest to the largest key, keeping the right branches still to visit on a stack.
+     * Every branch tests a lower bit than its parent, so the stack never holds more than 64 branches.
+     */
+    private Iterator<Leaf> leaves() {
+        return new AbstractIterator<>() {
+            private final Node[] pending = new Node[Long.SIZE + 1];
+            private int depth;
+
+            {
+                reset();
+            }
+
+            @Override
+            public boolean hasNext() {
+                return depth > 0;
+            }
+
+            @Override
+            public void reset() {
+                depth = 0;
+                if (root != null) {
+                    pending[depth++] = root;
+                }
+            }
+
+            @Override
+            protected Leaf getNext() {
+                Node node = pending[--depth];
+                while (node instanceof Branch) {
+                    pending[depth++] = ((Branch) node).right;
+                    node = ((Branch) node).left;
+                }
+
+                return (Leaf) node;
+            }
+        };
+    }
+
+    /**
+     * Insert the {@code leaf} in the trie, resolving a key present in both with the {@code combiner}. The combiner gets
+     * the value of the leaf as first argument if {@code leafFirst} is set, and as second argument otherwise.
+     */
+    private static Node insert(Node node, Leaf leaf, BinaryOperator<Object> combiner, boolean leafFirst) {
+        if (node == null) {
+            return leaf;
+        }
+
+        if (node instanceof Leaf) {
+            final Leaf existing = (Leaf) node;
+            if (existing.bits != leaf.bits) {
+                return link(leaf.bits, leaf, existing.bits, existing);
+            }
+
+            final Object value = leafFirst
+                    ? combiner.apply(leaf.value, existing.value)
+                    : combiner.apply(existing.value, leaf.value);
+            if (value == existing.value) {
+                return existing;
+            }
+
+            return value == leaf.value ? leaf : new Leaf(leaf.bits, value);
+        }
+
+        final Branch branch = (Branch) node;
+        if (!matches(leaf.bits, branch.prefix, branch.mask)) {
+            return link(leaf.bits, leaf, branch.prefix, branch);
+        } else if ((leaf.bits & branch.mask) == 0) {
+            return branch.with(insert(branch.left, leaf, combiner, leafFirst), branch.right);
+        }
+
+        return branch.with(branch.left, insert(branch.right, leaf, combiner, leafFirst));
+    }
+
+    private static Node delete(Node node, long bits) {
+        if (node == null) {
+            return null;
+        }
+
+        if (node instanceof Leaf) {
+            return ((Leaf) node).bits == bits ? null : node;
+        }
+
+        final Branch branch = (Branch) node;
+        if (!matches(bits, branch.prefix, branch.mask)) {
+            return node;
+        } else if ((bits & branch.mask) == 0) {
+            return branch.with(delete(branch.left, bits), branch.right);
+        }
+
+        return branch.with(branch.left, delete(branch.right, bits));
+    }
+
+    /**
+     * Merge two tries. Branches testing the same bit with the same prefix are merged pairwise, a branch testing a lower
+     * bit is merged into the matching side of the other, and branches with different prefixes are linked as they are.
+     */
+    private static Node merge(Node left, Node right, BinaryOperator<Object> combiner) {
+        if (left == right && combiner == KEEP) {
+            return left;
+        } else if (left == null) {
+            return right;
+        } else if (right == null) {
+            return left;
+        } else if (left instanceof Leaf) {
+            return insert(right, (Leaf) left, combiner, true);
+        } else if (right instanceof Leaf) {
+            return insert(left, (Leaf) right, combiner, false);
+        }
+
+        final Branch first = (Branch) left;
+        final Branch second = (Branch) right;
+        if (first.mask == second.mask && first.prefix == second.prefix) {
+            return first.with(
+                    merge(first.left, second.left, combiner),
+                    merge(first.right, second.right, combiner));
+        }
+
+        if (Long.compareUnsigned(first.mask, second.mask) > 0 && matches(second.prefix, first.prefix, first.mask)) {
+            return (second.prefix & first.mask) == 0
+                    ? first.with(merge(first.left, second, combiner), first.right)
+                    : first.with(first.left, merge(first.right, second, combiner));
+        }
+
+        if (Long.compareUnsigned(second.mask, first.mask) > 0 && matches(first.prefix, second.prefix, second.mask)) {
+            return (first.prefix & second.mask) == 0
+                    ? second.with(merge(first, second.left, combiner), second.right)
+                    : second.with(second.left, merge(first, second.right, combiner));
+        }
+
+        return link(first.prefix, first, second.prefix, second);
+    }
+
+    private static <K, V> Node filter(Node node, LongFunction<K> keys, Predicate<Pair<K, V>> predicate) {
+        if (node == null) {
+            return null;
+        }
+
+        if (node instanceof Leaf) {
+            final Leaf leaf = (Leaf) node;
+            @SuppressWarnings("unchecked")
+            final Pair<K, V> entry = API.Tuple(keys.apply(leaf.bits ^ Long.MIN_VALUE), (V) leaf.value);
+            return predicate.test(entry) ? leaf : null;
+        }
+
+        final Branch branch = (Branch) node;
+        return branch.with(filter(branch.left, keys, predicate), filter(branch.right, keys, predicate));
+    }
+
+    /**
+     * Join two subtries with different prefixes under a new branch, testing the highest bit in which they differ.
+     */
+    private static Node link(long bits, Node node, long otherBits, Node other) {
+        final long mask = Long.highestOneBit(bits ^ otherBits);
+        final long prefix = prefix(bits, mask);
+        return (bits & mask) == 0
+                ? new Branch(prefix, mask, node, other)
+                : new Branch(prefix, mask, other, node);
+    }
+
+    private static boolean matches(long bits, long prefix, long mask) {
+        return prefix(bits, mask) == prefix;
+    }
+
+    /**
+     * The bits of the key above the {@code mask}, which all keys below a branch have in common.
+     */
+    private static long prefix(long bits, long mask) {
+        return bits & ~((mask << 1) - 1);
+    }
+
+    private abstract static class Node {
+        final int size;
+
+        Node(int size) {
+            this.size = size;
+        }
+    }
+
+    private static final class Leaf extends Node {
+        private final long bits;
+        private final Object value;
+
+        private Leaf(long bits, Object value) {
+            super(1);
+            this.bits = bits;
+            this.value = value;
+        }
+    }
+
+    private static final class Branch extends Node {
+        private final long prefix;
+        private final long mask;
+        private final Node left;
+        private final Node right;
+
+        private Branch(long prefix, long mask, Node left, Node right) {
+            super(left.size + right.size);
+            this.prefix = prefix;
+            this.mask = mask;
+            this.left = left;
+            this.right = right;
+        }
+
+        /**
+         * This branch with updated children, the branch itself if they did not change or the remaining child if the
+         * other one became empty.
+         */
+        private Node with(Node updatedLeft, Node updatedRight) {
+            if (updatedLeft == left && updatedRight == right) {
+                return this;
+            } else if (updatedLeft == null) {
+                return updatedRight;
+            } else if (updatedRight == null) {
+                return updatedLeft;
+            }
+
+            return new Branch(prefix, mask, updatedLeft, updatedRight);
+        }
+    }
+
+}
@@ -0,0 +1,238 @@
+package com.jongsoft.lang.collection.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.jongsoft.lang.Control;
+import com.jongsoft.lang.collection.Tree;
+import com.jongsoft.lang.control.Optional;
+
+/**
+ * An immutable {@link Tree} without references to the parent nodes, which allows every version of a tree to share all
+ * unchanged subtrees with the previous version. All modifying operations return a new tree and leave this tree as is.
+ * Use the {@link #zipper()} to navigate up the tree and to make local changes, which only copy the nodes on the path
+ * to the root.
+ *
+ * @param <T> the entity type contained in the tree
+ */
+public class PersistentTree<T> extends AbstractTree<T> {
+
+    @SuppressWarnings("rawtypes")
+    private static final PersistentTree[] NO_CHILDREN = new PersistentTree[0];
+
+    private final String label;
+    private final T value;
+    private final PersistentTree<T>[] children;
+    private final int size;
+    private NodeCollection<T> view;
+    // the position of the first child with each label, published through a volatile as the tree may be shared
+    private volatile Map<String, Integer> labelIndex;
+
+    @SuppressWarnings("unchecked")
+    public PersistentTree(String label, T value) {
+        this(label, value, NO_CHILDREN);
+    }
+
+    PersistentTree(String label, T value, PersistentTree<T>[] children) {
+        this.label = label;
+        this.value = value;
+        this.children = children;
+
+        int count = 1;
+        for (PersistentTree<T> child : children) {
+            count += child.size;
+        }
+        this.size = count;
+    }
+
+    /**
+     * Create a persistent tree with the provided {@code children}, where children that are not persistent are copied.
+     *
+     * @param label    the label of the root
+     * @param value    the value of the root
+     * @param children the children of the root
+     * @param <T>      the entity type contained in the tree
+     * @return         the persistent tree
+     */
+    public static <T> PersistentTree<T> of(String label, T value, Iterable<? extends Tree<T>> children) {
+        Objects.requireNonNull(children, "children is null");
+        final List<Tree<T>> copies = new ArrayList<>();
+        for (Tree<T> child : children) {
+            copies.add(copyOf(child));
+        }
+
+        return new PersistentTree<>(label, value, toArray(copies));
+    }
+
+    /**
+     * Create a persistent copy of the {@code tree}, a persistent tree is returned as is.
+     *
+     * @param tree the tree to copy
+     * @param <T>  the entity type contained in the tree
+     * @return     the persistent tree
+     */
+    public static <T> PersistentTree<T> copyOf(Tree<T> tree) {
+        Objects.requireNonNull(tree, "tree is null");
+        if (tree instanceof PersistentTree) {
+            return (PersistentTree<T>) tree;
+        }
+
+        return TreeTasks.foldUp(tree, (node, children) -> node instanceof PersistentTree
+                ? (PersistentTree<T>) node
+                : new PersistentTree<>(node.label(), node.get(), toArray(children)));
+    }
+
+    @Override
+    public Tree<T> parent() {
+        return null;
+    }
+
+    @Override
+    public NodeCollection<T> children() {
+        if (view == null) {
+            view = new NodeCollectionImpl<>(children, children.length);
+        }
+
+        return view;
+    }
+
+    @Override
+    public String label() {
+        return label;
+    }
+
+    @Override
+    public Optional<Tree<T>> getChild(final String label) {
+        final int index = indexOf(label);
+        return index < 0 ? Control.Option() : Control.Option(children[index]);
+    }
+
+    @Override
+    public T get() {
+        return value;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Create a new tree with an extra child appended to the children of this tree.
+     *
+     * @param label the label of the child
+     * @param child the value of the child
+     * @return      the new tree
+     */
+    @Override
+    public Tree<T> appendChild(final String label, final T child) {
+        return withChild(children.length, new PersistentTree<>(label, child));
+    }
+
+    @Override
+    public <U> Tree<U> map(Function<T, U> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return TreeTasks.foldUp(this, mapping(mapper));
+    }
+
+    @Override
+    public <U> Tree<U> parallelMap(Function<T, U> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return TreeTasks.parallelFoldUp(this, mapping(mapper));
+    }
+
+    @Override
+    public Tree<T> filter(Predicate<T> predicate) {
+        return TreeTasks.filter(this, predicate, PersistentTree::copyOf);
+    }
+
+    @Override
+    public Tree<T> prune(Predicate<T> predicate) {
+        return TreeTasks.prune(this, predicate, PersistentTree::copyOf);
+    }
+
+    /**
+     * The position of the first child with the {@code label}, or -1 if no child has it. From the same number of
+     * children as a {@link TreeSet} the positions are kept in an index, built on the first lookup and never changed
+     * afterwards as the children of this tree are fixed.
+     */
+    int indexOf(String label) {
+        if (children.length < TreeSet.INDEX_THRESHOLD) {
+            for (int i = 0; i < children.length; i++) {
+                if (Objects.equals(children[i].label, label)) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+
+        Map<String, Integer> index = labelIndex;
+        if (index == null) {
+            index = new HashMap<>(children.length * 2);
+            for (int i = 0; i < children.length; i++) {
+                index.putIfAbsent(children[i].label, i);
+            }
+            labelIndex = index;
+        }
+
+        return index.getOrDefault(label, -1);
+    }
+
+    PersistentTree<T> child(int index) {
+        return children[index];
+    }
+
+    int childCount() {
+        return children.length;
+    }
+
+    PersistentTree<T> withValue(T value) {
+        return new PersistentTree<>(label, value, children);
+    }
+
+    /**
+     * Create a copy with the child at {@code index} replaced, or appended when the index equals the number of
+     * children.
+     */
+    PersistentTree<T> withChild(int index, PersistentTree<T> child) {
+        final PersistentTree<T>[] copy = Arrays.copyOf(children, Math.max(children.length, index + 1));
+        copy[index] = child;
+        return new PersistentTree<>(label, value, copy);
+    }
+
+    PersistentTree<T> withoutChild(int index) {
+        final PersistentTree<T>[] copy = Arrays.copyOf(children, children.length - 1);
+        System.arraycopy(children, index + 1, copy, index, children.length - index - 1);
+        return new PersistentTree<>(label, value, copy);
+    }
+
+    private static <T, U> BiFunction<Tree<T>, List<Tree<U>>, Tree<U>> mapping(Function<T, U> mapper) {
+        return (node, children) -> new PersistentTree<>(node.label(), mapper.apply(node.get()), toArray(children));
+    }
+
+    private static <T> Tree<T> copyOf(Tree<T> node, List<Tree<T>> children) {
+        return new PersistentTree<>(node.label(), node.get(), toArray(children));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> PersistentTree<T>[] toArray(List<? extends Tree<T>> children) {
+        if (children.isEmpty()) {
+            return NO_CHILDREN;
+        }
+
+        final PersistentTree<T>[] array = new PersistentTree[children.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = copyOf(children.get(i));
+        }
+        return array;
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.jongsoft.lang.collection.impl;
+
+/**
+ * A persistent array that can only grow at the end, stored as a tree of 32 wide arrays. Reading, replacing and
+ * appending an element visit one array per level of the tree, and an update copies only the arrays on that path.
+ */
+final class PersistentVector {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    static final PersistentVector EMPTY = new PersistentVector(new Object[WIDTH], 0, 0);
+
+    private final Object[] root;
+    private final int shift;
+    private final int size;
+
+    private PersistentVector(Object[] root, int shift, int size) {
+        this.root = root;
+        this.shift = shift;
+        this.size = size;
+    }
+
+    int size() {
+        return size;
+    }
+
+    Object get(int index) {
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+
+        return node[index & MASK];
+    }
+
+    PersistentVector set(int index, Object value) {
+        return new PersistentVector(set(root, shift, index, value), shift, size);
+    }
+
+    PersistentVector append(Object value) {
+        if (size == 1 << (shift + BITS)) {
+            final Object[] grown = new Object[WIDTH];
+            grown[0] = root;
+            return new PersistentVector(set(grown, shift + BITS, size, value), shift + BITS, size + 1);
+        }
+
+        return new PersistentVector(set(root, shift, size, value), shift, size + 1);
+    }
+
+    private static Object[] set(Object[] node, int level, int index, Object value) {
+        final Object[] copy = node == null ? new Object[WIDTH] : node.clone();
+        if (level == 0) {
+            copy[index & MASK] = value;
+        } else {
+            final int child = (index >>> level) & MASK;
+            copy[child] = set((Object[]) copy[child], level - BITS, index, value);
+        }
+
+        return copy;
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.jongsoft.lang.collection.impl;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import com.jongsoft.lang.collection.Iterator;
+import com.jongsoft.lang.collection.Set;
+import com.jongsoft.lang.collection.SetMultimap;
+import com.jongsoft.lang.collection.tuple.Pair;
+
+/**
+ * The {@link SetMultimap} implementation, storing the values of a key as the keys of a nested {@link HashTrie}.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public class SetMultimapImpl<K, V>
+        extends AbstractMultimap<K, V, HashTrie<Object, Boolean>, SetMultimap<K, V>>
+        implements SetMultimap<K, V> {
+
+    @SuppressWarnings("rawtypes")
+    private static final SetMultimapImpl EMPTY = new SetMultimapImpl<>(HashTrie.empty(), 0);
+
+    private SetMultimapImpl(HashTrie<K, HashTrie<Object, Boolean>> groups, int size) {
+        super(groups, size);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> SetMultimap<K, V> empty() {
+        return EMPTY;
+    }
+
+    @Override
+    public Set<V> get(final K key) {
+        final HashTrie<Object, Boolean> group = group(key);
+        return new HashSet<>(group == null ? new Object[0] : values(group));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public java.util.Map<K, java.util.Set<V>> toJava() {
+        final java.util.Map<K, java.util.Set<V>> result = new java.util.HashMap<>();
+        forEachGroup((key, values) -> result.put(
+                key,
+                new java.util.HashSet<>((java.util.List<V>) Arrays.asList(values))));
+        return result;
+    }
+
+    @Override
+    HashTrie<Object, Boolean> addValue(HashTrie<Object, Boolean> group, V value) {
+        Objects.requireNonNull(value, "A set cannot contain a null value");
+
+        final HashTrie<Object, Boolean> values = group == null ? HashTrie.empty() : group;
+        final HashTrie<Object, Boolean> updated = values.put(value, Boolean.TRUE);
+        return updated == values ? group : updated;
+    }
+
+    @Override
+    HashTrie<Object, Boolean> removeValue(HashTrie<Object, Boolean> group, V value) {
+        final HashTrie<Object, Boolean> updated = group.remove(value);
+        return updated.isEmpty() ? null : updated;
+    }
+
+    @Override
+    boolean containsValue(HashTrie<Object, Boolean> group, V value) {
+        return group.containsKey(value);
+    }
+
+    @Override
+    int groupSize(HashTrie<Object, Boolean> group) {
+        return group.size();
+    }
+
+    @Override
+    Object[] values(HashTrie<Object, Boolean> group) {
+        final Object[] values = new Object[group.size()];
+        final Iterator<Pair<Object, Boolean>> entries = group.iterator();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = entries.next().getFirst();
+        }
+
+        return values;
+    }
+
+    @Override
+    SetMultimap<K, V> create(HashTrie<K, HashTrie<Object, Boolean>> groups, int size) {
+        return size == 0 ? empty() : new SetMultimapImpl<>(groups, size);
+    }
+
+    @Override
+    SetMultimap<K, V> self() {
+        return this;
+    }
+
+}
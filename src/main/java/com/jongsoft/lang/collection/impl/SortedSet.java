@@ -26,9 +26,11 @@ package com.jongsoft.lang.collection.impl;
 import com.jongsoft.lang.Collections;
 import com.jongsoft.lang.collection.Set;
 
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 public class SortedSet<T> extends AbstractSet<T> implements Set<T> {
@@ -76,6 +78,69 @@ public class SortedSet<T> extends AbstractSet<T> implements Set<T> {
         return new SortedSet<>(newDelegate, comparator);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public Set<T> union(final Iterable<T> iterable) {
+        final T[] additions = (T[]) Collections.Iterator(iterable).toNativeArray();
+        final Object[] existing = elements();
+        if (!isAscending(existing, true) || !sortAscending(additions)) {
+            // the comparator does not order these elements, fall back to inserting them one by one
+            return com.jongsoft.lang.collection.support.Collections.filter(
+                    (Set<T>) this,
+                    Arrays.asList(additions),
+                    Predicate.not(this::contains));
+        }
+
+        final Object[] merged = new Object[existing.length + additions.length];
+        int position = 0;
+        int size = 0;
+        for (T addition : additions) {
+            while (position < existing.length && comparator.compare((T) existing[position], addition) < 0) {
+                merged[size++] = existing[position++];
+            }
+
+            final boolean present = position < existing.length
+                    && comparator.compare((T) existing[position], addition) == 0;
+            if (!present && (size == 0 || comparator.compare((T) merged[size - 1], addition) != 0)) {
+                merged[size++] = addition;
+            }
+        }
+
+        if (size == position) {
+            return this;
+        }
+
+        System.arraycopy(existing, position, merged, size, existing.length - position);
+        return new SortedSet<>(Arrays.copyOf(merged, size + existing.length - position), comparator);
+    }
+
+    @Override
+    Comparator<T> mergeOrder() {
+        return isAscending(elements(), true) ? comparator : null;
+    }
+
+    private boolean sortAscending(T[] elements) {
+        try {
+            Arrays.sort(elements, comparator);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+
+        return isAscending(elements, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean isAscending(Object[] elements, boolean strict) {
+        for (int i = 1; i < elements.length; i++) {
+            final int compareResult = comparator.compare((T) elements[i - 1], (T) elements[i]);
+            if (compareResult > 0 || (strict && compareResult == 0)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     @Override
     protected <X> Supplier<Set<X>> emptySupplier() {
         return Collections::SortedSet;
@@ -0,0 +1,84 @@
+package com.jongsoft.lang.collection.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.jongsoft.lang.collection.Tree;
+
+/**
+ * Builds a {@link TreeSet} from flat rows in two passes, first creating every node and then attaching each node to
+ * its parent. Both passes take constant time per row, and a final count of the nodes below the root rejects rows
+ * whose parent ids form a cycle.
+ *
+ * @param <K> the type of the node identifiers
+ * @param <T> the entity type contained in the tree
+ */
+public class TreeBuilder<K, T> implements Tree.Builder<K, T> {
+
+    private final List<Row<K, T>> rows = new ArrayList<>();
+
+    @Override
+    public Tree.Builder<K, T> add(K id, K parentId, String label, T value) {
+        Objects.requireNonNull(id, "id is null");
+        rows.add(new Row<>(id, parentId, label, value));
+        return this;
+    }
+
+    @Override
+    public Tree<T> build() {
+        final java.util.Map<K, TreeSet<T>> nodes = new java.util.HashMap<>(rows.size() * 4 / 3 + 1);
+        for (Row<K, T> row : rows) {
+            if (nodes.putIfAbsent(row.id, new TreeSet<>(row.label, row.value)) != null) {
+                throw new IllegalStateException("The node id " + row.id + " is used more than once");
+            }
+        }
+
+        TreeSet<T> root = null;
+        for (Row<K, T> row : rows) {
+            final TreeSet<T> node = nodes.get(row.id);
+            if (row.parentId == null) {
+                if (root != null) {
+                    throw new IllegalStateException("The tree has more than one root node");
+                }
+                root = node;
+            } else {
+                if (row.id.equals(row.parentId)) {
+                    throw new IllegalStateException("The node id " + row.id + " is its own parent");
+                }
+
+                final TreeSet<T> parent = nodes.get(row.parentId);
+                if (parent == null) {
+                    throw new IllegalStateException("The parent node id " + row.parentId + " is unknown");
+                }
+                parent.attach(node);
+            }
+        }
+
+        if (root == null) {
+            throw new IllegalStateException("The tree has no root node");
+        }
+
+        // every row has a known parent, so rows that cannot be reached from the root form a cycle
+        if (root.size() != rows.size()) {
+            throw new IllegalStateException("The parent node ids form a cycle that is not connected to the root node");
+        }
+
+        return root;
+    }
+
+    private static final class Row<K, T> {
+        private final K id;
+        private final K parentId;
+        private final String label;
+        private final T value;
+
+        private Row(K id, K parentId, String label, T value) {
+            this.id = id;
+            this.parentId = parentId;
+            this.label = label;
+            this.value = value;
+        }
+    }
+
+}
@@ -23,44 +23,57 @@
  */
 package com.jongsoft.lang.collection.impl;
 
-import com.jongsoft.lang.collection.Iterator;
-import com.jongsoft.lang.collection.Sequence;
-import com.jongsoft.lang.collection.Traversable;
+import com.jongsoft.lang.Control;
 import com.jongsoft.lang.collection.Tree;
-import com.jongsoft.lang.collection.support.Collections;
 import com.jongsoft.lang.control.Optional;
 
-import java.util.function.BiFunction;
+import java.util.Arrays;
+import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.function.Supplier;
 
-public class TreeSet<T> implements Tree<T> {
+public class TreeSet<T> extends AbstractTree<T> {
+
+    /**
+     * The number of children from which a lookup by label builds the label index, below it a scan is cheaper.
+     */
+    static final int INDEX_THRESHOLD = 8;
+    private static final Object[] NO_CHILDREN = new Object[0];
 
     private T value;
     private String label;
     private Tree<T> parent;
+
+    // children are appended to a growable buffer, the view returned by children() is created on demand
+    private Object[] childBuffer = NO_CHILDREN;
+    private int childCount;
     private NodeCollection<T> children;
+    private java.util.Map<String, Tree<T>> labelIndex;
+    // the number of nodes in this subtree, or -1 when unknown. A known size implies all sizes below it are known
+    private int subtreeSize = -1;
 
     public TreeSet(String label, T value) {
         this.value = value;
         this.label = label;
-        this.children = new NodeCollectionImpl<>(new Object[0]);
     }
 
     public TreeSet(String label, T value, Tree<T> parent) {
         this.value = value;
         this.label = label;
         this.parent = parent;
-        this.children = new NodeCollectionImpl<>(new Object[0]);
     }
 
     public TreeSet(String label, T value, Iterable<Tree<T>> children) {
         this.value = value;
         this.label = label;
-        this.children = new NodeCollectionImpl<>(com.jongsoft.lang.Collections.Set(children)
-                .iterator()
-                .toNativeArray());
+
+        // children are unique by their hash code, as they were when stored in a set
+        final java.util.Set<Integer> seen = new java.util.HashSet<>();
+        for (Tree<T> child : children) {
+            if (seen.add(child.hashCode())) {
+                attach(child);
+            }
+        }
     }
 
     @Override
@@ -70,6 +83,10 @@ public class TreeSet<T> implements Tree<T> {
 
     @Override
     public NodeCollection<T> children() {
+        if (children == null) {
+            children = new NodeCollectionImpl<>(childBuffer, childCount);
+        }
+
         return children;
     }
 
@@ -80,104 +97,134 @@ public class TreeSet<T> implements Tree<T> {
 
     @Override
     public Tree<T> appendChild(final String label, final T child) {
-        final Tree<T> childNode = new TreeSet<>(label, child, this);
-
-        Object[] rawChildren = Iterator.concat(this.children.iterator(), com.jongsoft.lang.Collections.<Tree<T>>Iterator(childNode))
-                .toNativeArray();
-
-        this.children = new NodeCollectionImpl<>(rawChildren);
+        attach(new TreeSet<>(label, child, this));
         return this;
     }
 
     @Override
-    public T get() {
-        return value;
-    }
+    @SuppressWarnings("unchecked")
+    public Optional<Tree<T>> getChild(final String label) {
+        if (childCount < INDEX_THRESHOLD) {
+            for (int i = 0; i < childCount; i++) {
+                Tree<T> child = (Tree<T>) childBuffer[i];
+                if (Objects.equals(child.label(), label)) {
+                    return Control.Option(child);
+                }
+            }
 
-    @Override
-    public boolean isSingleValued() {
-        return children.isEmpty();
-    }
+            return Control.Option();
+        }
 
-    @Override
-    public Iterator<T> iterator() {
-        return foldLeft(com.jongsoft.lang.Collections.<T>List(), Sequence::append)
-                .iterator();
-    }
+        if (labelIndex == null) {
+            // the index is only built for nodes that are actually searched, the first child with a label wins
+            labelIndex = new java.util.HashMap<>(childCount * 2);
+            for (int i = 0; i < childCount; i++) {
+                Tree<T> child = (Tree<T>) childBuffer[i];
+                labelIndex.putIfAbsent(child.label(), child);
+            }
+        }
 
-    @Override
-    public <U> Tree<U> map(Function<T, U> mapper) {
-        return com.jongsoft.lang.Collections.Tree(label, mapper.apply(value), children.map(t -> t.map(mapper)));
+        return Control.Option(labelIndex.get(label));
     }
 
     @Override
-    public Tree<T> orElse(final Iterable<? extends T> other) {
-        return this;
+    public T get() {
+        return value;
     }
 
     @Override
-    public Tree<T> orElse(final Supplier<? extends Iterable<? extends T>> supplier) {
-        return this;
+    public <U> Tree<U> map(Function<T, U> mapper) {
+        return TreeTasks.map(this, mapper);
     }
 
     @Override
-    public Traversable<T> filter(Predicate<T> predicate) {
-        throw new UnsupportedOperationException();
-    }
+    @SuppressWarnings("unchecked")
+    public int size() {
+        if (subtreeSize >= 0) {
+            return subtreeSize;
+        }
 
-    @Override
-    public Traversable<T> reject(Predicate<T> predicate) {
-        throw new UnsupportedOperationException();
-    }
+        // collect the nodes with an unknown size, then compute them children first
+        final java.util.List<TreeSet<T>> unknown = new java.util.ArrayList<>();
+        unknown.add(this);
+        for (int i = 0; i < unknown.size(); i++) {
+            final TreeSet<T> node = unknown.get(i);
+            for (int c = 0; c < node.childCount; c++) {
+                final Object child = node.childBuffer[c];
+                if (child instanceof TreeSet && ((TreeSet<T>) child).subtreeSize < 0) {
+                    unknown.add((TreeSet<T>) child);
+                }
+            }
+        }
 
-    @Override
-    public Optional<T> first(Predicate<T> predicate) {
-        return foldLeft(com.jongsoft.lang.Collections.<T>List(), Sequence::append)
-                .first(predicate);
-    }
+        for (int i = unknown.size() - 1; i >= 0; i--) {
+            final TreeSet<T> node = unknown.get(i);
+            int size = 1;
+            for (int c = 0; c < node.childCount; c++) {
+                size += ((Tree<T>) node.childBuffer[c]).size();
+            }
+            node.subtreeSize = size;
+        }
 
-    @Override
-    public Optional<T> last(Predicate<T> predicate) {
-        return foldLeft(com.jongsoft.lang.Collections.<T>List(), Sequence::append)
-                .last(predicate);
+        return subtreeSize;
     }
 
     @Override
-    public <U> U foldLeft(U start, BiFunction<? super U, ? super T, ? extends U> combiner) {
-        U x = start;
-        x = combiner.apply(x, get());
-        for (Tree<T> child : children) {
-            x = child.foldLeft(x, combiner);
-        }
-        return x;
+    public Tree<T> filter(Predicate<T> predicate) {
+        return owned(TreeTasks.filter(this, predicate, TreeSet::copyOf));
     }
 
     @Override
-    public <U> U foldRight(U start, BiFunction<? super T, ? super U, ? extends U> combiner) {
-        return foldLeft(start, (y, x) -> combiner.apply(x, y));
+    public Tree<T> prune(Predicate<T> predicate) {
+        return owned(TreeTasks.prune(this, predicate, TreeSet::copyOf));
     }
 
-    @Override
-    public T reduceLeft(BiFunction<? super T, ? super T, ? extends T> reducer) {
-        throw new UnsupportedOperationException();
+    /**
+     * The nodes of this tree can be changed, so a filtered tree never shares them with this tree.
+     */
+    private Tree<T> owned(Tree<T> result) {
+        return result == this ? TreeTasks.copy(this) : result;
     }
 
-    @Override
-    public String toString() {
-        StringBuilder builder = new StringBuilder("Tree: {value:")
-                .append(get())
-                .append(", label: ")
-                .append(label);
-        builder.append(Collections.textValueOf(", children:", children));
-        builder.append("}");
-        return builder.toString();
-    }
+    private static <T> Tree<T> copyOf(Tree<T> node, java.util.List<Tree<T>> children) {
+        final TreeSet<T> copy = new TreeSet<>(node.label(), node.get());
+        for (Tree<T> child : children) {
+            copy.attach(child);
+        }
+        return copy;
+    }
+
+    /**
+     * Add the {@code child} at the end of the children, the buffer grows by half its size when it is full so appending
+     * is constant time on average. Views created earlier are not affected, as they never look beyond their own size.
+     *
+     * <p>
+     *     A node without a parent is adopted, any other subtree is copied first. Every node therefore has a single
+     *     parent, which the cached sizes rely on to be cleared when a node below them changes.
+     * </p>
+     */
+    void attach(Tree<T> child) {
+        final TreeSet<T> owned = owns(child) ? (TreeSet<T>) child : TreeTasks.copy(child);
+        if (childCount == childBuffer.length) {
+            childBuffer = Arrays.copyOf(childBuffer, Math.max(4, childCount + (childCount >> 1)));
+        }
 
-    private static class NodeCollectionImpl<T> extends HashSet<Tree<T>> implements NodeCollection<T> {
+        childBuffer[childCount++] = owned;
+        children = null;
+        owned.parent = this;
+        if (labelIndex != null) {
+            labelIndex.putIfAbsent(owned.label(), owned);
+        }
 
-        public NodeCollectionImpl(final Object[] delegate) {
-            super(delegate);
+        // the walk stops at the first unknown size, as all sizes above it are unknown as well
+        Tree<T> node = this;
+        while (node instanceof TreeSet && ((TreeSet<T>) node).subtreeSize >= 0) {
+            ((TreeSet<T>) node).subtreeSize = -1;
+            node = node.parent();
         }
+    }
 
+    private boolean owns(Tree<T> child) {
+        return child instanceof TreeSet && (child.parent() == null || child.parent() == this);
     }
 }
@@ -0,0 +1,480 @@
+package com.jongsoft.lang.collection.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.jongsoft.lang.collection.Iterator;
+import com.jongsoft.lang.collection.Tree;
+
+/**
+ * Bulk operations over complete trees. The sequential operations walk the tree with an explicit stack. The parallel
+ * operations fork tasks in the common pool for groups of subtrees of at most about {@link #SPLIT_THRESHOLD} nodes,
+ * while the calling thread handles the few nodes with larger subtrees and combines the results in pre-order.
+ */
+public final class TreeTasks {
+
+    /**
+     * The number of nodes below which a subtree is processed sequentially, as forking a task costs more than the work.
+     */
+    static final int SPLIT_THRESHOLD = 1 << 12;
+
+    private TreeTasks() {
+        // hidden constructor utility class
+    }
+
+    /**
+     * Map all the values in the {@code tree} in pre-order, keeping the structure and labels of the tree.
+     *
+     * @param tree   the tree to map
+     * @param mapper the mapping operation
+     * @param <T>    the entity type contained in the tree
+     * @param <U>    the entity type of the mapped tree
+     * @return       the mapped tree
+     */
+    public static <T, U> Tree<U> map(Tree<T> tree, Function<T, U> mapper) {
+        Objects.requireNonNull(tree, "tree is null");
+        Objects.requireNonNull(mapper, "mapper is null");
+        return mapSequential(tree, mapper);
+    }
+
+    /**
+     * Map all the values in the {@code tree} using the common fork join pool. The mapper may be called concurrently
+     * and in any order.
+     *
+     * @param tree   the tree to map
+     * @param mapper the mapping operation
+     * @param <T>    the entity type contained in the tree
+     * @param <U>    the entity type of the mapped tree
+     * @return       the mapped tree
+     */
+    public static <T, U> Tree<U> parallelMap(Tree<T> tree, Function<T, U> mapper) {
+        Objects.requireNonNull(tree, "tree is null");
+        Objects.requireNonNull(mapper, "mapper is null");
+        if (tree.size() <= SPLIT_THRESHOLD) {
+            return mapSequential(tree, mapper);
+        }
+
+        final List<Step<T, List<Tree<U>>>> plan = plan(tree, group -> new MapTask<>(group, mapper));
+        final List<TreeSet<U>> targets = new ArrayList<>(plan.size());
+        for (Step<T, List<Tree<U>>> step : plan) {
+            final TreeSet<U> parent = step.parent < 0 ? null : targets.get(step.parent);
+            if (step.task == null) {
+                final TreeSet<U> target = new TreeSet<>(step.node.label(), mapper.apply(step.node.get()));
+                if (parent != null) {
+                    parent.attach(target);
+                }
+                targets.add(target);
+            } else {
+                for (Tree<U> child : step.task.join()) {
+                    parent.attach(child);
+                }
+                targets.add(null);
+            }
+        }
+
+        return targets.get(0);
+    }
+
+    /**
+     * Fold all the values in the {@code tree} using the common fork join pool. Every group of subtrees is folded
+     * starting with the {@code identity}, after which the results are combined in pre-order of the groups.
+     *
+     * @param tree        the tree to fold
+     * @param identity    the start value of every group, which must be an identity for the {@code combiner}
+     * @param accumulator the operation adding a value to the folded result
+     * @param combiner    the associative operation combining two folded results
+     * @param <T>         the entity type contained in the tree
+     * @param <U>         the type of the folded result
+     * @return            the folded result
+     */
+    public static <T, U> U parallelFold(Tree<T> tree, U identity, BiFunction<U, ? super T, U> accumulator,
+            BinaryOperator<U> combiner) {
+        Objects.requireNonNull(tree, "tree is null");
+        Objects.requireNonNull(accumulator, "accumulator is null");
+        Objects.requireNonNull(combiner, "combiner is null");
+        if (tree.size() <= SPLIT_THRESHOLD) {
+            return foldSequential(List.of(tree), identity, accumulator);
+        }
+
+        U result = identity;
+        for (Step<T, U> step : plan(tree, group -> new FoldTask<>(group, identity, accumulator))) {
+            result = step.task == null
+                    ? accumulator.apply(result, step.node.get())
+                    : combiner.apply(result, step.task.join());
+        }
+
+        return result;
+    }
+
+    /**
+     * Split the {@code tree} into the nodes with a subtree larger than the threshold, which are processed by the
+     * calling thread, and groups of smaller subtrees which are forked as tasks. The steps are returned in pre-order,
+     * each step referring to the index of the step of its parent.
+     */
+    private static <T, R> List<Step<T, R>> plan(Tree<T> tree, Function<List<Tree<T>>, ForkJoinTask<R>> taskFactory) {
+        final List<Step<T, R>> plan = new ArrayList<>();
+        final Deque<Frame<T>> stack = new ArrayDeque<>();
+
+        plan.add(new Step<>(-1, tree, null));
+        stack.push(new Frame<>(0, split(tree)));
+        while (!stack.isEmpty()) {
+            final Frame<T> frame = stack.peek();
+            if (frame.position == frame.groups.size()) {
+                stack.pop();
+                continue;
+            }
+
+            final List<Tree<T>> group = frame.groups.get(frame.position++);
+            if (group.size() == 1 && group.get(0).size() > SPLIT_THRESHOLD) {
+                plan.add(new Step<>(frame.index, group.get(0), null));
+                stack.push(new Frame<>(plan.size() - 1, split(group.get(0))));
+            } else {
+                plan.add(new Step<>(frame.index, null, taskFactory.apply(group).fork()));
+            }
+        }
+
+        return plan;
+    }
+
+    /**
+     * Keep the nodes of the {@code tree} whose value matches the {@code predicate}, together with all their ancestors.
+     * The root is always kept. Subtrees that are kept as a whole are returned as they are, so a mutable tree has to
+     * copy them in the {@code factory} and copy the {@code tree} itself when nothing changed.
+     *
+     * @param tree      the tree to filter
+     * @param predicate the predicate the values of the kept nodes match
+     * @param factory   the operation creating a changed node from the original node and its kept children
+     * @param <T>       the entity type contained in the tree
+     * @return          the filtered tree
+     */
+    public static <T> Tree<T> filter(Tree<T> tree, Predicate<T> predicate,
+            BiFunction<Tree<T>, List<Tree<T>>, Tree<T>> factory) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        return rebuild(tree, value -> false, predicate, factory);
+    }
+
+    /**
+     * Remove the nodes of the {@code tree}, other than the root, whose value matches the {@code predicate} together
+     * with their complete subtree. The subtree of a removed node is not visited. Subtrees without removed nodes are
+     * returned as they are, as for {@link #filter(Tree, Predicate, BiFunction)}.
+     *
+     * @param tree      the tree to prune
+     * @param predicate the predicate the values of the removed nodes match
+     * @param factory   the operation creating a changed node from the original node and its kept children
+     * @param <T>       the entity type contained in the tree
+     * @return          the pruned tree
+     */
+    public static <T> Tree<T> prune(Tree<T> tree, Predicate<T> predicate,
+            BiFunction<Tree<T>, List<Tree<T>>, Tree<T>> factory) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        return rebuild(tree, predicate, value -> true, factory);
+    }
+
+    /**
+     * Combine the {@code tree} bottom up in a single post-order walk, where every node is combined with the results of
+     * its children in their original order.
+     *
+     * @param tree    the tree to combine
+     * @param combine the operation combining a node with the results of its children
+     * @param <T>     the entity type contained in the tree
+     * @param <R>     the type of the result
+     * @return        the result of the root
+     */
+    public static <T, R> R foldUp(Tree<T> tree, BiFunction<Tree<T>, List<R>, R> combine) {
+        Objects.requireNonNull(tree, "tree is null");
+        Objects.requireNonNull(combine, "combine is null");
+
+        final Deque<FoldUp<T, R>> stack = new ArrayDeque<>();
+        stack.push(new FoldUp<>(tree));
+        while (true) {
+            final FoldUp<T, R> frame = stack.peek();
+            if (frame.position < frame.children.size()) {
+                stack.push(new FoldUp<>(frame.children.get(frame.position++)));
+                continue;
+            }
+
+            stack.pop();
+            final R result = combine.apply(frame.node, frame.results);
+            if (stack.isEmpty()) {
+                return result;
+            }
+            stack.peek().results.add(result);
+        }
+    }
+
+    /**
+     * Combine the {@code tree} bottom up using the common fork join pool, with the same results as
+     * {@link #foldUp(Tree, BiFunction)}. Groups of small subtrees are combined in forked tasks, after which the
+     * calling thread combines the nodes with larger subtrees. The {@code combine} may be called concurrently.
+     *
+     * @param tree    the tree to combine
+     * @param combine the operation combining a node with the results of its children
+     * @param <T>     the entity type contained in the tree
+     * @param <R>     the type of the result
+     * @return        the result of the root
+     */
+    public static <T, R> R parallelFoldUp(Tree<T> tree, BiFunction<Tree<T>, List<R>, R> combine) {
+        Objects.requireNonNull(tree, "tree is null");
+        Objects.requireNonNull(combine, "combine is null");
+        if (tree.size() <= SPLIT_THRESHOLD) {
+            return foldUp(tree, combine);
+        }
+
+        final List<Step<T, List<R>>> plan = plan(tree, group -> new FoldUpTask<>(group, combine));
+        final List<List<R>> results = new ArrayList<>(plan.size());
+        for (Step<T, List<R>> step : plan) {
+            results.add(step.task == null ? new ArrayList<>() : null);
+        }
+
+        // the steps below a node follow it in the plan, so walking it backwards completes the children of a node
+        // before the node itself. The results are collected in reverse and turned around before they are combined
+        for (int i = plan.size() - 1; ; i--) {
+            final Step<T, List<R>> step = plan.get(i);
+            if (step.task != null) {
+                final List<R> joined = step.task.join();
+                for (int j = joined.size() - 1; j >= 0; j--) {
+                    results.get(step.parent).add(joined.get(j));
+                }
+                continue;
+            }
+
+            final List<R> children = results.get(i);
+            java.util.Collections.reverse(children);
+            final R result = combine.apply(step.node, children);
+            if (step.parent < 0) {
+                return result;
+            }
+            results.get(step.parent).add(result);
+        }
+    }
+
+    /**
+     * Rebuild the {@code tree} in a single post-order walk. A child whose value matches {@code cut} is dropped
+     * without visiting its subtree, any other node is kept if its value matches {@code keep} or any of its children
+     * is kept. Nodes of which nothing changed below are returned as is.
+     */
+    private static <T> Tree<T> rebuild(Tree<T> tree, Predicate<T> cut, Predicate<T> keep,
+            BiFunction<Tree<T>, List<Tree<T>>, Tree<T>> factory) {
+        Objects.requireNonNull(tree, "tree is null");
+
+        final Deque<Rebuild<T>> stack = new ArrayDeque<>();
+        stack.push(new Rebuild<>(tree));
+        while (true) {
+            final Rebuild<T> frame = stack.peek();
+            if (frame.position < frame.children.size()) {
+                final Tree<T> child = frame.children.get(frame.position++);
+                if (cut.test(child.get())) {
+                    frame.changed = true;
+                } else {
+                    stack.push(new Rebuild<>(child));
+                }
+                continue;
+            }
+
+            stack.pop();
+            final boolean kept = stack.isEmpty() || !frame.kept.isEmpty() || keep.test(frame.node.get());
+            final Tree<T> result;
+            if (!kept) {
+                result = null;
+            } else if (frame.changed) {
+                result = factory.apply(frame.node, frame.kept);
+            } else {
+                result = frame.node;
+            }
+
+            if (stack.isEmpty()) {
+                return result;
+            }
+
+            final Rebuild<T> parent = stack.peek();
+            parent.changed |= result != frame.node;
+            if (result != null) {
+                parent.kept.add(result);
+            }
+        }
+    }
+
+    /**
+     * Copy the {@code tree} into new nodes, the root of the copy has no parent.
+     */
+    static <T> TreeSet<T> copy(Tree<T> tree) {
+        return mapSequential(tree, Function.identity());
+    }
+
+    private static <T, U> TreeSet<U> mapSequential(Tree<T> tree, Function<T, U> mapper) {
+        final Deque<Tree<T>> sources = new ArrayDeque<>();
+        final Deque<TreeSet<U>> parents = new ArrayDeque<>();
+        final TreeSet<U> root = new TreeSet<>(tree.label(), mapper.apply(tree.get()));
+
+        pushChildren(tree, root, sources, parents);
+        while (!sources.isEmpty()) {
+            final Tree<T> source = sources.pop();
+            final TreeSet<U> target = new TreeSet<>(source.label(), mapper.apply(source.get()));
+            parents.pop().attach(target);
+            pushChildren(source, target, sources, parents);
+        }
+
+        return root;
+    }
+
+    private static <T, U> void pushChildren(Tree<T> source, TreeSet<U> target, Deque<Tree<T>> sources,
+            Deque<TreeSet<U>> parents) {
+        final Tree.NodeCollection<T> children = source.children();
+        for (int i = children.size() - 1; i >= 0; i--) {
+            sources.push(children.get(i));
+            parents.push(target);
+        }
+    }
+
+    private static <T, U> U foldSequential(List<Tree<T>> trees, U identity, BiFunction<U, ? super T, U> accumulator) {
+        U result = identity;
+        for (Tree<T> tree : trees) {
+            for (Iterator<Tree<T>> nodes = tree.preOrder(); nodes.hasNext();) {
+                result = accumulator.apply(result, nodes.next().get());
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Split the children of the {@code tree} into groups, where every large child forms its own group and consecutive
+     * small children are batched until the batch reaches the threshold.
+     */
+    private static <T> List<List<Tree<T>>> split(Tree<T> tree) {
+        final List<List<Tree<T>>> groups = new ArrayList<>();
+        List<Tree<T>> batch = new ArrayList<>();
+        int batchSize = 0;
+        for (Tree<T> child : tree.children()) {
+            final int size = child.size();
+            if (batchSize > 0 && (size > SPLIT_THRESHOLD || batchSize + size > SPLIT_THRESHOLD)) {
+                groups.add(batch);
+                batch = new ArrayList<>();
+                batchSize = 0;
+            }
+
+            batch.add(child);
+            batchSize += size;
+        }
+
+        if (batchSize > 0) {
+            groups.add(batch);
+        }
+        return groups;
+    }
+
+    private static final class FoldUp<T, R> {
+        private final Tree<T> node;
+        private final Tree.NodeCollection<T> children;
+        private final List<R> results;
+        private int position;
+
+        private FoldUp(Tree<T> node) {
+            this.node = node;
+            this.children = node.children();
+            this.results = new ArrayList<>(children.size());
+        }
+    }
+
+    private static final class Rebuild<T> {
+        private final Tree<T> node;
+        private final Tree.NodeCollection<T> children;
+        private final List<Tree<T>> kept;
+        private int position;
+        private boolean changed;
+
+        private Rebuild(Tree<T> node) {
+            this.node = node;
+            this.children = node.children();
+            this.kept = new ArrayList<>(children.size());
+        }
+    }
+
+    private static final class Step<T, R> {
+        private final int parent;
+        private final Tree<T> node;
+        private final ForkJoinTask<R> task;
+
+        private Step(int parent, Tree<T> node, ForkJoinTask<R> task) {
+            this.parent = parent;
+            this.node = node;
+            this.task = task;
+        }
+    }
+
+    private static final class Frame<T> {
+        private final int index;
+        private final List<List<Tree<T>>> groups;
+        private int position;
+
+        private Frame(int index, List<List<Tree<T>>> groups) {
+            this.index = index;
+            this.groups = groups;
+        }
+    }
+
+    private static final class MapTask<T, U> extends RecursiveTask<List<Tree<U>>> {
+        private final List<Tree<T>> trees;
+        private final Function<T, U> mapper;
+
+        private MapTask(List<Tree<T>> trees, Function<T, U> mapper) {
+            this.trees = trees;
+            this.mapper = mapper;
+        }
+
+        @Override
+        protected List<Tree<U>> compute() {
+            final List<Tree<U>> mapped = new ArrayList<>(trees.size());
+            for (Tree<T> tree : trees) {
+                mapped.add(mapSequential(tree, mapper));
+            }
+            return mapped;
+        }
+    }
+
+    private static final class FoldUpTask<T, R> extends RecursiveTask<List<R>> {
+        private final List<Tree<T>> trees;
+        private final BiFunction<Tree<T>, List<R>, R> combine;
+
+        private FoldUpTask(List<Tree<T>> trees, BiFunction<Tree<T>, List<R>, R> combine) {
+            this.trees = trees;
+            this.combine = combine;
+        }
+
+        @Override
+        protected List<R> compute() {
+            final List<R> results = new ArrayList<>(trees.size());
+            for (Tree<T> tree : trees) {
+                results.add(foldUp(tree, combine));
+            }
+            return results;
+        }
+    }
+
+    private static final class FoldTask<T, U> extends RecursiveTask<U> {
+        private final List<Tree<T>> trees;
+        private final U identity;
+        private final BiFunction<U, ? super T, U> accumulator;
+
+        private FoldTask(List<Tree<T>> trees, U identity, BiFunction<U, ? super T, U> accumulator) {
+            this.trees = trees;
+            this.identity = identity;
+            this.accumulator = accumulator;
+        }
+
+        @Override
+        protected U compute() {
+            return foldSequential(trees, identity, accumulator);
+        }
+    }
+
+}
@@ -0,0 +1,124 @@
+package com.jongsoft.lang.collection.impl;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+import com.jongsoft.lang.Control;
+import com.jongsoft.lang.collection.Tree;
+import com.jongsoft.lang.control.Optional;
+
+/**
+ * The {@link Tree.Zipper} over a {@link PersistentTree}. Every zipper holds the zipper of the parent node, so moving
+ * up only needs to copy the parent when the focused node was changed.
+ *
+ * @param <T> the entity type contained in the tree
+ */
+public class TreeZipper<T> implements Tree.Zipper<T> {
+
+    private final PersistentTree<T> focus;
+    private final TreeZipper<T> parent;
+    private final int index;
+    private final int depth;
+    private final boolean changed;
+
+    public TreeZipper(Tree<T> tree) {
+        this(PersistentTree.copyOf(tree), null, -1, 0, false);
+    }
+
+    private TreeZipper(PersistentTree<T> focus, TreeZipper<T> parent, int index, int depth, boolean changed) {
+        this.focus = focus;
+        this.parent = parent;
+        this.index = index;
+        this.depth = depth;
+        this.changed = changed;
+    }
+
+    @Override
+    public Tree<T> focus() {
+        return focus;
+    }
+
+    @Override
+    public int depth() {
+        return depth;
+    }
+
+    @Override
+    public boolean isRoot() {
+        return parent == null;
+    }
+
+    @Override
+    public Optional<Tree.Zipper<T>> up() {
+        return parent == null ? Control.Option() : Control.Option(ascend());
+    }
+
+    @Override
+    public Optional<Tree.Zipper<T>> down(int index) {
+        if (index < 0 || index >= focus.childCount()) {
+            return Control.Option();
+        }
+
+        return Control.Option(new TreeZipper<>(focus.child(index), this, index, depth + 1, false));
+    }
+
+    @Override
+    public Optional<Tree.Zipper<T>> down(String label) {
+        final int position = focus.indexOf(label);
+        return position < 0 ? Control.Option() : down(position);
+    }
+
+    @Override
+    public Tree.Zipper<T> set(T value) {
+        return new TreeZipper<>(focus.withValue(value), parent, index, depth, true);
+    }
+
+    @Override
+    public Tree.Zipper<T> update(Function<T, T> updater) {
+        Objects.requireNonNull(updater, "updater is null");
+        return set(updater.apply(focus.get()));
+    }
+
+    @Override
+    public Tree.Zipper<T> replace(Tree<T> tree) {
+        return new TreeZipper<>(PersistentTree.copyOf(tree), parent, index, depth, true);
+    }
+
+    @Override
+    public Tree.Zipper<T> appendChild(String label, T value) {
+        return new TreeZipper<>((PersistentTree<T>) focus.appendChild(label, value), parent, index, depth, true);
+    }
+
+    @Override
+    public Tree.Zipper<T> remove() {
+        if (parent == null) {
+            throw new IllegalStateException("The root of a tree cannot be removed");
+        }
+
+        return new TreeZipper<>(parent.focus.withoutChild(index), parent.parent, parent.index, parent.depth, true);
+    }
+
+    @Override
+    public Tree<T> root() {
+        TreeZipper<T> current = this;
+        while (current.parent != null) {
+            current = current.ascend();
+        }
+
+        return current.focus;
+    }
+
+    private TreeZipper<T> ascend() {
+        if (!changed) {
+            return parent;
+        }
+
+        return new TreeZipper<>(parent.focus.withChild(index, focus), parent.parent, parent.index, parent.depth, true);
+    }
+
+    @Override
+    public String toString() {
+        return "Zipper: {depth: " + depth + ", focus: " + focus.label() + "}";
+    }
+
+}
@@ -35,7 +35,7 @@ import java.util.stream.Collector;
 import com.jongsoft.lang.API;
 import com.jongsoft.lang.Control;
 import com.jongsoft.lang.collection.*;
-import com.jongsoft.lang.collection.tuple.Pair;
+import com.jongsoft.lang.collection.tuple.IntDoublePair;
 import com.jongsoft.lang.control.Optional;
 
 public final class Collections {
@@ -59,7 +59,7 @@ public final class Collections {
         return result;
     }
 
-    public static <T, K extends Collection<T>> Collector<T, ArrayList<T>, K> collector(Function<Iterable<? extends T>, K> finisher) {
+    public static <T, K> Collector<T, ArrayList<T>, K> collector(Function<Iterable<? extends T>, K> finisher) {
         final BinaryOperator<ArrayList<T>> combiner = (left, right) -> {
             left.addAll(right);
             return left;
@@ -68,7 +68,7 @@ public final class Collections {
         return Collector.of(ArrayList::new, ArrayList::add, combiner, finisher::apply);
     }
 
-    public static <T> Pair<Integer, Double> neumaierSum(Traversable<T> traversable, ToDoubleFunction<T> toDoubleFunction) {
+    public static <T> IntDoublePair neumaierSum(Traversable<T> traversable, ToDoubleFunction<T> toDoubleFunction) {
         int count = 0;
         double sum = 0.0;
         double compensation = 0.0;
@@ -88,7 +88,7 @@ public final class Collections {
         }
 
         sum += compensation;
-        return API.Tuple(count, sum);
+        return API.IntDoublePair(count, sum);
     }
 
     public static <T> double median(Traversable<T> traversable, ToDoubleFunction<T> toDoubleFunction) {
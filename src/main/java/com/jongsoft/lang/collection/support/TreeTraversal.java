@@ -0,0 +1,208 @@
+package com.jongsoft.lang.collection.support;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Objects;
+
+import com.jongsoft.lang.collection.Iterator;
+import com.jongsoft.lang.collection.Tree;
+
+/**
+ * Lazy iterators over the nodes of a {@link Tree}. The depth first iterators keep an explicit stack with one frame per
+ * level of the tree instead of recursing, so deep trees cannot overflow the call stack and only the nodes on the path
+ * to the current node are held in memory.
+ */
+public final class TreeTraversal {
+
+    private TreeTraversal() {
+        // hidden constructor utility class
+    }
+
+    /**
+     * Iterate the nodes depth first, visiting a node before its children.
+     *
+     * @param root the tree to iterate
+     * @param <T>  the entity type contained in the tree
+     * @return     the lazy iterator
+     */
+    public static <T> Iterator<Tree<T>> preOrder(Tree<T> root) {
+        Objects.requireNonNull(root, "root is null");
+        return new PreOrder<>(root);
+    }
+
+    /**
+     * Iterate the nodes depth first, visiting a node after all its children.
+     *
+     * @param root the tree to iterate
+     * @param <T>  the entity type contained in the tree
+     * @return     the lazy iterator
+     */
+    public static <T> Iterator<Tree<T>> postOrder(Tree<T> root) {
+        Objects.requireNonNull(root, "root is null");
+        return new PostOrder<>(root);
+    }
+
+    /**
+     * Iterate the nodes breadth first, visiting all nodes of a level before the next level.
+     *
+     * @param root the tree to iterate
+     * @param <T>  the entity type contained in the tree
+     * @return     the lazy iterator
+     */
+    public static <T> Iterator<Tree<T>> levelOrder(Tree<T> root) {
+        Objects.requireNonNull(root, "root is null");
+        return new LevelOrder<>(root);
+    }
+
+    /**
+     * The stack of a depth first traversal, a frame holds a node and the position of the next child to visit.
+     */
+    private static class Stack<T> {
+        private Tree<T>[] nodes;
+        private Tree.NodeCollection<T>[] children;
+        private int[] positions;
+        private int depth = -1;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Stack() {
+            nodes = new Tree[16];
+            children = new Tree.NodeCollection[16];
+            positions = new int[16];
+        }
+
+        void push(Tree<T> node) {
+            if (++depth == nodes.length) {
+                nodes = Arrays.copyOf(nodes, depth * 2);
+                children = Arrays.copyOf(children, depth * 2);
+                positions = Arrays.copyOf(positions, depth * 2);
+            }
+
+            nodes[depth] = node;
+            children[depth] = node.children();
+            positions[depth] = 0;
+        }
+
+        /**
+         * Take the next unvisited child of the top frame, or null if all children were visited.
+         */
+        Tree<T> nextChild() {
+            return positions[depth] < children[depth].size()
+                    ? children[depth].get(positions[depth]++)
+                    : null;
+        }
+
+        Tree<T> pop() {
+            final Tree<T> node = nodes[depth];
+            nodes[depth] = null;
+            children[depth] = null;
+            depth--;
+            return node;
+        }
+
+        boolean isEmpty() {
+            return depth < 0;
+        }
+    }
+
+    private static final class PreOrder<T> extends AbstractIterator<Tree<T>> {
+        private final Tree<T> root;
+        private Stack<T> stack;
+        private Tree<T> pending;
+
+        private PreOrder(Tree<T> root) {
+            this.root = root;
+            reset();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return pending != null;
+        }
+
+        @Override
+        public void reset() {
+            stack = new Stack<>();
+            pending = root;
+        }
+
+        @Override
+        protected Tree<T> getNext() {
+            final Tree<T> current = pending;
+            if (!current.isLeaf()) {
+                stack.push(current);
+            }
+
+            pending = null;
+            while (pending == null && !stack.isEmpty()) {
+                pending = stack.nextChild();
+                if (pending == null) {
+                    stack.pop();
+                }
+            }
+
+            return current;
+        }
+    }
+
+    private static final class PostOrder<T> extends AbstractIterator<Tree<T>> {
+        private final Tree<T> root;
+        private Stack<T> stack;
+
+        private PostOrder(Tree<T> root) {
+            this.root = root;
+            reset();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        public void reset() {
+            stack = new Stack<>();
+            stack.push(root);
+        }
+
+        @Override
+        protected Tree<T> getNext() {
+            for (Tree<T> child = stack.nextChild(); child != null; child = stack.nextChild()) {
+                stack.push(child);
+            }
+
+            return stack.pop();
+        }
+    }
+
+    private static final class LevelOrder<T> extends AbstractIterator<Tree<T>> {
+        private final Tree<T> root;
+        private final ArrayDeque<Tree<T>> queue = new ArrayDeque<>();
+
+        private LevelOrder(Tree<T> root) {
+            this.root = root;
+            reset();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !queue.isEmpty();
+        }
+
+        @Override
+        public void reset() {
+            queue.clear();
+            queue.add(root);
+        }
+
+        @Override
+        protected Tree<T> getNext() {
+            final Tree<T> current = queue.poll();
+            for (Tree<T> child : current.children()) {
+                queue.add(child);
+            }
+
+            return current;
+        }
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.jongsoft.lang.collection.tuple;
+
+/**
+ * A pair holding a primitive {@code double} and a primitive {@code double}, without boxing either of them.
+ *
+ * @since 1.1.7
+ */
+public interface DoublePair extends Tuple {
+
+    /**
+     * Get the first element from the tuple.
+     *
+     * @return the element
+     */
+    double getFirst();
+
+    /**
+     * Get the second element from the tuple.
+     *
+     * @return the element
+     */
+    double getSecond();
+
+    /**
+     * Convert this tuple into a generic {@link Pair}, boxing both elements.
+     *
+     * @return the boxed pair
+     */
+    Pair<Double, Double> toPair();
+
+}
@@ -0,0 +1,31 @@
+package com.jongsoft.lang.collection.tuple;
+
+/**
+ * A pair holding a primitive {@code int} and a primitive {@code double}, without boxing either of them.
+ *
+ * @since 1.1.7
+ */
+public interface IntDoublePair extends Tuple {
+
+    /**
+     * Get the first element from the tuple.
+     *
+     * @return the element
+     */
+    int getFirst();
+
+    /**
+     * Get the second element from the tuple.
+     *
+     * @return the element
+     */
+    double getSecond();
+
+    /**
+     * Convert this tuple into a generic {@link Pair}, boxing both elements.
+     *
+     * @return the boxed pair
+     */
+    Pair<Integer, Double> toPair();
+
+}
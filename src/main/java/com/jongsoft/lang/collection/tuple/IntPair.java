@@ -0,0 +1,31 @@
+package com.jongsoft.lang.collection.tuple;
+
+/**
+ * A pair holding a primitive {@code int} and a primitive {@code int}, without boxing either of them.
+ *
+ * @since 1.1.7
+ */
+public interface IntPair extends Tuple {
+
+    /**
+     * Get the first element from the tuple.
+     *
+     * @return the element
+     */
+    int getFirst();
+
+    /**
+     * Get the second element from the tuple.
+     *
+     * @return the element
+     */
+    int getSecond();
+
+    /**
+     * Convert this tuple into a generic {@link Pair}, boxing both elements.
+     *
+     * @return the boxed pair
+     */
+    Pair<Integer, Integer> toPair();
+
+}
@@ -0,0 +1,31 @@
+package com.jongsoft.lang.collection.tuple;
+
+/**
+ * A pair holding a primitive {@code long} and a primitive {@code long}, without boxing either of them.
+ *
+ * @since 1.1.7
+ */
+public interface LongPair extends Tuple {
+
+    /**
+     * Get the first element from the tuple.
+     *
+     * @return the element
+     */
+    long getFirst();
+
+    /**
+     * Get the second element from the tuple.
+     *
+     * @return the element
+     */
+    long getSecond();
+
+    /**
+     * Convert this tuple into a generic {@link Pair}, boxing both elements.
+     *
+     * @return the boxed pair
+     */
+    Pair<Long, Long> toPair();
+
+}
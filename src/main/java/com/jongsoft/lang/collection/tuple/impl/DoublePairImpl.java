@@ -0,0 +1,62 @@
+package com.jongsoft.lang.collection.tuple.impl;
+
+import com.jongsoft.lang.API;
+import com.jongsoft.lang.Collections;
+import com.jongsoft.lang.collection.Sequence;
+import com.jongsoft.lang.collection.tuple.DoublePair;
+import com.jongsoft.lang.collection.tuple.Pair;
+
+public class DoublePairImpl implements DoublePair {
+
+    private static final long serialVersionUID = 1L;
+
+    private final double first;
+    private final double second;
+
+    public DoublePairImpl(double first, double second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    @Override
+    public double getFirst() {
+        return first;
+    }
+
+    @Override
+    public double getSecond() {
+        return second;
+    }
+
+    @Override
+    public Pair<Double, Double> toPair() {
+        return API.Tuple(first, second);
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Sequence toList() {
+        return Collections.List(first, second);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof DoublePair) {
+            DoublePair other = (DoublePair) obj;
+            return Double.compare(first, other.getFirst()) == 0
+                    && Double.compare(second, other.getSecond()) == 0;
+        }
+
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(first) + Double.hashCode(second);
+    }
+
+    @Override
+    public String toString() {
+        return "DoublePair(" + first + ", " + second + ")";
+    }
+}
@@ -0,0 +1,62 @@
+package com.jongsoft.lang.collection.tuple.impl;
+
+import com.jongsoft.lang.API;
+import com.jongsoft.lang.Collections;
+import com.jongsoft.lang.collection.Sequence;
+import com.jongsoft.lang.collection.tuple.IntDoublePair;
+import com.jongsoft.lang.collection.tuple.Pair;
+
+public class IntDoublePairImpl implements IntDoublePair {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int first;
+    private final double second;
+
+    public IntDoublePairImpl(int first, double second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    @Override
+    public int getFirst() {
+        return first;
+    }
+
+    @Override
+    public double getSecond() {
+        return second;
+    }
+
+    @Override
+    public Pair<Integer, Double> toPair() {
+        return API.Tuple(first, second);
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Sequence toList() {
+        return Collections.List(first, second);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof IntDoublePair) {
+            IntDoublePair other = (IntDoublePair) obj;
+            return first == other.getFirst()
+                    && Double.compare(second, other.getSecond()) == 0;
+        }
+
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Integer.hashCode(first) + Double.hashCode(second);
+    }
+
+    @Override
+    public String toString() {
+        return "IntDoublePair(" + first + ", " + second + ")";
+    }
+}
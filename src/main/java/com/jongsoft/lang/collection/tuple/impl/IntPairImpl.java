@@ -0,0 +1,62 @@
+package com.jongsoft.lang.collection.tuple.impl;
+
+import com.jongsoft.lang.API;
+import com.jongsoft.lang.Collections;
+import com.jongsoft.lang.collection.Sequence;
+import com.jongsoft.lang.collection.tuple.IntPair;
+import com.jongsoft.lang.collection.tuple.Pair;
+
+public class IntPairImpl implements IntPair {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int first;
+    private final int second;
+
+    public IntPairImpl(int first, int second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    @Override
+    public int getFirst() {
+        return first;
+    }
+
+    @Override
+    public int getSecond() {
+        return second;
+    }
+
+    @Override
+    public Pair<Integer, Integer> toPair() {
+        return API.Tuple(first, second);
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Sequence toList() {
+        return Collections.List(first, second);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof IntPair) {
+            IntPair other = (IntPair) obj;
+            return first == other.getFirst()
+                    && second == other.getSecond();
+        }
+
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Integer.hashCode(first) + Integer.hashCode(second);
+    }
+
+    @Override
+    public String toString() {
+        return "IntPair(" + first + ", " + second + ")";
+    }
+}
@@ -0,0 +1,62 @@
+package com.jongsoft.lang.collection.tuple.impl;
+
+import com.jongsoft.lang.API;
+import com.jongsoft.lang.Collections;
+import com.jongsoft.lang.collection.Sequence;
+import com.jongsoft.lang.collection.tuple.LongPair;
+import com.jongsoft.lang.collection.tuple.Pair;
+
+public class LongPairImpl implements LongPair {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long first;
+    private final long second;
+
+    public LongPairImpl(long first, long second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    @Override
+    public long getFirst() {
+        return first;
+    }
+
+    @Override
+    public long getSecond() {
+        return second;
+    }
+
+    @Override
+    public Pair<Long, Long> toPair() {
+        return API.Tuple(first, second);
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Sequence toList() {
+        return Collections.List(first, second);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof LongPair) {
+            LongPair other = (LongPair) obj;
+            return first == other.getFirst()
+                    && second == other.getSecond();
+        }
+
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(first) + Long.hashCode(second);
+    }
+
+    @Override
+    public String toString() {
+        return "LongPair(" + first + ", " + second + ")";
+    }
+}
@@ -23,22 +23,59 @@
  */
 package com.jongsoft.lang.collection.tuple.impl;
 
+import java.util.Objects;
+
+import com.jongsoft.lang.Collections;
+import com.jongsoft.lang.collection.Sequence;
 import com.jongsoft.lang.collection.tuple.Pair;
+import com.jongsoft.lang.collection.tuple.Triplet;
+
+public class PairImpl<X, Y> implements Pair<X, Y> {
 
-public class PairImpl<X, Y> extends AbstractTuple implements Pair<X, Y> {
+    private static final long serialVersionUID = 1L;
 
-    public PairImpl(Object...elements) {
-        super(elements);
+    private final X first;
+    private final Y second;
+
+    public PairImpl(X first, Y second) {
+        this.first = first;
+        this.second = second;
     }
 
     @Override
     public X getFirst() {
-        return (X) super.element(0);
+        return first;
     }
 
     @Override
     public Y getSecond() {
-        return (Y) super.element(1);
+        return second;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Sequence toList() {
+        return Collections.List(first, second);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj instanceof Pair && !(obj instanceof Triplet)) {
+            Pair<?, ?> other = (Pair<?, ?>) obj;
+            return Objects.equals(first, other.getFirst())
+                    && Objects.equals(second, other.getSecond());
+        }
+
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hashCode(first) + Objects.hashCode(second);
     }
 
     @Override
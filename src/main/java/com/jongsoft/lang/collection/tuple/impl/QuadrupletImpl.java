@@ -23,17 +23,54 @@
  */
 package com.jongsoft.lang.collection.tuple.impl;
 
+import java.util.Objects;
+
+import com.jongsoft.lang.Collections;
+import com.jongsoft.lang.collection.Sequence;
 import com.jongsoft.lang.collection.tuple.Quadruplet;
 
 public class QuadrupletImpl<X, Y, Z, D> extends TripletImpl<X, Y, Z> implements Quadruplet<X, Y, Z, D> {
 
-    public QuadrupletImpl(Object... elements) {
-        super(elements);
+    private static final long serialVersionUID = 1L;
+
+    private final D fourth;
+
+    public QuadrupletImpl(X first, Y second, Z third, D fourth) {
+        super(first, second, third);
+        this.fourth = fourth;
     }
 
     @Override
     public D getFourth() {
-        return (D) super.element(3);
+        return fourth;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Sequence toList() {
+        return Collections.List(getFirst(), getSecond(), getThird(), fourth);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj instanceof Quadruplet) {
+            Quadruplet<?, ?, ?, ?> other = (Quadruplet<?, ?, ?, ?>) obj;
+            return Objects.equals(getFirst(), other.getFirst())
+                    && Objects.equals(getSecond(), other.getSecond())
+                    && Objects.equals(getThird(), other.getThird())
+                    && Objects.equals(fourth, other.getFourth());
+        }
+
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + Objects.hashCode(fourth);
     }
 
     @Override
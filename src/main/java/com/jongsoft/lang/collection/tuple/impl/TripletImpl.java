@@ -23,17 +23,54 @@
  */
 package com.jongsoft.lang.collection.tuple.impl;
 
+import java.util.Objects;
+
+import com.jongsoft.lang.Collections;
+import com.jongsoft.lang.collection.Sequence;
+import com.jongsoft.lang.collection.tuple.Quadruplet;
 import com.jongsoft.lang.collection.tuple.Triplet;
 
 public class TripletImpl<X, Y, Z> extends PairImpl<X, Y> implements Triplet<X, Y, Z> {
 
-    public TripletImpl(Object... elements) {
-        super(elements);
+    private static final long serialVersionUID = 1L;
+
+    private final Z third;
+
+    public TripletImpl(X first, Y second, Z third) {
+        super(first, second);
+        this.third = third;
     }
 
     @Override
     public Z getThird() {
-        return (Z) super.element(2);
+        return third;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Sequence toList() {
+        return Collections.List(getFirst(), getSecond(), third);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj instanceof Triplet && !(obj instanceof Quadruplet)) {
+            Triplet<?, ?, ?> other = (Triplet<?, ?, ?>) obj;
+            return Objects.equals(getFirst(), other.getFirst())
+                    && Objects.equals(getSecond(), other.getSecond())
+                    && Objects.equals(third, other.getThird());
+        }
+
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + Objects.hashCode(third);
     }
 
     @Override
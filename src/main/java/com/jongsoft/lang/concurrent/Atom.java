@@ -0,0 +1,123 @@
+package com.jongsoft.lang.concurrent;
+
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+import com.jongsoft.lang.concurrent.impl.AtomImpl;
+
+/**
+ * The atom is a thread safe reference to an immutable value, like the collections of this library. The value is
+ * replaced by applying pure functions to it, where an update that loses the race with another thread is simply
+ * retried on the new value. No locks are taken, readers always see a complete value.
+ * <p>
+ *     Every new value is checked by the validator of the atom, if any, before it is stored. Watchers are notified with
+ *     the old and the new value after every successful update, on the thread that applied the update.
+ * </p>
+ * <p>
+ *     Updates that may be applied in any order can use {@link #commute(UnaryOperator)}. Commuting updates from many
+ *     threads are combined by one of them into a single replacement of the value, which avoids the retry storm of
+ *     many threads updating one hot reference.
+ * </p>
+ *
+ * <p><strong>Example:</strong></p>
+ * <pre>{@code  Atom<Set<String>> active = Atom.of(Collections.Set());
+ *
+ *  active.swap(current -> current.append("session-1"));
+ *  active.get().contains("session-1");
+ * }</pre>
+ *
+ * @param <T> the type of the value
+ * @since 1.1.7
+ */
+public interface Atom<T> {
+
+    /**
+     * Get the current value.
+     *
+     * @return the current value
+     */
+    T get();
+
+    /**
+     * Replace the value with the result of the {@code update}. The update may be called more than once when other
+     * threads change the value concurrently, so it should be free of side effects.
+     *
+     * @param update the function computing the new value from the current one
+     * @return       the new value
+     * @throws IllegalStateException in case the new value is rejected by the validator
+     */
+    T swap(UnaryOperator<T> update);
+
+    /**
+     * Replace the value with the result of the {@code update}, where the order in which concurrent commuting updates
+     * are applied does not matter. Concurrent commuting updates are applied together in a single replacement.
+     *
+     * @param update the function computing the new value from the current one
+     * @return       the value directly after applying this update
+     * @throws IllegalStateException in case the new value is rejected by the validator
+     */
+    T commute(UnaryOperator<T> update);
+
+    /**
+     * Replace the value with the {@code update} only when the current value is the {@code expected} instance.
+     *
+     * @param expected the expected current value
+     * @param update   the new value
+     * @return         true if the value was replaced
+     * @throws IllegalStateException in case the new value is rejected by the validator
+     */
+    boolean compareAndSet(T expected, T update);
+
+    /**
+     * Replace the value with the {@code value}, regardless of the current value.
+     *
+     * @param value the new value
+     * @return      the new value
+     * @throws IllegalStateException in case the new value is rejected by the validator
+     */
+    T reset(T value);
+
+    /**
+     * Register a watcher that is called with the old and the new value after every update.
+     *
+     * @param watcher the watcher to register
+     * @return        this atom
+     */
+    Atom<T> watch(BiConsumer<? super T, ? super T> watcher);
+
+    /**
+     * Remove a previously registered watcher.
+     *
+     * @param watcher the watcher to remove
+     * @return        this atom
+     */
+    Atom<T> unwatch(BiConsumer<? super T, ? super T> watcher);
+
+    /**
+     * Create a new atom with the {@code initial} value.
+     *
+     * @param initial the initial value
+     * @param <T>     the type of the value
+     * @return        the new atom
+     */
+    static <T> Atom<T> of(T initial) {
+        return new AtomImpl<>(initial, value -> true);
+    }
+
+    /**
+     * Create a new atom with the {@code initial} value, that only accepts values matching the {@code validator}.
+     *
+     * @param initial   the initial value
+     * @param validator the validator for every new value
+     * @param <T>       the type of the value
+     * @return          the new atom
+     * @throws IllegalStateException in case the initial value is rejected by the validator
+     */
+    static <T> Atom<T> of(T initial, Predicate<? super T> validator) {
+        Objects.requireNonNull(validator, "validator is null");
+        return new AtomImpl<>(initial, validator);
+    }
+
+}
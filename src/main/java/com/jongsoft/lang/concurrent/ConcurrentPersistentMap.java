@@ -0,0 +1,125 @@
+package com.jongsoft.lang.concurrent;
+
+import java.util.function.UnaryOperator;
+
+import com.jongsoft.lang.collection.Map;
+import com.jongsoft.lang.concurrent.impl.ConcurrentPersistentMapImpl;
+
+/**
+ * A mutable map for state shared between many writing threads, built from immutable {@link Map} instances. The keys
+ * are spread over a number of stripes, each holding its own immutable map that is replaced lock free. Threads writing
+ * to different stripes never contend with each other.
+ * <p>
+ *     A {@link #snapshot()} returns an immutable {@link Map} with the state of all stripes at a single point in time.
+ *     Taking a snapshot only reads the stripe references, when writers keep changing them it briefly holds back new
+ *     writes to get a consistent view.
+ * </p>
+ *
+ * <p><strong>Example:</strong></p>
+ * <pre>{@code  ConcurrentPersistentMap<String, Integer> sessions = ConcurrentPersistentMap.of();
+ *
+ *  sessions.put("user-1", 1);
+ *  Map<String, Integer> current = sessions.snapshot();
+ * }</pre>
+ *
+ * @param <K> the type of the keys
+ * @param <T> the type of the values
+ * @since 1.1.7
+ */
+public interface ConcurrentPersistentMap<K, T> {
+
+    /**
+     * Get the current value for the {@code key}.
+     *
+     * @param key the key to look up
+     * @return    the value, or null if the key is not present
+     */
+    T get(K key);
+
+    /**
+     * Indicates if the {@code key} is currently present.
+     *
+     * @param key the key to look up
+     * @return    true if present
+     */
+    default boolean containsKey(K key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Replace the value of the {@code key} with the result of the {@code update}. The update receives null when the
+     * key is not present, when it returns null the key is removed. The update may be called more than once when
+     * another thread changes the same stripe concurrently, so it should be free of side effects.
+     *
+     * @param key    the key to update
+     * @param update the function computing the new value for the key
+     * @return       the new value of the key
+     * @throws NullPointerException in case {@code key} is null
+     */
+    T update(K key, UnaryOperator<T> update);
+
+    /**
+     * Set the {@code value} for the {@code key}.
+     *
+     * @param key   the key to set
+     * @param value the value for the key
+     * @return      the value of the key before this call, or null if it was not present
+     * @throws NullPointerException in case {@code key} is null
+     */
+    T put(K key, T value);
+
+    /**
+     * Remove the {@code key}.
+     *
+     * @param key the key to remove
+     * @return    the value of the key before this call, or null if it was not present
+     * @throws NullPointerException in case {@code key} is null
+     */
+    T remove(K key);
+
+    /**
+     * Get an immutable snapshot of all the entries at a single point in time. The snapshot shares the stripes of this
+     * map, taking it costs time proportional to the number of stripes and not to the number of entries.
+     *
+     * @return the snapshot
+     */
+    Map<K, T> snapshot();
+
+    /**
+     * The number of entries, computed from a consistent snapshot.
+     *
+     * @return the number of entries
+     */
+    default int size() {
+        return snapshot().size();
+    }
+
+    /**
+     * Create a new map with a number of stripes suited for the available processors.
+     *
+     * @param <K> the type of the keys
+     * @param <T> the type of the values
+     * @return    the new map
+     */
+    static <K, T> ConcurrentPersistentMap<K, T> of() {
+        return of(4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Create a new map with at least the provided number of {@code stripes}, rounded up to a power of two.
+     *
+     * @param stripes the minimum number of stripes
+     * @param <K>     the type of the keys
+     * @param <T>     the type of the values
+     * @return        the new map
+     * @throws IllegalArgumentException in case {@code stripes} is less then 1
+     */
+    static <K, T> ConcurrentPersistentMap<K, T> of(int stripes) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("stripes must be at least 1");
+        }
+
+        return new ConcurrentPersistentMapImpl<>(stripes);
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.jongsoft.lang.concurrent;
+
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+import com.jongsoft.lang.Collections;
+import com.jongsoft.lang.collection.Map;
+import com.jongsoft.lang.concurrent.impl.MapAtomImpl;
+
+/**
+ * An {@link Atom} holding a {@link Map}, with operations to update a single key. The per key operations are commuting
+ * updates, so concurrent writes to the map are combined into a single replacement of the map.
+ *
+ * <p><strong>Example:</strong></p>
+ * <pre>{@code  MapAtom<String, Integer> hits = MapAtom.of(Collections.Map());
+ *
+ *  hits.update("index.html", count -> count == null ? 1 : count + 1);
+ * }</pre>
+ *
+ * @param <K> the type of the keys
+ * @param <T> the type of the values
+ * @since 1.1.7
+ */
+public interface MapAtom<K, T> extends Atom<Map<K, T>> {
+
+    /**
+     * Get the current value for the {@code key}.
+     *
+     * @param key the key to look up
+     * @return    the value, or null if the key is not present
+     */
+    T get(K key);
+
+    /**
+     * Replace the value of the {@code key} with the result of the {@code update}. The update receives null when the
+     * key is not present, when it returns null the key is removed.
+     *
+     * @param key    the key to update
+     * @param update the function computing the new value for the key
+     * @return       the new value of the key
+     * @throws NullPointerException in case {@code key} is null
+     */
+    T update(K key, UnaryOperator<T> update);
+
+    /**
+     * Set the {@code value} for the {@code key}.
+     *
+     * @param key   the key to set
+     * @param value the value for the key
+     * @return      the new value of the key
+     * @throws NullPointerException in case {@code key} is null
+     */
+    default T put(K key, T value) {
+        return update(key, current -> value);
+    }
+
+    /**
+     * Remove the {@code key} from the map.
+     *
+     * @param key the key to remove
+     * @throws NullPointerException in case {@code key} is null
+     */
+    default void remove(K key) {
+        update(key, current -> null);
+    }
+
+    /**
+     * Create a new map atom, starting with an empty map.
+     *
+     * @param <K> the type of the keys
+     * @param <T> the type of the values
+     * @return    the new map atom
+     */
+    static <K, T> MapAtom<K, T> of() {
+        return of(Collections.Map());
+    }
+
+    /**
+     * Create a new map atom with the {@code initial} map.
+     *
+     * @param initial the initial map
+     * @param <K>     the type of the keys
+     * @param <T>     the type of the values
+     * @return        the new map atom
+     */
+    static <K, T> MapAtom<K, T> of(Map<K, T> initial) {
+        Objects.requireNonNull(initial, "initial is null");
+        return new MapAtomImpl<>(initial);
+    }
+
+}
@@ -0,0 +1,201 @@
+package com.jongsoft.lang.concurrent.impl;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+import com.jongsoft.lang.concurrent.Atom;
+
+public class AtomImpl<T> implements Atom<T> {
+
+    private final AtomicReference<T> state;
+    private final Predicate<? super T> validator;
+    private final List<BiConsumer<? super T, ? super T>> watchers = new CopyOnWriteArrayList<>();
+
+    // commuting updates are queued and applied in batches by whichever thread acquires the combiner flag
+    private final ConcurrentLinkedQueue<Commute<T>> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean combining = new AtomicBoolean();
+
+    public AtomImpl(T initial, Predicate<? super T> validator) {
+        this.validator = validator;
+        this.state = new AtomicReference<>(validate(initial));
+    }
+
+    @Override
+    public T get() {
+        return state.get();
+    }
+
+    @Override
+    public T swap(UnaryOperator<T> update) {
+        Objects.requireNonNull(update, "update is null");
+        for (int attempt = 0; ; attempt++) {
+            final T current = state.get();
+            final T next = validate(update.apply(current));
+            if (state.compareAndSet(current, next)) {
+                notifyWatchers(current, next);
+                return next;
+            }
+
+            Backoff.pause(attempt);
+        }
+    }
+
+    @Override
+    public T commute(UnaryOperator<T> update) {
+        Objects.requireNonNull(update, "update is null");
+        final Commute<T> request = new Commute<>(update);
+        pending.offer(request);
+
+        for (int attempt = 0; !request.done; attempt++) {
+            if (combining.compareAndSet(false, true)) {
+                try {
+                    combine();
+                } finally {
+                    combining.set(false);
+                }
+            } else {
+                Backoff.pause(attempt);
+            }
+        }
+
+        if (request.failure instanceof RuntimeException) {
+            throw (RuntimeException) request.failure;
+        }
+        if (request.failure instanceof Error) {
+            throw (Error) request.failure;
+        }
+        if (request.failure != null) {
+            throw new UndeclaredThrowableException(request.failure);
+        }
+
+        return request.result;
+    }
+
+    @Override
+    public boolean compareAndSet(T expected, T update) {
+        validate(update);
+        if (state.compareAndSet(expected, update)) {
+            notifyWatchers(expected, update);
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public T reset(T value) {
+        validate(value);
+        final T previous = state.getAndSet(value);
+        notifyWatchers(previous, value);
+        return value;
+    }
+
+    @Override
+    public Atom<T> watch(BiConsumer<? super T, ? super T> watcher) {
+        watchers.add(Objects.requireNonNull(watcher, "watcher is null"));
+        return this;
+    }
+
+    @Override
+    public Atom<T> unwatch(BiConsumer<? super T, ? super T> watcher) {
+        watchers.remove(watcher);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "Atom(" + state.get() + ")";
+    }
+
+    /**
+     * Apply all queued commuting updates in a single replacement of the value. Updates rejected by the validator, or
+     * failing with any throwable including errors, are skipped and their failure is reported to the thread that
+     * requested them. Every request in the batch is therefore either applied or failed when it is marked done.
+     */
+    private void combine() {
+        final List<Commute<T>> batch = new ArrayList<>();
+        for (Commute<T> request = pending.poll(); request != null; request = pending.poll()) {
+            batch.add(request);
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        T current;
+        T next;
+        try {
+            for (int attempt = 0; ; attempt++) {
+                current = state.get();
+                next = current;
+                for (Commute<T> request : batch) {
+                    try {
+                        next = request.apply(next, validator);
+                    } catch (Throwable throwable) {
+                        request.failure = throwable;
+                    }
+                }
+
+                if (state.compareAndSet(current, next)) {
+                    break;
+                }
+
+                Backoff.pause(attempt);
+            }
+        } finally {
+            for (Commute<T> request : batch) {
+                request.done = true;
+            }
+        }
+
+        if (current != next) {
+            notifyWatchers(current, next);
+        }
+    }
+
+    private T validate(T value) {
+        if (!validator.test(value)) {
+            throw new IllegalStateException("Invalid atom state: " + value);
+        }
+
+        return value;
+    }
+
+    private void notifyWatchers(T previous, T current) {
+        for (BiConsumer<? super T, ? super T> watcher : watchers) {
+            watcher.accept(previous, current);
+        }
+    }
+
+    private static final class Commute<T> {
+        private final UnaryOperator<T> update;
+        private T result;
+        private Throwable failure;
+        private volatile boolean done;
+
+        private Commute(UnaryOperator<T> update) {
+            this.update = update;
+        }
+
+        private T apply(T value, Predicate<? super T> validator) {
+            failure = null;
+            final T next = update.apply(value);
+            if (!validator.test(next)) {
+                throw new IllegalStateException("Invalid atom state: " + next);
+            }
+
+            result = next;
+            return next;
+        }
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.jongsoft.lang.concurrent.impl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Contention aware backoff for retry loops. The first attempts spin briefly, followed by yielding the processor and
+ * finally parking the thread with an exponentially growing delay.
+ */
+final class Backoff {
+
+    private static final int SPIN_ATTEMPTS = 6;
+    private static final int YIELD_ATTEMPTS = 10;
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private Backoff() {
+        // hidden constructor utility class
+    }
+
+    static void pause(int attempt) {
+        if (attempt < SPIN_ATTEMPTS) {
+            for (int i = 0; i < 1 << attempt; i++) {
+                Thread.onSpinWait();
+            }
+        } else if (attempt < YIELD_ATTEMPTS) {
+            Thread.yield();
+        } else {
+            int shift = Math.min(attempt - YIELD_ATTEMPTS, 20);
+            LockSupport.parkNanos(Math.min(1_000L << shift, MAX_PARK_NANOS));
+        }
+    }
+
+}
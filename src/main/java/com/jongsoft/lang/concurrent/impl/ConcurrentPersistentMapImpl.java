@@ -0,0 +1,161 @@
+package com.jongsoft.lang.concurrent.impl;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.UnaryOperator;
+
+import com.jongsoft.lang.Collections;
+import com.jongsoft.lang.collection.Map;
+import com.jongsoft.lang.concurrent.ConcurrentPersistentMap;
+
+public class ConcurrentPersistentMapImpl<K, T> implements ConcurrentPersistentMap<K, T> {
+
+    // slots are spaced apart so that writers on neighbouring stripes do not share a cache line
+    private static final int PADDING_SHIFT = 4;
+    private static final int OPTIMISTIC_SNAPSHOT_ATTEMPTS = 4;
+    private static final int MAX_STRIPES = 1 << 16;
+
+    private final int mask;
+    private final AtomicReferenceArray<Map<K, T>> stripes;
+    private final AtomicIntegerArray writers;
+    private final AtomicInteger gate = new AtomicInteger();
+
+    public ConcurrentPersistentMapImpl(int minimumStripes) {
+        final int count = minimumStripes > 1
+                ? Integer.highestOneBit(Math.min(minimumStripes, MAX_STRIPES) - 1) << 1
+                : 1;
+        this.mask = count - 1;
+        this.stripes = new AtomicReferenceArray<>(count << PADDING_SHIFT);
+        this.writers = new AtomicIntegerArray(count << PADDING_SHIFT);
+        for (int i = 0; i < count; i++) {
+            stripes.set(i << PADDING_SHIFT, Collections.Map());
+        }
+    }
+
+    @Override
+    public T get(K key) {
+        return key == null ? null : stripes.get(slot(key)).get(key);
+    }
+
+    @Override
+    public T update(K key, UnaryOperator<T> update) {
+        Objects.requireNonNull(key, "A null value is not allowed for the key in a map");
+        Objects.requireNonNull(update, "update is null");
+
+        final int slot = slot(key);
+        enter(slot);
+        try {
+            for (int attempt = 0; ; attempt++) {
+                final Map<K, T> current = stripes.get(slot);
+                final T value = update.apply(current.get(key));
+                final Map<K, T> next = value == null ? current.remove(key) : current.put(key, value);
+                if (current == next || stripes.compareAndSet(slot, current, next)) {
+                    return value;
+                }
+
+                Backoff.pause(attempt);
+            }
+        } finally {
+            writers.decrementAndGet(slot);
+        }
+    }
+
+    @Override
+    public T put(K key, T value) {
+        final Object[] previous = new Object[1];
+        update(key, current -> {
+            previous[0] = current;
+            return value;
+        });
+
+        return cast(previous[0]);
+    }
+
+    @Override
+    public T remove(K key) {
+        final Object[] previous = new Object[1];
+        update(key, current -> {
+            previous[0] = current;
+            return null;
+        });
+
+        return cast(previous[0]);
+    }
+
+    @Override
+    public Map<K, T> snapshot() {
+        final int count = mask + 1;
+        final Map<K, T>[] collected = StripedSnapshot.newStripes(count);
+        final Map<K, T>[] verified = StripedSnapshot.newStripes(count);
+
+        // double collect, when no stripe changed between the two passes the first pass is a consistent view
+        collect(collected);
+        for (int attempt = 0; attempt < OPTIMISTIC_SNAPSHOT_ATTEMPTS; attempt++) {
+            collect(verified);
+            if (unchanged(collected, verified)) {
+                return new StripedSnapshot<>(collected);
+            }
+
+            System.arraycopy(verified, 0, collected, 0, count);
+        }
+
+        // the stripes keep changing, close the gate for new writers and wait for running ones to finish
+        gate.incrementAndGet();
+        try {
+            for (int i = 0; i < count; i++) {
+                for (int attempt = 0; writers.get(i << PADDING_SHIFT) != 0; attempt++) {
+                    Backoff.pause(attempt);
+                }
+            }
+
+            collect(collected);
+            return new StripedSnapshot<>(collected);
+        } finally {
+            gate.decrementAndGet();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrentPersistentMap" + snapshot();
+    }
+
+    private void enter(int slot) {
+        writers.incrementAndGet(slot);
+        for (int attempt = 0; gate.get() != 0; attempt++) {
+            writers.decrementAndGet(slot);
+            while (gate.get() != 0) {
+                Backoff.pause(attempt++);
+            }
+            writers.incrementAndGet(slot);
+        }
+    }
+
+    private void collect(Map<K, T>[] target) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] = stripes.get(i << PADDING_SHIFT);
+        }
+    }
+
+    private static boolean unchanged(Object[] collected, Object[] verified) {
+        for (int i = 0; i < collected.length; i++) {
+            if (collected[i] != verified[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private int slot(Object key) {
+        return StripedSnapshot.stripe(key, mask) << PADDING_SHIFT;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T cast(Object value) {
+        return (T) value;
+    }
+
+}
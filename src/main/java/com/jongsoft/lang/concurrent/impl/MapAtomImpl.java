@@ -0,0 +1,31 @@
+package com.jongsoft.lang.concurrent.impl;
+
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+import com.jongsoft.lang.collection.Map;
+import com.jongsoft.lang.concurrent.MapAtom;
+
+public class MapAtomImpl<K, T> extends AtomImpl<Map<K, T>> implements MapAtom<K, T> {
+
+    public MapAtomImpl(Map<K, T> initial) {
+        super(initial, map -> map != null);
+    }
+
+    @Override
+    public T get(K key) {
+        return get().get(key);
+    }
+
+    @Override
+    public T update(K key, UnaryOperator<T> update) {
+        Objects.requireNonNull(key, "A null value is not allowed for the key in a map");
+        Objects.requireNonNull(update, "update is null");
+
+        return commute(map -> {
+            final T value = update.apply(map.get(key));
+            return value == null ? map.remove(key) : map.put(key, value);
+        }).get(key);
+    }
+
+}
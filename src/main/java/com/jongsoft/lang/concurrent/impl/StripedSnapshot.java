@@ -0,0 +1,121 @@
+package com.jongsoft.lang.concurrent.impl;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.jongsoft.lang.Collections;
+import com.jongsoft.lang.collection.Iterator;
+import com.jongsoft.lang.collection.Map;
+import com.jongsoft.lang.collection.impl.AbstractMap;
+import com.jongsoft.lang.collection.support.AbstractIterator;
+import com.jongsoft.lang.collection.tuple.Pair;
+
+/**
+ * An immutable map made of the stripes of a {@link ConcurrentPersistentMapImpl}. Changing the snapshot only copies the
+ * array of stripes and replaces the one stripe holding the key.
+ */
+public class StripedSnapshot<K, T> extends AbstractMap<K, T> {
+
+    private final Map<K, T>[] stripes;
+    private final int size;
+
+    StripedSnapshot(Map<K, T>[] stripes) {
+        this.stripes = stripes;
+
+        int total = 0;
+        for (Map<K, T> stripe : stripes) {
+            total += stripe.size();
+        }
+        this.size = total;
+    }
+
+    @Override
+    public T get(K key) {
+        return key == null ? null : stripes[stripe(key, stripes.length - 1)].get(key);
+    }
+
+    @Override
+    public Map<K, T> put(K key, T value) {
+        Objects.requireNonNull(key, "A null value is not allowed for the key in a map");
+        return replace(stripe(key, stripes.length - 1), stripe -> stripe.put(key, value));
+    }
+
+    @Override
+    public Map<K, T> remove(K key) {
+        Objects.requireNonNull(key, "A null value is not allowed for the key in a map");
+        return replace(stripe(key, stripes.length - 1), stripe -> stripe.remove(key));
+    }
+
+    @Override
+    public Map<K, T> filter(Predicate<Pair<K, T>> predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+
+        final Map<K, T>[] filtered = newStripes(stripes.length);
+        for (int i = 0; i < stripes.length; i++) {
+            filtered[i] = stripes[i].filter(predicate);
+        }
+
+        return new StripedSnapshot<>(filtered);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<Pair<K, T>> iterator() {
+        return new AbstractIterator<>() {
+            private int index;
+            private java.util.Iterator<Pair<K, T>> current = stripes[0].iterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext() && index < stripes.length - 1) {
+                    current = stripes[++index].iterator();
+                }
+
+                return current.hasNext();
+            }
+
+            @Override
+            public void reset() {
+                index = 0;
+                current = stripes[0].iterator();
+            }
+
+            @Override
+            protected Pair<K, T> getNext() {
+                return current.next();
+            }
+        };
+    }
+
+    @Override
+    protected Supplier<Map<K, T>> emptySupplier() {
+        return Collections::Map;
+    }
+
+    private Map<K, T> replace(int index, java.util.function.UnaryOperator<Map<K, T>> change) {
+        final Map<K, T> replaced = change.apply(stripes[index]);
+        if (replaced == stripes[index]) {
+            return this;
+        }
+
+        final Map<K, T>[] copy = stripes.clone();
+        copy[index] = replaced;
+        return new StripedSnapshot<>(copy);
+    }
+
+    static int stripe(Object key, int mask) {
+        final int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static <K, T> Map<K, T>[] newStripes(int count) {
+        return new Map[count];
+    }
+
+}
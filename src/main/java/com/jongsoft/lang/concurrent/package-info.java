@@ -0,0 +1,17 @@
+/**
+ * The concurrent package contains references for sharing the immutable values of this library between threads.
+ *
+ * <p><strong>Current support concurrent references</strong></p>
+ * <ul>
+ *     <li>{@linkplain com.jongsoft.lang.concurrent.Atom}, a reference updated lock free with pure functions</li>
+ *     <li>{@linkplain com.jongsoft.lang.concurrent.MapAtom}, an atom holding a map with per key updates</li>
+ * </ul>
+ *
+ * <pre> {@code    // Sample usage of the Atom
+ *     Atom<Sequence<String>> names = Atom.of(Collections.List());
+ *     names.swap(current -> current.append("one"));
+ * }</pre>
+ *
+ * @since 1.1.7
+ */
+package com.jongsoft.lang.concurrent;
@@ -26,6 +26,6 @@ package com.jongsoft.lang.control;
 @FunctionalInterface
 public interface CheckedFunction<U,T> {
 
-    U apply(T original);
+    U apply(T original) throws Exception;
 
 }
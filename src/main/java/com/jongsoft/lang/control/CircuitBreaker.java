@@ -0,0 +1,179 @@
+package com.jongsoft.lang.control;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import com.jongsoft.lang.control.impl.CircuitBreakerImpl;
+import com.jongsoft.lang.exception.CircuitOpenException;
+
+/**
+ * The circuit breaker stops calling an operation that keeps failing, giving the downstream system room to recover.
+ * <p>
+ *     The breaker records the outcome of the most recent calls in a sliding window. Once the failure rate in the window
+ *     reaches the threshold the breaker opens and every call fails immediately with a {@link CircuitOpenException}.
+ *     After the open duration the breaker lets a limited number of probe calls through, if they all succeed the
+ *     breaker closes again, otherwise it opens for another period.
+ * </p>
+ * <p>
+ *     The breaker is lock free, all bookkeeping is done with atomic counters so it adds no contention to the calls it
+ *     protects.
+ * </p>
+ *
+ * @since 1.1.7
+ */
+public interface CircuitBreaker extends Resilience {
+
+    /**
+     * The states a circuit breaker can be in.
+     */
+    enum State {
+        /** Calls are permitted and their outcome is recorded. */
+        CLOSED,
+        /** Calls are rejected until the open duration has passed. */
+        OPEN,
+        /** A limited number of probe calls is permitted to test if the operation recovered. */
+        HALF_OPEN
+    }
+
+    /**
+     * Get the current state of the circuit breaker.
+     *
+     * @return the state
+     */
+    State state();
+
+    /**
+     * Create a new builder for a circuit breaker.
+     *
+     * @return the builder
+     */
+    static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The builder for the {@link CircuitBreaker}. By default the breaker uses a window of 100 calls, opens when at
+     * least 10 calls were recorded and half of them failed, stays open for 30 seconds and permits 5 probe calls.
+     */
+    final class Builder {
+
+        private int windowSize = 100;
+        private int minimumCalls = 10;
+        private double failureRateThreshold = 0.5;
+        private Duration openDuration = Duration.ofSeconds(30);
+        private int probeCalls = 5;
+        private Predicate<Throwable> recordOn = failure -> true;
+
+        private Builder() {
+        }
+
+        /**
+         * Set the number of most recent calls used to compute the failure rate.
+         *
+         * @param windowSize the size of the sliding window
+         * @return this builder
+         * @throws IllegalArgumentException in case {@code windowSize} is less then 1
+         */
+        public Builder windowSize(int windowSize) {
+            if (windowSize < 1) {
+                throw new IllegalArgumentException("windowSize must be at least 1");
+            }
+
+            this.windowSize = windowSize;
+            return this;
+        }
+
+        /**
+         * Set the minimum number of recorded calls before the failure rate is evaluated.
+         *
+         * @param minimumCalls the minimum number of calls
+         * @return this builder
+         * @throws IllegalArgumentException in case {@code minimumCalls} is less then 1
+         */
+        public Builder minimumCalls(int minimumCalls) {
+            if (minimumCalls < 1) {
+                throw new IllegalArgumentException("minimumCalls must be at least 1");
+            }
+
+            this.minimumCalls = minimumCalls;
+            return this;
+        }
+
+        /**
+         * Set the failure rate at which the breaker opens.
+         *
+         * @param failureRateThreshold the failure rate, between 0 (exclusive) and 1 (inclusive)
+         * @return this builder
+         * @throws IllegalArgumentException in case the threshold is out of range
+         */
+        public Builder failureRateThreshold(double failureRateThreshold) {
+            if (failureRateThreshold <= 0 || failureRateThreshold > 1) {
+                throw new IllegalArgumentException("failureRateThreshold must be between 0 and 1");
+            }
+
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        /**
+         * Set how long the breaker stays open before permitting probe calls.
+         *
+         * @param openDuration the open duration
+         * @return this builder
+         */
+        public Builder openDuration(Duration openDuration) {
+            Objects.requireNonNull(openDuration, "openDuration is null");
+            if (openDuration.isNegative()) {
+                throw new IllegalArgumentException("openDuration cannot be negative");
+            }
+
+            this.openDuration = openDuration;
+            return this;
+        }
+
+        /**
+         * Set the number of probe calls permitted in the half open state.
+         *
+         * @param probeCalls the number of probe calls
+         * @return this builder
+         * @throws IllegalArgumentException in case {@code probeCalls} is less then 1
+         */
+        public Builder probeCalls(int probeCalls) {
+            if (probeCalls < 1) {
+                throw new IllegalArgumentException("probeCalls must be at least 1");
+            }
+
+            this.probeCalls = probeCalls;
+            return this;
+        }
+
+        /**
+         * Set the predicate deciding which failures count towards the failure rate, other failures are recorded as a
+         * success.
+         *
+         * @param recordOn the predicate
+         * @return this builder
+         */
+        public Builder recordOn(Predicate<Throwable> recordOn) {
+            this.recordOn = Objects.requireNonNull(recordOn, "recordOn is null");
+            return this;
+        }
+
+        /**
+         * Create the circuit breaker.
+         *
+         * @return the circuit breaker
+         */
+        public CircuitBreaker build() {
+            return new CircuitBreakerImpl(
+                    windowSize,
+                    Math.min(minimumCalls, windowSize),
+                    failureRateThreshold,
+                    openDuration,
+                    probeCalls,
+                    recordOn);
+        }
+    }
+
+}
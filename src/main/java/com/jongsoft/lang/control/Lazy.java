@@ -0,0 +1,87 @@
+package com.jongsoft.lang.control;
+
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.jongsoft.lang.Value;
+
+/**
+ * The lazy value defers a computation until the value is first requested. The computation is executed at most once,
+ * concurrent callers wait for the first evaluation to complete after which the value is returned without any locking.
+ * <p>
+ *     If the computation throws an exception the exception is passed on to the caller and the value remains
+ *     unevaluated, a following call will attempt the computation again.
+ * </p>
+ *
+ * <p><strong>Example:</strong></p>
+ * <pre>{@code  Lazy<Configuration> configuration = Control.Lazy(() -> Configuration.load("app.yml"));
+ *
+ *  // the configuration is only loaded here
+ *  configuration.get().getProperty("name");
+ * }</pre>
+ *
+ * @param <T> the type of the value
+ * @since 1.1.7
+ */
+public interface Lazy<T> extends Value<T> {
+
+    /**
+     * Get the value, computing it if this is the first request.
+     *
+     * @return the value
+     */
+    @Override
+    T get();
+
+    /**
+     * Indicates if the value was already computed.
+     *
+     * @return true if the value is available
+     */
+    boolean isEvaluated();
+
+    /**
+     * Create a new lazy value that applies the {@code mapper} to this value. Neither this value nor the mapped value is
+     * computed until the mapped value is requested.
+     *
+     * @param mapper the mapping operation
+     * @param <U>    the type of the mapped value
+     * @return       the lazy mapped value
+     * @throws NullPointerException in case {@code mapper} is null
+     */
+    <U> Lazy<U> map(Function<T, U> mapper);
+
+    /**
+     * Filter the value using the {@code predicate}, this computes the value if it was not yet evaluated.
+     *
+     * @param predicate the predicate to test the value with
+     * @return          an {@link Optional} with the value if it matches, otherwise an empty one
+     * @throws NullPointerException in case {@code predicate} is null
+     */
+    @Override
+    Optional<T> filter(Predicate<T> predicate);
+
+    /**
+     * Start computing the value in the background on the default executor, which uses virtual threads when the
+     * runtime supports them. Callers requesting the value before the computation completes wait for it.
+     *
+     * @return this lazy value
+     */
+    Lazy<T> async();
+
+    /**
+     * Start computing the value in the background on the provided {@code executor}.
+     *
+     * @param executor the executor to compute the value on
+     * @return         this lazy value
+     * @throws NullPointerException in case {@code executor} is null
+     */
+    Lazy<T> async(Executor executor);
+
+    @Override
+    default boolean isSingleValued() {
+        return true;
+    }
+
+}
@@ -0,0 +1,138 @@
+package com.jongsoft.lang.control;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Function;
+
+import com.jongsoft.lang.Control;
+import com.jongsoft.lang.control.impl.MemoizedImpl;
+
+/**
+ * Create functions that cache their results. The caches are safe to use from many threads at once, every key is
+ * computed at most once while it stays cached.
+ * <p>
+ *     A bounded cache evicts using the CLOCK algorithm, an approximation of least recently used where reads only mark
+ *     an entry as referenced and never take a lock. Optionally results expire a fixed duration after they were
+ *     computed, expired results are removed as new results are cached so they do not hold memory until they are
+ *     requested again.
+ * </p>
+ *
+ * <p><strong>Example:</strong></p>
+ * <pre>{@code  Memoized<String, Price> pricing = Memoize.of(pricingService::lookup, 10_000, Duration.ofMinutes(5));
+ *
+ *  Price price = pricing.apply("SKU-1");
+ * }</pre>
+ *
+ * @since 1.1.7
+ */
+public final class Memoize {
+
+    private Memoize() {
+        // hidden constructor utility class
+    }
+
+    /**
+     * Create an unbounded memoized version of the {@code function}.
+     *
+     * @param function the function to memoize
+     * @param <T>      the type of the input
+     * @param <R>      the type of the result
+     * @return         the memoized function
+     */
+    public static <T, R> Memoized<T, R> of(Function<T, R> function) {
+        return of(function, Long.MAX_VALUE, Duration.ZERO);
+    }
+
+    /**
+     * Create a memoized version of the {@code function} that caches at most {@code maximumSize} results.
+     *
+     * @param function    the function to memoize
+     * @param maximumSize the maximum number of cached results
+     * @param <T>         the type of the input
+     * @param <R>         the type of the result
+     * @return            the memoized function
+     */
+    public static <T, R> Memoized<T, R> of(Function<T, R> function, long maximumSize) {
+        return of(function, maximumSize, Duration.ZERO);
+    }
+
+    /**
+     * Create a memoized version of the {@code function} that caches at most {@code maximumSize} results, each of them
+     * for at most the {@code expireAfterWrite} duration.
+     *
+     * @param function         the function to memoize
+     * @param maximumSize      the maximum number of cached results
+     * @param expireAfterWrite how long a result stays cached, zero for no expiry
+     * @param <T>              the type of the input
+     * @param <R>              the type of the result
+     * @return                 the memoized function
+     * @throws IllegalArgumentException in case {@code maximumSize} is less then 1 or the expiry is negative
+     */
+    public static <T, R> Memoized<T, R> of(Function<T, R> function, long maximumSize, Duration expireAfterWrite) {
+        Objects.requireNonNull(function, "Function cannot be null");
+        return new MemoizedImpl<>(function, result -> true, maximumSize, validate(maximumSize, expireAfterWrite));
+    }
+
+    /**
+     * Create an unbounded memoized version of the checked {@code function}. The results are returned as a
+     * {@link Try}, failures are passed to the callers waiting for them but are never cached.
+     *
+     * @param function the function to memoize
+     * @param <T>      the type of the input
+     * @param <R>      the type of the result
+     * @return         the memoized function
+     */
+    public static <T, R> Memoized<T, Try<R>> ofChecked(CheckedFunction<R, T> function) {
+        return ofChecked(function, Long.MAX_VALUE, Duration.ZERO);
+    }
+
+    /**
+     * Create a memoized version of the checked {@code function} that caches at most {@code maximumSize} results.
+     *
+     * @param function    the function to memoize
+     * @param maximumSize the maximum number of cached results
+     * @param <T>         the type of the input
+     * @param <R>         the type of the result
+     * @return            the memoized function
+     * @see #ofChecked(CheckedFunction)
+     */
+    public static <T, R> Memoized<T, Try<R>> ofChecked(CheckedFunction<R, T> function, long maximumSize) {
+        return ofChecked(function, maximumSize, Duration.ZERO);
+    }
+
+    /**
+     * Create a memoized version of the checked {@code function} that caches at most {@code maximumSize} results, each
+     * of them for at most the {@code expireAfterWrite} duration.
+     *
+     * @param function         the function to memoize
+     * @param maximumSize      the maximum number of cached results
+     * @param expireAfterWrite how long a result stays cached, zero for no expiry
+     * @param <T>              the type of the input
+     * @param <R>              the type of the result
+     * @return                 the memoized function
+     * @throws IllegalArgumentException in case {@code maximumSize} is less then 1 or the expiry is negative
+     * @see #ofChecked(CheckedFunction)
+     */
+    public static <T, R> Memoized<T, Try<R>> ofChecked(CheckedFunction<R, T> function, long maximumSize,
+            Duration expireAfterWrite) {
+        Objects.requireNonNull(function, "Function cannot be null");
+        return new MemoizedImpl<>(
+                key -> Control.Try(() -> function.apply(key)),
+                Try::isSuccess,
+                maximumSize,
+                validate(maximumSize, expireAfterWrite));
+    }
+
+    private static Duration validate(long maximumSize, Duration expireAfterWrite) {
+        Objects.requireNonNull(expireAfterWrite, "expireAfterWrite is null");
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be at least 1");
+        }
+        if (expireAfterWrite.isNegative()) {
+            throw new IllegalArgumentException("expireAfterWrite cannot be negative");
+        }
+
+        return expireAfterWrite;
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.jongsoft.lang.control;
+
+import java.util.function.Function;
+
+/**
+ * A function that caches its results, created using {@link Memoize}. Concurrent callers requesting the same key while
+ * it is being computed wait for that computation instead of starting their own.
+ *
+ * @param <T> the type of the input
+ * @param <R> the type of the result
+ * @since 1.1.7
+ */
+public interface Memoized<T, R> extends Function<T, R> {
+
+    /**
+     * Get the result for the {@code key}, computing it only if it is not yet cached.
+     *
+     * @param key the input of the function
+     * @return    the result of the function
+     * @throws NullPointerException in case {@code key} is null
+     */
+    @Override
+    R apply(T key);
+
+    /**
+     * Remove the cached result for the {@code key}, if present.
+     *
+     * @param key the input to remove the result for
+     */
+    void invalidate(T key);
+
+    /**
+     * Remove all cached results.
+     */
+    void invalidateAll();
+
+    /**
+     * The number of results currently cached.
+     *
+     * @return the number of cached results
+     */
+    int size();
+
+    /**
+     * Get the statistics of the cache since its creation.
+     *
+     * @return the statistics
+     */
+    Statistics statistics();
+
+    /**
+     * The usage statistics of a {@link Memoized} function.
+     */
+    interface Statistics {
+
+        /**
+         * The number of requests answered from the cache.
+         *
+         * @return the number of hits
+         */
+        long hits();
+
+        /**
+         * The number of requests that needed to compute the result.
+         *
+         * @return the number of misses
+         */
+        long misses();
+
+        /**
+         * The number of results removed to stay within the maximum size.
+         *
+         * @return the number of evictions
+         */
+        long evictions();
+
+        /**
+         * The fraction of requests answered from the cache, or 1 when there were no requests yet.
+         *
+         * @return the hit rate
+         */
+        default double hitRate() {
+            long requests = hits() + misses();
+            return requests == 0 ? 1 : (double) hits() / requests;
+        }
+    }
+
+}
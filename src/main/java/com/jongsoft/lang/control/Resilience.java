@@ -0,0 +1,57 @@
+package com.jongsoft.lang.control;
+
+import java.util.Objects;
+
+import com.jongsoft.lang.control.impl.ComposedResilience;
+
+/**
+ * A resilience policy protects the execution of a fallible operation, for example by retrying it or by rejecting calls
+ * when the operation is known to be failing. The outcome of the operation is always returned as a {@link Try}.
+ * <p>
+ *     Policies can be combined, where the outer policy protects the execution of the inner one.
+ * </p>
+ * <p><strong>Example:</strong></p>
+ * <pre>{@code  Resilience resilience = RetryPolicy.builder()
+ *          .maxAttempts(3)
+ *          .build()
+ *          .around(CircuitBreaker.builder().build());
+ *
+ *  Try<String> response = resilience.execute(() -> remoteService.call());
+ * }</pre>
+ *
+ * @since 1.1.7
+ * @see RetryPolicy
+ * @see CircuitBreaker
+ */
+public interface Resilience {
+
+    /**
+     * Execute the {@code supplier} protected by this policy.
+     *
+     * @param supplier the operation to execute
+     * @param <T>      the type of the result
+     * @return         the outcome of the operation
+     * @throws NullPointerException in case {@code supplier} is null
+     */
+    <T> Try<T> execute(CheckedSupplier<T> supplier);
+
+    /**
+     * Get the metrics collected by this policy.
+     *
+     * @return the metrics
+     */
+    ResilienceMetrics metrics();
+
+    /**
+     * Combine this policy with the {@code inner} policy, resulting in a policy where every execution of this policy
+     * executes the operation protected by the {@code inner} policy.
+     *
+     * @param inner the policy to wrap
+     * @return      the combined policy, reporting the metrics of this policy
+     */
+    default Resilience around(Resilience inner) {
+        Objects.requireNonNull(inner, "inner is null");
+        return new ComposedResilience(this, inner);
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.jongsoft.lang.control;
+
+import java.time.Duration;
+
+/**
+ * The metrics collected by a {@link Resilience} while executing calls. All counters are cumulative since the creation
+ * of the policy.
+ *
+ * @since 1.1.7
+ */
+public interface ResilienceMetrics {
+
+    /**
+     * The number of times the {@link Resilience#execute(CheckedSupplier)} operation was invoked.
+     *
+     * @return the number of calls
+     */
+    long calls();
+
+    /**
+     * The number of times the supplier was actually invoked, including any retries.
+     *
+     * @return the number of attempts
+     */
+    long attempts();
+
+    /**
+     * The number of calls that resulted into a success.
+     *
+     * @return the number of successful calls
+     */
+    long successes();
+
+    /**
+     * The number of calls that resulted into a failure, including rejected calls.
+     *
+     * @return the number of failed calls
+     */
+    long failures();
+
+    /**
+     * The number of calls that were rejected without invoking the supplier.
+     *
+     * @return the number of rejected calls
+     */
+    long rejections();
+
+    /**
+     * The average duration of a call, including any retries and backoff delays.
+     *
+     * @return the average latency
+     */
+    Duration averageLatency();
+
+    /**
+     * The longest duration of a single call, including any retries and backoff delays.
+     *
+     * @return the maximum latency
+     */
+    Duration maxLatency();
+
+}
@@ -0,0 +1,190 @@
+package com.jongsoft.lang.control;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+
+import com.jongsoft.lang.control.impl.AsyncSupport;
+import com.jongsoft.lang.control.impl.RetryPolicyImpl;
+import com.jongsoft.lang.exception.CircuitOpenException;
+
+/**
+ * The retry policy executes an operation until it succeeds or the maximum number of attempts is reached. Between
+ * attempts the policy waits using an exponential backoff, randomized with jitter so that many callers failing at the
+ * same moment do not retry in lock step.
+ * <p>
+ *     When an attempt timeout is configured every attempt runs on the configured executor, by default one using virtual
+ *     threads when available, and is interrupted once the timeout passes. The attempt then fails with a
+ *     {@link java.util.concurrent.TimeoutException}.
+ * </p>
+ * <p><strong>Example:</strong></p>
+ * <pre>{@code  RetryPolicy policy = RetryPolicy.builder()
+ *          .maxAttempts(4)
+ *          .backoff(Duration.ofMillis(50), Duration.ofSeconds(2))
+ *          .attemptTimeout(Duration.ofSeconds(1))
+ *          .build();
+ *
+ *  Try<String> response = policy.execute(() -> remoteService.call());
+ * }</pre>
+ *
+ * @since 1.1.7
+ */
+public interface RetryPolicy extends Resilience {
+
+    /**
+     * Create a new builder for a retry policy.
+     *
+     * @return the builder
+     */
+    static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The builder for the {@link RetryPolicy}. By default 3 attempts are made, with a backoff starting at 100
+     * milliseconds doubling up to 10 seconds, a jitter of 0.5 and no attempt timeout. All exceptions are retried,
+     * except for the {@link CircuitOpenException}.
+     */
+    final class Builder {
+
+        private int maxAttempts = 3;
+        private Duration initialDelay = Duration.ofMillis(100);
+        private Duration maxDelay = Duration.ofSeconds(10);
+        private double multiplier = 2;
+        private double jitter = 0.5;
+        private Duration attemptTimeout;
+        private Executor executor;
+        private Predicate<Throwable> retryOn = failure -> !(failure instanceof CircuitOpenException);
+
+        private Builder() {
+        }
+
+        /**
+         * Set the maximum number of attempts, including the first one.
+         *
+         * @param maxAttempts the maximum attempts
+         * @return this builder
+         * @throws IllegalArgumentException in case {@code maxAttempts} is less then 1
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("maxAttempts must be at least 1");
+            }
+
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Set the delay before the first retry and the maximum delay between two attempts.
+         *
+         * @param initialDelay the delay before the first retry
+         * @param maxDelay     the upper bound of the delay
+         * @return this builder
+         * @throws IllegalArgumentException in case a delay is negative or {@code maxDelay} is less then
+         *                                  {@code initialDelay}
+         */
+        public Builder backoff(Duration initialDelay, Duration maxDelay) {
+            Objects.requireNonNull(initialDelay, "initialDelay is null");
+            Objects.requireNonNull(maxDelay, "maxDelay is null");
+            if (initialDelay.isNegative() || maxDelay.compareTo(initialDelay) < 0) {
+                throw new IllegalArgumentException("delays must be positive and maxDelay at least initialDelay");
+            }
+
+            this.initialDelay = initialDelay;
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        /**
+         * Set the factor the delay grows with after every failed attempt.
+         *
+         * @param multiplier the growth factor
+         * @return this builder
+         * @throws IllegalArgumentException in case {@code multiplier} is less then 1
+         */
+        public Builder multiplier(double multiplier) {
+            if (multiplier < 1) {
+                throw new IllegalArgumentException("multiplier must be at least 1");
+            }
+
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        /**
+         * Set the jitter, the fraction of the delay that is randomized. With a jitter of 0.5 the actual delay lies
+         * between half the computed delay and the full computed delay, a jitter of 1 spreads it over the full range.
+         *
+         * @param jitter the jitter between 0 and 1
+         * @return this builder
+         * @throws IllegalArgumentException in case {@code jitter} is not between 0 and 1
+         */
+        public Builder jitter(double jitter) {
+            if (jitter < 0 || jitter > 1) {
+                throw new IllegalArgumentException("jitter must be between 0 and 1");
+            }
+
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * Set the maximum duration of a single attempt.
+         *
+         * @param attemptTimeout the timeout of an attempt
+         * @return this builder
+         * @throws IllegalArgumentException in case {@code attemptTimeout} is not positive
+         */
+        public Builder attemptTimeout(Duration attemptTimeout) {
+            Objects.requireNonNull(attemptTimeout, "attemptTimeout is null");
+            if (attemptTimeout.isNegative() || attemptTimeout.isZero()) {
+                throw new IllegalArgumentException("attemptTimeout must be positive");
+            }
+
+            this.attemptTimeout = attemptTimeout;
+            return this;
+        }
+
+        /**
+         * Set the executor used to run attempts when an attempt timeout is configured.
+         *
+         * @param executor the executor
+         * @return this builder
+         */
+        public Builder executor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "executor is null");
+            return this;
+        }
+
+        /**
+         * Set the predicate deciding which failures are retried, other failures are returned immediately.
+         *
+         * @param retryOn the predicate
+         * @return this builder
+         */
+        public Builder retryOn(Predicate<Throwable> retryOn) {
+            this.retryOn = Objects.requireNonNull(retryOn, "retryOn is null");
+            return this;
+        }
+
+        /**
+         * Create the retry policy.
+         *
+         * @return the retry policy
+         */
+        public RetryPolicy build() {
+            return new RetryPolicyImpl(
+                    maxAttempts,
+                    initialDelay,
+                    maxDelay,
+                    multiplier,
+                    jitter,
+                    attemptTimeout,
+                    executor == null ? AsyncSupport.executor() : executor,
+                    retryOn);
+        }
+    }
+
+}
@@ -23,9 +23,14 @@
  */
 package com.jongsoft.lang.control;
 
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.function.Function;
 
+import com.jongsoft.lang.collection.Collection;
+import com.jongsoft.lang.collection.Sequence;
+import com.jongsoft.lang.collection.impl.Array;
+
 import com.jongsoft.lang.control.impl.TryFailure;
 import com.jongsoft.lang.control.impl.TrySuccess;
 
@@ -114,17 +119,56 @@ public interface Try<T> {
      */
     boolean isSuccess();
 
+    /**
+     * Apply the {@code mapper} to the value of a successful try. If the mapper throws an exception a failed try is
+     * returned, a failed try is returned as is without calling the mapper.
+     *
+     * @param mapper the mapping operation
+     * @param <U>    the type of the mapped value
+     * @return       the try with the mapped value
+     * @throws NullPointerException in case {@code mapper} is null
+     */
+    @SuppressWarnings("unchecked")
     default <U> Try<U> map(Function<T, U> mapper) {
         Objects.requireNonNull(mapper, "Mapper cannot be null");
-        if (!isFailure()) {
-            try {
-                return new TrySuccess<>(mapper.apply(get()));
-            } catch (Exception th) {
-                return new TryFailure<>(th);
-            }
+        if (isFailure()) {
+            return (Try<U>) this;
         }
 
-        return new TryFailure<>(getCause());
+        try {
+            return new TrySuccess<>(mapper.apply(get()));
+        } catch (Exception th) {
+            return new TryFailure<>(th);
+        }
+    }
+
+    /**
+     * Apply the {@code mapper} to the value of a successful try and return the try it produces. If the mapper throws an
+     * exception a failed try is returned, a failed try is returned as is without calling the mapper.
+     *
+     * <p><strong>Example:</strong></p>
+     * <pre>{@code  Try<Integer> age = Control.Try(() -> form.get("age"))
+     *     .flatMap(value -> Control.Try(() -> Integer.parseInt(value)));
+     * }</pre>
+     *
+     * @param mapper the mapping operation
+     * @param <U>    the type of the mapped value
+     * @return       the try produced by the mapper
+     * @throws NullPointerException in case {@code mapper} is null
+     * @since 1.1.7
+     */
+    @SuppressWarnings("unchecked")
+    default <U> Try<U> flatMap(Function<T, Try<U>> mapper) {
+        Objects.requireNonNull(mapper, "Mapper cannot be null");
+        if (isFailure()) {
+            return (Try<U>) this;
+        }
+
+        try {
+            return Objects.requireNonNull(mapper.apply(get()), "Mapper returned null");
+        } catch (Exception th) {
+            return new TryFailure<>(th);
+        }
     }
 
     /**
@@ -182,4 +226,98 @@ public interface Try<T> {
         return this;
     }
 
+    /**
+     * Create a successful {@link Try} containing the provided {@code value}.
+     *
+     * @param value the value of the success
+     * @param <T>   the type of the value
+     * @return      the successful try
+     * @since 1.1.7
+     */
+    static <T> Try<T> success(T value) {
+        return new TrySuccess<>(value);
+    }
+
+    /**
+     * Create a failed {@link Try} with the provided {@code cause}. The cause is stored as is, it is only wrapped in a
+     * {@link com.jongsoft.lang.exception.NonFatalException} when {@link #get()} is called.
+     *
+     * @param cause the cause of the failure
+     * @param <T>   the type of the value
+     * @return      the failed try
+     * @throws NullPointerException in case {@code cause} is null
+     * @throws com.jongsoft.lang.exception.FatalException in case {@code cause} is an {@link Error}
+     * @since 1.1.7
+     */
+    static <T> Try<T> failure(Throwable cause) {
+        return new TryFailure<>(cause);
+    }
+
+    /**
+     * Combine all the {@code attempts} into one try containing a sequence of all values, in the same order. The first
+     * failure encountered is returned as is and the remaining attempts are not inspected.
+     *
+     * @param attempts the attempts to combine
+     * @param <T>      the type of the values
+     * @return         the try with all values, or the first failure
+     * @throws NullPointerException in case {@code attempts} is null
+     * @since 1.1.7
+     */
+    static <T> Try<Sequence<T>> sequence(Iterable<? extends Try<T>> attempts) {
+        return traverse(attempts, Function.identity());
+    }
+
+    /**
+     * Apply the {@code mapper} to all the {@code elements} and combine the results into one try containing a sequence
+     * of all mapped values, in the same order. The mapping stops at the first failure, which is returned as is.
+     *
+     * <p><strong>Example:</strong></p>
+     * <pre>{@code  Try<Sequence<Integer>> numbers = Try.traverse(
+     *     Collections.List("1", "2", "3"),
+     *     value -> Control.Try(() -> Integer.parseInt(value)));
+     * }</pre>
+     *
+     * @param elements the elements to map
+     * @param mapper   the mapping operation
+     * @param <T>      the type of the elements
+     * @param <U>      the type of the mapped values
+     * @return         the try with all mapped values, or the first failure
+     * @throws NullPointerException in case {@code elements} or {@code mapper} is null
+     * @since 1.1.7
+     */
+    @SuppressWarnings("unchecked")
+    static <T, U> Try<Sequence<U>> traverse(Iterable<? extends T> elements, Function<? super T, ? extends Try<U>> mapper) {
+        Objects.requireNonNull(elements, "elements is null");
+        Objects.requireNonNull(mapper, "Mapper cannot be null");
+
+        Object[] values;
+        if (elements instanceof Collection) {
+            values = new Object[((Collection<?>) elements).size()];
+        } else if (elements instanceof java.util.Collection) {
+            values = new Object[((java.util.Collection<?>) elements).size()];
+        } else {
+            values = new Object[16];
+        }
+
+        int count = 0;
+        for (T element : elements) {
+            final Try<U> attempt;
+            try {
+                attempt = mapper.apply(element);
+            } catch (Exception th) {
+                return new TryFailure<>(th);
+            }
+
+            if (attempt.isFailure()) {
+                return (Try<Sequence<U>>) (Try<?>) attempt;
+            }
+            if (count == values.length) {
+                values = Arrays.copyOf(values, Math.max(16, count * 2));
+            }
+            values[count++] = attempt.get();
+        }
+
+        return new TrySuccess<>(new Array<>(count == values.length ? values : Arrays.copyOf(values, count)));
+    }
+
 }
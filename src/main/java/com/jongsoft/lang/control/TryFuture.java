@@ -0,0 +1,134 @@
+package com.jongsoft.lang.control;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import com.jongsoft.lang.collection.Sequence;
+import com.jongsoft.lang.collection.tuple.Pair;
+import com.jongsoft.lang.control.impl.TryFutureImpl;
+
+/**
+ * The TryFuture is the asynchronous counterpart of the {@link Try}. It represents a computation that is running in the
+ * background and will complete with either a success or a failure.
+ * <p>
+ *     All composition operations are non blocking, only {@link #await()} and {@link #await(Duration)} will wait for the
+ *     computation to complete and return the outcome as a {@link Try}.
+ * </p>
+ * <p><strong>Example:</strong></p>
+ * <pre>{@code  Try<Integer> length = Control.TryAsync(() -> remoteService.fetchName())
+ *      .map(String::length)
+ *      .recover(x -> 0)
+ *      .await(Duration.ofSeconds(5));
+ * }</pre>
+ *
+ * @param <T> the type of the value
+ * @since 1.1.7
+ */
+public interface TryFuture<T> {
+
+    /**
+     * Apply the {@code mapper} to the value once the computation succeeds. If the mapper throws an exception the
+     * resulting future fails with that exception.
+     *
+     * @param mapper the mapping operation
+     * @param <U>    the type of the mapped value
+     * @return       the future of the mapped value
+     * @throws NullPointerException in case {@code mapper} is null
+     */
+    <U> TryFuture<U> map(Function<T, U> mapper);
+
+    /**
+     * Continue with the asynchronous computation returned by the {@code mapper} once this computation succeeds.
+     *
+     * @param mapper the operation creating the next computation
+     * @param <U>    the type of the next value
+     * @return       the future of the next computation
+     * @throws NullPointerException in case {@code mapper} is null
+     */
+    <U> TryFuture<U> flatMap(Function<T, TryFuture<U>> mapper);
+
+    /**
+     * Set a fallback operation to be executed when the computation fails.
+     *
+     * @param recoverMethod the operation that will be executed when the computation fails
+     * @param <X>           the type of exception the computation failed with
+     * @return              the future of the recovered value
+     * @see Try#recover(Function)
+     */
+    <X extends Throwable> TryFuture<T> recover(Function<X, T> recoverMethod);
+
+    /**
+     * Combine this future with the {@code other} future into one that completes with both values. The combination
+     * fails as soon as either of them fails.
+     *
+     * @param other the future to combine with
+     * @param <U>   the type of the other value
+     * @return      the future with both values
+     */
+    <U> TryFuture<Pair<T, U>> zip(TryFuture<U> other);
+
+    /**
+     * Wait until the computation completes.
+     *
+     * @return the outcome of the computation
+     */
+    Try<T> await();
+
+    /**
+     * Wait at most the {@code timeout} for the computation to complete. If the computation does not complete in time
+     * a failure with a {@link java.util.concurrent.TimeoutException} is returned, the computation itself continues.
+     *
+     * @param timeout the maximum time to wait
+     * @return        the outcome of the computation
+     */
+    Try<T> await(Duration timeout);
+
+    /**
+     * Indicates if the computation completed, either successfully or with a failure.
+     *
+     * @return true if completed
+     */
+    boolean isDone();
+
+    /**
+     * Convert this future into a {@link CompletableFuture}, for interaction with other asynchronous APIs.
+     *
+     * @return the completable future
+     */
+    CompletableFuture<T> toCompletableFuture();
+
+    /**
+     * Create an already completed future with the outcome of the provided {@code attempt}.
+     *
+     * @param attempt the outcome of the future
+     * @param <T>     the type of the value
+     * @return        the completed future
+     */
+    static <T> TryFuture<T> completed(Try<T> attempt) {
+        Objects.requireNonNull(attempt, "attempt is null");
+        CompletableFuture<T> future = new CompletableFuture<>();
+        if (attempt.isSuccess()) {
+            future.complete(attempt.get());
+        } else {
+            future.completeExceptionally(attempt.getCause());
+        }
+
+        return new TryFutureImpl<>(future);
+    }
+
+    /**
+     * Combine all the {@code futures} into one future with a sequence of their values, in the same order. The combined
+     * future fails as soon as any of the futures fails.
+     *
+     * @param futures the futures to combine
+     * @param <T>     the type of the values
+     * @return        the future of all values
+     */
+    static <T> TryFuture<Sequence<T>> sequence(Iterable<? extends TryFuture<T>> futures) {
+        Objects.requireNonNull(futures, "futures is null");
+        return TryFutureImpl.sequence(futures);
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.jongsoft.lang.control.impl;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Provides the default {@link Executor} used for asynchronous operations in the control package.
+ * <p>
+ *     When running on a Java version that supports virtual threads every task gets its own virtual thread, on older
+ *     versions a cached pool of daemon threads is used instead.
+ * </p>
+ */
+public final class AsyncSupport {
+
+    private AsyncSupport() {
+        // hidden constructor utility class
+    }
+
+    public static Executor executor() {
+        return Holder.EXECUTOR;
+    }
+
+    private static final class Holder {
+        private static final Executor EXECUTOR = create();
+
+        private static Executor create() {
+            try {
+                Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                return (ExecutorService) factory.invoke(null);
+            } catch (ReflectiveOperationException | UnsupportedOperationException exception) {
+                return Executors.newCachedThreadPool(new DaemonThreadFactory());
+            }
+        }
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "jongsoft-async-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+}
@@ -0,0 +1,186 @@
+package com.jongsoft.lang.control.impl;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+import com.jongsoft.lang.Control;
+import com.jongsoft.lang.control.CheckedSupplier;
+import com.jongsoft.lang.control.CircuitBreaker;
+import com.jongsoft.lang.control.ResilienceMetrics;
+import com.jongsoft.lang.control.Try;
+import com.jongsoft.lang.exception.CircuitOpenException;
+
+public class CircuitBreakerImpl implements CircuitBreaker {
+
+    private static final int EMPTY = 0;
+    private static final int SUCCESS = 1;
+    private static final int FAILURE = 2;
+
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDuration;
+    private final int probeCalls;
+    private final Predicate<Throwable> recordOn;
+    private final MetricsRecorder metrics = new MetricsRecorder();
+
+    // the sliding window is a ring of outcomes, with the counters kept in sync when a slot is overwritten
+    private final AtomicIntegerArray window;
+    private final AtomicLong cursor = new AtomicLong();
+    private final AtomicInteger recorded = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+
+    private final AtomicReference<Status> status = new AtomicReference<>(new Status(State.CLOSED, 0));
+    private final AtomicInteger probePermits = new AtomicInteger();
+    private final AtomicInteger probeSuccesses = new AtomicInteger();
+
+    public CircuitBreakerImpl(int windowSize, int minimumCalls, double failureRateThreshold, Duration openDuration,
+            int probeCalls, Predicate<Throwable> recordOn) {
+        this.window = new AtomicIntegerArray(windowSize);
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDuration = openDuration.toNanos();
+        this.probeCalls = probeCalls;
+        this.recordOn = recordOn;
+    }
+
+    @Override
+    public <T> Try<T> execute(CheckedSupplier<T> supplier) {
+        Objects.requireNonNull(supplier, "Supplier cannot be null");
+        final long start = System.nanoTime();
+
+        final Status acquired = acquire(start);
+        if (acquired == null) {
+            metrics.recordRejection();
+            metrics.recordCall(false, System.nanoTime() - start);
+            return Try.failure(new CircuitOpenException("Circuit breaker is open"));
+        }
+
+        metrics.recordAttempt();
+        final Try<T> outcome = Control.Try(supplier);
+        final boolean success = outcome.isSuccess() || !recordOn.test(outcome.getCause());
+        if (acquired.state == State.HALF_OPEN) {
+            onProbe(acquired, success);
+        } else {
+            record(success);
+        }
+
+        metrics.recordCall(outcome.isSuccess(), System.nanoTime() - start);
+        return outcome;
+    }
+
+    @Override
+    public State state() {
+        Status current = status.get();
+        if (current.state == State.OPEN && System.nanoTime() - current.since >= openDuration) {
+            return State.HALF_OPEN;
+        }
+
+        return current.state;
+    }
+
+    @Override
+    public ResilienceMetrics metrics() {
+        return metrics;
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreaker[" + state() + "]";
+    }
+
+    /**
+     * Acquire permission to execute a call, returning the status the call was permitted in or null when it is
+     * rejected.
+     */
+    private Status acquire(long now) {
+        Status current = status.get();
+        if (current.state == State.OPEN) {
+            if (now - current.since < openDuration) {
+                return null;
+            }
+
+            Status halfOpen = new Status(State.HALF_OPEN, now);
+            if (status.compareAndSet(current, halfOpen)) {
+                probeSuccesses.set(0);
+                probePermits.set(probeCalls);
+                current = halfOpen;
+            } else {
+                current = status.get();
+            }
+        }
+
+        if (current.state == State.HALF_OPEN) {
+            int permits = probePermits.get();
+            while (permits > 0) {
+                if (probePermits.compareAndSet(permits, permits - 1)) {
+                    return current;
+                }
+
+                permits = probePermits.get();
+            }
+
+            return null;
+        }
+
+        return current;
+    }
+
+    private void onProbe(Status acquired, boolean success) {
+        if (!success) {
+            status.compareAndSet(acquired, new Status(State.OPEN, System.nanoTime()));
+        } else if (probeSuccesses.incrementAndGet() >= probeCalls
+                && status.compareAndSet(acquired, new Status(State.CLOSED, System.nanoTime()))) {
+            resetWindow();
+        }
+    }
+
+    private void record(boolean success) {
+        int slot = (int) (cursor.getAndIncrement() % window.length());
+        int previous = window.getAndSet(slot, success ? SUCCESS : FAILURE);
+        if (previous == EMPTY) {
+            recorded.incrementAndGet();
+        } else if (previous == FAILURE) {
+            failed.decrementAndGet();
+        }
+
+        if (success) {
+            return;
+        }
+
+        int failures = failed.incrementAndGet();
+        int calls = recorded.get();
+        Status current = status.get();
+        if (current.state == State.CLOSED && calls >= minimumCalls && failures >= failureRateThreshold * calls
+                && status.compareAndSet(current, new Status(State.OPEN, System.nanoTime()))) {
+            resetWindow();
+        }
+    }
+
+    private void resetWindow() {
+        for (int i = 0; i < window.length(); i++) {
+            int previous = window.getAndSet(i, EMPTY);
+            if (previous != EMPTY) {
+                recorded.decrementAndGet();
+            }
+            if (previous == FAILURE) {
+                failed.decrementAndGet();
+            }
+        }
+    }
+
+    private static final class Status {
+        private final State state;
+        private final long since;
+
+        private Status(State state, long since) {
+            this.state = state;
+            this.since = since;
+        }
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.jongsoft.lang.control.impl;
+
+import com.jongsoft.lang.control.CheckedSupplier;
+import com.jongsoft.lang.control.Resilience;
+import com.jongsoft.lang.control.ResilienceMetrics;
+import com.jongsoft.lang.control.Try;
+
+public class ComposedResilience implements Resilience {
+
+    private final Resilience outer;
+    private final Resilience inner;
+
+    public ComposedResilience(Resilience outer, Resilience inner) {
+        this.outer = outer;
+        this.inner = inner;
+    }
+
+    @Override
+    public <T> Try<T> execute(CheckedSupplier<T> supplier) {
+        // a failing inner Try throws a NonFatalException, which the outer policy unwraps to the original cause
+        return outer.execute(() -> inner.execute(supplier).get());
+    }
+
+    @Override
+    public ResilienceMetrics metrics() {
+        return outer.metrics();
+    }
+
+}
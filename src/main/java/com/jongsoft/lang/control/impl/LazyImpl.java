@@ -0,0 +1,91 @@
+package com.jongsoft.lang.control.impl;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.jongsoft.lang.Control;
+import com.jongsoft.lang.control.Lazy;
+import com.jongsoft.lang.control.Optional;
+
+public class LazyImpl<T> implements Lazy<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    // cleared once the value is computed, the volatile write publishes the value to all other threads
+    private transient volatile Supplier<? extends T> supplier;
+    private T value;
+
+    public LazyImpl(Supplier<? extends T> supplier) {
+        this.supplier = supplier;
+    }
+
+    @Override
+    public T get() {
+        return supplier == null ? value : evaluate();
+    }
+
+    @Override
+    public boolean isEvaluated() {
+        return supplier == null;
+    }
+
+    @Override
+    public <U> Lazy<U> map(Function<T, U> mapper) {
+        Objects.requireNonNull(mapper, "Mapper cannot be null");
+        return new LazyImpl<>(() -> mapper.apply(get()));
+    }
+
+    @Override
+    public Optional<T> filter(Predicate<T> predicate) {
+        Objects.requireNonNull(predicate, "Predicate may not be null");
+        return Control.Option(get()).filter(predicate);
+    }
+
+    @Override
+    public Lazy<T> async() {
+        return async(AsyncSupport.executor());
+    }
+
+    @Override
+    public Lazy<T> async(Executor executor) {
+        Objects.requireNonNull(executor, "Executor cannot be null");
+        if (!isEvaluated()) {
+            executor.execute(this::get);
+        }
+
+        return this;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new SingleIterator<>(get());
+    }
+
+    @Override
+    public String toString() {
+        return "Lazy(" + (isEvaluated() ? String.valueOf(value) : "?") + ")";
+    }
+
+    private synchronized T evaluate() {
+        final Supplier<? extends T> pending = supplier;
+        if (pending != null) {
+            value = pending.get();
+            supplier = null;
+        }
+
+        return value;
+    }
+
+    private void writeObject(ObjectOutputStream stream) throws IOException {
+        // the supplier cannot be serialized, so the value is computed before writing it
+        get();
+        stream.defaultWriteObject();
+    }
+
+}
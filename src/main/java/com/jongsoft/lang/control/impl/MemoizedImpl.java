@@ -0,0 +1,232 @@
+package com.jongsoft.lang.control.impl;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.jongsoft.lang.control.Memoized;
+
+public class MemoizedImpl<T, R> implements Memoized<T, R>, Memoized.Statistics {
+
+    private final Function<T, R> function;
+    private final Predicate<R> cacheable;
+    private final long maximumSize;
+    private final long expireAfterWrite;
+
+    private final ConcurrentHashMap<T, Entry<T, R>> cache = new ConcurrentHashMap<>();
+
+    // the clock holds every cached entry once, entries no longer in the cache are dropped when the hand passes them
+    private final ConcurrentLinkedQueue<Entry<T, R>> clock = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger clockSize = new AtomicInteger();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    // the entries in the order they were written, when they expire. Expired entries are swept from its head on insert
+    private final ConcurrentLinkedQueue<Entry<T, R>> writes = new ConcurrentLinkedQueue<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public MemoizedImpl(Function<T, R> function, Predicate<R> cacheable, long maximumSize,
+            Duration expireAfterWrite) {
+        this.function = function;
+        this.cacheable = cacheable;
+        this.maximumSize = maximumSize;
+        this.expireAfterWrite = expireAfterWrite.toNanos();
+    }
+
+    @Override
+    public R apply(T key) {
+        Objects.requireNonNull(key, "key is null");
+        while (true) {
+            final Entry<T, R> entry = cache.get(key);
+            if (entry == null) {
+                final Entry<T, R> created = new Entry<>(key);
+                if (cache.putIfAbsent(key, created) == null) {
+                    misses.increment();
+                    return compute(created);
+                }
+            } else if (isExpired(entry)) {
+                cache.remove(key, entry);
+            } else {
+                hits.increment();
+                entry.referenced = true;
+                return entry.join();
+            }
+        }
+    }
+
+    @Override
+    public void invalidate(T key) {
+        if (key != null) {
+            cache.remove(key);
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    @Override
+    public int size() {
+        return cache.size();
+    }
+
+    @Override
+    public Statistics statistics() {
+        return this;
+    }
+
+    @Override
+    public long hits() {
+        return hits.sum();
+    }
+
+    @Override
+    public long misses() {
+        return misses.sum();
+    }
+
+    @Override
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "Memoized[size=" + size() + ", hits=" + hits() + ", misses=" + misses()
+                + ", evictions=" + evictions() + "]";
+    }
+
+    private R compute(Entry<T, R> entry) {
+        final R result;
+        try {
+            result = function.apply(entry.key);
+        } catch (RuntimeException | Error exception) {
+            cache.remove(entry.key, entry);
+            entry.future.completeExceptionally(exception);
+            throw exception;
+        }
+
+        if (!cacheable.test(result)) {
+            // the waiting callers receive this result, later callers compute it again
+            cache.remove(entry.key, entry);
+            entry.future.complete(result);
+            return result;
+        }
+
+        entry.writtenAt = System.nanoTime();
+        entry.future.complete(result);
+        if (expireAfterWrite > 0) {
+            writes.offer(entry);
+            expire();
+        }
+        if (maximumSize != Long.MAX_VALUE) {
+            clock.offer(entry);
+            clockSize.incrementAndGet();
+            evict();
+        }
+
+        return result;
+    }
+
+    private boolean isExpired(Entry<T, R> entry) {
+        return expireAfterWrite > 0
+                && entry.future.isDone()
+                && System.nanoTime() - entry.writtenAt >= expireAfterWrite;
+    }
+
+    /**
+     * Move the clock hand until the cache is within its maximum size. Referenced entries get a second chance, the
+     * first unreferenced entry is evicted. Only one thread evicts at a time, others skip as the work is being done.
+     */
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+
+        try {
+            int budget = clockSize.get() * 2;
+            while (budget-- > 0 && (cache.size() > maximumSize || clockSize.get() / 2 > maximumSize)) {
+                final Entry<T, R> entry = clock.poll();
+                if (entry == null) {
+                    break;
+                }
+
+                if (cache.get(entry.key) != entry) {
+                    clockSize.decrementAndGet();
+                } else if (entry.referenced || cache.size() <= maximumSize) {
+                    entry.referenced = false;
+                    clock.offer(entry);
+                } else {
+                    clockSize.decrementAndGet();
+                    if (cache.remove(entry.key, entry)) {
+                        evictions.increment();
+                    }
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Remove the expired entries from the head of the write order, so keys that are never requested again do not
+     * stay in the cache. Every entry is swept at most once, which spreads the work evenly over the inserts. Entries
+     * that are no longer cached are dropped on the way, the sweep stops at the first entry that has not expired.
+     */
+    private void expire() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+
+        try {
+            for (Entry<T, R> entry = writes.peek(); entry != null; entry = writes.peek()) {
+                if (cache.get(entry.key) == entry && !isExpired(entry)) {
+                    break;
+                }
+
+                writes.poll();
+                cache.remove(entry.key, entry);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static final class Entry<T, R> {
+        private final T key;
+        private final CompletableFuture<R> future = new CompletableFuture<>();
+        private volatile boolean referenced;
+        private volatile long writtenAt;
+
+        private Entry(T key) {
+            this.key = key;
+        }
+
+        private R join() {
+            try {
+                return future.join();
+            } catch (CompletionException exception) {
+                final Throwable cause = exception.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw exception;
+            }
+        }
+    }
+
+}
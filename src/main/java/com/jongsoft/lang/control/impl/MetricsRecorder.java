@@ -0,0 +1,80 @@
+package com.jongsoft.lang.control.impl;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.jongsoft.lang.control.ResilienceMetrics;
+
+/**
+ * A lock free recorder of {@link ResilienceMetrics}, safe to be updated from many threads at once.
+ */
+public class MetricsRecorder implements ResilienceMetrics {
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder attempts = new LongAdder();
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder totalLatency = new LongAdder();
+    private final AtomicLong maxLatency = new AtomicLong();
+
+    public void recordAttempt() {
+        attempts.increment();
+    }
+
+    public void recordRejection() {
+        rejections.increment();
+    }
+
+    public void recordCall(boolean success, long latencyNanos) {
+        calls.increment();
+        (success ? successes : failures).increment();
+        totalLatency.add(latencyNanos);
+        maxLatency.accumulateAndGet(latencyNanos, Math::max);
+    }
+
+    @Override
+    public long calls() {
+        return calls.sum();
+    }
+
+    @Override
+    public long attempts() {
+        return attempts.sum();
+    }
+
+    @Override
+    public long successes() {
+        return successes.sum();
+    }
+
+    @Override
+    public long failures() {
+        return failures.sum();
+    }
+
+    @Override
+    public long rejections() {
+        return rejections.sum();
+    }
+
+    @Override
+    public Duration averageLatency() {
+        long count = calls.sum();
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(totalLatency.sum() / count);
+    }
+
+    @Override
+    public Duration maxLatency() {
+        return Duration.ofNanos(maxLatency.get());
+    }
+
+    @Override
+    public String toString() {
+        return "Metrics[calls=" + calls() + ", attempts=" + attempts() + ", successes=" + successes()
+                + ", failures=" + failures() + ", rejections=" + rejections()
+                + ", averageLatency=" + averageLatency() + ", maxLatency=" + maxLatency() + "]";
+    }
+
+}
@@ -80,7 +80,24 @@ public class None<T> implements Optional<T> {
 
     @Override
     public <U> Optional<U> map(Function<T, U> mapper) {
-        return Control.Option(null);
+        return Control.Option();
+    }
+
+    @Override
+    public boolean exists(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate, "Predicate provided cannot be null");
+        return false;
+    }
+
+    @Override
+    public boolean all(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate, "Predicate provided cannot be null");
+        return true;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        return false;
     }
 
     @Override
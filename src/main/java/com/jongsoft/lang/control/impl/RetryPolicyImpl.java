@@ -0,0 +1,104 @@
+package com.jongsoft.lang.control.impl;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+import com.jongsoft.lang.Control;
+import com.jongsoft.lang.control.CheckedSupplier;
+import com.jongsoft.lang.control.ResilienceMetrics;
+import com.jongsoft.lang.control.RetryPolicy;
+import com.jongsoft.lang.control.Try;
+
+public class RetryPolicyImpl implements RetryPolicy {
+
+    private final int maxAttempts;
+    private final long initialDelay;
+    private final long maxDelay;
+    private final double multiplier;
+    private final double jitter;
+    private final Duration attemptTimeout;
+    private final Executor executor;
+    private final Predicate<Throwable> retryOn;
+    private final MetricsRecorder metrics = new MetricsRecorder();
+
+    @SuppressWarnings("java:S107")
+    public RetryPolicyImpl(int maxAttempts, Duration initialDelay, Duration maxDelay, double multiplier,
+            double jitter, Duration attemptTimeout, Executor executor, Predicate<Throwable> retryOn) {
+        this.maxAttempts = maxAttempts;
+        this.initialDelay = initialDelay.toNanos();
+        this.maxDelay = maxDelay.toNanos();
+        this.multiplier = multiplier;
+        this.jitter = jitter;
+        this.attemptTimeout = attemptTimeout;
+        this.executor = executor;
+        this.retryOn = retryOn;
+    }
+
+    @Override
+    public <T> Try<T> execute(CheckedSupplier<T> supplier) {
+        Objects.requireNonNull(supplier, "Supplier cannot be null");
+        final long start = System.nanoTime();
+
+        Try<T> outcome = attempt(supplier);
+        for (int attempt = 1; attempt < maxAttempts && outcome.isFailure() && retryOn.test(outcome.getCause());
+                attempt++) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(delay(attempt));
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            outcome = attempt(supplier);
+        }
+
+        metrics.recordCall(outcome.isSuccess(), System.nanoTime() - start);
+        return outcome;
+    }
+
+    @Override
+    public ResilienceMetrics metrics() {
+        return metrics;
+    }
+
+    private <T> Try<T> attempt(CheckedSupplier<T> supplier) {
+        metrics.recordAttempt();
+        if (attemptTimeout == null) {
+            return Control.Try(supplier);
+        }
+
+        final FutureTask<T> task = new FutureTask<>(supplier::get);
+        executor.execute(task);
+        try {
+            return Try.success(task.get(attemptTimeout.toNanos(), TimeUnit.NANOSECONDS));
+        } catch (ExecutionException exception) {
+            return Try.failure(exception.getCause());
+        } catch (TimeoutException exception) {
+            task.cancel(true);
+            return Try.failure(exception);
+        } catch (InterruptedException exception) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            return Try.failure(exception);
+        }
+    }
+
+    /**
+     * Compute the delay before the next attempt, the exponential backoff is capped at the maximum delay after which
+     * the jitter randomizes a fraction of it.
+     */
+    long delay(int attempt) {
+        double exponential = initialDelay * Math.pow(multiplier, attempt - 1d);
+        long capped = (long) Math.min(exponential, maxDelay);
+        long randomized = (long) (capped * jitter * ThreadLocalRandom.current().nextDouble());
+        return capped - randomized;
+    }
+
+}
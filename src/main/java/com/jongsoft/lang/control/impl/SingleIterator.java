@@ -0,0 +1,32 @@
+package com.jongsoft.lang.control.impl;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An iterator over exactly one element, avoiding the list wrapper required by the JDK singleton iterator.
+ */
+final class SingleIterator<T> implements Iterator<T> {
+
+    private final T value;
+    private boolean consumed;
+
+    SingleIterator(T value) {
+        this.value = value;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !consumed;
+    }
+
+    @Override
+    public T next() {
+        if (consumed) {
+            throw new NoSuchElementException("No next element available in the iterator");
+        }
+
+        consumed = true;
+        return value;
+    }
+}
@@ -26,7 +26,6 @@ package com.jongsoft.lang.control.impl;
 import com.jongsoft.lang.Control;
 import com.jongsoft.lang.control.Optional;
 
-import java.util.Collections;
 import java.util.Iterator;
 import java.util.Objects;
 import java.util.function.Consumer;
@@ -38,7 +37,7 @@ public class Some<T> implements Optional<T> {
 
     private static final long serialVersionUID = 1L;
 
-    private final transient T value;
+    private final T value;
 
     public Some(T value) {
         this.value = value;
@@ -56,7 +55,24 @@ public class Some<T> implements Optional<T> {
 
     @Override
     public Iterator<T> iterator() {
-        return Collections.singletonList(value).iterator();
+        return new SingleIterator<>(value);
+    }
+
+    @Override
+    public boolean exists(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate, "Predicate provided cannot be null");
+        return predicate.test(value);
+    }
+
+    @Override
+    public boolean all(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate, "Predicate provided cannot be null");
+        return predicate.test(value);
+    }
+
+    @Override
+    public boolean contains(T element) {
+        return Objects.equals(value, element);
     }
 
     @Override
@@ -84,15 +100,21 @@ public class Some<T> implements Optional<T> {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <U> Optional<U> map(Function<T, U> mapper) {
         Objects.requireNonNull(mapper, "Mapping function cannot be null");
-        return Control.Option(mapper.apply(get()));
+        final U mapped = mapper.apply(value);
+
+        // an identity mapping can re-use this instance, as the wrapped value is immutable
+        return mapped == value
+                ? (Optional<U>) this
+                : Control.Option(mapped);
     }
 
     @Override
     public Optional<T> filter(Predicate<T> predicate) {
         Objects.requireNonNull(predicate, "Predicate may not be null");
-        return this.all(predicate) ? this : Control.Option(null);
+        return predicate.test(value) ? this : Control.Option();
     }
 
     @Override
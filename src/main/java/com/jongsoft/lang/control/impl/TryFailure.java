@@ -32,23 +32,34 @@ import java.util.function.Function;
 
 public class TryFailure<T> implements Try<T> {
 
-    private final NonFatalException cause;
+    private final Throwable cause;
+    private NonFatalException thrown;
 
     public TryFailure(Throwable exception) {
         Objects.requireNonNull(exception, "attempted to create failure without valid exception");
-        cause = NonFatalException.of(exception);
+        if (exception instanceof NonFatalException) {
+            thrown = (NonFatalException) exception;
+            cause = exception.getCause();
+        } else {
+            cause = NonFatalException.requireNonFatal(exception);
+        }
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public <X extends Throwable> Try<T> recover(Function<X, T> recoverMethod) {
         Objects.requireNonNull(recoverMethod, "The recover method cannot be null");
-        return Control.Try(() -> recoverMethod.apply((X) cause.getCause()));
+        return Control.Try(() -> recoverMethod.apply((X) cause));
     }
 
     @Override
     public T get() {
-        throw cause;
+        // the wrapper is only created once the failure is actually thrown
+        if (thrown == null) {
+            thrown = NonFatalException.of(cause);
+        }
+
+        throw thrown;
     }
 
     @Override
@@ -63,11 +74,6 @@ public class TryFailure<T> implements Try<T> {
 
     @Override
     public Throwable getCause() {
-        return cause.getCause();
-    }
-
-    @Override
-    public <U> Try<U> map(final Function<T, U> mapper) {
-        return Try.super.map(mapper);
+        return cause;
     }
 }
@@ -0,0 +1,128 @@
+package com.jongsoft.lang.control.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import com.jongsoft.lang.API;
+import com.jongsoft.lang.Collections;
+import com.jongsoft.lang.collection.Sequence;
+import com.jongsoft.lang.collection.tuple.Pair;
+import com.jongsoft.lang.control.Try;
+import com.jongsoft.lang.control.TryFuture;
+
+public class TryFutureImpl<T> implements TryFuture<T> {
+
+    private final CompletableFuture<T> delegate;
+
+    public TryFutureImpl(CompletableFuture<T> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public <U> TryFuture<U> map(Function<T, U> mapper) {
+        Objects.requireNonNull(mapper, "Mapper cannot be null");
+        return new TryFutureImpl<>(delegate.thenApply(mapper));
+    }
+
+    @Override
+    public <U> TryFuture<U> flatMap(Function<T, TryFuture<U>> mapper) {
+        Objects.requireNonNull(mapper, "Mapper cannot be null");
+        return new TryFutureImpl<>(delegate.thenCompose(value -> mapper.apply(value).toCompletableFuture()));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <X extends Throwable> TryFuture<T> recover(Function<X, T> recoverMethod) {
+        Objects.requireNonNull(recoverMethod, "The recover method cannot be null");
+        return new TryFutureImpl<>(delegate.exceptionally(failure -> recoverMethod.apply((X) unwrap(failure))));
+    }
+
+    @Override
+    public <U> TryFuture<Pair<T, U>> zip(TryFuture<U> other) {
+        Objects.requireNonNull(other, "other is null");
+        return new TryFutureImpl<>(delegate.thenCombine(other.toCompletableFuture(), API::Tuple));
+    }
+
+    @Override
+    public Try<T> await() {
+        try {
+            return Try.success(delegate.join());
+        } catch (RuntimeException exception) {
+            return Try.failure(unwrap(exception));
+        }
+    }
+
+    @Override
+    public Try<T> await(Duration timeout) {
+        Objects.requireNonNull(timeout, "timeout is null");
+        try {
+            return Try.success(delegate.get(timeout.toNanos(), TimeUnit.NANOSECONDS));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return Try.failure(exception);
+        } catch (ExecutionException | TimeoutException | RuntimeException exception) {
+            return Try.failure(unwrap(exception));
+        }
+    }
+
+    @Override
+    public boolean isDone() {
+        return delegate.isDone();
+    }
+
+    @Override
+    public CompletableFuture<T> toCompletableFuture() {
+        return delegate;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> TryFuture<Sequence<T>> sequence(Iterable<? extends TryFuture<T>> futures) {
+        final java.util.List<CompletableFuture<T>> pending = new ArrayList<>();
+        for (TryFuture<T> future : futures) {
+            pending.add(future.toCompletableFuture());
+        }
+
+        final CompletableFuture<Sequence<T>> combined = new CompletableFuture<>();
+        if (pending.isEmpty()) {
+            combined.complete(Collections.List());
+            return new TryFutureImpl<>(combined);
+        }
+
+        final Object[] values = new Object[pending.size()];
+        final AtomicInteger remaining = new AtomicInteger(values.length);
+        for (int i = 0; i < values.length; i++) {
+            final int index = i;
+            pending.get(i).whenComplete((value, failure) -> {
+                if (failure != null) {
+                    combined.completeExceptionally(unwrap(failure));
+                } else {
+                    values[index] = value;
+                    if (remaining.decrementAndGet() == 0) {
+                        combined.complete(Collections.List((T[]) values));
+                    }
+                }
+            });
+        }
+
+        return new TryFutureImpl<>(combined);
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        Throwable cause = failure;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+
+        return cause;
+    }
+
+}
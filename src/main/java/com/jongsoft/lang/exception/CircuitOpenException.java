@@ -0,0 +1,17 @@
+package com.jongsoft.lang.exception;
+
+/**
+ * Signals that a call was rejected because the circuit breaker protecting it is open. The exception carries no stack
+ * trace as it is raised for every rejected call and only its type is of interest.
+ *
+ * @since 1.1.7
+ */
+public final class CircuitOpenException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public CircuitOpenException(String message) {
+        super(message, null, false, false);
+    }
+
+}
@@ -25,26 +25,92 @@ package com.jongsoft.lang.exception;
 
 import java.util.Objects;
 
+/**
+ * The non fatal exception wraps any exception that can be recovered from, it is the exception thrown when accessing
+ * the value of a failed {@link com.jongsoft.lang.control.Try}.
+ * <p>
+ *     As the wrapped exception already contains the stack trace of the failure, this exception will by default not
+ *     capture its own stack trace. This makes creating it cheap for code paths with a high failure rate. For debugging
+ *     the stack trace capturing can be enabled globally using {@link #setCaptureStackTrace(boolean)} or the system
+ *     property {@value #CAPTURE_STACK_TRACE_PROPERTY}, or per exception using {@link #of(Throwable, boolean)}.
+ * </p>
+ */
 public final class NonFatalException extends RuntimeException {
 
+    /**
+     * The system property that enables capturing of the stack trace when set to {@code true}.
+     */
+    public static final String CAPTURE_STACK_TRACE_PROPERTY = "com.jongsoft.lang.exception.captureStackTrace";
+
     private static final long serialVersionUID = 1L;
 
-    NonFatalException(Throwable rootCause) {
-        super(rootCause);
+    private static volatile boolean captureStackTrace = Boolean.getBoolean(CAPTURE_STACK_TRACE_PROPERTY);
+
+    NonFatalException(Throwable rootCause, boolean writableStackTrace) {
+        super(rootCause.toString(), rootCause, true, writableStackTrace);
     }
 
     public static NonFatalException of(Throwable rootCause) {
-        Objects.requireNonNull(rootCause, "root cause may not be null");
+        return of(rootCause, captureStackTrace);
+    }
+
+    /**
+     * Wrap the {@code rootCause} in a non fatal exception, capturing the stack trace only if requested.
+     *
+     * @param rootCause         the exception to wrap
+     * @param captureStackTrace should the stack trace be captured
+     * @return                  the non fatal exception, or the {@code rootCause} if it already is one
+     * @throws FatalException   in case the {@code rootCause} is fatal
+     * @since 1.1.7
+     */
+    public static NonFatalException of(Throwable rootCause, boolean captureStackTrace) {
+        requireNonFatal(rootCause);
 
         if (rootCause instanceof NonFatalException) {
             return (NonFatalException) rootCause;
-        } else if (rootCause instanceof FatalException) {
+        }
+
+        return new NonFatalException(rootCause, captureStackTrace);
+    }
+
+    /**
+     * Validate the {@code rootCause} can be recovered from, without wrapping it.
+     *
+     * @param rootCause         the exception to validate
+     * @return                  the {@code rootCause}
+     * @throws FatalException   in case the {@code rootCause} is an {@link Error} or already fatal
+     * @since 1.1.7
+     */
+    public static Throwable requireNonFatal(Throwable rootCause) {
+        Objects.requireNonNull(rootCause, "root cause may not be null");
+
+        if (rootCause instanceof FatalException) {
             throw (FatalException) rootCause;
         } else if (rootCause instanceof Error) {
             throw new FatalException(rootCause);
         }
-        
-        return new NonFatalException(rootCause);
+
+        return rootCause;
+    }
+
+    /**
+     * Change if new non fatal exceptions capture their stack trace by default.
+     *
+     * @param capture true to capture the stack trace, false otherwise
+     * @since 1.1.7
+     */
+    public static void setCaptureStackTrace(boolean capture) {
+        captureStackTrace = capture;
+    }
+
+    /**
+     * Indicates if new non fatal exceptions capture their stack trace by default.
+     *
+     * @return true if the stack trace is captured
+     * @since 1.1.7
+     */
+    public static boolean isCaptureStackTrace() {
+        return captureStackTrace;
     }
 
     @Override
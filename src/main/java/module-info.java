@@ -1,5 +1,7 @@
 module com.jongsoft.lang {
     exports com.jongsoft.lang;
+    exports com.jongsoft.lang.codec;
+    exports com.jongsoft.lang.concurrent;
     exports com.jongsoft.lang.control;
     exports com.jongsoft.lang.exception;
     exports com.jongsoft.lang.time;
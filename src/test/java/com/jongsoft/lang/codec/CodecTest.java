@@ -0,0 +1,160 @@
+package com.jongsoft.lang.codec;
+
+import com.jongsoft.lang.API;
+import com.jongsoft.lang.Codecs;
+import com.jongsoft.lang.Collections;
+import com.jongsoft.lang.Control;
+import com.jongsoft.lang.Dates;
+import com.jongsoft.lang.collection.Map;
+import com.jongsoft.lang.collection.Sequence;
+import com.jongsoft.lang.collection.Set;
+import com.jongsoft.lang.collection.tuple.Pair;
+import com.jongsoft.lang.collection.tuple.Triplet;
+import com.jongsoft.lang.control.Optional;
+import com.jongsoft.lang.control.Try;
+import com.jongsoft.lang.time.Range;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CodecTest {
+
+    @Test
+    void varIntEncoding() {
+        assertThat(Codecs.Int().toBytes(0)).hasSize(1);
+        assertThat(Codecs.Int().toBytes(-1)).hasSize(1);
+        assertThat(Codecs.Int().toBytes(Integer.MAX_VALUE)).hasSize(5);
+        assertThat(Codecs.Int().fromBytes(Codecs.Int().toBytes(Integer.MIN_VALUE))).isEqualTo(Integer.MIN_VALUE);
+        assertThat(Codecs.Long().fromBytes(Codecs.Long().toBytes(Long.MIN_VALUE))).isEqualTo(Long.MIN_VALUE);
+    }
+
+    @Test
+    void sequence() {
+        Codec<Sequence<String>> codec = Codecs.Sequence(Codecs.String());
+
+        Sequence<String> decoded = codec.fromBytes(codec.toBytes(Collections.List("one", "two", "three")));
+
+        assertThat(decoded).containsExactly("one", "two", "three");
+        assertThat(codec.fromBytes(codec.toBytes(Collections.List()))).isEmpty();
+    }
+
+    @Test
+    void set() {
+        Codec<Set<Integer>> codec = Codecs.Set(Codecs.Int());
+
+        Set<Integer> decoded = codec.fromBytes(codec.toBytes(Collections.Set(1, 2, 3)));
+
+        assertThat(decoded).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void map() {
+        Codec<Map<String, Integer>> codec = Codecs.Map(Codecs.String(), Codecs.Int());
+        Map<String, Integer> original = Collections.<String, Integer>Map()
+                .put("one", 1)
+                .put("two", 2);
+
+        Map<String, Integer> decoded = codec.fromBytes(codec.toBytes(original));
+
+        assertThat(decoded.size()).isEqualTo(2);
+        assertThat(decoded.get("one")).isEqualTo(1);
+        assertThat(decoded.get("two")).isEqualTo(2);
+    }
+
+    @Test
+    void tuples() {
+        Codec<Pair<String, Integer>> pairCodec = Codecs.Pair(Codecs.String(), Codecs.Int());
+        Codec<Triplet<String, Boolean, Double>> tripletCodec = Codecs.Triplet(
+                Codecs.String(), Codecs.Boolean(), Codecs.Double());
+
+        Pair<String, Integer> pair = pairCodec.fromBytes(pairCodec.toBytes(API.Tuple("one", 1)));
+        Triplet<String, Boolean, Double> triplet = tripletCodec.fromBytes(
+                tripletCodec.toBytes(API.Tuple("two", true, 2.5)));
+
+        assertThat(pair).hasToString("Pair(one, 1)");
+        assertThat(triplet).hasToString("Triplet(two, true, 2.5)");
+    }
+
+    @Test
+    void optional() {
+        Codec<Optional<String>> codec = Codecs.Optional(Codecs.String());
+
+        assertThat(codec.fromBytes(codec.toBytes(Control.Option("test"))).get()).isEqualTo("test");
+        assertThat(codec.fromBytes(codec.toBytes(Control.Option())).isPresent()).isFalse();
+    }
+
+    @Test
+    void trySuccessAndFailure() {
+        Codec<Try<String>> codec = Codecs.Try(Codecs.String());
+
+        Try<String> success = codec.fromBytes(codec.toBytes(Control.Try(() -> "test")));
+        Try<String> failure = codec.fromBytes(codec.toBytes(Control.Try(() -> {
+            throw new IllegalArgumentException("big boobo");
+        })));
+
+        assertThat(success.get()).isEqualTo("test");
+        assertThat(failure.isFailure()).isTrue();
+        assertThat(failure.getCause())
+                .isInstanceOf(DecodedFailureException.class)
+                .hasMessage("big boobo")
+                .hasToString("java.lang.IllegalArgumentException: big boobo");
+    }
+
+    @Test
+    void range() {
+        Codec<Range<LocalDate>> codec = Codecs.Range(Codecs.LocalDate());
+        Range<LocalDate> original = Dates.range(LocalDate.of(2019, 1, 1), LocalDate.of(2019, 2, 1));
+
+        assertThat(codec.fromBytes(codec.toBytes(original))).isEqualTo(original);
+    }
+
+    @Test
+    void nullable() {
+        Codec<String> codec = Codecs.Nullable(Codecs.String());
+
+        assertThat(codec.fromBytes(codec.toBytes(null))).isNull();
+        assertThat(codec.fromBytes(codec.toBytes("test"))).isEqualTo("test");
+    }
+
+    @Test
+    void streamMultipleValues() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Codecs.String().encode("first", output);
+        Codecs.String().encode("second", output);
+
+        ByteArrayInputStream input = new ByteArrayInputStream(output.toByteArray());
+
+        assertThat(Codecs.String().decode(input)).isEqualTo("first");
+        assertThat(Codecs.String().decode(input)).isEqualTo("second");
+    }
+
+    @Test
+    void byteBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        Codecs.Sequence(Codecs.Long()).encode(Collections.List(1L, 2L), buffer);
+        buffer.flip();
+
+        assertThat(Codecs.Sequence(Codecs.Long()).decode(buffer)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void prematureEnd() {
+        byte[] encoded = Codecs.String().toBytes("test");
+
+        assertThatThrownBy(() -> Codecs.String().fromBytes(java.util.Arrays.copyOf(encoded, 2)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void mapped() {
+        Codec<LocalDate> codec = Codecs.Long().map(LocalDate::ofEpochDay, LocalDate::toEpochDay);
+
+        assertThat(codec.fromBytes(codec.toBytes(LocalDate.of(2020, 3, 4)))).isEqualTo(LocalDate.of(2020, 3, 4));
+    }
+}
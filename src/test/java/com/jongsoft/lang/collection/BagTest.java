@@ -0,0 +1,81 @@
+package com.jongsoft.lang.collection;
+
+import com.jongsoft.lang.collection.tuple.Pair;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BagTest {
+
+    @Test
+    void of() {
+        Bag<String> bag = Bag.of("to", "be", "or", "not", "to", "be");
+
+        assertThat(bag.size()).isEqualTo(6);
+        assertThat(bag.count("to")).isEqualTo(2);
+        assertThat(bag.count("or")).isEqualTo(1);
+        assertThat(bag.count("is")).isZero();
+        assertThat(bag.contains("not")).isTrue();
+        assertThat(bag.elementSet()).hasSize(4)
+                .contains("to", "be", "or", "not");
+    }
+
+    @Test
+    void addAndRemove() {
+        Bag<String> bag = Bag.<String>empty()
+                .add("a", 3)
+                .add("b");
+
+        assertThat(bag.remove("a").count("a")).isEqualTo(2);
+        assertThat(bag.remove("a", 5).contains("a")).isFalse();
+        assertThat(bag.remove("c")).isSameAs(bag);
+        assertThat(bag.add("a", 0)).isSameAs(bag);
+        assertThat(bag.setCount("b", 4).size()).isEqualTo(7);
+        assertThat(bag.setCount("a", 0).setCount("b", 0).isEmpty()).isTrue();
+        assertThat(bag.size()).isEqualTo(4);
+    }
+
+    @Test
+    void invalid() {
+        assertThatThrownBy(() -> Bag.empty().add("a", -1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The occurrences cannot be negative, was -1");
+        assertThatThrownBy(() -> Bag.empty().add(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("A bag cannot contain a null value");
+    }
+
+    @Test
+    void manyElements() {
+        Bag<Integer> bag = Bag.empty();
+        for (int i = 0; i < 100_000; i++) {
+            bag = bag.add(i % 10_000);
+        }
+
+        assertThat(bag.size()).isEqualTo(100_000);
+        assertThat(bag.elementSet()).hasSize(10_000);
+        assertThat(bag.count(9_999)).isEqualTo(10);
+    }
+
+    @Test
+    void iterate() {
+        Bag<String> bag = Bag.of("a", "b", "a");
+
+        assertThat(bag.map(Pair::getFirst)).hasSize(2)
+                .contains("a", "b");
+        assertThat(bag.filter(e -> e.getSecond() > 1).elementSet()).containsExactly("a");
+        assertThat(bag.stream().mapToInt(Pair::getSecond).sum()).isEqualTo(3);
+        assertThat(bag.toJava()).isEqualTo(Map.of("a", 2, "b", 1));
+    }
+
+    @Test
+    void equality() {
+        assertThat(Bag.of("a", "b", "a")).isEqualTo(Bag.of("b", "a", "a"));
+        assertThat(Bag.of("a", "b", "a").hashCode()).isEqualTo(Bag.of("b", "a", "a").hashCode());
+        assertThat(Bag.of("a", "b", "a")).isNotEqualTo(Bag.of("a", "b", "b"));
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.jongsoft.lang.collection;
+
+import com.jongsoft.lang.API;
+import com.jongsoft.lang.Collections;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BiMapTest {
+
+    private final BiMap<String, Integer> codes = BiMap.<String, Integer>empty()
+            .put("EUR", 978)
+            .put("USD", 840);
+
+    @Test
+    void get() {
+        assertThat(codes.get("EUR")).isEqualTo(978);
+        assertThat(codes.getKey(840)).isEqualTo("USD");
+        assertThat(codes.getKey(1)).isNull();
+        assertThat(codes.containsKey("USD")).isTrue();
+        assertThat(codes.containsValue(978)).isTrue();
+        assertThat(codes.containsValue(1)).isFalse();
+        assertThat(codes).hasSize(2);
+    }
+
+    @Test
+    void inverse() {
+        BiMap<Integer, String> inverse = codes.inverse();
+
+        assertThat(inverse.get(840)).isEqualTo("USD");
+        assertThat(inverse.getKey("EUR")).isEqualTo(978);
+        assertThat(inverse.inverse()).isSameAs(codes);
+        assertThat(inverse.put(826, "GBP").inverse().get("GBP")).isEqualTo(826);
+    }
+
+    @Test
+    void putReplacesValue() {
+        BiMap<String, Integer> updated = codes.put("EUR", 1);
+
+        assertThat(updated.get("EUR")).isEqualTo(1);
+        assertThat(updated.getKey(978)).isNull();
+        assertThat(updated.getKey(1)).isEqualTo("EUR");
+        assertThat(codes.put("EUR", 978)).isSameAs(codes);
+    }
+
+    @Test
+    void putDuplicateValue() {
+        assertThatThrownBy(() -> codes.put("GBP", 840))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The value 840 already belongs to the key USD");
+        assertThatThrownBy(() -> codes.put("GBP", null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("A null value is not allowed for the value in a bidirectional map");
+    }
+
+    @Test
+    void forcePut() {
+        BiMap<String, Integer> updated = codes.forcePut("GBP", 840);
+
+        assertThat(updated).hasSize(2);
+        assertThat(updated.containsKey("USD")).isFalse();
+        assertThat(updated.getKey(840)).isEqualTo("GBP");
+        assertThat(updated.inverse()).hasSize(2);
+    }
+
+    @Test
+    void remove() {
+        BiMap<String, Integer> updated = codes.remove("USD");
+
+        assertThat(updated).hasSize(1);
+        assertThat(updated.containsValue(840)).isFalse();
+        assertThat(updated.remove("EUR").isEmpty()).isTrue();
+        assertThat(codes.remove("GBP")).isSameAs(codes);
+    }
+
+    @Test
+    void filter() {
+        assertThat(codes.filter(e -> e.getSecond() > 900).inverse().get(978)).isEqualTo("EUR");
+        assertThat(codes.reject(e -> e.getSecond() > 900).getKey(978)).isNull();
+        assertThat(codes.tail()).hasSize(1);
+    }
+
+    @Test
+    void of() {
+        BiMap<String, Integer> created = BiMap.of(Collections.List(API.Tuple("USD", 840), API.Tuple("EUR", 978)));
+
+        assertThat(created).isEqualTo(codes);
+        assertThat(created.hashCode()).isEqualTo(codes.hashCode());
+        assertThat(created.toJava()).containsEntry("USD", 840);
+    }
+
+    @Test
+    void manyEntries() {
+        BiMap<Integer, String> ids = BiMap.empty();
+        for (int i = 0; i < 50_000; i++) {
+            ids = ids.put(i, "id-" + i);
+        }
+
+        assertThat(ids).hasSize(50_000);
+        assertThat(ids.getKey("id-49999")).isEqualTo(49_999);
+        assertThat(ids.inverse().get("id-7")).isEqualTo(7);
+    }
+
+}
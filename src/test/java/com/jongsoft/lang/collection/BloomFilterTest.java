@@ -0,0 +1,86 @@
+package com.jongsoft.lang.collection;
+
+import com.jongsoft.lang.Collections;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BloomFilterTest {
+
+    @Test
+    void noFalseNegatives() {
+        List<Integer> elements = range(0, 10_000);
+        BloomFilter<Integer> filter = BloomFilter.of(elements);
+
+        assertThat(elements).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void falsePositiveRate() {
+        BloomFilter<Integer> filter = BloomFilter.of(range(0, 10_000), 0.01);
+
+        long falsePositives = IntStream.range(10_000, 110_000)
+                .filter(filter::mightContain)
+                .count();
+
+        assertThat(filter.falsePositiveRate()).isEqualTo(0.01);
+        assertThat(falsePositives).isLessThan(2_000);
+        assertThat(filter.hashFunctions()).isEqualTo(7);
+        assertThat(filter.bitSize() % 64).isZero();
+    }
+
+    @Test
+    void ofIterable() {
+        BloomFilter<String> filter = BloomFilter.of(Collections.Iterator("one", "two", null));
+
+        assertThat(filter.mightContain("one")).isTrue();
+        assertThat(filter.mightContain(null)).isTrue();
+    }
+
+    @Test
+    void empty() {
+        BloomFilter<String> filter = BloomFilter.of(new ArrayList<>());
+
+        assertThat(filter.mightContain("one")).isFalse();
+    }
+
+    @Test
+    void hashFunctionsOfSmallFilter() {
+        assertThat(BloomFilter.of(new ArrayList<>(), 0.01).hashFunctions()).isEqualTo(7);
+        assertThat(BloomFilter.of(range(0, 1), 0.01).hashFunctions()).isEqualTo(7);
+        assertThat(BloomFilter.of(range(0, 1), 1e-300).hashFunctions()).isEqualTo(32);
+    }
+
+    @Test
+    void invalidRate() {
+        assertThatThrownBy(() -> BloomFilter.of(range(0, 10), 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The false positive rate must be between 0 and 1, was 1.0");
+        assertThatThrownBy(() -> BloomFilter.of(range(0, 10), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void sequenceWithMembershipIndex() {
+        Sequence<Integer> indexed = Collections.List(range(0, 1_000)).withMembershipIndex();
+
+        assertThat(indexed).hasSize(1_000);
+        assertThat(indexed.contains(500)).isTrue();
+        assertThat(indexed.contains(1_500)).isFalse();
+        assertThat(indexed.containsAll(Collections.List(1, 2, 3))).isTrue();
+        assertThat(indexed.containsAll(Collections.List(1, 2, 3_000))).isFalse();
+        assertThat(indexed).isEqualTo(Collections.List(range(0, 1_000)));
+        assertThat(indexed.withMembershipIndex()).isSameAs(indexed);
+        assertThat(indexed.retain(Collections.List(1, 1_500))).containsExactly(1);
+    }
+
+    private List<Integer> range(int start, int end) {
+        return IntStream.range(start, end).boxed().collect(Collectors.toList());
+    }
+}
@@ -36,4 +36,35 @@ class CollectorsTest {
                         .containsExactly("one", "three", "two");
     }
 
+    @Test
+    void toListMultimap() {
+        ListMultimap<Integer, String> result = Stream.of("one", "two", "three", "two")
+                .collect(Collectors.toListMultimap(String::length, s -> s));
+
+        assertThat(result.size()).isEqualTo(4);
+        assertThat(result.get(3)).containsExactly("one", "two", "two");
+        assertThat(result.get(5)).containsExactly("three");
+    }
+
+    @Test
+    void toSetMultimap() {
+        SetMultimap<Integer, String> result = Stream.of("one", "two", "three", "two")
+                .collect(Collectors.toSetMultimap(String::length, s -> s));
+
+        assertThat(result.size()).isEqualTo(3);
+        assertThat(result.count(3)).isEqualTo(2);
+        assertThat(result.get(3)).hasSize(2)
+                .contains("one", "two");
+    }
+
+    @Test
+    void toBag() {
+        Bag<String> result = Stream.of("one", "two", "three", "two")
+                .collect(Collectors.toBag());
+
+        assertThat(result.size()).isEqualTo(4);
+        assertThat(result.count("two")).isEqualTo(2);
+        assertThat(result.count("four")).isZero();
+    }
+
 }
@@ -4,8 +4,10 @@ import com.jongsoft.lang.Collections;
 import com.jongsoft.lang.collection.tuple.Pair;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -70,6 +72,36 @@ class HashSetTest {
                 .containsExactly(3);
     }
 
+    @Test
+    void intersectLargeSets() {
+        Set<Integer> all = Collections.Set(IntStream.range(0, 100_000).boxed().toArray(Integer[]::new));
+        Set<Integer> even = Collections.Set(IntStream.range(0, 100_000).filter(i -> i % 2 == 0).boxed()
+                .toArray(Integer[]::new));
+        List<Integer> thirds = Collections.List(IntStream.range(0, 200_000).filter(i -> i % 3 == 0).boxed()
+                .toArray(Integer[]::new));
+
+        Set<Integer> result = all.intersect(thirds, even, IntSet.range(0, 50));
+
+        assertThat(result).containsExactly(0, 6, 12, 18, 24, 30, 36, 42, 48);
+        assertThat(all.complement(even, thirds).size()).isEqualTo(33_333);
+        assertThat(all.intersect(even)).isEqualTo(even);
+    }
+
+    @Test
+    void intersectKeepsOrder() {
+        Set<Integer> result = Collections.Set(5, 1, 4, 2, 3)
+                .intersect(Collections.List(1, 2, 3, 4), Collections.Set(4, 3, 5, 1));
+
+        assertThat(result).containsExactly(1, 4, 3);
+    }
+
+    @Test
+    void unionNull() {
+        assertThatThrownBy(() -> Collections.Set(1, 2).union(Arrays.asList(3, null)))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("A set cannot contain a null value");
+    }
+
     @Test
     void complement() {
         Set<Integer> result = Collections.Set(1, 2, 3, 4)
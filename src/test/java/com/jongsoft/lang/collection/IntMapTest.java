@@ -0,0 +1,132 @@
+package com.jongsoft.lang.collection;
+
+import com.jongsoft.lang.API;
+import com.jongsoft.lang.Collections;
+import com.jongsoft.lang.collection.tuple.Pair;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IntMapTest {
+
+    private final IntMap<String> names = IntMap.<String>empty()
+            .putInt(42, "Jane")
+            .putInt(-7, "John")
+            .putInt(Integer.MAX_VALUE, "Max")
+            .putInt(Integer.MIN_VALUE, "Min");
+
+    @Test
+    void get() {
+        assertThat(names.getInt(42)).isEqualTo("Jane");
+        assertThat(names.get(-7)).isEqualTo("John");
+        assertThat(names.getInt(43)).isNull();
+        assertThat(names.get(null)).isNull();
+        assertThat(names.containsIntKey(Integer.MIN_VALUE)).isTrue();
+        assertThat(names.containsKey(Integer.MIN_VALUE)).isTrue();
+        assertThat(names.containsIntKey(0)).isFalse();
+        assertThat(names).hasSize(4);
+    }
+
+    @Test
+    void orderedIteration() {
+        assertThat(names.map(Pair::getFirst)).containsExactly(Integer.MIN_VALUE, -7, 42, Integer.MAX_VALUE);
+        assertThat(names.keys()).containsExactly(Integer.MIN_VALUE, -7, 42, Integer.MAX_VALUE);
+        assertThat(names.head()).isEqualTo(API.Tuple(Integer.MIN_VALUE, "Min"));
+        assertThat(names.tail().head()).isEqualTo(API.Tuple(-7, "John"));
+    }
+
+    @Test
+    void put() {
+        assertThat(names.putInt(42, "Janet").getInt(42)).isEqualTo("Janet");
+        assertThat(names.put(42, "Janet")).hasSize(4);
+        assertThat(names.putInt(42, "Jane")).isSameAs(names);
+        assertThatThrownBy(() -> names.put(null, "Nobody"))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("A null value is not allowed for the key in a map");
+    }
+
+    @Test
+    void remove() {
+        assertThat(names.removeInt(42).containsIntKey(42)).isFalse();
+        assertThat(names.remove(42)).hasSize(3);
+        assertThat(names.removeInt(1)).isSameAs(names);
+        assertThat(names.removeInt(42).removeInt(-7).removeInt(Integer.MIN_VALUE).remove(Integer.MAX_VALUE))
+                .isEmpty();
+    }
+
+    @Test
+    void union() {
+        IntMap<String> other = IntMap.<String>empty()
+                .putInt(42, "Other")
+                .putInt(1, "One");
+
+        IntMap<String> union = names.union(other);
+        assertThat(union).hasSize(5);
+        assertThat(union.getInt(42)).isEqualTo("Jane");
+        assertThat(union.keys()).containsExactly(Integer.MIN_VALUE, -7, 1, 42, Integer.MAX_VALUE);
+        assertThat(names.union(names)).isSameAs(names);
+        assertThat(names.union(IntMap.empty())).isSameAs(names);
+    }
+
+    @Test
+    void merge() {
+        IntMap<Integer> counts = IntMap.<Integer>empty()
+                .putInt(1, 2)
+                .putInt(2, 3);
+        IntMap<Integer> other = IntMap.<Integer>empty()
+                .putInt(2, 4)
+                .putInt(3, 5);
+
+        IntMap<Integer> merged = counts.merge(other, Integer::sum);
+        assertThat(merged.map(Pair::getSecond)).containsExactly(2, 7, 5);
+    }
+
+    @Test
+    void filter() {
+        assertThat(names.filter(e -> e.getFirst() > 0).keys()).containsExactly(42, Integer.MAX_VALUE);
+        assertThat(names.reject(e -> e.getSecond().startsWith("J")).keys())
+                .containsExactly(Integer.MIN_VALUE, Integer.MAX_VALUE);
+        assertThat(names.filter(e -> true)).isSameAs(names);
+    }
+
+    @Test
+    void equality() {
+        IntMap<String> created = IntMap.of(Collections.List(
+                API.Tuple(Integer.MAX_VALUE, "Max"),
+                API.Tuple(42, "Jane"),
+                API.Tuple(Integer.MIN_VALUE, "Min"),
+                API.Tuple(-7, "John")));
+
+        assertThat(created).isEqualTo(names);
+        assertThat(created.hashCode()).isEqualTo(names.hashCode());
+        assertThat(created.toJava()).containsEntry(42, "Jane");
+        assertThat(IntMap.<String>empty().putInt(42, "Jane"))
+                .isNotEqualTo(LongMap.<String>empty().putLong(42L, "Jane"));
+    }
+
+    @Test
+    void integerValues() {
+        IntMap<Integer> counts = IntMap.<Integer>empty()
+                .putInt(1, 2)
+                .put(3, 4);
+
+        assertThat(counts.getInt(1)).isEqualTo(2);
+        assertThat(counts.get(3)).isEqualTo(4);
+        assertThat(counts.removeInt(1).remove(3).isEmpty()).isTrue();
+    }
+
+    @Test
+    void manyEntries() {
+        IntMap<Integer> multiples = IntMap.empty();
+        for (int i = 0; i < 50_000; i++) {
+            multiples = multiples.putInt(i * 7, i);
+        }
+
+        assertThat(multiples).hasSize(50_000);
+        assertThat(multiples.getInt(49_999 * 7)).isEqualTo(49_999);
+        assertThat(multiples.getInt(1)).isNull();
+        assertThat(multiples.keys()).isSorted();
+    }
+
+}
@@ -0,0 +1,169 @@
+package com.jongsoft.lang.collection;
+
+import com.jongsoft.lang.Collections;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IntSetTest {
+
+    @Test
+    void of() {
+        IntSet set = IntSet.of(5, -3, 70_000, 5, Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+        assertThat(set.size()).isEqualTo(5);
+        assertThat(set.toIntArray()).containsExactly(Integer.MIN_VALUE, -3, 5, 70_000, Integer.MAX_VALUE);
+        assertThat(set.toString()).isEqualTo("Set[-2147483648, -3, 5, 70000, 2147483647]");
+        assertThat(IntSet.of().isEmpty()).isTrue();
+    }
+
+    @Test
+    void ofIterable() {
+        IntSet set = IntSet.of(Collections.List(3, 1, 2, 3));
+
+        assertThat(set.toIntArray()).containsExactly(1, 2, 3);
+        assertThatThrownBy(() -> IntSet.of(Collections.List(1, null)))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void range() {
+        IntSet set = IntSet.range(-70_000, 10_000_000);
+
+        assertThat(set.size()).isEqualTo(10_070_000);
+        assertThat(set.contains(-70_000)).isTrue();
+        assertThat(set.contains(9_999_999)).isTrue();
+        assertThat(set.contains(10_000_000)).isFalse();
+        assertThat(set.get(0)).isEqualTo(-70_000);
+        assertThat(set.get(set.size() - 1)).isEqualTo(9_999_999);
+        assertThat(IntSet.range(5, 5).isEmpty()).isTrue();
+    }
+
+    @Test
+    void appendAndWithout() {
+        IntSet set = IntSet.of(1, 2, 3);
+
+        assertThat(set.append(2)).isSameAs(set);
+        assertThat(set.without(4)).isSameAs(set);
+        assertThat(set.append(100_000).toIntArray()).containsExactly(1, 2, 3, 100_000);
+        assertThat(set.without(2).toIntArray()).containsExactly(1, 3);
+        assertThat(set.without(1).without(2).without(3).isEmpty()).isTrue();
+        assertThat(set.toIntArray()).containsExactly(1, 2, 3);
+        assertThatThrownBy(() -> set.append((Integer) null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("A set cannot contain a null value");
+    }
+
+    @Test
+    void containerConversions() {
+        IntSet dense = IntSet.of(IntStream.range(0, 10_000).filter(i -> i % 2 == 0).toArray());
+
+        IntSet sparse = dense;
+        for (int i = 0; i < 10_000; i += 2) {
+            if (i % 1_000 != 0) {
+                sparse = sparse.without(i);
+            }
+        }
+
+        assertThat(dense.size()).isEqualTo(5_000);
+        assertThat(dense.contains(4_998)).isTrue();
+        assertThat(dense.contains(4_999)).isFalse();
+        assertThat(sparse.toIntArray()).containsExactly(0, 1_000, 2_000, 3_000, 4_000, 5_000, 6_000, 7_000, 8_000,
+                9_000);
+    }
+
+    @Test
+    void get() {
+        IntSet set = IntSet.of(-1, 65_536, 3, 131_072);
+
+        assertThat(set.get(0)).isEqualTo(-1);
+        assertThat(set.get(2)).isEqualTo(65_536);
+        assertThat(set.head()).isEqualTo(-1);
+        assertThat(set.get(3)).isEqualTo(131_072);
+        assertThat(set.tail().toIntArray()).containsExactly(3, 65_536, 131_072);
+        assertThat(set.remove(1).toIntArray()).containsExactly(-1, 65_536, 131_072);
+        assertThatThrownBy(() -> set.get(4))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .hasMessage("4 is not in the bounds of 0 and 4");
+    }
+
+    @Test
+    void setOperations() {
+        IntSet left = IntSet.range(0, 100_000);
+        IntSet right = IntSet.of(IntStream.range(0, 200_000).filter(i -> i % 3 == 0).toArray());
+
+        assertThat(left.union(right).size()).isEqualTo(100_000 + 33_333);
+        assertThat(left.intersect(right).size()).isEqualTo(33_334);
+        assertThat(left.complement(right).size()).isEqualTo(66_666);
+        assertThat(left.intersect(right, IntSet.of(0, 3, 4)).toIntArray()).containsExactly(0, 3);
+        assertThat(left.retain(Collections.List(-1, 5, 7)).toIntArray()).containsExactly(5, 7);
+        assertThat(IntSet.range(0, 5).complement(Collections.Set(1, 2, 4))).containsExactly(0, 3);
+    }
+
+    @Test
+    void randomAgainstTreeSet() {
+        Random random = new Random(42);
+        TreeSet<Integer> left = new TreeSet<>();
+        TreeSet<Integer> right = new TreeSet<>();
+        for (int i = 0; i < 20_000; i++) {
+            left.add(random.nextInt(300_000) - 150_000);
+            right.add(random.nextInt(300_000) - 150_000);
+        }
+
+        IntSet intLeft = IntSet.of(left);
+        IntSet intRight = IntSet.of(right);
+
+        TreeSet<Integer> union = new TreeSet<>(left);
+        union.addAll(right);
+        TreeSet<Integer> intersection = new TreeSet<>(left);
+        intersection.retainAll(right);
+        TreeSet<Integer> difference = new TreeSet<>(left);
+        difference.removeAll(right);
+
+        assertThat(intLeft).containsExactlyElementsOf(left);
+        assertThat(intLeft.union(intRight)).containsExactlyElementsOf(union);
+        assertThat(intLeft.intersect(intRight)).containsExactlyElementsOf(intersection);
+        assertThat(intLeft.complement(intRight)).containsExactlyElementsOf(difference);
+    }
+
+    @Test
+    void filter() {
+        IntSet set = IntSet.range(0, 10);
+
+        assertThat(set.filter(i -> i % 2 == 0).toIntArray()).containsExactly(0, 2, 4, 6, 8);
+        assertThat(set.reject(i -> i % 2 == 0).toIntArray()).containsExactly(1, 3, 5, 7, 9);
+    }
+
+    @Test
+    void equality() {
+        IntSet set = IntSet.of(1, 2, 3);
+        Set<Integer> boxed = Collections.Set(3, 2, 1);
+
+        assertThat(set).isEqualTo(IntSet.range(1, 4));
+        assertThat(set).isEqualTo(boxed);
+        assertThat(set.hashCode()).isEqualTo(boxed.hashCode());
+        assertThat(set).isNotEqualTo(IntSet.of(1, 2));
+    }
+
+    @Test
+    void streams() {
+        IntSet set = IntSet.of(9, 4, 7);
+
+        List<Integer> iterated = new ArrayList<>();
+        set.forEach(iterated::add);
+
+        assertThat(iterated).containsExactly(4, 7, 9);
+        assertThat(set.intStream().sum()).isEqualTo(20);
+        assertThat(set.toJava()).isEqualTo(new HashSet<>(List.of(4, 7, 9)));
+        assertThat(set.contains((Integer) null)).isFalse();
+    }
+
+}
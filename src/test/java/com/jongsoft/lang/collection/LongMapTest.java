@@ -0,0 +1,84 @@
+package com.jongsoft.lang.collection;
+
+import com.jongsoft.lang.API;
+import com.jongsoft.lang.collection.tuple.Pair;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LongMapTest {
+
+    private final LongMap<String> accounts = LongMap.<String>empty()
+            .putLong(4_000_000_000L, "Savings")
+            .putLong(-1L, "Unknown")
+            .putLong(Long.MAX_VALUE, "Max")
+            .putLong(Long.MIN_VALUE, "Min");
+
+    @Test
+    void get() {
+        assertThat(accounts.getLong(4_000_000_000L)).isEqualTo("Savings");
+        assertThat(accounts.get(-1L)).isEqualTo("Unknown");
+        assertThat(accounts.getLong(Integer.MAX_VALUE)).isNull();
+        assertThat(accounts.containsLongKey(Long.MIN_VALUE)).isTrue();
+        assertThat(accounts.containsKey(0L)).isFalse();
+        assertThat(accounts).hasSize(4);
+    }
+
+    @Test
+    void orderedIteration() {
+        assertThat(accounts.map(Pair::getFirst)).containsExactly(Long.MIN_VALUE, -1L, 4_000_000_000L, Long.MAX_VALUE);
+        assertThat(accounts.keys()).containsExactly(Long.MIN_VALUE, -1L, 4_000_000_000L, Long.MAX_VALUE);
+        assertThat(accounts.head()).isEqualTo(API.Tuple(Long.MIN_VALUE, "Min"));
+    }
+
+    @Test
+    void putAndRemove() {
+        assertThat(accounts.putLong(-1L, "Closed").getLong(-1L)).isEqualTo("Closed");
+        assertThat(accounts.put(-1L, "Closed").get(-1L)).isEqualTo("Closed");
+        assertThat(accounts.removeLong(Long.MAX_VALUE).keys()).containsExactly(Long.MIN_VALUE, -1L, 4_000_000_000L);
+        assertThat(accounts.removeLong(5L)).isSameAs(accounts);
+        assertThatThrownBy(() -> accounts.put(null, "Nobody"))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("A null value is not allowed for the key in a map");
+    }
+
+    @Test
+    void unionAndMerge() {
+        LongMap<String> other = LongMap.<String>empty()
+                .putLong(-1L, "Other")
+                .putLong(0L, "Zero");
+
+        assertThat(accounts.union(other).getLong(-1L)).isEqualTo("Unknown");
+        assertThat(other.union(accounts).getLong(-1L)).isEqualTo("Other");
+        assertThat(accounts.merge(other, (left, right) -> left + "/" + right).getLong(-1L)).isEqualTo("Unknown/Other");
+        assertThat(accounts.union(other).keys())
+                .containsExactly(Long.MIN_VALUE, -1L, 0L, 4_000_000_000L, Long.MAX_VALUE);
+    }
+
+    @Test
+    void longValues() {
+        LongMap<Long> totals = LongMap.<Long>empty()
+                .putLong(1L, 2L)
+                .put(3L, 4L);
+
+        assertThat(totals.getLong(1L)).isEqualTo(2L);
+        assertThat(totals.get(3L)).isEqualTo(4L);
+        assertThat(totals.merge(totals, Long::sum).getLong(3L)).isEqualTo(8L);
+    }
+
+    @Test
+    void manyEntries() {
+        LongMap<Long> ids = LongMap.empty();
+        for (long i = 0; i < 50_000; i++) {
+            ids = ids.putLong(i << 32, i);
+        }
+
+        LongMap<Long> odd = ids.filter(e -> e.getSecond() % 2 == 1);
+        assertThat(odd).hasSize(25_000);
+        assertThat(odd.union(ids)).hasSize(50_000);
+        assertThat(ids.getLong(49_999L << 32)).isEqualTo(49_999L);
+        assertThat(ids.keys()).isSorted();
+    }
+
+}
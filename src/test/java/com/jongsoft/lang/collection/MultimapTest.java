@@ -0,0 +1,127 @@
+package com.jongsoft.lang.collection;
+
+import com.jongsoft.lang.Collections;
+import com.jongsoft.lang.collection.tuple.Pair;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MultimapTest {
+
+    @Test
+    void listPut() {
+        ListMultimap<String, Integer> multimap = ListMultimap.<String, Integer>empty()
+                .put("a", 1)
+                .put("b", 2)
+                .put("a", 3)
+                .put("a", 1);
+
+        assertThat(multimap.size()).isEqualTo(4);
+        assertThat(multimap.count("a")).isEqualTo(3);
+        assertThat(multimap.count("c")).isZero();
+        assertThat(multimap.get("a")).containsExactly(1, 3, 1);
+        assertThat(multimap.get("c")).isEmpty();
+        assertThat(multimap.containsKey("b")).isTrue();
+        assertThat(multimap.containsEntry("a", 3)).isTrue();
+        assertThat(multimap.containsEntry("b", 3)).isFalse();
+        assertThat(multimap.keySet()).hasSize(2)
+                .contains("a", "b");
+    }
+
+    @Test
+    void listRemove() {
+        ListMultimap<String, Integer> multimap = ListMultimap.<String, Integer>empty()
+                .putAll("a", Collections.List(1, 2, 1))
+                .put("b", 2);
+
+        assertThat(multimap.remove("a", 1).get("a")).containsExactly(2, 1);
+        assertThat(multimap.remove("a", 5)).isSameAs(multimap);
+        assertThat(multimap.remove("b", 2).containsKey("b")).isFalse();
+        assertThat(multimap.removeAll("a").size()).isEqualTo(1);
+        assertThat(multimap.removeAll("a").removeAll("b").isEmpty()).isTrue();
+        assertThat(multimap.get("a")).containsExactly(1, 2, 1);
+    }
+
+    @Test
+    void setPut() {
+        SetMultimap<String, Integer> multimap = SetMultimap.<String, Integer>empty()
+                .put("a", 1)
+                .put("a", 2);
+
+        assertThat(multimap.put("a", 1)).isSameAs(multimap);
+        assertThat(multimap.putAll("a", Collections.List(2, 3)).count("a")).isEqualTo(3);
+        assertThat(multimap.get("a")).hasSize(2)
+                .contains(1, 2);
+        assertThat(multimap.remove("a", 1).get("a")).containsExactly(2);
+        assertThat(multimap.remove("a", 1).remove("a", 2).containsKey("a")).isFalse();
+        assertThatThrownBy(() -> multimap.put("a", null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("A set cannot contain a null value");
+    }
+
+    @Test
+    void nullKey() {
+        assertThatThrownBy(() -> ListMultimap.empty().put(null, 1))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("A null value is not allowed for the key in a map");
+    }
+
+    @Test
+    void iterate() {
+        ListMultimap<Integer, String> multimap = ListMultimap.<Integer, String>empty()
+                .put(1, "one")
+                .put(2, "two")
+                .put(1, "uno");
+
+        java.util.List<String> entries = new ArrayList<>();
+        for (Pair<Integer, String> entry : multimap) {
+            entries.add(entry.getFirst() + "=" + entry.getSecond());
+        }
+
+        assertThat(entries).containsExactlyInAnyOrder("1=one", "1=uno", "2=two");
+        assertThat(multimap.map(Pair::getSecond)).hasSize(3);
+        assertThat(multimap.stream().count()).isEqualTo(3);
+        assertThat(multimap.filter(e -> e.getFirst() == 1).get(1)).containsExactly("one", "uno");
+        assertThat(multimap.filter(e -> e.getFirst() == 1).containsKey(2)).isFalse();
+    }
+
+    @Test
+    void manyKeys() {
+        ListMultimap<Integer, Integer> multimap = ListMultimap.empty();
+        for (int i = 0; i < 100_000; i++) {
+            multimap = multimap.put(i % 1_000, i);
+        }
+
+        assertThat(multimap.size()).isEqualTo(100_000);
+        assertThat(multimap.keySet()).hasSize(1_000);
+        assertThat(multimap.count(999)).isEqualTo(100);
+        assertThat(multimap.get(7).head()).isEqualTo(7);
+    }
+
+    @Test
+    void toJava() {
+        Map<String, java.util.List<Integer>> expected = new HashMap<>();
+        expected.put("a", java.util.List.of(1, 2));
+
+        assertThat(ListMultimap.<String, Integer>empty().put("a", 1).put("a", 2).toJava()).isEqualTo(expected);
+        assertThat(SetMultimap.<String, Integer>empty().put("a", 1).toJava())
+                .isEqualTo(Map.of("a", java.util.Set.of(1)));
+    }
+
+    @Test
+    void equality() {
+        ListMultimap<String, Integer> left = ListMultimap.<String, Integer>empty().put("a", 1).put("b", 2);
+        ListMultimap<String, Integer> right = ListMultimap.<String, Integer>empty().put("b", 2).put("a", 1);
+
+        assertThat(left).isEqualTo(right);
+        assertThat(left.hashCode()).isEqualTo(right.hashCode());
+        assertThat(left).isNotEqualTo(right.put("a", 1));
+        assertThat(left).isNotEqualTo(SetMultimap.<String, Integer>empty().put("a", 1).put("b", 2));
+    }
+
+}
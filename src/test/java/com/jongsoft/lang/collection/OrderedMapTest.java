@@ -0,0 +1,118 @@
+package com.jongsoft.lang.collection;
+
+import com.jongsoft.lang.API;
+import com.jongsoft.lang.Collections;
+import com.jongsoft.lang.collection.tuple.Pair;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderedMapTest {
+
+    @Test
+    void insertionOrder() {
+        OrderedMap<String, Integer> subject = OrderedMap.<String, Integer>empty()
+                .put("c", 1)
+                .put("a", 2)
+                .put("b", 3);
+
+        assertThat(subject.map(Pair::getFirst)).containsExactly("c", "a", "b");
+        assertThat(subject.get("a")).isEqualTo(2);
+        assertThat(subject.get("d")).isNull();
+        assertThat(subject.containsKey("b")).isTrue();
+    }
+
+    @Test
+    void putMovesKeyToEnd() {
+        OrderedMap<String, Integer> subject = OrderedMap.<String, Integer>empty()
+                .put("a", 1)
+                .put("b", 2)
+                .put("a", 3);
+
+        assertThat(subject.map(Pair::getFirst)).containsExactly("b", "a");
+        assertThat(subject.get("a")).isEqualTo(3);
+        assertThat(subject.toString()).isEqualTo(Collections.<String, Integer>Map()
+                .put("a", 1)
+                .put("b", 2)
+                .put("a", 3)
+                .toString());
+    }
+
+    @Test
+    void headAndTail() {
+        OrderedMap<String, Integer> subject = OrderedMap.of(Collections.List(
+                API.Tuple("one", 1),
+                API.Tuple("two", 2),
+                API.Tuple("three", 3)));
+
+        assertThat(subject.head()).isEqualTo(API.Tuple("one", 1));
+        assertThat(subject.tail().head()).isEqualTo(API.Tuple("two", 2));
+        assertThat(subject.tail().tail().tail().isEmpty()).isTrue();
+        assertThat(subject.remove("one").head()).isEqualTo(API.Tuple("two", 2));
+        assertThatThrownBy(() -> OrderedMap.empty().head())
+                .isInstanceOf(NoSuchElementException.class)
+                .hasMessage("Cannot call head on empty collection");
+    }
+
+    @Test
+    void remove() {
+        OrderedMap<String, Integer> subject = OrderedMap.<String, Integer>empty()
+                .put("a", 1)
+                .put("b", 2)
+                .put("c", 3);
+
+        assertThat(subject.remove("b").map(Pair::getFirst)).containsExactly("a", "c");
+        assertThat(subject.remove("d")).isSameAs(subject);
+        assertThat(subject.remove("a").remove("b").remove("c").isEmpty()).isTrue();
+    }
+
+    @Test
+    void filter() {
+        OrderedMap<String, Integer> subject = OrderedMap.<String, Integer>empty()
+                .put("a", 1)
+                .put("b", 2)
+                .put("c", 3);
+
+        assertThat(subject.filter(e -> e.getSecond() != 2).map(Pair::getFirst)).containsExactly("a", "c");
+        assertThat(subject.reject(e -> e.getSecond() == 1).head().getFirst()).isEqualTo("b");
+    }
+
+    @Test
+    void slidingWindow() {
+        OrderedMap<Integer, Integer> window = OrderedMap.empty();
+        for (int i = 0; i < 10_000; i++) {
+            window = window.put(i, i * 2);
+            if (window.size() > 10) {
+                window = window.tail();
+            }
+        }
+
+        assertThat(window.size()).isEqualTo(10);
+        assertThat(window.head()).isEqualTo(API.Tuple(9_990, 19_980));
+        assertThat(window.map(Pair::getFirst).head()).isEqualTo(9_990);
+        assertThat(window.get(9_999)).isEqualTo(19_998);
+        assertThat(window.containsKey(9_989)).isFalse();
+    }
+
+    @Test
+    void equality() {
+        OrderedMap<String, Integer> subject = OrderedMap.<String, Integer>empty()
+                .put("a", 1)
+                .put("b", 2);
+
+        assertThat(subject).isEqualTo(Collections.<String, Integer>Map().put("b", 2).put("a", 1));
+        assertThat(subject.toJava()).containsEntry("a", 1)
+                .hasSize(2);
+    }
+
+    @Test
+    void putNullKey() {
+        assertThatThrownBy(() -> OrderedMap.empty().put(null, 1))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("A null value is not allowed for the key in a map");
+    }
+
+}
@@ -0,0 +1,175 @@
+package com.jongsoft.lang.collection;
+
+import com.jongsoft.lang.Collections;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PersistentTreeTest {
+
+    @Test
+    void appendChild() {
+        Tree<String> root = Collections.PersistentTree("root", "Root value");
+        Tree<String> appended = root.appendChild("child", "Child value");
+
+        assertThat(root.isLeaf()).isTrue();
+        assertThat(appended.children()).hasSize(1);
+        assertThat(appended.getChild("child").get().get()).isEqualTo("Child value");
+        assertThat(appended.size()).isEqualTo(2);
+    }
+
+    @Test
+    void withChildren() {
+        Tree<String> tree = Collections.PersistentTree("root", "Root value", Collections.List(
+                Collections.Tree("first", "First value"),
+                Collections.PersistentTree("second", "Second value")));
+
+        assertThat(tree.foldLeft("", String::concat)).isEqualTo("Root valueFirst valueSecond value");
+        assertThat(tree.getChild("first").get().parent()).isNull();
+    }
+
+    @Test
+    void getChildIndexed() {
+        Tree.Zipper<Integer> zipper = Collections.PersistentTree("root", 0).zipper();
+        for (int i = 0; i < 1_000; i++) {
+            zipper = zipper.appendChild("child-" + i, i);
+        }
+        Tree<Integer> tree = zipper.appendChild("child-500", -1).root();
+
+        assertThat(tree.getChild("child-500").get().get()).isEqualTo(500);
+        assertThat(tree.getChild("child-1000").isPresent()).isFalse();
+        assertThat(tree.resolve("child-999").get().get()).isEqualTo(999);
+        assertThat(tree.zipper().down("child-500").get().focus().get()).isEqualTo(500);
+        assertThat(tree.zipper().down("child-1000").isPresent()).isFalse();
+    }
+
+    @Test
+    void zipperSet() {
+        Tree<String> original = createTree();
+        Tree<String> updated = original.zipper()
+                .down("server").get()
+                .down("port").get()
+                .set("8443")
+                .root();
+
+        assertThat(updated.resolve("server.port").get().get()).isEqualTo("8443");
+        assertThat(original.resolve("server.port").get().get()).isEqualTo("8080");
+        assertThat(updated.getChild("database").get()).isSameAs(original.getChild("database").get());
+        assertThat(updated.resolve("server.host").get()).isSameAs(original.resolve("server.host").get());
+    }
+
+    @Test
+    void zipperUpdate() {
+        Tree<String> updated = createTree().zipper()
+                .down(1).get()
+                .update(String::toUpperCase)
+                .root();
+
+        assertThat(updated.getChild("database").get().get()).isEqualTo("POSTGRES");
+    }
+
+    @Test
+    void zipperNavigation() {
+        Tree<String> tree = createTree();
+        Tree.Zipper<String> zipper = tree.zipper().down("server").get().down(0).get();
+
+        assertThat(zipper.depth()).isEqualTo(2);
+        assertThat(zipper.isRoot()).isFalse();
+        assertThat(zipper.focus().label()).isEqualTo("host");
+        assertThat(zipper.down(0).isPresent()).isFalse();
+        assertThat(zipper.up().get().up().get().focus()).isSameAs(tree);
+        assertThat(tree.zipper().up().isPresent()).isFalse();
+        assertThat(tree.zipper().down("missing").isPresent()).isFalse();
+    }
+
+    @Test
+    void zipperAppendAndRemove() {
+        Tree<String> original = createTree();
+        Tree<String> updated = original.zipper()
+                .down("server").get()
+                .appendChild("timeout", "30")
+                .down("host").get()
+                .remove()
+                .root();
+
+        assertThat(updated.getChild("server").get().children())
+                .extracting(Tree::label)
+                .containsExactly("port", "timeout");
+        assertThat(updated.size()).isEqualTo(5);
+        assertThat(original.size()).isEqualTo(5);
+        assertThatThrownBy(() -> original.zipper().remove())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("The root of a tree cannot be removed");
+    }
+
+    @Test
+    void zipperReplace() {
+        Tree<String> updated = createTree().zipper()
+                .down("database").get()
+                .replace(Collections.Tree("database", "mysql"))
+                .root();
+
+        assertThat(updated.getChild("database").get().get()).isEqualTo("mysql");
+    }
+
+    @Test
+    void zipperOnMutableTree() {
+        Tree<String> mutable = Collections.Tree("root", "Root value")
+                .appendChild("child", "Child value");
+
+        Tree<String> updated = mutable.zipper().down(0).get().set("Changed").root();
+
+        assertThat(updated.getChild("child").get().get()).isEqualTo("Changed");
+        assertThat(mutable.getChild("child").get().get()).isEqualTo("Child value");
+    }
+
+    @Test
+    void map() {
+        Tree<Integer> mapped = createTree().map(String::length);
+
+        assertThat(mapped.resolve("server.port").get().get()).isEqualTo(4);
+        assertThat(mapped.size()).isEqualTo(5);
+    }
+
+    @Test
+    void parallelMap() {
+        Tree<Integer> small = Collections.PersistentTree("root", 1);
+        assertThat(small.parallelMap(String::valueOf)).isInstanceOf(small.getClass());
+
+        Tree.Builder<Integer, Integer> builder = Tree.builder();
+        builder.add(0, null, "node-0", 0);
+        for (int i = 1; i < 20_000; i++) {
+            builder.add(i, i < 6_000 ? i - 1 : i / 3, "node-" + i, i);
+        }
+        Tree<Integer> large = Collections.PersistentTree("root", -1, java.util.List.of(builder.build()));
+        Tree<String> mapped = large.parallelMap(String::valueOf);
+
+        assertThat(mapped).isInstanceOf(large.getClass());
+        assertThat(mapped.getChild("node-0").get()).isInstanceOf(large.getClass());
+        assertThat(mapped.size()).isEqualTo(large.size());
+        assertThat(mapped.foldLeft(new StringBuilder(), StringBuilder::append).toString())
+                .isEqualTo(large.map(String::valueOf).foldLeft(new StringBuilder(), StringBuilder::append).toString());
+    }
+
+    @Test
+    void filter() {
+        Tree<String> tree = createTree();
+        Tree<String> filtered = tree.filter(value -> value.equals("8080"));
+
+        assertThat(filtered.foldLeft("", String::concat)).isEqualTo("configurationhttp8080");
+        assertThat(tree.prune(value -> value.equals("http")).getChild("database").get())
+                .isSameAs(tree.getChild("database").get());
+    }
+
+    private Tree<String> createTree() {
+        return Collections.PersistentTree("root", "configuration")
+                .appendChild("server", "http")
+                .appendChild("database", "postgres")
+                .zipper()
+                .down("server").get()
+                .appendChild("host", "localhost")
+                .appendChild("port", "8080")
+                .root();
+    }
+}
@@ -3,6 +3,8 @@ package com.jongsoft.lang.collection;
 import com.jongsoft.lang.Collections;
 import org.junit.jupiter.api.Test;
 
+import java.util.Comparator;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class SortedSetTest {
@@ -40,4 +42,32 @@ class SortedSetTest {
                 .containsExactly(1, 6);
     }
 
+    @Test
+    void union() {
+        Set<Integer> sortedInts = Collections.Set(Integer::compareTo, 1, 3, 6)
+                .union(Collections.List(5, 0, 9, 5, 1));
+
+        assertThat(sortedInts)
+                .hasSize(6)
+                .containsExactly(0, 1, 3, 5, 6, 9);
+    }
+
+    @Test
+    void intersect() {
+        Comparator<Integer> comparator = Integer::compareTo;
+        Set<Integer> sortedInts = Collections.Set(comparator, 1, 3, 6, 8)
+                .intersect(Collections.Set(comparator, 8, 2, 3), Collections.List(3, 8, 9));
+
+        assertThat(sortedInts).containsExactly(3, 8);
+    }
+
+    @Test
+    void complement() {
+        Comparator<Integer> comparator = Integer::compareTo;
+        Set<Integer> sortedInts = Collections.Set(comparator, 1, 3, 6, 8)
+                .complement(Collections.Set(comparator, 3, 4));
+
+        assertThat(sortedInts).containsExactly(1, 6, 8);
+    }
+
 }
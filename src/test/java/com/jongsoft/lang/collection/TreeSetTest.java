@@ -5,6 +5,7 @@ import com.jongsoft.lang.control.Optional;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class TreeSetTest {
 
@@ -126,6 +127,358 @@ class TreeSetTest {
                 });
     }
 
+    @Test
+    void getChildIndexed() {
+        Tree<Integer> tree = Collections.Tree("root", 0);
+        for (int i = 0; i < 1_000; i++) {
+            tree.appendChild("child-" + i, i);
+        }
+
+        assertThat(tree.getChild("child-500").get().get()).isEqualTo(500);
+        assertThat(tree.getChild("child-1000").isPresent()).isFalse();
+
+        tree.appendChild("child-1000", 1000);
+        tree.appendChild("child-500", -1);
+        assertThat(tree.getChild("child-1000").get().get()).isEqualTo(1000);
+        assertThat(tree.getChild("child-500").get().get()).isEqualTo(500);
+    }
+
+    @Test
+    void resolve() {
+        Tree<String> tree = createTree();
+
+        assertThat(tree.resolve("ch-1-01.ch-1-01-01.ch-1-01-01-02").get().get()).isEqualTo("Second sub sub child");
+        assertThat(tree.resolve("ch-1-02", "ch-1-02-01").get().get()).isEqualTo("First sub child");
+        assertThat(tree.resolve("").get()).isSameAs(tree);
+        assertThat(tree.resolve("ch-1-02.unknown").isPresent()).isFalse();
+    }
+
+    @Test
+    void resolveCompiledPath() {
+        Tree.Path path = Tree.Path.parse("ch-1-01.ch-1-01-02");
+
+        assertThat(path.depth()).isEqualTo(2);
+        assertThat(path).hasToString("ch-1-01.ch-1-01-02");
+        assertThat(path).isEqualTo(Tree.Path.of("ch-1-01", "ch-1-01-02"));
+        assertThat(createTree().resolve(path).get().get()).isEqualTo("Second sub child");
+        assertThat(path.resolve(createTree()).get().label()).isEqualTo("ch-1-01-02");
+    }
+
+    @Test
+    void resolveLabelWithDots() {
+        Tree<String> tree = Collections.Tree("root", "root")
+                .appendChild("a.b", "dotted");
+
+        assertThat(tree.resolve("a.b").isPresent()).isFalse();
+        assertThat(tree.resolve(Tree.Path.of("a.b")).get().get()).isEqualTo("dotted");
+    }
+
+    @Test
+    void appendManyChildren() {
+        Tree<Integer> tree = Collections.Tree("root", 0);
+        for (int i = 0; i < 100_000; i++) {
+            tree.appendChild("child-" + i, i);
+        }
+
+        assertThat(tree.children().size()).isEqualTo(100_000);
+        assertThat(tree.children().get(99_999).get()).isEqualTo(99_999);
+        assertThat(tree.children().head().parent()).isSameAs(tree);
+    }
+
+    @Test
+    void childrenViewIsStable() {
+        Tree<String> tree = Collections.Tree("root", "root")
+                .appendChild("one", "one");
+
+        Tree.NodeCollection<String> before = tree.children();
+        tree.appendChild("two", "two");
+
+        assertThat(before).hasSize(1);
+        assertThat(tree.children()).hasSize(2);
+    }
+
+    @Test
+    void builder() {
+        Tree<String> tree = Tree.<Integer, String>builder()
+                .add(3, 2, "grand child", "Grand child value")
+                .add(1, null, "root", "Root value")
+                .add(2, 1, "child", "Child value")
+                .add(4, 1, "second child", "Second child value")
+                .build();
+
+        assertThat(tree.label()).isEqualTo("root");
+        assertThat(tree.isRoot()).isTrue();
+        assertThat(tree.children()).extracting(Tree::label).containsExactly("child", "second child");
+        assertThat(tree.resolve("child.grand child").get().get()).isEqualTo("Grand child value");
+        assertThat(tree.resolve("child.grand child").get().parent().label()).isEqualTo("child");
+    }
+
+    @Test
+    void builderInvalid() {
+        assertThatThrownBy(() -> Tree.<Integer, String>builder().add(1, 2, "orphan", "value").build())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("The parent node id 2 is unknown");
+        assertThatThrownBy(() -> Tree.<Integer, String>builder()
+                .add(1, null, "root", "value")
+                .add(2, null, "root", "value")
+                .build())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("The tree has more than one root node");
+        assertThatThrownBy(() -> Tree.<Integer, String>builder()
+                .add(1, null, "root", "value")
+                .add(1, null, "root", "value")
+                .build())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("The node id 1 is used more than once");
+        assertThatThrownBy(() -> Tree.<Integer, String>builder().build())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("The tree has no root node");
+    }
+
+    @Test
+    void builderCycle() {
+        assertThatThrownBy(() -> Tree.<Integer, String>builder()
+                .add(1, null, "root", "value")
+                .add(2, 3, "a", "value")
+                .add(3, 2, "b", "value")
+                .build())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("The parent node ids form a cycle that is not connected to the root node");
+        assertThatThrownBy(() -> Tree.<Integer, String>builder()
+                .add(1, null, "root", "value")
+                .add(2, 2, "self", "value")
+                .build())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("The node id 2 is its own parent");
+    }
+
+    @Test
+    void preOrder() {
+        assertThat(labels(createTree().preOrder())).containsExactly(
+                "Root node", "ch-1-01", "ch-1-01-01", "ch-1-01-01-01", "ch-1-01-01-02", "ch-1-01-02",
+                "ch-1-02", "ch-1-02-01", "ch-1-02-02");
+    }
+
+    @Test
+    void postOrder() {
+        assertThat(labels(createTree().postOrder())).containsExactly(
+                "ch-1-01-01-01", "ch-1-01-01-02", "ch-1-01-01", "ch-1-01-02", "ch-1-01",
+                "ch-1-02-01", "ch-1-02-02", "ch-1-02", "Root node");
+    }
+
+    @Test
+    void levelOrder() {
+        assertThat(labels(createTree().levelOrder())).containsExactly(
+                "Root node", "ch-1-01", "ch-1-02", "ch-1-01-01", "ch-1-01-02", "ch-1-02-01", "ch-1-02-02",
+                "ch-1-01-01-01", "ch-1-01-01-02");
+    }
+
+    @Test
+    void traversalReset() {
+        Iterator<Tree<String>> iterator = createTree().postOrder();
+        iterator.next();
+        iterator.next();
+        iterator.reset();
+
+        assertThat(iterator.next().label()).isEqualTo("ch-1-01-01-01");
+    }
+
+    @Test
+    void deepTree() {
+        Tree.Builder<Integer, Integer> builder = Tree.builder();
+        builder.add(0, null, "node", 0);
+        for (int i = 1; i < 100_000; i++) {
+            builder.add(i, i - 1, "node", i);
+        }
+        Tree<Integer> tree = builder.build();
+
+        assertThat(tree.foldLeft(0L, (total, value) -> total + value)).isEqualTo(4_999_950_000L);
+        assertThat(tree.last(value -> true).get()).isEqualTo(99_999);
+        assertThat(tree.postOrder().next().get()).isEqualTo(99_999);
+        assertThat(tree.iterator()).hasSize(100_000);
+    }
+
+    @Test
+    void firstShortCircuits() {
+        java.util.List<String> visited = new java.util.ArrayList<>();
+
+        Optional<String> first = createTree().first(value -> {
+            visited.add(value);
+            return value.equals("First child");
+        });
+
+        assertThat(first.get()).isEqualTo("First child");
+        assertThat(visited).containsExactly("Parent value", "First child");
+    }
+
+    @Test
+    void size() {
+        Tree<String> tree = createTree();
+        assertThat(tree.size()).isEqualTo(9);
+
+        tree.getChild("ch-1-02")
+                .getOrThrow(IllegalStateException::new)
+                .appendChild("ch-1-02-03", "Third sub child");
+
+        assertThat(tree.size()).isEqualTo(10);
+        assertThat(tree.getChild("ch-1-01").get().size()).isEqualTo(5);
+    }
+
+    @Test
+    void childWithParentIsCopied() {
+        Tree<String> tree = createTree();
+        Tree<String> shared = tree.getChild("ch-1-02").get();
+        Tree<String> other = Collections.Tree("Other root", "Other value", java.util.List.of(shared));
+        assertThat(other.size()).isEqualTo(4);
+
+        Tree<String> attached = other.children().head();
+        assertThat(attached).isNotSameAs(shared);
+        assertThat(attached.parent()).isSameAs(other);
+        assertThat(shared.parent()).isSameAs(tree);
+
+        attached.appendChild("ch-1-02-03", "Third sub child");
+        assertThat(other.size()).isEqualTo(5);
+        assertThat(tree.size()).isEqualTo(9);
+    }
+
+    @Test
+    void parallelFold() {
+        Tree<Integer> tree = largeTree();
+
+        assertThat(tree.parallelFold(0L, (total, value) -> total + value, Long::sum))
+                .isEqualTo(tree.foldLeft(0L, (total, value) -> total + value));
+        assertThat(tree.parallelFold(java.util.List.<Integer>of(), this::append, this::concat))
+                .isEqualTo(tree.foldLeft(java.util.List.<Integer>of(), this::append));
+    }
+
+    @Test
+    void parallelMap() {
+        Tree<Integer> tree = largeTree();
+        Tree<String> mapped = tree.parallelMap(String::valueOf);
+
+        assertThat(mapped.size()).isEqualTo(tree.size());
+        assertThat(labels(mapped.preOrder())).isEqualTo(labels(tree.map(String::valueOf).preOrder()));
+        assertThat(mapped.foldLeft(new StringBuilder(), StringBuilder::append).toString())
+                .isEqualTo(tree.foldLeft(new StringBuilder(), StringBuilder::append).toString());
+    }
+
+    @Test
+    void filter() {
+        Tree<String> tree = createTree();
+        Tree<String> filtered = tree.filter(value -> value.equals("Second sub sub child"));
+
+        assertThat(labels(filtered.preOrder())).containsExactly(
+                "Root node", "ch-1-01", "ch-1-01-01", "ch-1-01-01-02");
+        assertThat(labels(tree.preOrder())).hasSize(9);
+    }
+
+    @Test
+    void filterKeepsRoot() {
+        Tree<String> filtered = createTree().filter(value -> false);
+
+        assertThat(filtered.label()).isEqualTo("Root node");
+        assertThat(filtered.isLeaf()).isTrue();
+    }
+
+    @Test
+    void filterCopiesKeptSubtrees() {
+        Tree<String> tree = createTree();
+        Tree<String> filtered = tree.filter(value -> !value.equals("Second sub child"));
+        Tree<String> kept = filtered.resolve("ch-1-01.ch-1-01-01").get();
+
+        assertThat(kept).isNotSameAs(tree.resolve("ch-1-01.ch-1-01-01").get());
+        assertThat(kept.parent()).isSameAs(filtered.getChild("ch-1-01").get());
+        assertThat(filtered.resolve("ch-1-01.ch-1-01-02").isPresent()).isFalse();
+        assertThat(filtered.size()).isEqualTo(7);
+
+        kept.appendChild("ch-1-01-01-03", "Third sub sub child");
+        assertThat(filtered.size()).isEqualTo(8);
+        assertThat(tree.size()).isEqualTo(9);
+    }
+
+    @Test
+    void filterWithoutChangesCopies() {
+        Tree<String> tree = createTree();
+        Tree<String> filtered = tree.filter(value -> true);
+
+        assertThat(filtered).isNotSameAs(tree);
+        assertThat(labels(filtered.preOrder())).isEqualTo(labels(tree.preOrder()));
+        assertThat(filtered.size()).isEqualTo(9);
+
+        filtered.appendChild("ch-1-03", "Third child");
+        assertThat(filtered.size()).isEqualTo(10);
+        assertThat(tree.size()).isEqualTo(9);
+    }
+
+    @Test
+    void reject() {
+        Tree<String> rejected = createTree().reject(value -> value.startsWith("First"));
+
+        assertThat(labels(rejected.preOrder())).containsExactly(
+                "Root node", "ch-1-01", "ch-1-01-01", "ch-1-01-01-02", "ch-1-01-02", "ch-1-02", "ch-1-02-02");
+    }
+
+    @Test
+    void prune() {
+        java.util.List<String> visited = new java.util.ArrayList<>();
+        Tree<String> tree = createTree();
+
+        Tree<String> pruned = tree.prune(value -> {
+            visited.add(value);
+            return value.equals("First child");
+        });
+
+        assertThat(labels(pruned.preOrder())).containsExactly(
+                "Root node", "ch-1-02", "ch-1-02-01", "ch-1-02-02");
+        assertThat(visited).containsExactly("First child", "Second child", "First sub child", "Second sub child");
+
+        Tree<String> kept = pruned.getChild("ch-1-02").get();
+        assertThat(kept).isNotSameAs(tree.getChild("ch-1-02").get());
+        assertThat(kept.parent()).isSameAs(pruned);
+        assertThat(pruned.size()).isEqualTo(4);
+
+        kept.appendChild("ch-1-02-03", "Third sub child");
+        assertThat(pruned.size()).isEqualTo(5);
+        assertThat(tree.size()).isEqualTo(9);
+        assertThat(tree.getChild("ch-1-02").get().children()).hasSize(2);
+    }
+
+    @Test
+    void reduceLeft() {
+        assertThat(createTree().reduceLeft((left, right) -> left + "," + right.length()))
+                .isEqualTo("Parent value,11,15,19,20,16,12,15,16");
+    }
+
+    private Tree<Integer> largeTree() {
+        java.util.Random random = new java.util.Random(42);
+        Tree.Builder<Integer, Integer> builder = Tree.builder();
+        builder.add(0, null, "node-0", 0);
+        for (int i = 1; i < 20_000; i++) {
+            builder.add(i, i < 6_000 ? i - 1 : random.nextInt(i), "node-" + i, i);
+        }
+        return builder.build();
+    }
+
+    private java.util.List<Integer> append(java.util.List<Integer> values, Integer value) {
+        java.util.List<Integer> result = new java.util.ArrayList<>(values);
+        result.add(value);
+        return result;
+    }
+
+    private java.util.List<Integer> concat(java.util.List<Integer> left, java.util.List<Integer> right) {
+        java.util.List<Integer> result = new java.util.ArrayList<>(left);
+        result.addAll(right);
+        return result;
+    }
+
+    private <T> java.util.List<String> labels(Iterator<Tree<T>> iterator) {
+        java.util.List<String> labels = new java.util.ArrayList<>();
+        while (iterator.hasNext()) {
+            labels.add(iterator.next().label());
+        }
+        return labels;
+    }
+
     private Tree<String> createTree() {
         Tree<String> nodes = Collections.Tree("Root node", "Parent value")
                 .appendChild("ch-1-01", "First child")
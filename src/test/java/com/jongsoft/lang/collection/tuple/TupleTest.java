@@ -48,4 +48,57 @@ class TupleTest {
         assertThat(of.getFourth()).isEqualTo("cat");
         assertThat(of.toString()).isEqualTo("Quadruplet(1.0, 2, test, cat)");
     }
+
+    @Test
+    void pairEquality() {
+        Pair<Integer, String> pair = API.Tuple(1, "test");
+
+        assertThat(pair)
+                .isEqualTo(API.Tuple(1, "test"))
+                .hasSameHashCodeAs(API.Tuple(1, "test"))
+                .isNotEqualTo(API.Tuple(1, "other"))
+                .isNotEqualTo(API.Tuple(1, "test", 2));
+    }
+
+    @Test
+    void tripletEquality() {
+        Triplet<Integer, String, Integer> triplet = API.Tuple(1, "test", 2);
+
+        assertThat(triplet)
+                .isEqualTo(API.Tuple(1, "test", 2))
+                .hasSameHashCodeAs(API.Tuple(1, "test", 2))
+                .isNotEqualTo(API.Tuple(1, "test"))
+                .isNotEqualTo(API.Tuple(1, "test", 2, 3));
+    }
+
+    @Test
+    void quadrupletToList() {
+        Quadruplet<Integer, Integer, Integer, Integer> quadruplet = API.Tuple(1, 2, 3, 4);
+
+        assertThat(quadruplet.toList()).containsExactly(1, 2, 3, 4);
+        assertThat(quadruplet).isEqualTo(API.Tuple(1, 2, 3, 4));
+    }
+
+    @Test
+    void primitivePairs() {
+        IntPair intPair = API.IntPair(1, 2);
+        LongPair longPair = API.LongPair(3L, 4L);
+        DoublePair doublePair = API.DoublePair(1.5, 2.5);
+        IntDoublePair mixedPair = API.IntDoublePair(2, 3.5);
+
+        assertThat(intPair.getFirst() + intPair.getSecond()).isEqualTo(3);
+        assertThat(longPair.getFirst() + longPair.getSecond()).isEqualTo(7L);
+        assertThat(doublePair.getFirst() + doublePair.getSecond()).isEqualTo(4.0);
+        assertThat(mixedPair.getFirst() * mixedPair.getSecond()).isEqualTo(7.0);
+        assertThat(mixedPair).hasToString("IntDoublePair(2, 3.5)");
+        assertThat(intPair).isEqualTo(API.IntPair(1, 2)).hasSameHashCodeAs(API.IntPair(1, 2));
+    }
+
+    @Test
+    void primitivePairToPair() {
+        Pair<Integer, Double> boxed = API.IntDoublePair(2, 3.5).toPair();
+
+        assertThat(boxed).isEqualTo(API.Tuple(2, 3.5));
+        assertThat(API.LongPair(1L, 2L).toList()).containsExactly(1L, 2L);
+    }
 }
@@ -0,0 +1,156 @@
+package com.jongsoft.lang.concurrent;
+
+import com.jongsoft.lang.Collections;
+import com.jongsoft.lang.collection.Sequence;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AtomTest {
+
+    @Test
+    void swap() {
+        Atom<Sequence<String>> atom = Atom.of(Collections.List());
+
+        Sequence<String> result = atom.swap(current -> current.append("one"));
+
+        assertThat(result).containsExactly("one");
+        assertThat(atom.get()).isSameAs(result);
+    }
+
+    @Test
+    void swapConcurrent() throws InterruptedException {
+        Atom<Integer> atom = Atom.of(0);
+
+        runConcurrent(() -> atom.swap(value -> value + 1));
+
+        assertThat(atom.get()).isEqualTo(8_000);
+    }
+
+    @Test
+    void commuteConcurrent() throws InterruptedException {
+        Atom<Integer> atom = Atom.of(0);
+
+        runConcurrent(() -> atom.commute(value -> value + 1));
+
+        assertThat(atom.get()).isEqualTo(8_000);
+    }
+
+    @Test
+    void compareAndSet() {
+        Atom<String> atom = Atom.of("one");
+
+        assertThat(atom.compareAndSet("two", "three")).isFalse();
+        assertThat(atom.compareAndSet(atom.get(), "three")).isTrue();
+        assertThat(atom.get()).isEqualTo("three");
+    }
+
+    @Test
+    void reset() {
+        Atom<String> atom = Atom.of("one");
+
+        assertThat(atom.reset("two")).isEqualTo("two");
+        assertThat(atom.get()).isEqualTo("two");
+    }
+
+    @Test
+    void commuteError() throws InterruptedException {
+        Atom<Integer> atom = Atom.of(0);
+        AtomicInteger requests = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+
+        runConcurrent(() -> {
+            if (requests.incrementAndGet() % 10 == 0) {
+                try {
+                    atom.commute(value -> {
+                        throw new StackOverflowError();
+                    });
+                } catch (StackOverflowError error) {
+                    failures.incrementAndGet();
+                }
+            } else {
+                atom.commute(value -> value + 1);
+            }
+        });
+
+        assertThat(failures.get()).isEqualTo(800);
+        assertThat(atom.get()).isEqualTo(7_200);
+    }
+
+    @Test
+    void validator() {
+        Atom<Integer> atom = Atom.of(1, value -> value > 0);
+
+        assertThatThrownBy(() -> atom.swap(value -> value - 1))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Invalid atom state: 0");
+        assertThatThrownBy(() -> atom.commute(value -> value - 1))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> atom.reset(-1))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> Atom.of(0, value -> value > 0))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(atom.get()).isEqualTo(1);
+    }
+
+    @Test
+    void watchers() {
+        List<String> changes = new ArrayList<>();
+        BiConsumer<String, String> watcher = (previous, current) -> changes.add(previous + " -> " + current);
+        Atom<String> atom = Atom.of("one").watch(watcher);
+
+        atom.swap(value -> "two");
+        atom.reset("three");
+        atom.unwatch(watcher);
+        atom.reset("four");
+
+        assertThat(changes).containsExactly("one -> two", "two -> three");
+    }
+
+    @Test
+    void mapAtomUpdate() throws InterruptedException {
+        MapAtom<String, Integer> atom = MapAtom.of();
+
+        runConcurrent(() -> atom.update("hits", count -> count == null ? 1 : count + 1));
+
+        assertThat(atom.get("hits")).isEqualTo(8_000);
+        assertThat(atom.get().size()).isEqualTo(1);
+    }
+
+    @Test
+    void mapAtomPutRemove() {
+        MapAtom<String, Integer> atom = MapAtom.of(Collections.Map("one", 1));
+
+        assertThat(atom.put("two", 2)).isEqualTo(2);
+        atom.remove("one");
+
+        assertThat(atom.get("one")).isNull();
+        assertThat(atom.get("two")).isEqualTo(2);
+        assertThat(atom.get().size()).isEqualTo(1);
+    }
+
+    private void runConcurrent(Runnable operation) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int thread = 0; thread < 8; thread++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    operation.run();
+                }
+            });
+        }
+
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.jongsoft.lang.concurrent;
+
+import com.jongsoft.lang.collection.Map;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrentPersistentMapTest {
+
+    @Test
+    void putGetRemove() {
+        ConcurrentPersistentMap<String, Integer> map = ConcurrentPersistentMap.of(4);
+
+        assertThat(map.put("one", 1)).isNull();
+        assertThat(map.put("one", 2)).isEqualTo(1);
+        assertThat(map.get("one")).isEqualTo(2);
+        assertThat(map.containsKey("one")).isTrue();
+
+        assertThat(map.remove("one")).isEqualTo(2);
+        assertThat(map.get("one")).isNull();
+        assertThat(map.size()).isZero();
+    }
+
+    @Test
+    void update() {
+        ConcurrentPersistentMap<String, Integer> map = ConcurrentPersistentMap.of();
+
+        assertThat(map.update("hits", count -> count == null ? 1 : count + 1)).isEqualTo(1);
+        assertThat(map.update("hits", count -> count == null ? 1 : count + 1)).isEqualTo(2);
+        assertThat(map.update("hits", count -> null)).isNull();
+        assertThat(map.containsKey("hits")).isFalse();
+    }
+
+    @Test
+    void updateConcurrent() throws InterruptedException {
+        ConcurrentPersistentMap<Integer, Integer> map = ConcurrentPersistentMap.of(8);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int thread = 0; thread < 8; thread++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 2_000; i++) {
+                    map.update(i % 100, count -> count == null ? 1 : count + 1);
+                    if (i % 50 == 0) {
+                        map.snapshot();
+                    }
+                }
+            });
+        }
+
+        executor.shutdown();
+        assertThat(executor.awaitTermination(20, TimeUnit.SECONDS)).isTrue();
+
+        Map<Integer, Integer> snapshot = map.snapshot();
+        assertThat(snapshot.size()).isEqualTo(100);
+        assertThat(snapshot.valueStream().allMatch(count -> count == 160)).isTrue();
+    }
+
+    @Test
+    void snapshotIsImmutable() {
+        ConcurrentPersistentMap<String, Integer> map = ConcurrentPersistentMap.of(4);
+        map.put("one", 1);
+        map.put("two", 2);
+
+        Map<String, Integer> snapshot = map.snapshot();
+        map.put("three", 3);
+        Map<String, Integer> changed = snapshot.put("four", 4).remove("one");
+
+        assertThat(snapshot.size()).isEqualTo(2);
+        assertThat(snapshot.get("three")).isNull();
+        assertThat(changed.size()).isEqualTo(2);
+        assertThat(changed.get("four")).isEqualTo(4);
+        assertThat(map.get("four")).isNull();
+    }
+
+    @Test
+    void snapshotOperations() {
+        ConcurrentPersistentMap<String, Integer> map = ConcurrentPersistentMap.of(4);
+        map.put("one", 1);
+        map.put("two", 2);
+        map.put("three", 3);
+
+        Map<String, Integer> snapshot = map.snapshot();
+
+        assertThat(snapshot.filter(entry -> entry.getSecond() > 1).size()).isEqualTo(2);
+        assertThat(snapshot.containsValue(3)).isTrue();
+        assertThat(snapshot.toJava()).containsEntry("two", 2).hasSize(3);
+        assertThat(snapshot.map(entry -> entry.getSecond() * 2).stream().mapToInt(Integer::intValue).sum())
+                .isEqualTo(12);
+        assertThat(snapshot).isEqualTo(map.snapshot());
+        assertThat(snapshot.tail().size()).isEqualTo(2);
+    }
+
+    @Test
+    void invalidStripes() {
+        assertThatThrownBy(() -> ConcurrentPersistentMap.of(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.jongsoft.lang.control;
+
+import com.jongsoft.lang.exception.CircuitOpenException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private final CircuitBreaker breaker = CircuitBreaker.builder()
+            .windowSize(4)
+            .minimumCalls(2)
+            .failureRateThreshold(0.5)
+            .openDuration(Duration.ofMillis(50))
+            .probeCalls(1)
+            .build();
+
+    @Test
+    void closedPermitsCalls() {
+        assertThat(breaker.execute(() -> "test").get()).isEqualTo("test");
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void opensOnFailureRate() {
+        fail();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        fail();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        Try<String> rejected = breaker.execute(() -> "not called");
+        assertThat(rejected.getCause()).isInstanceOf(CircuitOpenException.class);
+        assertThat(breaker.metrics().rejections()).isEqualTo(1);
+        assertThat(breaker.metrics().attempts()).isEqualTo(2);
+    }
+
+    @Test
+    void successesKeepClosed() {
+        breaker.execute(() -> "one");
+        breaker.execute(() -> "two");
+        breaker.execute(() -> "three");
+        fail();
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void halfOpenProbeCloses() throws InterruptedException {
+        fail();
+        fail();
+        Thread.sleep(60);
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.execute(() -> "probe").get()).isEqualTo("probe");
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void halfOpenProbeReopens() throws InterruptedException {
+        fail();
+        fail();
+        Thread.sleep(60);
+
+        fail();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void ignoredFailures() {
+        CircuitBreaker selective = CircuitBreaker.builder()
+                .windowSize(2)
+                .minimumCalls(1)
+                .recordOn(failure -> failure instanceof IOException)
+                .build();
+
+        selective.execute(() -> {
+            throw new IllegalArgumentException();
+        });
+
+        assertThat(selective.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(selective.metrics().failures()).isEqualTo(1);
+    }
+
+    private void fail() {
+        breaker.execute(() -> {
+            throw new IOException("Not reachable");
+        });
+    }
+
+}
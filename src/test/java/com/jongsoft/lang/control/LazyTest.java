@@ -0,0 +1,143 @@
+package com.jongsoft.lang.control;
+
+import com.jongsoft.lang.Control;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LazyTest {
+
+    @Test
+    void evaluatedOnce() {
+        AtomicInteger counter = new AtomicInteger();
+        Lazy<String> lazy = Control.Lazy(() -> "value " + counter.incrementAndGet());
+
+        assertThat(lazy.isEvaluated()).isFalse();
+        assertThat(counter).hasValue(0);
+
+        assertThat(lazy.get()).isEqualTo("value 1");
+        assertThat(lazy.get()).isEqualTo("value 1");
+        assertThat(lazy.isEvaluated()).isTrue();
+        assertThat(counter).hasValue(1);
+    }
+
+    @Test
+    void evaluatedOnceConcurrent() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Lazy<Integer> lazy = Control.Lazy(counter::incrementAndGet);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 64; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    lazy.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(counter).hasValue(1);
+    }
+
+    @Test
+    void failureRetried() {
+        AtomicInteger counter = new AtomicInteger();
+        Lazy<String> lazy = Control.Lazy(() -> {
+            if (counter.incrementAndGet() == 1) {
+                throw new IllegalStateException("Not ready");
+            }
+            return "ready";
+        });
+
+        assertThatThrownBy(lazy::get).isInstanceOf(IllegalStateException.class);
+        assertThat(lazy.isEvaluated()).isFalse();
+        assertThat(lazy.get()).isEqualTo("ready");
+    }
+
+    @Test
+    void mapIsLazy() {
+        AtomicInteger counter = new AtomicInteger();
+        Lazy<String> lazy = Control.Lazy(() -> "value " + counter.incrementAndGet());
+
+        Lazy<Integer> mapped = lazy.map(String::length);
+        assertThat(lazy.isEvaluated()).isFalse();
+        assertThat(mapped.isEvaluated()).isFalse();
+
+        assertThat(mapped.get()).isEqualTo(7);
+        assertThat(lazy.isEvaluated()).isTrue();
+    }
+
+    @Test
+    void filter() {
+        Lazy<String> lazy = Control.Lazy(() -> "value");
+
+        assertThat(lazy.filter(v -> v.startsWith("v")).get()).isEqualTo("value");
+        assertThat(lazy.filter(v -> v.isEmpty()).isPresent()).isFalse();
+    }
+
+    @Test
+    void async() throws InterruptedException {
+        CountDownLatch computed = new CountDownLatch(1);
+        Lazy<String> lazy = Control.Lazy(() -> {
+            computed.countDown();
+            return "value";
+        }).async();
+
+        assertThat(computed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(lazy.get()).isEqualTo("value");
+    }
+
+    @Test
+    void iterateAndStream() {
+        Lazy<String> lazy = Control.Lazy(() -> "value");
+
+        assertThat(lazy).containsExactly("value");
+        assertThat(lazy.stream().count()).isEqualTo(1);
+        assertThat(lazy.isSingleValued()).isTrue();
+        assertThat(lazy.contains("value")).isTrue();
+    }
+
+    @Test
+    void toStringEvaluated() {
+        Lazy<String> lazy = Control.Lazy(() -> "value");
+
+        assertThat(lazy).hasToString("Lazy(?)");
+        lazy.get();
+        assertThat(lazy).hasToString("Lazy(value)");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void serialize() throws Exception {
+        Lazy<String> lazy = Control.Lazy(() -> "value");
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ObjectOutputStream stream = new ObjectOutputStream(output)) {
+            stream.writeObject(lazy);
+        }
+
+        try (ObjectInputStream stream = new ObjectInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            Lazy<String> copy = (Lazy<String>) stream.readObject();
+            assertThat(copy.isEvaluated()).isTrue();
+            assertThat(copy.get()).isEqualTo("value");
+        }
+    }
+
+}
@@ -0,0 +1,169 @@
+package com.jongsoft.lang.control;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MemoizeTest {
+
+    @Test
+    void cachesResults() {
+        AtomicInteger counter = new AtomicInteger();
+        Memoized<String, Integer> memoized = Memoize.of(key -> {
+            counter.incrementAndGet();
+            return key.length();
+        });
+
+        assertThat(memoized.apply("one")).isEqualTo(3);
+        assertThat(memoized.apply("one")).isEqualTo(3);
+        assertThat(memoized.apply("three")).isEqualTo(5);
+
+        assertThat(counter).hasValue(2);
+        assertThat(memoized.size()).isEqualTo(2);
+        assertThat(memoized.statistics().hits()).isEqualTo(1);
+        assertThat(memoized.statistics().misses()).isEqualTo(2);
+        assertThat(memoized.statistics().hitRate()).isEqualTo(1d / 3);
+    }
+
+    @Test
+    void computedOnceConcurrent() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Memoized<String, Integer> memoized = Memoize.of(key -> {
+            counter.incrementAndGet();
+            return key.length();
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 64; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    memoized.apply("key");
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(counter).hasValue(1);
+    }
+
+    @Test
+    void boundedEvicts() {
+        Memoized<Integer, Integer> memoized = Memoize.of(key -> key * 2, 10);
+
+        for (int i = 0; i < 100; i++) {
+            memoized.apply(i);
+        }
+
+        assertThat(memoized.size()).isEqualTo(10);
+        assertThat(memoized.statistics().evictions()).isEqualTo(90);
+    }
+
+    @Test
+    void boundedKeepsReferenced() {
+        Memoized<Integer, Integer> memoized = Memoize.of(key -> key * 2, 2);
+
+        memoized.apply(1);
+        memoized.apply(2);
+        memoized.apply(1);
+        memoized.apply(3);
+
+        memoized.apply(1);
+        assertThat(memoized.statistics().misses()).isEqualTo(3);
+    }
+
+    @Test
+    void expireAfterWrite() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        Memoized<String, Integer> memoized = Memoize.of(key -> counter.incrementAndGet(), 10, Duration.ofMillis(20));
+
+        assertThat(memoized.apply("key")).isEqualTo(1);
+        assertThat(memoized.apply("key")).isEqualTo(1);
+
+        Thread.sleep(30);
+        assertThat(memoized.apply("key")).isEqualTo(2);
+    }
+
+    @Test
+    void expiredEntriesSwept() throws InterruptedException {
+        Memoized<Integer, Integer> memoized = Memoize.of(key -> key * 2, Long.MAX_VALUE, Duration.ofMillis(20));
+        for (int i = 0; i < 100; i++) {
+            memoized.apply(i);
+        }
+        assertThat(memoized.size()).isEqualTo(100);
+
+        Thread.sleep(30);
+        assertThat(memoized.apply(100)).isEqualTo(200);
+        assertThat(memoized.size()).isEqualTo(1);
+    }
+
+    @Test
+    void failureNotCached() {
+        AtomicInteger counter = new AtomicInteger();
+        Memoized<String, Integer> memoized = Memoize.of(key -> {
+            if (counter.incrementAndGet() == 1) {
+                throw new IllegalStateException("Not ready");
+            }
+            return key.length();
+        });
+
+        assertThatThrownBy(() -> memoized.apply("key")).isInstanceOf(IllegalStateException.class);
+        assertThat(memoized.apply("key")).isEqualTo(3);
+        assertThat(memoized.size()).isEqualTo(1);
+    }
+
+    @Test
+    void checked() {
+        AtomicInteger counter = new AtomicInteger();
+        Memoized<String, Try<Integer>> memoized = Memoize.ofChecked(key -> {
+            if (counter.incrementAndGet() == 1) {
+                throw new IOException("Not reachable");
+            }
+            return Integer.parseInt(key);
+        });
+
+        assertThat(memoized.apply("42").getCause()).isInstanceOf(IOException.class);
+        assertThat(memoized.size()).isZero();
+
+        assertThat(memoized.apply("42").get()).isEqualTo(42);
+        assertThat(memoized.apply("42").get()).isEqualTo(42);
+        assertThat(counter).hasValue(2);
+    }
+
+    @Test
+    void invalidate() {
+        AtomicInteger counter = new AtomicInteger();
+        Memoized<String, Integer> memoized = Memoize.of(key -> counter.incrementAndGet());
+
+        memoized.apply("one");
+        memoized.apply("two");
+        memoized.invalidate("one");
+        assertThat(memoized.apply("one")).isEqualTo(3);
+
+        memoized.invalidateAll();
+        assertThat(memoized.size()).isZero();
+    }
+
+    @Test
+    void invalidConfiguration() {
+        assertThatThrownBy(() -> Memoize.of(key -> key, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Memoize.of(key -> key, 10, Duration.ofSeconds(-1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -227,4 +227,42 @@ class OptionalTest {
         assertThat(Control.Option(1).isSingleValued()).isTrue();
     }
 
+    @Test
+    void filterReturnsSameInstance() {
+        Optional<String> optional = Control.Option("test");
+
+        assertThat(optional.filter(s -> s.length() == 4)).isSameAs(optional);
+        assertThat(optional.filter(s -> s.length() == 5)).isSameAs(Control.Option());
+    }
+
+    @Test
+    void mapIdentityReturnsSameInstance() {
+        Optional<String> optional = Control.Option("test");
+
+        assertThat(optional.map(s -> s)).isSameAs(optional);
+        assertThat(optional.map(String::length).get()).isEqualTo(4);
+        assertThat(Control.<String>Option().map(String::length)).isSameAs(Control.Option());
+    }
+
+    @Test
+    void existsAllContains() {
+        Optional<String> optional = Control.Option("test");
+        Optional<String> empty = Control.Option();
+
+        assertThat(optional.exists(s -> s.startsWith("t"))).isTrue();
+        assertThat(optional.all(s -> s.startsWith("x"))).isFalse();
+        assertThat(optional.contains("test")).isTrue();
+        assertThat(empty.exists(s -> true)).isFalse();
+        assertThat(empty.all(s -> false)).isTrue();
+        assertThat(empty.contains("test")).isFalse();
+    }
+
+    @Test
+    void iteratorSingleElement() {
+        java.util.Iterator<String> iterator = Control.Option("test").iterator();
+
+        assertThat(iterator.next()).isEqualTo("test");
+        assertThat(iterator.hasNext()).isFalse();
+        assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+    }
 }
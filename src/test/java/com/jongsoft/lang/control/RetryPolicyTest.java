@@ -0,0 +1,134 @@
+package com.jongsoft.lang.control;
+
+import com.jongsoft.lang.exception.CircuitOpenException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RetryPolicyTest {
+
+    private final RetryPolicy policy = RetryPolicy.builder()
+            .maxAttempts(3)
+            .backoff(Duration.ofMillis(1), Duration.ofMillis(5))
+            .build();
+
+    @Test
+    void retryUntilSuccess() {
+        AtomicInteger counter = new AtomicInteger();
+
+        Try<String> result = policy.execute(() -> {
+            if (counter.incrementAndGet() < 3) {
+                throw new IOException("Not reachable");
+            }
+            return "success";
+        });
+
+        assertThat(result.get()).isEqualTo("success");
+        assertThat(policy.metrics().calls()).isEqualTo(1);
+        assertThat(policy.metrics().attempts()).isEqualTo(3);
+        assertThat(policy.metrics().successes()).isEqualTo(1);
+        assertThat(policy.metrics().maxLatency()).isGreaterThan(Duration.ZERO);
+    }
+
+    @Test
+    void retryExhausted() {
+        AtomicInteger counter = new AtomicInteger();
+
+        Try<String> result = policy.execute(() -> {
+            counter.incrementAndGet();
+            throw new IOException("Not reachable");
+        });
+
+        assertThat(result.getCause()).isInstanceOf(IOException.class);
+        assertThat(counter).hasValue(3);
+        assertThat(policy.metrics().failures()).isEqualTo(1);
+    }
+
+    @Test
+    void retryOnlyMatching() {
+        AtomicInteger counter = new AtomicInteger();
+        RetryPolicy selective = RetryPolicy.builder()
+                .backoff(Duration.ZERO, Duration.ZERO)
+                .retryOn(failure -> failure instanceof IOException)
+                .build();
+
+        Try<String> result = selective.execute(() -> {
+            counter.incrementAndGet();
+            throw new IllegalStateException("Not retried");
+        });
+
+        assertThat(result.getCause()).isInstanceOf(IllegalStateException.class);
+        assertThat(counter).hasValue(1);
+    }
+
+    @Test
+    void circuitOpenNotRetried() {
+        AtomicInteger counter = new AtomicInteger();
+
+        policy.execute(() -> {
+            counter.incrementAndGet();
+            throw new CircuitOpenException("open");
+        });
+
+        assertThat(counter).hasValue(1);
+    }
+
+    @Test
+    void attemptTimeout() {
+        RetryPolicy timed = RetryPolicy.builder()
+                .maxAttempts(2)
+                .backoff(Duration.ZERO, Duration.ZERO)
+                .attemptTimeout(Duration.ofMillis(20))
+                .build();
+
+        Try<String> result = timed.execute(() -> {
+            Thread.sleep(1000);
+            return "too late";
+        });
+
+        assertThat(result.getCause()).isInstanceOf(TimeoutException.class);
+        assertThat(timed.metrics().attempts()).isEqualTo(2);
+    }
+
+    @Test
+    void attemptTimeoutSuccess() {
+        RetryPolicy timed = RetryPolicy.builder()
+                .attemptTimeout(Duration.ofSeconds(5))
+                .build();
+
+        assertThat(timed.execute(() -> "in time").get()).isEqualTo("in time");
+    }
+
+    @Test
+    void aroundCircuitBreaker() {
+        CircuitBreaker breaker = CircuitBreaker.builder()
+                .windowSize(2)
+                .minimumCalls(1)
+                .build();
+
+        Try<String> result = policy.around(breaker).execute(() -> {
+            throw new IOException("Not reachable");
+        });
+
+        assertThat(result.getCause()).isInstanceOf(CircuitOpenException.class);
+        assertThat(breaker.metrics().attempts()).isEqualTo(1);
+        assertThat(breaker.metrics().rejections()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidConfiguration() {
+        assertThatThrownBy(() -> RetryPolicy.builder().maxAttempts(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RetryPolicy.builder().jitter(1.5))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RetryPolicy.builder().backoff(Duration.ofSeconds(2), Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -0,0 +1,156 @@
+package com.jongsoft.lang.control;
+
+import com.jongsoft.lang.Control;
+import com.jongsoft.lang.collection.Sequence;
+import com.jongsoft.lang.collection.tuple.Pair;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TryFutureTest {
+
+    @Test
+    void tryAsyncSuccess() {
+        Try<Integer> result = Control.TryAsync(() -> "My string")
+                .map(String::length)
+                .await();
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.get()).isEqualTo(9);
+    }
+
+    @Test
+    void tryAsyncFailure() {
+        Try<String> result = Control.<String>TryAsync(() -> {
+            throw new IOException("Not reachable");
+        }).await();
+
+        assertThat(result.isFailure()).isTrue();
+        assertThat(result.getCause())
+                .isInstanceOf(IOException.class)
+                .hasMessage("Not reachable");
+    }
+
+    @Test
+    void tryAsyncMapException() {
+        Try<Integer> result = Control.TryAsync(() -> "My string")
+                .<Integer>map(value -> {
+                    throw new UnsupportedOperationException("Not implemented");
+                })
+                .await();
+
+        assertThat(result.getCause())
+                .isInstanceOf(UnsupportedOperationException.class)
+                .hasMessage("Not implemented");
+    }
+
+    @Test
+    void tryAsyncRecover() {
+        Try<String> result = Control.<String>TryAsync(() -> {
+            throw new IOException("Not reachable");
+        }).recover(Throwable::getMessage).await();
+
+        assertThat(result.get()).isEqualTo("Not reachable");
+    }
+
+    @Test
+    void tryAsyncFlatMap() {
+        Try<Integer> result = Control.TryAsync(() -> 2)
+                .flatMap(value -> Control.TryAsync(() -> value * 21))
+                .await();
+
+        assertThat(result.get()).isEqualTo(42);
+    }
+
+    @Test
+    void tryAsyncZip() {
+        Try<Pair<Integer, String>> result = Control.TryAsync(() -> 1)
+                .zip(Control.TryAsync(() -> "one"))
+                .await();
+
+        assertThat(result.get().getFirst()).isEqualTo(1);
+        assertThat(result.get().getSecond()).isEqualTo("one");
+    }
+
+    @Test
+    void tryAsyncAwaitTimeout() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        TryFuture<String> future = Control.TryAsync(() -> {
+            latch.await();
+            return "done";
+        });
+
+        Try<String> result = future.await(Duration.ofMillis(10));
+        assertThat(result.getCause()).isInstanceOf(TimeoutException.class);
+        assertThat(future.isDone()).isFalse();
+
+        latch.countDown();
+        assertThat(future.await().get()).isEqualTo("done");
+    }
+
+    @Test
+    void tryAsyncExecutor() {
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            Try<String> result = Control.TryAsync(() -> Thread.currentThread().getName(), executor).await();
+
+            assertThat(result.get()).startsWith("pool-");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void tryAsyncNull() {
+        assertThatThrownBy(() -> Control.TryAsync(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Supplier cannot be null");
+    }
+
+    @Test
+    void completed() {
+        assertThat(TryFuture.completed(Try.success("test")).await().get()).isEqualTo("test");
+        assertThat(TryFuture.completed(Try.failure(new IllegalStateException())).await().getCause())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void sequence() {
+        Try<Sequence<Integer>> result = TryFuture.sequence(Arrays.asList(
+                Control.TryAsync(() -> 1),
+                Control.TryAsync(() -> 2),
+                Control.TryAsync(() -> 3))).await();
+
+        assertThat(result.get()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void sequenceEmpty() {
+        Try<Sequence<Integer>> result = TryFuture.sequence(Collections.<TryFuture<Integer>>emptyList()).await();
+
+        assertThat(result.get()).isEmpty();
+    }
+
+    @Test
+    void sequenceFailure() {
+        Try<Sequence<Integer>> result = TryFuture.sequence(Arrays.asList(
+                Control.TryAsync(() -> 1),
+                Control.<Integer>TryAsync(() -> {
+                    throw new IllegalStateException("Failed");
+                }))).await();
+
+        assertThat(result.getCause())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Failed");
+    }
+
+}
@@ -1,8 +1,15 @@
 package com.jongsoft.lang.control;
 
+import com.jongsoft.lang.Collections;
 import com.jongsoft.lang.Control;
+import com.jongsoft.lang.collection.Sequence;
+import com.jongsoft.lang.exception.FatalException;
+import com.jongsoft.lang.exception.NonFatalException;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -189,4 +196,126 @@ class TryTest {
                 .hasMessage("Not implemented");
     }
 
+    @Test
+    void failureWithoutStackTrace() {
+        Try<String> failure = Try.failure(new IllegalStateException("failed"));
+
+        assertThat(failure.getCause())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("failed");
+        assertThatThrownBy(failure::get)
+                .isInstanceOf(NonFatalException.class)
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .satisfies(exception -> assertThat(exception.getStackTrace()).isEmpty());
+    }
+
+    @Test
+    void failureWithStackTrace() {
+        NonFatalException.setCaptureStackTrace(true);
+        try {
+            assertThatThrownBy(Try.failure(new IllegalStateException("failed"))::get)
+                    .satisfies(exception -> assertThat(exception.getStackTrace()).isNotEmpty());
+        } finally {
+            NonFatalException.setCaptureStackTrace(false);
+        }
+
+        assertThat(NonFatalException.of(new IllegalStateException(), true).getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    void failureReusesNonFatal() {
+        NonFatalException exception = NonFatalException.of(new IllegalStateException("failed"));
+        Try<String> failure = Try.failure(exception);
+
+        assertThat(failure.getCause()).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(failure::get).isSameAs(exception);
+    }
+
+    @Test
+    void failureFatal() {
+        assertThatThrownBy(() -> Try.failure(new OutOfMemoryError()))
+                .isInstanceOf(FatalException.class);
+    }
+
+    @Test
+    void success() {
+        assertThat(Try.success("test").get()).isEqualTo("test");
+    }
+
+    @Test
+    void mapFailureKeepsInstance() {
+        Try<String> failure = Try.failure(new IllegalStateException("failed"));
+
+        assertThat(failure.map(String::length)).isSameAs(failure);
+    }
+
+    @Test
+    void flatMap() {
+        Try<Integer> result = Control.Try(() -> "42")
+                .flatMap(value -> Control.Try(() -> Integer.parseInt(value)));
+
+        assertThat(result.get()).isEqualTo(42);
+    }
+
+    @Test
+    void flatMapFailure() {
+        Try<Integer> result = Control.Try(() -> "forty two")
+                .flatMap(value -> Control.Try(() -> Integer.parseInt(value)));
+
+        assertThat(result.getCause()).isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void flatMapOnFailure() {
+        Try<String> failure = Try.failure(new IllegalStateException("failed"));
+
+        assertThat(failure.flatMap(value -> Try.success(value.length()))).isSameAs(failure);
+    }
+
+    @Test
+    void sequence() {
+        Try<Sequence<Integer>> result = Try.sequence(Collections.List(
+                Try.success(1),
+                Try.success(2),
+                Try.success(3)));
+
+        assertThat(result.get()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void sequenceFailure() {
+        Try<Integer> failure = Try.failure(new IllegalStateException("failed"));
+
+        Try<Sequence<Integer>> result = Try.sequence(Collections.List(
+                Try.success(1),
+                failure,
+                Try.failure(new IllegalArgumentException())));
+
+        assertThat((Object) result).isSameAs(failure);
+    }
+
+    @Test
+    void traverse() {
+        Try<Sequence<Integer>> result = Try.traverse(
+                Arrays.asList("1", "2", "3"),
+                value -> Control.Try(() -> Integer.parseInt(value)));
+
+        assertThat(result.get()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void traverseStopsAtFailure() {
+        List<String> visited = new ArrayList<>();
+
+        Try<Sequence<Integer>> result = Try.traverse(
+                Collections.List("1", "two", "3"),
+                value -> {
+                    visited.add(value);
+                    return Control.Try(() -> Integer.parseInt(value));
+                });
+
+        assertThat(result.getCause()).isInstanceOf(NumberFormatException.class);
+        assertThat(visited).containsExactly("1", "two");
+    }
+
 }